@@ -0,0 +1,48 @@
+package com.inad.dummyobjects.benchmarks;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.benchmarks.model.DummyDto;
+import com.inad.dummyobjects.dto.Person;
+import com.inad.dummyobjects.util.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.inad.dummyobjects.constants.Constants.LETTERS;
+
+/**
+ * Throughput of the {@link Factory} and {@link Utils} hot paths with one thread per available processor,
+ * exposing any contention on shared state such as a common random seed.
+ * Compare with the single-threaded scores of {@link FactoryBenchmark} and {@link UtilsBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ConcurrentFactoryBenchmark {
+
+    @Benchmark
+    public Person createPerson() {
+        return Factory.create(Person.class);
+    }
+
+    @Benchmark
+    public DummyDto createDummyDto() {
+        return Factory.create(DummyDto.class);
+    }
+
+    @Benchmark
+    public String randomString() {
+        return Utils.randomString(10, LETTERS);
+    }
+
+}
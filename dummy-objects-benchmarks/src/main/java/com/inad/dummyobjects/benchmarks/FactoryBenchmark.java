@@ -0,0 +1,107 @@
+package com.inad.dummyobjects.benchmarks;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.benchmarks.model.DummyDto;
+import com.inad.dummyobjects.benchmarks.model.Invoice;
+import com.inad.dummyobjects.benchmarks.model.Order;
+import com.inad.dummyobjects.columns.ColumnBatch;
+import com.inad.dummyobjects.dto.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded throughput of the {@link Factory} entry points.
+ * <p>
+ * {@code Person} is the sample DTO of the library, {@link DummyDto} has a field of every supported type, and
+ * {@link Order} stresses the nested list generation. Run with {@code -prof gc} to report the allocation rate.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryBenchmark {
+
+    @Benchmark
+    public Person createPerson() {
+        return Factory.create(Person.class);
+    }
+
+    @Benchmark
+    public DummyDto createDummyDto() {
+        return Factory.create(DummyDto.class);
+    }
+
+    @Benchmark
+    public Order createOrder() {
+        return Factory.create(Order.class);
+    }
+
+    @Benchmark
+    public Invoice createInvoice() {
+        return Factory.create(Invoice.class);
+    }
+
+    @Benchmark
+    public Person populatePerson(final Reused reused) {
+        return Factory.populate(reused.person);
+    }
+
+    @Benchmark
+    public List<Person> createPersonList(final Bulk bulk) {
+        return Factory.create(Person.class, bulk.size);
+    }
+
+    @Benchmark
+    public List<DummyDto> createDummyDtoList(final Bulk bulk) {
+        return Factory.create(DummyDto.class, bulk.size);
+    }
+
+    @Benchmark
+    public List<DummyDto> createDummyDtoListParallel(final Bulk bulk) {
+        return Factory.createParallel(DummyDto.class, bulk.size);
+    }
+
+    @Benchmark
+    public ColumnBatch<DummyDto> createDummyDtoColumns(final Bulk bulk) {
+        return Factory.createColumns(DummyDto.class, bulk.size);
+    }
+
+    @Benchmark
+    public List<Person> populatePersonPool(final Bulk bulk) {
+        return Factory.populate(Person.class, bulk.size, bulk.pool);
+    }
+
+    /**
+     * Size of the bulk creations; their scores are lists per second.
+     */
+    @State(Scope.Thread)
+    public static class Bulk {
+        @Param({"100", "10000"})
+        int size;
+
+        final List<Person> pool = new ArrayList<>();
+    }
+
+    /**
+     * Object populated again on every invocation.
+     */
+    @State(Scope.Thread)
+    public static class Reused {
+        final Person person = Factory.create(Person.class);
+    }
+
+}
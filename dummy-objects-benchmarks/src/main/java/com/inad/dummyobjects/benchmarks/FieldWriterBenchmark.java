@@ -0,0 +1,97 @@
+package com.inad.dummyobjects.benchmarks;
+
+import com.inad.dummyobjects.plan.FieldWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing primitive fields through {@link Field#set(Object, Object)} (the former hot path of
+ * {@code Factory}) against the typed {@link FieldWriter} setters.
+ * <p>
+ * Each benchmark writes the same four {@code int}, {@code long}, {@code double} and {@code boolean}
+ * fields, so the difference is the cost of boxing plus the per-call access check.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldWriterBenchmark {
+
+    private final Target target = new Target();
+
+    private int counter;
+
+    private Field intField;
+    private Field longField;
+    private Field doubleField;
+    private Field booleanField;
+
+    private FieldWriter intWriter;
+    private FieldWriter longWriter;
+    private FieldWriter doubleWriter;
+    private FieldWriter booleanWriter;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        intField = accessible("intVal");
+        longField = accessible("longVal");
+        doubleField = accessible("doubleVal");
+        booleanField = accessible("booleanVal");
+
+        intWriter = FieldWriter.of(intField);
+        longWriter = FieldWriter.of(longField);
+        doubleWriter = FieldWriter.of(doubleField);
+        booleanWriter = FieldWriter.of(booleanField);
+    }
+
+    @Benchmark
+    public Target fieldSet() throws IllegalAccessException {
+        final int value = counter++;
+        intField.set(target, value);
+        longField.set(target, (long) value);
+        doubleField.set(target, (double) value);
+        booleanField.set(target, (value & 1) == 0);
+        return target;
+    }
+
+    @Benchmark
+    public Target fieldWriter() {
+        final int value = counter++;
+        intWriter.setInt(target, value);
+        longWriter.setLong(target, value);
+        doubleWriter.setDouble(target, value);
+        booleanWriter.setBoolean(target, (value & 1) == 0);
+        return target;
+    }
+
+    private static Field accessible(final String name) throws NoSuchFieldException {
+        final Field field = Target.class.getDeclaredField(name);
+        field.trySetAccessible();
+        return field;
+    }
+
+    /**
+     * Plain DTO written by the benchmarks.
+     */
+    public static class Target {
+        private int intVal;
+        private long longVal;
+        private double doubleVal;
+        private boolean booleanVal;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.inad.dummyobjects.benchmarks;
+
+import com.inad.dummyobjects.benchmarks.model.DummyDto;
+import com.inad.dummyobjects.random.AliasTable;
+import com.inad.dummyobjects.random.Alphabet;
+import com.inad.dummyobjects.random.Permutation;
+import com.inad.dummyobjects.random.ZipfDistribution;
+import com.inad.dummyobjects.util.Utils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.inad.dummyobjects.constants.Constants.LETTERS;
+
+/**
+ * Throughput of the random value methods of {@link Utils}, of the {@link Alphabet} generating the strings of
+ * the factory, of the {@link AliasTable} and {@link ZipfDistribution} drawing skewed values, and of the
+ * {@link Permutation} enumerating the unique keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilsBenchmark {
+
+    private final Alphabet alphabet = Alphabet.of(LETTERS);
+    private final byte[] buffer = new byte[10];
+    private final AliasTable weights = AliasTable.of(9, 1);
+    private final ZipfDistribution zipf = ZipfDistribution.of(1_000_000, 1.0);
+    private final Permutation keys = Permutation.of(10_000_000_000L, 7L);
+    private final DummyDto.Status[] statuses = DummyDto.Status.values();
+
+    private Field enumField;
+    private long position;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        enumField = DummyDto.class.getDeclaredField("enumVal");
+    }
+
+    @Benchmark
+    public String randomString() {
+        return Utils.randomString(10, LETTERS);
+    }
+
+    @Benchmark
+    public String alphabetString() {
+        return alphabet.next(ThreadLocalRandom.current(), 10, buffer);
+    }
+
+    @Benchmark
+    public int randomInt() {
+        return Utils.randomNumber(1, 10);
+    }
+
+    @Benchmark
+    public long randomLong() {
+        return Utils.randomNumber(100L, 1000L);
+    }
+
+    @Benchmark
+    public double randomDouble() {
+        return Utils.randomNumber(1.0, 10.0);
+    }
+
+    @Benchmark
+    public DummyDto.Status randomEnum() throws ClassNotFoundException {
+        return Utils.randomEnum(enumField);
+    }
+
+    @Benchmark
+    public DummyDto.Status weightedEnum() {
+        return statuses[weights.next(ThreadLocalRandom.current())];
+    }
+
+    @Benchmark
+    public int zipfRank() {
+        return zipf.next(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public long uniqueKey() {
+        position = position + 1 == keys.getSize() ? 0 : position + 1;
+        return keys.apply(position);
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.inad.dummyobjects.benchmarks.model;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Copy of the {@code DummyDto} of the library tests, which are not published: one field of every supported type,
+ * a nested object and a nested list.
+ */
+public class DummyDto {
+
+    private String stringVal;
+    private int intVal;
+    private long longVal;
+    private float floatVal;
+    private double doubleVal;
+    private boolean booleanVal;
+
+    private Integer integerWrapper;
+    private Long longWrapper;
+    private Float floatWrapper;
+    private Double doubleWrapper;
+    private Boolean booleanWrapper;
+
+    private BigDecimal bigDecimalVal;
+
+    private Date dateVal;
+    private Instant instantVal;
+    private Timestamp timestampVal;
+    private LocalDate localDateVal;
+    private LocalDateTime localDateTimeVal;
+    private LocalTime localTimeVal;
+
+    private Status enumVal;
+
+    private Item innerDto;
+
+    private List<Item> listDto;
+
+    public enum Status {
+        ITEM_1, ITEM_2
+    }
+
+    /**
+     * Nested object type.
+     */
+    public static class Item {
+        private String name;
+        private int number;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.inad.dummyobjects.benchmarks.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable value type, constructed through its canonical constructor.
+ */
+public record Invoice(String number, int year, long customerId, double amount, BigDecimal tax, Status status) {
+
+    /**
+     * Status of an invoice.
+     */
+    public enum Status {
+        DRAFT, SENT, PAID
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.inad.dummyobjects.benchmarks.model;
+
+import java.util.List;
+
+/**
+ * Object graph made of nested lists: an order has lines, and every line has discounts.
+ */
+public class Order {
+
+    private String reference;
+    private List<Line> lines;
+
+    /**
+     * Line of an order.
+     */
+    public static class Line {
+        private String product;
+        private int quantity;
+        private List<Discount> discounts;
+    }
+
+    /**
+     * Discount applied to a line.
+     */
+    public static class Discount {
+        private String code;
+        private double percentage;
+    }
+
+}
@@ -0,0 +1,454 @@
+package com.inad.dummyobjects.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor generating a reflection-free {@code GeneratedFactory} for every class annotated with
+ * {@code @GenerateDummyFactory}.
+ * <p>
+ * For a class {@code Person} it writes a {@code PersonDummyFactory} in the same package, which instantiates
+ * the class with {@code new} and populates each field through its setter (or a direct assignment when the field
+ * is not private) with the same default values the reflective factory uses. The collection, map and array fields,
+ * except the lists of nested objects, are built by the generator the reflective factory resolves for them, looked up
+ * once when the factory is loaded, so both factories fill them alike. All the generated factories are
+ * listed in {@code META-INF/services/com.inad.dummyobjects.spi.GeneratedFactory}, so {@code Factory.create}
+ * picks them up through a {@link java.util.ServiceLoader} lookup.
+ * </p>
+ * <p>
+ * The distribution and constraint annotations, such as {@code @Unique}, {@code @Range} or the Bean Validation
+ * constraints, are only applied by the reflective factory. No factory is generated for a class with such a field, with
+ * a warning, so {@code Factory.create} falls back to the reflective factory and the annotations are honored.
+ * </p>
+ * <p>
+ * The processor only references the library by name, so it has no dependency on it.
+ * </p>
+ */
+@SupportedAnnotationTypes(DummyFactoryProcessor.ANNOTATION)
+public class DummyFactoryProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "com.inad.dummyobjects.annotation.GenerateDummyFactory";
+    static final String SERVICE_FILE = "META-INF/services/com.inad.dummyobjects.spi.GeneratedFactory";
+    static final String FACTORY_SUFFIX = "DummyFactory";
+
+    private static final String DEFAULT_VALUES = "com.inad.dummyobjects.plan.DefaultValues";
+    private static final String CONTEXT = "com.inad.dummyobjects.GenerationContext";
+    private static final String FIELD_GENERATORS = "com.inad.dummyobjects.plan.FieldGenerators";
+    private static final String FIELD_GENERATOR = "com.inad.dummyobjects.plan.FieldGenerator";
+    private static final String GENERATED_FACTORY = "com.inad.dummyobjects.spi.GeneratedFactory";
+    private static final Set<String> LOMBOK_SETTERS = Set.of("lombok.Data", "lombok.Setter");
+    private static final Set<String> VALUE_ANNOTATIONS = Set.of("com.inad.dummyobjects.annotation.Weighted",
+            "com.inad.dummyobjects.annotation.OneOf", "com.inad.dummyobjects.annotation.Zipf",
+            "com.inad.dummyobjects.annotation.Normal", "com.inad.dummyobjects.annotation.Exponential",
+            "com.inad.dummyobjects.annotation.Range", "com.inad.dummyobjects.annotation.Size",
+            "com.inad.dummyobjects.annotation.Pattern", "com.inad.dummyobjects.annotation.NullRate",
+            "com.inad.dummyobjects.annotation.Unique", "com.inad.dummyobjects.annotation.PrimaryKey");
+    private static final List<String> VALIDATION_PACKAGES = List.of(
+            "jakarta.validation.constraints.", "javax.validation.constraints.");
+
+    /**
+     * Default value expression of each supported standard type, keyed by qualified name.
+     */
+    private static final Map<String, String> STANDARD_TYPES = Map.ofEntries(
+            Map.entry("java.lang.String", "string(context)"),
+            Map.entry("java.lang.Integer", "intValue(context.random())"),
+            Map.entry("java.lang.Long", "longValue(context.random())"),
+            Map.entry("java.lang.Float", "floatValue(context.random())"),
+            Map.entry("java.lang.Double", "doubleValue(context.random())"),
+            Map.entry("java.lang.Boolean", "booleanValue(context.random())"),
+            Map.entry("java.math.BigDecimal", "bigDecimal(context.random())"),
+            Map.entry("java.util.Date", "date(context)"),
+            Map.entry("java.time.Instant", "instant(context)"),
+            Map.entry("java.sql.Timestamp", "timestamp(context)"),
+            Map.entry("java.time.LocalDate", "localDate(context)"),
+            Map.entry("java.time.LocalDateTime", "localDateTime(context)"),
+            Map.entry("java.time.LocalTime", "localTime(context)"));
+
+    private final Set<String> generatedFactories = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        final TypeElement annotation = processingEnv.getElementUtils().getTypeElement(ANNOTATION);
+        if (annotation == null) {
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@GenerateDummyFactory can only be applied to classes");
+                continue;
+            }
+            generate((TypeElement) element);
+        }
+        return true;
+    }
+
+    /**
+     * Writes the factory of the given class.
+     *
+     * @param type The annotated class.
+     */
+    private void generate(final TypeElement type) {
+        if (!isInstantiable(type)) {
+            error(type, "@GenerateDummyFactory requires a non-abstract, non-private static class "
+                    + "with a non-private no-arg constructor");
+            return;
+        }
+        final VariableElement annotated = annotatedField(type);
+        if (annotated != null) {
+            warning(type, "No factory is generated for a class with distribution or constraint annotations, "
+                    + "it is created by the reflective factory: " + annotated.getSimpleName());
+            return;
+        }
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String factoryName = flatName(type) + FACTORY_SUFFIX;
+        final String qualifiedFactoryName = packageName.isEmpty() ? factoryName : packageName + "." + factoryName;
+        final String typeName = type.getQualifiedName().toString();
+
+        final List<String> constants = new ArrayList<>();
+        final List<String> generators = new ArrayList<>();
+        final List<String> statements = new ArrayList<>();
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                final String value = valueOf(field, constants, generators);
+                if (value != null) {
+                    final String statement = assignment(type, current, field, value);
+                    if (statement != null) {
+                        statements.add(statement);
+                    }
+                }
+            }
+        }
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(factoryName)
+                .append(" implements ").append(GENERATED_FACTORY).append('<').append(typeName).append("> {\n\n");
+        for (int i = 0; i < constants.size(); i++) {
+            source.append("    private static final ").append(constants.get(i)).append("[] CONSTANTS_").append(i)
+                    .append(" = ").append(constants.get(i)).append(".values();\n\n");
+        }
+        for (int i = 0; i < generators.size(); i++) {
+            source.append("    private static final ").append(FIELD_GENERATOR).append(" GENERATOR_").append(i)
+                    .append(" =\n            ").append(FIELD_GENERATORS).append(".forField(").append(typeName)
+                    .append(".class, \"").append(generators.get(i)).append("\");\n\n");
+        }
+        source.append("    @Override\n")
+                .append("    public Class<").append(typeName).append("> type() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n");
+        if (!generators.isEmpty()) {
+            source.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+        source.append("    public ").append(typeName).append(" create(").append(CONTEXT).append(" context) {\n")
+                .append("        final ").append(typeName).append(" instance = new ").append(typeName).append("();\n")
+                .append("        context.register(instance);\n");
+        for (String statement : statements) {
+            source.append("        ").append(statement).append('\n');
+        }
+        source.append("        return instance;\n")
+                .append("    }\n\n")
+                .append("}\n");
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedFactoryName, type).openWriter()) {
+            writer.write(source.toString());
+            generatedFactories.add(qualifiedFactoryName);
+        } catch (IOException e) {
+            error(type, "Cannot write " + qualifiedFactoryName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the expression generating a value for the given field.
+     *
+     * @param field      The field to populate.
+     * @param constants  The enum types whose constants are cached by the factory; the enum of the field is added to it.
+     * @param generators The fields whose generator is looked up by the factory; the field is added to it if it is a
+     *                   container built by its generator.
+     * @return The value expression, or {@code null} if the field is left untouched.
+     */
+    private String valueOf(final VariableElement field, final List<String> constants, final List<String> generators) {
+        final TypeMirror type = field.asType();
+        switch (type.getKind()) {
+            case INT:
+                return DEFAULT_VALUES + ".intValue(context.random())";
+            case LONG:
+                return DEFAULT_VALUES + ".longValue(context.random())";
+            case FLOAT:
+                return DEFAULT_VALUES + ".floatValue(context.random())";
+            case DOUBLE:
+                return DEFAULT_VALUES + ".doubleValue(context.random())";
+            case BOOLEAN:
+                return DEFAULT_VALUES + ".booleanValue(context.random())";
+            case ARRAY:
+                return generated(field, generators);
+            case DECLARED:
+                break;
+            default:
+                // other primitives are not populated by the reflective factory either
+                if (!type.getKind().isPrimitive()) {
+                    warning(field, "Unsupported field type " + type + ", the field is not populated");
+                }
+                return null;
+        }
+
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        final String name = element.getQualifiedName().toString();
+        if (STANDARD_TYPES.containsKey(name)) {
+            return DEFAULT_VALUES + "." + STANDARD_TYPES.get(name);
+        }
+        if (element.getKind() == ElementKind.ENUM) {
+            constants.add(name);
+            return DEFAULT_VALUES + ".element(context.random(), CONSTANTS_" + (constants.size() - 1) + ")";
+        }
+        if (isCollection(type) || isMap(type)) {
+            final List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.isEmpty()) {
+                warning(field, "Raw collection and map fields are not supported, the field is not populated");
+                return null;
+            }
+            if ((name.equals("java.util.List") || name.equals("java.util.Collection")) && isNested(arguments.get(0))) {
+                final String elementType = processingEnv.getTypeUtils().erasure(arguments.get(0)).toString();
+                return "context.create(" + elementType + ".class, context.nextCollectionSize())";
+            }
+            return generated(field, generators);
+        }
+        return "context.create(" + name + ".class)";
+    }
+
+    /**
+     * Returns the expression generating a value for the given container field through the generator of the
+     * reflective factory.
+     */
+    private String generated(final VariableElement field, final List<String> generators) {
+        generators.add(field.getSimpleName().toString());
+        return "(" + processingEnv.getTypeUtils().erasure(field.asType()) + ") GENERATOR_" + (generators.size() - 1)
+                + ".generate(context)";
+    }
+
+    /**
+     * Returns the statement assigning a value to the given field.
+     *
+     * @param type      The annotated class.
+     * @param declaring The class declaring the field, {@code type} or one of its superclasses.
+     * @param field     The field to populate.
+     * @param value     The value expression.
+     * @return The assignment statement, or {@code null} if the field cannot be populated.
+     */
+    private String assignment(final TypeElement type, final TypeElement declaring, final VariableElement field,
+                              final String value) {
+        final String name = field.getSimpleName().toString();
+        final String setter = setterName(field);
+        if (hasSetter(type, setter) || isLombokSetter(declaring, field)) {
+            return "instance." + setter + "(" + value + ");";
+        }
+        final Set<Modifier> modifiers = field.getModifiers();
+        final boolean samePackage = processingEnv.getElementUtils().getPackageOf(declaring)
+                .equals(processingEnv.getElementUtils().getPackageOf(type));
+        if (!modifiers.contains(Modifier.FINAL) && !modifiers.contains(Modifier.PRIVATE)
+                && (samePackage || modifiers.contains(Modifier.PUBLIC))) {
+            return "instance." + name + " = " + value + ";";
+        }
+        error(field, "Cannot populate field " + name + ": it has no " + setter + " method and is not accessible");
+        return null;
+    }
+
+    /**
+     * Returns the setter name of the field, following the JavaBeans convention as Lombok does:
+     * a primitive {@code boolean isActive} field is set by {@code setActive}.
+     *
+     * @param field The field.
+     * @return The name of the setter.
+     */
+    private static String setterName(final VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.asType().getKind() == TypeKind.BOOLEAN && name.length() > 2 && name.startsWith("is")
+                && Character.isUpperCase(name.charAt(2))) {
+            name = name.substring(2);
+        }
+        return "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Checks whether the class or one of its superclasses declares a usable single-argument method with the given name.
+     */
+    private boolean hasSetter(final TypeElement type, final String setter) {
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(setter) && method.getParameters().size() == 1
+                        && !method.getModifiers().contains(Modifier.PRIVATE)
+                        && !method.getModifiers().contains(Modifier.STATIC)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether Lombok generates the setter of the field, for the case where Lombok did not run yet.
+     */
+    private static boolean isLombokSetter(final TypeElement declaring, final VariableElement field) {
+        if (field.getModifiers().contains(Modifier.FINAL)) {
+            return false;
+        }
+        return hasAnnotation(declaring, LOMBOK_SETTERS) || hasAnnotation(field, Set.of("lombok.Setter"));
+    }
+
+    private static boolean hasAnnotation(final Element element, final Set<String> names) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> names.contains(mirror.getAnnotationType().toString()));
+    }
+
+    /**
+     * Finds a field of the given class, or of its superclasses, with a distribution or constraint annotation.
+     *
+     * @param type The annotated class.
+     * @return The first annotated field, or {@code null} if there is none.
+     */
+    private VariableElement annotatedField(final TypeElement type) {
+        for (TypeElement current = type; current != null; current = superclassOf(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)
+                        && (hasAnnotation(field, VALUE_ANNOTATIONS) || hasValidationAnnotation(field))) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasValidationAnnotation(final Element element) {
+        return element.getAnnotationMirrors().stream()
+                .map(mirror -> mirror.getAnnotationType().toString())
+                .anyMatch(name -> VALIDATION_PACKAGES.stream().anyMatch(name::startsWith));
+    }
+
+    private boolean isCollection(final TypeMirror type) {
+        final TypeElement collection = processingEnv.getElementUtils().getTypeElement("java.util.Collection");
+        return processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(collection.asType()));
+    }
+
+    private boolean isMap(final TypeMirror type) {
+        final TypeElement map = processingEnv.getElementUtils().getTypeElement("java.util.Map");
+        return processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(map.asType()));
+    }
+
+    /**
+     * Checks whether the elements of the given type are generated as nested dummy objects, i.e. whether it is a
+     * class without a standard value, and not an enum, a collection nor a map.
+     */
+    private boolean isNested(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return !STANDARD_TYPES.containsKey(element.getQualifiedName().toString())
+                && element.getKind() != ElementKind.ENUM && !isCollection(type) && !isMap(type);
+    }
+
+    private static boolean isInstantiable(final TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT) || modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL && !modifiers.contains(Modifier.STATIC)) {
+            return false;
+        }
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    /**
+     * Returns the superclass of the given class, or {@code null} once {@link Object} is reached.
+     */
+    private TypeElement superclassOf(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final TypeElement element = (TypeElement) processingEnv.getTypeUtils().asElement(superclass);
+        return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+    }
+
+    /**
+     * Returns the simple names of the class and its enclosing classes joined by underscores (e.g. {@code Outer_Inner}).
+     */
+    private static String flatName(final TypeElement type) {
+        final Element enclosing = type.getEnclosingElement();
+        if (enclosing instanceof TypeElement outer) {
+            return flatName(outer) + "_" + type.getSimpleName();
+        }
+        return type.getSimpleName().toString();
+    }
+
+    private void writeServiceFile() {
+        if (generatedFactories.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String factory : generatedFactories) {
+                    writer.write(factory);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private void warning(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message, element);
+    }
+
+}
@@ -0,0 +1,204 @@
+package com.inad.dummyobjects.processor;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.spi.GeneratedFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DummyFactoryProcessorTest {
+
+    private static final String SAMPLE = """
+            package sample;
+
+            import com.inad.dummyobjects.annotation.GenerateDummyFactory;
+            import java.time.LocalDate;
+            import java.util.List;
+            import java.util.Map;
+            import java.util.Queue;
+            import java.util.Set;
+            import java.util.SortedSet;
+
+            @GenerateDummyFactory
+            public class Sample {
+
+                public enum Kind { A, B }
+
+                public static class Item {
+                    private String label;
+                    public String getLabel() { return label; }
+                }
+
+                private String name;
+                private boolean isActive;
+                Integer count;
+                Kind kind;
+                LocalDate day;
+                List<Item> items;
+                List<String> names;
+                private Set<Kind> kinds;
+                SortedSet<Integer> ranks;
+                Queue<Long> pending;
+                Map<String, List<Integer>> scores;
+                Item[] children;
+                int[] digits;
+
+                public String getName() { return name; }
+                public void setName(String name) { this.name = name; }
+                public boolean isActive() { return isActive; }
+                public void setActive(boolean active) { this.isActive = active; }
+                public Set<Kind> getKinds() { return kinds; }
+                public void setKinds(Set<Kind> kinds) { this.kinds = kinds; }
+            }
+            """;
+
+    private static final String CONSTRAINED = """
+            package sample;
+
+            import com.inad.dummyobjects.annotation.GenerateDummyFactory;
+            import com.inad.dummyobjects.annotation.Range;
+            import com.inad.dummyobjects.annotation.Unique;
+
+            @GenerateDummyFactory
+            public class Constrained {
+
+                @Unique
+                @Range(min = 0, max = 199)
+                int id;
+                String name;
+            }
+            """;
+
+    @TempDir
+    Path output;
+
+    @Test
+    @DisplayName("The processor should generate a factory registered as a GeneratedFactory service")
+    void testGeneratedFactory() throws Exception {
+        compile("Sample", SAMPLE);
+
+        assertTrue(Files.exists(output.resolve("sample/SampleDummyFactory.class")), "Factory should be generated");
+        assertEquals("sample.SampleDummyFactory",
+                Files.readString(output.resolve(DummyFactoryProcessor.SERVICE_FILE)).trim(),
+                "Factory should be registered as a service");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            GeneratedFactory<?> factory = ServiceLoader.load(GeneratedFactory.class, loader).findFirst().orElseThrow();
+            Class<?> sample = loader.loadClass("sample.Sample");
+            assertSame(sample, factory.type(), "Factory should create the annotated class");
+
+            Object instance = factory.create(new GenerationContext(new SplittableRandom()));
+            assertNotNull(sample.getMethod("getName").invoke(instance), "Private field should be set by its setter");
+            assertNotNull(read(instance, "count"), "Package field should be assigned");
+            assertNotNull(read(instance, "kind"), "Enum field should be populated");
+            assertNotNull(read(instance, "day"), "Date field should be populated");
+
+            List<?> items = (List<?>) read(instance, "items");
+            assertFalse(items.isEmpty(), "List field should be populated");
+            Object item = items.get(0);
+            assertNotNull(item.getClass().getMethod("getLabel").invoke(item), "List elements should be populated");
+        }
+    }
+
+    @Test
+    @DisplayName("The generated factory should fill sets, queues, maps and arrays like the reflective factory")
+    void testContainers() throws Exception {
+        compile("Sample", SAMPLE);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            GeneratedFactory<?> factory = ServiceLoader.load(GeneratedFactory.class, loader).findFirst().orElseThrow();
+            Object instance = factory.create(new GenerationContext(new SplittableRandom()));
+
+            List<?> names = (List<?>) read(instance, "names");
+            assertFalse(names.isEmpty(), "List of values should be populated");
+            assertTrue(names.get(0) instanceof String, "List elements should be values");
+            Set<?> kinds = (Set<?>) instance.getClass().getMethod("getKinds").invoke(instance);
+            assertFalse(kinds.isEmpty(), "Set field should be populated through its setter");
+            assertTrue(read(instance, "ranks") instanceof TreeSet<?> ranks && !ranks.isEmpty(),
+                    "Sorted set field should be a populated TreeSet");
+            assertTrue(read(instance, "pending") instanceof ArrayDeque<?> pending && !pending.isEmpty(),
+                    "Queue field should be a populated ArrayDeque");
+            Map<?, ?> scores = (Map<?, ?>) read(instance, "scores");
+            assertFalse(scores.isEmpty(), "Map field should be populated");
+            assertTrue(scores.values().iterator().next() instanceof List<?>, "Map values should be generated");
+            Object[] children = (Object[]) read(instance, "children");
+            assertTrue(children.length > 0, "Array field should be populated");
+            assertNotNull(children[0].getClass().getMethod("getLabel").invoke(children[0]),
+                    "Array elements should be populated");
+            assertTrue(((int[]) read(instance, "digits")).length > 0, "Primitive array field should be populated");
+        }
+    }
+
+    @Test
+    @DisplayName("No factory should be generated for a class with constraints, so the reflective factory honors them")
+    void testConstrained() throws Exception {
+        compile("Constrained", CONSTRAINED);
+
+        assertFalse(Files.exists(output.resolve("sample/ConstrainedDummyFactory.class")),
+                "Factory should not be generated");
+        assertFalse(Files.exists(output.resolve(DummyFactoryProcessor.SERVICE_FILE)), "No factory should be registered");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> constrained = loader.loadClass("sample.Constrained");
+            Set<Object> ids = new HashSet<>();
+            for (Object instance : Factory.create(constrained, 200)) {
+                ids.add(read(instance, "id"));
+            }
+            assertEquals(200, ids.size(), "Unique values should be distinct");
+        }
+    }
+
+    private static Object read(Object instance, String name) throws ReflectiveOperationException {
+        Field field = instance.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+    private void compile(String name, String code) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///sample/" + name + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+        List<String> options = List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path"));
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, List.of(source));
+        task.setProcessors(List.of(new DummyFactoryProcessor()));
+
+        assertTrue(task.call(), () -> "Compilation failed: " + diagnostics.getDiagnostics());
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.inad.dummyobjects;
+
+import com.inad.dummyobjects.plan.InstanceCreator;
+import com.inad.dummyobjects.random.IndexedRandom;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import static com.inad.dummyobjects.constants.Constants.PARALLEL_THRESHOLD;
+
+/**
+ * Spliterator creating the objects of a seeded index range on demand.
+ * <p>
+ * Nothing is materialized: each object is created when it is traversed, from an {@link IndexedRandom} positioned at
+ * its index, so the stream holds no more than the object being consumed and returns the same objects as
+ * {@link Factory#create(Class, int, long)} whether it is sequential or parallel. The range splits in halves down to
+ * {@link com.inad.dummyobjects.constants.Constants#PARALLEL_THRESHOLD} objects.
+ * </p>
+ *
+ * @param <T> The type of the created objects.
+ */
+class CreateSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = ORDERED | NONNULL | IMMUTABLE;
+
+    private final InstanceCreator<T> creator;
+    private final Class<T> type;
+    private final ObjectFactory factory;
+    private final long seed;
+    private final boolean seeded;
+    private final boolean sized;
+    private final long to;
+    private long index;
+    private GenerationContext context;
+    private IndexedRandom random;
+
+    /**
+     * Creates a spliterator over the objects {@code [from..to)} of a seeded creation.
+     *
+     * @param creator  The creator of the objects.
+     * @param type     The class of the objects.
+     * @param factory  The factory running the creation.
+     * @param seed     The seed of the whole creation.
+     * @param seeded   Whether the creation was given its seed, and must be reproducible.
+     * @param from     The first index to create (inclusive).
+     * @param to       The last index to create (exclusive).
+     * @param sized    Whether the range is an exact size, or stands for an unbounded creation.
+     */
+    CreateSpliterator(final InstanceCreator<T> creator, final Class<T> type, final ObjectFactory factory,
+                      final long seed, final boolean seeded, final long from, final long to,
+                      final boolean sized) {
+        this.creator = creator;
+        this.type = type;
+        this.factory = factory;
+        this.seed = seed;
+        this.seeded = seeded;
+        this.index = from;
+        this.to = to;
+        this.sized = sized;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index >= to) {
+            return false;
+        }
+        action.accept(next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        while (index < to) {
+            action.accept(next());
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long from = index;
+        if (to - from <= PARALLEL_THRESHOLD) {
+            return null;
+        }
+        final long middle = from + ((to - from) >>> 1);
+        index = middle;
+        return new CreateSpliterator<>(creator, type, factory, seed, seeded, from, middle, sized);
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return sized ? CHARACTERISTICS | SIZED | SUBSIZED : CHARACTERISTICS;
+    }
+
+    /**
+     * Creates the object at the current index and moves to the next one. The generator is created on the first
+     * traversal, so it belongs to the thread traversing this spliterator.
+     *
+     * @return The created object.
+     */
+    private T next() {
+        if (context == null) {
+            random = new IndexedRandom(seed);
+            context = new GenerationContext(random, factory, seeded);
+        }
+        random.seek(index++);
+        return context.create(creator, type);
+    }
+
+}
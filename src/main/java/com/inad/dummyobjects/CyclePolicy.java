@@ -0,0 +1,33 @@
+package com.inad.dummyobjects;
+
+/**
+ * What a factory does with a back-reference, i.e. a nested object of the same class as an object being populated
+ * above it, such as the {@code parent} of a tree node or the {@code next} of a linked list.
+ * <p>
+ * The back-references are told by their class, since a generated object is always a new instance: a field of the
+ * class of an enclosing object is a back-reference even when it is meant to hold another object, such as the
+ * {@code manager} of an employee or the {@code children} of a tree node. With {@link #NULL} and {@link #REUSE}, such
+ * hierarchies are therefore cut below their first level; use {@link #ALLOW} to generate them, bounded by the depth
+ * limit and the object budget of the factory.
+ * </p>
+ */
+public enum CyclePolicy {
+
+    /**
+     * Leaves the back-references out: the field is left {@code null}, and the list elements are not added.
+     */
+    NULL,
+
+    /**
+     * Sets the back-references to the nearest object of the same class being populated above them, so the graph
+     * holds actual cycles. The reused objects are not counted in the object budget.
+     */
+    REUSE,
+
+    /**
+     * Creates the back-references as any other nested object, so the graph is only bounded by the depth limit and
+     * the object budget of the factory.
+     */
+    ALLOW
+
+}
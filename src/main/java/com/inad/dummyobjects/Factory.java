@@ -1,24 +1,22 @@
 package com.inad.dummyobjects;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Type;
-import java.math.BigDecimal;
-import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import com.inad.dummyobjects.columns.ColumnBatch;
+import com.inad.dummyobjects.dataset.LinkedDataset;
+import com.inad.dummyobjects.metrics.GenerationMetrics;
+import com.inad.dummyobjects.plan.GenerationPlan;
+import com.inad.dummyobjects.plan.InstanceCreator;
+import com.inad.dummyobjects.spi.GeneratedFactories;
+import com.inad.dummyobjects.spi.GeneratedFactory;
+
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
-import static com.inad.dummyobjects.constants.Constants.*;
-import static com.inad.dummyobjects.constants.ConstantsLog.CLASS_NAME_LOG;
-import static com.inad.dummyobjects.constants.ConstantsLog.IS_COLLECTION_LOG;
-import static com.inad.dummyobjects.util.Utils.randomBoolean;
-import static com.inad.dummyobjects.util.Utils.randomEnum;
-import static com.inad.dummyobjects.util.Utils.randomNumber;
-import static com.inad.dummyobjects.util.Utils.randomString;
+import static com.inad.dummyobjects.constants.Constants.BYTECODE_PROPERTY;
+import static com.inad.dummyobjects.constants.Constants.METRICS_PROPERTY;
 
 /**
  * Factory class responsible for creating dummy objects filled with random data.
@@ -27,9 +25,56 @@ import static com.inad.dummyobjects.util.Utils.randomString;
  * with random values based on their type. It supports primitives, standard Java types
  * (String, Date, Numbers, etc.), Enums, and Collections (Lists).
  * </p>
+ * <p>
+ * The reflection work is done once per class: the resulting {@link GenerationPlan} is cached
+ * and reused by every later call, including the recursive calls for nested objects and lists.
+ * When the {@value com.inad.dummyobjects.constants.Constants#BYTECODE_PROPERTY} system property is
+ * {@code true}, the plans are also specialized into generated hidden classes where possible.
+ * </p>
+ * <p>
+ * Classes with a {@link GeneratedFactory} registered on the class path (see
+ * {@link com.inad.dummyobjects.annotation.GenerateDummyFactory}) are created through it, with no reflection at all.
+ * </p>
+ * <p>
+ * Values are drawn from the {@link java.util.concurrent.ThreadLocalRandom} of the calling thread, or from an
+ * {@link com.inad.dummyobjects.random.IndexedRandom} per task for the {@code createParallel} methods, so concurrent
+ * callers never contend on a shared random. An {@link ObjectFactory} built with another
+ * {@link com.inad.dummyobjects.random.RandomSource} offers the same methods.
+ * </p>
+ * <p>
+ * The methods taking a {@code seed} are deterministic: the object at index {@code i} depends only on the seed and
+ * {@code i}, so the sequential and parallel methods return equal objects for equal seeds, whatever the number of
+ * threads, and {@link #createAt(Class, long, long)} regenerates any single object without the ones before it.
+ * Date and time fields are drawn from a range ending when the factory was built, so they are reproducible across
+ * runs only with an absolute {@link com.inad.dummyobjects.random.TemporalRange} or a fixed clock.
+ * </p>
  */
 public class Factory {
 
+    private static final ObjectFactory DEFAULT = buildDefaultFactory();
+
+    private static final boolean BYTECODE_ENGINE = Boolean.getBoolean(BYTECODE_PROPERTY);
+
+    private static final ClassValue<GenerationPlan<?>> PLANS = new ClassValue<>() {
+        @Override
+        protected GenerationPlan<?> computeValue(final Class<?> type) {
+            try {
+                final GenerationPlan<?> plan = GenerationPlan.of(type);
+                return BYTECODE_ENGINE ? plan.specialized() : plan;
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    };
+
+    private static final ClassValue<InstanceCreator<?>> CREATORS = new ClassValue<>() {
+        @Override
+        protected InstanceCreator<?> computeValue(final Class<?> type) {
+            final GeneratedFactory<?> generated = GeneratedFactories.find(type);
+            return generated != null ? generated : PLANS.get(type);
+        }
+    };
+
     /**
      * Creates a list of dummy objects of the specified class type, populated with random data.
      *
@@ -39,11 +84,7 @@ public class Factory {
      * @return A list containing {@code size} instances of {@code className} populated with random data.
      */
     public static <T> List<T> create(final Class<T> className, final int size) {
-        final List<T> list = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            list.add(create(className));
-        }
-        return list;
+        return DEFAULT.create(className, size);
     }
 
     /**
@@ -55,123 +96,405 @@ public class Factory {
      * @throws RuntimeException if instantiation, field access, or other reflection operations fail.
      */
     public static <T> T create(final Class<T> className) {
-        try {
-            final T instance = className.getDeclaredConstructor().newInstance();
-            final Field[] fields = className.getDeclaredFields();
-
-            for (Field field : fields) {
-                field.trySetAccessible();
-
-                if (field.getType().isEnum()) {
-                    field.set(instance, randomEnum(field));
-                } else if (Collection.class.isAssignableFrom(field.getType())) {
-                    setList(instance, field);
-                } else if (field.getType().isPrimitive()) {
-                    setPrimitive(instance, field);
-                } else {
-                    setObject(instance, field);
-                }
-            }
-            return instance;
-        } catch (ClassNotFoundException | InvocationTargetException | NoSuchMethodException | InstantiationException |
-                 IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return DEFAULT.create(className);
     }
 
     /**
-     * Populates a field that is assignable from {@link Collection} (specific List) with random objects.
+     * Creates a reproducible list of dummy objects of the specified class type.
      *
-     * @param instance The object instance containing the field.
-     * @param field    The field to populate.
-     * @param <T>      The type of the instance.
-     * @throws ClassNotFoundException if the generic type of the list cannot be found.
-     * @throws IllegalAccessException if the field cannot be accessed.
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return A list containing {@code size} instances of {@code className} populated with seeded random data.
      */
-    private static <T> void setList(final T instance, final Field field)
-            throws ClassNotFoundException, IllegalAccessException {
-        System.out.println(IS_COLLECTION_LOG);
-        String cName = getGenericClassName(field.getGenericType());
-        Class<?> classObject = Class.forName(cName);
-        List<?> obj = create(classObject, SIZE_LIST);
-        field.set(instance, obj);
+    public static <T> List<T> create(final Class<T> className, final int size, final long seed) {
+        return DEFAULT.create(className, size, seed);
     }
 
     /**
-     * Populates a primitive field with a random value appropriate for its type.
+     * Creates the object at the given index of a seeded creation, without creating the objects before it.
+     * <p>
+     * The result is equal to the element {@code index} of {@code create(className, size, seed)} and of
+     * {@code createParallel(className, size, seed)}.
+     * </p>
      *
-     * @param instance The object instance containing the field.
-     * @param field    The field to populate.
-     * @param <T>      The type of the instance.
-     * @throws IllegalAccessException if the field cannot be accessed.
+     * @param className The class of the object to create.
+     * @param seed      The seed of the creation.
+     * @param index     The index of the object in the creation.
+     * @param <T>       The type of the object.
+     * @return The instance of {@code className} at {@code index}.
      */
-    private static <T> void setPrimitive(final T instance, final Field field) throws IllegalAccessException {
-        switch (field.getType().getSimpleName()) {
-            case INT -> field.set(instance, randomNumber(1, 10));
-            case LONG -> field.set(instance, randomNumber(100L, 1000L));
-            case FLOAT -> field.set(instance, randomNumber(10f, 100f));
-            case DOUBLE -> field.set(instance, randomNumber(1.0, 10.0));
-            case BOOLEAN -> field.set(instance, randomBoolean());
-            default -> {
-            }
-        }
+    public static <T> T createAt(final Class<T> className, final long seed, final long index) {
+        return DEFAULT.createAt(className, seed, index);
+    }
+
+    /**
+     * Populates an existing object again with random data, in place, reusing the nested objects and list elements
+     * it references.
+     *
+     * @param existing The object to populate.
+     * @param <T>      The type of the object.
+     * @return {@code existing}, populated.
+     * @see ObjectFactory#populate(Object)
+     */
+    public static <T> T populate(final T existing) {
+        return DEFAULT.populate(existing);
+    }
+
+    /**
+     * Populates an existing object again in place with the values of the object at the given index of a seeded
+     * creation.
+     *
+     * @param existing The object to populate.
+     * @param seed     The seed of the creation.
+     * @param index    The index of the object in the creation.
+     * @param <T>      The type of the object.
+     * @return {@code existing}, populated.
+     * @see ObjectFactory#populate(Object, long, long)
+     */
+    public static <T> T populate(final T existing, final long seed, final long index) {
+        return DEFAULT.populate(existing, seed, index);
+    }
+
+    /**
+     * Fills a pool with {@code size} dummy objects of the specified class type, reusing the objects it holds.
+     *
+     * @param className The class of the objects.
+     * @param size      The number of objects in the batch.
+     * @param pool      A modifiable list holding the objects of the previous batch, or empty.
+     * @param <T>       The type of the objects.
+     * @return {@code pool}, holding {@code size} populated instances of {@code className}.
+     * @see ObjectFactory#populate(Class, int, List)
+     */
+    public static <T> List<T> populate(final Class<T> className, final int size, final List<T> pool) {
+        return DEFAULT.populate(className, size, pool);
+    }
+
+    /**
+     * Creates a batch of dummy rows of the specified class type, stored column by column in primitive arrays.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param <T>       The type of the rows.
+     * @return A batch of {@code size} rows of the supported fields of {@code className}.
+     * @see ObjectFactory#createColumns(Class, int)
+     */
+    public static <T> ColumnBatch<T> createColumns(final Class<T> className, final int size) {
+        return DEFAULT.createColumns(className, size);
+    }
+
+    /**
+     * Writes a dataset file of dummy rows of the specified class type, to be read with
+     * {@link com.inad.dummyobjects.dataset.Dataset#open}.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @see ObjectFactory#writeDataset(Class, long, Path, long)
+     */
+    public static void writeDataset(final Class<?> className, final long size, final Path path) {
+        DEFAULT.writeDataset(className, size, path);
+    }
+
+    /**
+     * Writes a reproducible dataset file of dummy rows of the specified class type.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @see ObjectFactory#writeDataset(Class, long, Path, long)
+     */
+    public static void writeDataset(final Class<?> className, final long size, final Path path, final long seed) {
+        DEFAULT.writeDataset(className, size, path, seed);
+    }
+
+    /**
+     * Returns a builder of dataset files of related entities, whose foreign keys reference actual rows.
+     *
+     * @return A new builder of linked datasets.
+     * @see ObjectFactory#linkedDataset()
+     */
+    public static LinkedDataset.Builder linkedDataset() {
+        return DEFAULT.linkedDataset();
+    }
+
+    /**
+     * Writes dummy rows of the specified class type to a JSON Lines file, one JSON object per line.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @see ObjectFactory#writeJsonLines(Class, long, Path, long, Executor)
+     */
+    public static void writeJsonLines(final Class<?> className, final long size, final Path path) {
+        DEFAULT.writeJsonLines(className, size, path);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a JSON Lines file.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @see ObjectFactory#writeJsonLines(Class, long, Path, long, Executor)
+     */
+    public static void writeJsonLines(final Class<?> className, final long size, final Path path, final long seed) {
+        DEFAULT.writeJsonLines(className, size, path, seed);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a JSON Lines file, encoding chunks of rows on the
+     * given executor.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @param executor  The executor encoding the chunks of rows.
+     * @see ObjectFactory#writeJsonLines(Class, long, Path, long, Executor)
+     */
+    public static void writeJsonLines(final Class<?> className, final long size, final Path path, final long seed,
+                                      final Executor executor) {
+        DEFAULT.writeJsonLines(className, size, path, seed, executor);
+    }
+
+    /**
+     * Writes dummy rows of the specified class type to a CSV file, after a header naming the columns.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @see ObjectFactory#writeCsv(Class, long, Path, long, Executor)
+     */
+    public static void writeCsv(final Class<?> className, final long size, final Path path) {
+        DEFAULT.writeCsv(className, size, path);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a CSV file.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @see ObjectFactory#writeCsv(Class, long, Path, long, Executor)
+     */
+    public static void writeCsv(final Class<?> className, final long size, final Path path, final long seed) {
+        DEFAULT.writeCsv(className, size, path, seed);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a CSV file, encoding chunks of rows on the given
+     * executor.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @param executor  The executor encoding the chunks of rows.
+     * @see ObjectFactory#writeCsv(Class, long, Path, long, Executor)
+     */
+    public static void writeCsv(final Class<?> className, final long size, final Path path, final long seed,
+                                final Executor executor) {
+        DEFAULT.writeCsv(className, size, path, seed, executor);
     }
 
     /**
-     * Populates a non-primitive object field with a random value or a nested dummy object.
+     * Creates a list of dummy objects of the specified class type, splitting the work across the
+     * common {@link ForkJoinPool}.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list containing {@code size} instances of {@code className} populated with random data.
+     */
+    public static <T> List<T> createParallel(final Class<T> className, final int size) {
+        return DEFAULT.createParallel(className, size);
+    }
+
+    /**
+     * Creates a list of dummy objects of the specified class type, splitting the work across the given executor.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param executor  The executor running the creation tasks.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list containing {@code size} instances of {@code className} populated with random data.
+     * @see #createParallel(Class, int, long, Executor)
+     */
+    public static <T> List<T> createParallel(final Class<T> className, final int size, final Executor executor) {
+        return DEFAULT.createParallel(className, size, executor);
+    }
+
+    /**
+     * Creates a reproducible list of dummy objects of the specified class type, splitting the work across the
+     * common {@link ForkJoinPool}.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list equal to {@code create(className, size, seed)}.
+     */
+    public static <T> List<T> createParallel(final Class<T> className, final int size, final long seed) {
+        return DEFAULT.createParallel(className, size, seed);
+    }
+
+    /**
+     * Creates a reproducible list of dummy objects of the specified class type, splitting the work across the given
+     * executor.
+     * <p>
+     * The objects are written into a presized array by tasks of at most
+     * {@link com.inad.dummyobjects.constants.Constants#PARALLEL_THRESHOLD} objects, each drawing its values from
+     * its own {@link com.inad.dummyobjects.random.IndexedRandom}. A {@link ForkJoinPool} runs the tasks with work
+     * stealing; any other executor runs them as independent chunks. Either way the result does not depend on the
+     * executor.
+     * </p>
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param executor  The executor running the creation tasks.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list equal to {@code create(className, size, seed)}.
+     */
+    public static <T> List<T> createParallel(final Class<T> className, final int size, final long seed,
+                                             final Executor executor) {
+        return DEFAULT.createParallel(className, size, seed, executor);
+    }
+
+    /**
+     * Returns a stream creating dummy objects of the specified class type on demand.
      * <p>
-     * Handles specific standard types (String, Numbers, Dates, Boolean) by generating random values.
-     * For unknown types, it recursively creates a new dummy object.
+     * The objects are created as the stream is consumed and are never collected, so the memory used does not grow
+     * with {@code size}. The stream splits well when made {@link Stream#parallel() parallel}.
      * </p>
      *
-     * @param instance The object instance containing the field.
-     * @param field    The field to populate.
-     * @param <T>      The type of the instance.
-     * @throws IllegalAccessException    if the field cannot be accessed.
-     * @throws ClassNotFoundException    if the class of the field type cannot be found.
-     * @throws InvocationTargetException if the constructor throws an exception.
-     * @throws NoSuchMethodException     if a matching constructor is not found.
-     * @throws InstantiationException    if the class cannot be instantiated.
-     */
-    private static <T> void setObject(final T instance, final Field field)
-            throws IllegalAccessException, ClassNotFoundException, InvocationTargetException, NoSuchMethodException,
-            InstantiationException {
-        field.trySetAccessible();
-        final String typeName = field.getType().getSimpleName().toLowerCase();
-        switch (typeName) {
-            case STRING -> field.set(instance, randomString(10, LETTERS));
-            case INTEGER -> field.set(instance, randomNumber(1, 10));
-            case LONG -> field.set(instance, randomNumber(100L, 1000L));
-            case FLOAT -> field.set(instance, randomNumber(10f, 100f));
-            case DOUBLE -> field.set(instance, randomNumber(1.0, 10.0));
-            case BIG_DECIMAL -> field.set(instance, new BigDecimal(randomNumber(10, 100)));
-            case BOOLEAN -> field.set(instance, randomBoolean());
-            case DATE -> field.set(instance, new Date());
-            case INSTANT -> field.set(instance, new Date().toInstant());
-            case TIMESTAMP -> field.set(instance, new Timestamp(System.currentTimeMillis()));
-            case LOCAL_DATE -> field.set(instance, LocalDate.now());
-            case LOCAL_DATE_TIME -> field.set(instance, LocalDateTime.now());
-            case LOCAL_TIME -> field.set(instance, LocalDateTime.now().toLocalTime());
-            default -> {
-                String className = field.getType().getName();
-                Class<?> classObject = Class.forName(className);
-                Object obj = create(classObject);
-                field.set(instance, obj);
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects in the stream.
+     * @param <T>       The type of the objects.
+     * @return A sized stream of {@code size} instances of {@code className} populated with random data.
+     */
+    public static <T> Stream<T> stream(final Class<T> className, final long size) {
+        return DEFAULT.stream(className, size);
+    }
+
+    /**
+     * Returns a reproducible stream creating dummy objects of the specified class type on demand.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects in the stream.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return A sized stream whose elements are equal to those of {@code create(className, size, seed)},
+     * whether it is sequential or parallel.
+     * @see #stream(Class, long)
+     */
+    public static <T> Stream<T> stream(final Class<T> className, final long size, final long seed) {
+        return DEFAULT.stream(className, size, seed);
+    }
+
+    /**
+     * Returns an unbounded stream creating dummy objects of the specified class type on demand.
+     * It must be bounded by a short-circuiting operation such as {@link Stream#limit(long)}.
+     *
+     * @param className The class of the objects to be created.
+     * @param <T>       The type of the objects.
+     * @return An infinite stream of instances of {@code className} populated with random data.
+     * @see #stream(Class, long)
+     */
+    public static <T> Stream<T> generate(final Class<T> className) {
+        return DEFAULT.generate(className);
+    }
+
+    /**
+     * Returns a reproducible unbounded stream creating dummy objects of the specified class type on demand.
+     *
+     * @param className The class of the objects to be created.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return An infinite stream whose element {@code i} is equal to {@code createAt(className, seed, i)}.
+     * @see #generate(Class)
+     */
+    public static <T> Stream<T> generate(final Class<T> className, final long seed) {
+        return DEFAULT.generate(className, seed);
+    }
+
+    /**
+     * Creates a list of dummy objects within the given generation context.
+     *
+     * @param context   The context of the current generation.
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param <T>       The type of the objects.
+     * @return A list containing up to {@code size} instances of {@code className} populated with random data, the
+     *         nested ones left out by the limits of the factory being skipped.
+     */
+    static <T> List<T> create(final GenerationContext context, final Class<T> className, final int size) {
+        final InstanceCreator<T> creator = creatorFor(className);
+        final List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final T element = context.createElement(creator, className);
+            if (element != null) {
+                list.add(element);
             }
         }
+        return list;
+    }
+
+    /**
+     * Returns the cached generation plan of the specified class, building it on first use.
+     *
+     * @param className The class to get the plan for.
+     * @param <T>       The type of the class.
+     * @return The generation plan of {@code className}.
+     * @throws RuntimeException if the plan cannot be built (e.g. no no-arg constructor).
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GenerationPlan<T> planFor(final Class<T> className) {
+        return (GenerationPlan<T>) PLANS.get(className);
     }
 
     /**
-     * Extracts the generic class name from a parameterized type (e.g., getting "String" from "List<String>").
+     * Returns the creator used for the specified class: its generated factory if one is registered,
+     * its generation plan otherwise.
      *
-     * @param genericType The type to inspect.
-     * @return The name of the generic class.
+     * @param className The class to get the creator for.
+     * @param <T>       The type of the class.
+     * @return The creator of {@code className}.
      */
-    private static String getGenericClassName(final Type genericType) {
-        String className = genericType.getTypeName();
-        className = className.substring(className.indexOf(MINUS_THAN) + 1, className.lastIndexOf(MAJOR_THAN));
-        System.out.println(CLASS_NAME_LOG.concat(className));
-        return className;
+    @SuppressWarnings("unchecked")
+    static <T> InstanceCreator<T> creatorFor(final Class<T> className) {
+        return (InstanceCreator<T>) CREATORS.get(className);
+    }
+
+    /**
+     * Returns the factory the static methods delegate to.
+     *
+     * @return The default factory.
+     */
+    static ObjectFactory defaultFactory() {
+        return DEFAULT;
+    }
+
+    /**
+     * Builds the factory the static methods delegate to. When the
+     * {@value com.inad.dummyobjects.constants.Constants#METRICS_PROPERTY} system property is {@code true}, it records
+     * {@link GenerationMetrics} registered in JMX under the name {@code default}.
+     *
+     * @return The default factory.
+     */
+    private static ObjectFactory buildDefaultFactory() {
+        final ObjectFactory.Builder builder = ObjectFactory.builder();
+        if (Boolean.getBoolean(METRICS_PROPERTY)) {
+            final GenerationMetrics metrics = new GenerationMetrics();
+            metrics.register("default");
+            builder.listener(metrics);
+        }
+        return builder.build();
     }
 
-}
\ No newline at end of file
+}
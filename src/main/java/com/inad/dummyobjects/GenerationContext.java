@@ -0,0 +1,500 @@
+package com.inad.dummyobjects;
+
+import com.inad.dummyobjects.jfr.ListEvent;
+import com.inad.dummyobjects.metrics.GenerationListener;
+import com.inad.dummyobjects.plan.FieldPlan;
+import com.inad.dummyobjects.plan.GenerationPlan;
+import com.inad.dummyobjects.plan.InstanceCreator;
+import com.inad.dummyobjects.random.Alphabet;
+import com.inad.dummyobjects.random.IndexedRandom;
+import com.inad.dummyobjects.random.LengthDistribution;
+import com.inad.dummyobjects.random.TemporalRange;
+import com.inad.dummyobjects.spi.GeneratedFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * State shared by the generation of one object graph (an object and its nested objects and lists).
+ * <p>
+ * It carries the random generator every value is drawn from, so a generation call never touches a
+ * random shared with other threads. A context is confined to the thread running the generation and
+ * must not be used concurrently.
+ * </p>
+ * <p>
+ * The context also carries the settings of the {@link ObjectFactory} running the generation. Every object of the
+ * graph is created through the context, which reports it to the {@link GenerationListener} of the factory when there
+ * is one. Without a listener, nothing is timed nor tracked.
+ * </p>
+ * <p>
+ * The context keeps the path of the objects being populated, from the top-level object down to the current one, so
+ * that the graph is bounded whatever the model: nested objects beyond the depth limit or the object budget of the
+ * factory are left out, and so are the back-references to an object of the path, unless the cycle policy allows or
+ * reuses them.
+ * </p>
+ */
+public class GenerationContext {
+
+    /**
+     * The types of the fields populated by the creator of each class, reported to the listener. They are read from
+     * the declared fields when the class has a generated factory, so no generation plan is built for it.
+     */
+    private static final ClassValue<Class<?>[]> FIELD_TYPES = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(final Class<?> type) {
+            if (Factory.creatorFor(type) instanceof GeneratedFactory<?>) {
+                final List<Class<?>> types = new ArrayList<>();
+                for (Class<?> current = type; current != null && current != Object.class;
+                     current = current.getSuperclass()) {
+                    for (Field field : current.getDeclaredFields()) {
+                        if (!Modifier.isStatic(field.getModifiers())) {
+                            types.add(field.getType());
+                        }
+                    }
+                }
+                return types.toArray(new Class<?>[0]);
+            }
+            final FieldPlan[] fields = Factory.planFor(type).getFields();
+            final Class<?>[] types = new Class<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                types[i] = fields[i].getField().getType();
+            }
+            return types;
+        }
+    };
+
+    private static final byte[] NO_BUFFER = new byte[0];
+    private static final int INITIAL_PATH = 8;
+
+    private final RandomGenerator random;
+    private final boolean seeded;
+    private final ObjectFactory factory;
+    private final GenerationListener listener;
+    private final Alphabet alphabet;
+    private final LengthDistribution stringLength;
+    private final LengthDistribution collectionSize;
+    private final TemporalRange temporalRange;
+    private final int depthLimit;
+    private final int objectBudget;
+    private final CyclePolicy cyclePolicy;
+    private byte[] buffer = NO_BUFFER;
+    private Class<?>[] types = new Class<?>[INITIAL_PATH];
+    private Object[] instances = new Object[INITIAL_PATH];
+    private int depth;
+    private int maxDepth;
+    private int objects;
+
+    /**
+     * Creates a context drawing its values from the given generator, with the settings of the static {@link Factory}.
+     *
+     * @param random The random generator of the context.
+     */
+    public GenerationContext(final RandomGenerator random) {
+        this(random, Factory.defaultFactory());
+    }
+
+    /**
+     * Creates a context drawing its values from the given generator, with the settings of the given factory. The
+     * context is {@link #isSeeded() seeded} if the generator is an {@link IndexedRandom}.
+     *
+     * @param random  The random generator of the context.
+     * @param factory The factory running the generation.
+     */
+    public GenerationContext(final RandomGenerator random, final ObjectFactory factory) {
+        this(random, factory, random instanceof IndexedRandom);
+    }
+
+    /**
+     * Creates a context drawing its values from the given generator, with the settings of the given factory.
+     *
+     * @param random  The random generator of the context.
+     * @param factory The factory running the generation.
+     * @param seeded  Whether the objects must only depend on the seed and the index of the generator, which must
+     *                then be an {@link IndexedRandom}.
+     * @throws IllegalArgumentException if the context is seeded but the generator is not an {@link IndexedRandom}.
+     */
+    public GenerationContext(final RandomGenerator random, final ObjectFactory factory, final boolean seeded) {
+        if (seeded && !(random instanceof IndexedRandom)) {
+            throw new IllegalArgumentException("A seeded context draws from an IndexedRandom");
+        }
+        this.random = random;
+        this.seeded = seeded;
+        this.factory = factory;
+        this.listener = factory.listener();
+        this.alphabet = factory.alphabet();
+        this.stringLength = factory.stringLength();
+        this.collectionSize = factory.collectionSize();
+        this.temporalRange = seeded ? factory.seededTemporalRange() : factory.temporalRange();
+        this.depthLimit = factory.maxDepth();
+        this.objectBudget = factory.maxObjects();
+        this.cyclePolicy = factory.cyclePolicy();
+    }
+
+    /**
+     * Returns the random generator every value of this context is drawn from.
+     *
+     * @return The random generator.
+     */
+    public RandomGenerator random() {
+        return random;
+    }
+
+    /**
+     * Returns whether the objects of this context must be reproducible: the values of a seeded context only depend
+     * on the seed and the index of its {@link IndexedRandom}, never on the objects generated before. An unseeded
+     * context may draw from an {@link IndexedRandom} too, e.g. for a parallel creation without a seed.
+     *
+     * @return {@code true} if the context is seeded.
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Returns the factory running the generation.
+     *
+     * @return The factory of this context.
+     */
+    public ObjectFactory factory() {
+        return factory;
+    }
+
+    /**
+     * Generates a random string with the alphabet and the length distribution of the factory.
+     * The characters are written to a buffer owned by the context, so the only allocation is the string itself.
+     *
+     * @return A new random string.
+     */
+    public String nextString() {
+        return nextString(stringLength.nextLength(random));
+    }
+
+    /**
+     * Generates a random string of the given length with the alphabet of the factory.
+     *
+     * @param length The length of the string.
+     * @return A new random string.
+     */
+    public String nextString(final int length) {
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+        }
+        return alphabet.next(random, length, buffer);
+    }
+
+    /**
+     * Draws the size of a generated collection, map or array from the collection size distribution of the factory.
+     *
+     * @return A non-negative size.
+     */
+    public int nextCollectionSize() {
+        return collectionSize.nextLength(random);
+    }
+
+    /**
+     * Draws the length of a generated string from the string length distribution of the factory.
+     *
+     * @return A non-negative length.
+     */
+    public int nextStringLength() {
+        return stringLength.nextLength(random);
+    }
+
+    /**
+     * Returns the range of the date and time values generated in this context, i.e. the range of the factory.
+     *
+     * @return The temporal range.
+     */
+    public TemporalRange temporalRange() {
+        return temporalRange;
+    }
+
+    /**
+     * Returns the nesting depth of the objects created next through this context: {@code 0} outside of any
+     * creation, {@code 1} while populating the fields of a top-level object, and so on.
+     *
+     * @return The current nesting depth.
+     */
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the deepest nesting level reached by an object created through this context.
+     *
+     * @return The maximum nesting depth.
+     */
+    int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Creates a nested instance of the specified class within this context.
+     * <p>
+     * The nested object is left out, and {@code null} is returned, if it would be deeper than the
+     * {@link ObjectFactory#maxDepth() depth limit} of the factory, if the graph already holds its
+     * {@link ObjectFactory#maxObjects() object budget}, or if an object of the same class is being populated above it
+     * and the {@link ObjectFactory#cyclePolicy() cycle policy} does not allow cycles. With
+     * {@link CyclePolicy#REUSE}, the object being populated above it is returned instead.
+     * </p>
+     *
+     * @param className The class of the object to create.
+     * @param <T>       The type of the object.
+     * @return An instance of {@code className} with populated fields, or {@code null} if it is left out.
+     */
+    public <T> T create(final Class<T> className) {
+        return create(Factory.creatorFor(className), className);
+    }
+
+    /**
+     * Creates a nested list of instances of the specified class within this context. The elements left out (see
+     * {@link #create(Class)}) are not added, so the list may hold fewer than {@code size} elements.
+     *
+     * @param className The class of the objects to create.
+     * @param size      The number of objects to create in the list.
+     * @param <T>       The type of the objects.
+     * @return A list containing up to {@code size} instances of {@code className}.
+     */
+    public <T> List<T> create(final Class<T> className, final int size) {
+        final ListEvent event = new ListEvent();
+        event.begin();
+        final List<T> list = Factory.create(this, className, size);
+        event.end(className, list.size(), depth);
+        return list;
+    }
+
+    /**
+     * Creates a nested instance of the specified class to be added to a collection, a map or an array. It follows the
+     * rules of {@link #create(Class)}, but for the back-references, which are left out whatever the cycle policy: a
+     * container holding an object being populated above it is rarely meant.
+     *
+     * @param className The class of the object to create.
+     * @param <T>       The type of the object.
+     * @return An instance of {@code className} with populated fields, or {@code null} if it is left out.
+     */
+    public <T> T createElement(final Class<T> className) {
+        return createElement(Factory.creatorFor(className), className);
+    }
+
+    /**
+     * Populates an existing instance again within this context, reusing the nested objects and list elements it
+     * references. The instance is not reported to the listener, as it is not created. A nested instance deeper than
+     * the depth limit, or already being populated above it (a back-reference), is left as it is.
+     * <p>
+     * The instances of immutable classes (see {@link GenerationPlan#isMutable()}) cannot be populated in place: a new
+     * instance of their class is created and returned instead.
+     * </p>
+     *
+     * @param instance The instance to populate.
+     * @param <T>      The type of the instance.
+     * @return The populated instance, or the new instance replacing an immutable one.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T populate(final T instance) {
+        if (depth == 0) {
+            objects = 1;
+        } else if (depth > depthLimit || isBeingPopulated(instance)) {
+            return instance;
+        }
+        final GenerationPlan<T> plan = Factory.planFor((Class<T>) instance.getClass());
+        if (!plan.isMutable()) {
+            final T created = create(plan, plan.getType());
+            return created != null ? created : instance;
+        }
+        push(instance.getClass());
+        register(instance);
+        try {
+            plan.populate(instance, this);
+        } finally {
+            pop();
+        }
+        return instance;
+    }
+
+    /**
+     * Registers the instance whose fields are being populated, right after it is instantiated, so that the
+     * back-references to it can be {@link CyclePolicy#REUSE reused}. It is called by the generation plans and by the
+     * generated factories.
+     *
+     * @param instance The instance being populated at the current depth.
+     */
+    public void register(final Object instance) {
+        if (depth > 0) {
+            instances[depth - 1] = instance;
+        }
+    }
+
+    /**
+     * Enters a nested object that is generated field by field instead of being created, checking it against the
+     * limits of the factory as {@link #create(Class)} does. Every successful call must be paired with
+     * {@link #exitNested()} once the fields of the object are generated.
+     *
+     * @param type The class of the nested object.
+     * @return {@code true} if the object is generated, {@code false} if it is left out.
+     */
+    public boolean enterNested(final Class<?> type) {
+        if (!admits(type)) {
+            return false;
+        }
+        push(type);
+        return true;
+    }
+
+    /**
+     * Leaves the nested object entered by {@link #enterNested(Class)}.
+     */
+    public void exitNested() {
+        pop();
+    }
+
+    /**
+     * Creates an instance with the given creator within this context.
+     *
+     * @param creator   The creator of the object.
+     * @param className The class of the object.
+     * @param <T>       The type of the object.
+     * @return The created instance, or {@code null} if it is left out.
+     */
+    <T> T create(final InstanceCreator<T> creator, final Class<T> className) {
+        if (!admits(className)) {
+            return cyclePolicy == CyclePolicy.REUSE ? backReference(className) : null;
+        }
+        return createAdmitted(creator, className);
+    }
+
+    /**
+     * Creates a list element with the given creator within this context (see {@link #createElement(Class)}).
+     *
+     * @param creator   The creator of the object.
+     * @param className The class of the object.
+     * @param <T>       The type of the object.
+     * @return The created instance, or {@code null} if it is left out.
+     */
+    <T> T createElement(final InstanceCreator<T> creator, final Class<T> className) {
+        return admits(className) ? createAdmitted(creator, className) : null;
+    }
+
+    /**
+     * Creates an instance admitted by the limits of the factory.
+     *
+     * @param creator   The creator of the object.
+     * @param className The class of the object.
+     * @param <T>       The type of the object.
+     * @return The created instance.
+     */
+    private <T> T createAdmitted(final InstanceCreator<T> creator, final Class<T> className) {
+        if (listener != null) {
+            return createObserved(creator, className);
+        }
+        push(className);
+        try {
+            return creator.create(this);
+        } finally {
+            pop();
+        }
+    }
+
+    /**
+     * Creates an instance, timing it for the listener.
+     *
+     * @param creator   The creator of the object.
+     * @param className The class of the object.
+     * @param <T>       The type of the object.
+     * @return The created instance.
+     */
+    private <T> T createObserved(final InstanceCreator<T> creator, final Class<T> className) {
+        final int current = push(className);
+        final long start = System.nanoTime();
+        final T instance;
+        try {
+            instance = creator.create(this);
+        } finally {
+            pop();
+        }
+        listener.objectCreated(className, current, System.nanoTime() - start);
+        for (Class<?> fieldType : FIELD_TYPES.get(className)) {
+            listener.fieldGenerated(fieldType);
+        }
+        return instance;
+    }
+
+    /**
+     * Checks whether an object of the given class may be created at the current depth, and counts it in the object
+     * budget of the graph if so. A top-level object is always admitted, and starts a new graph.
+     *
+     * @param type The class of the object.
+     * @return {@code true} if the object may be created.
+     */
+    private boolean admits(final Class<?> type) {
+        if (depth == 0) {
+            objects = 0;
+        } else if (depth > depthLimit || objects >= objectBudget
+                || cyclePolicy != CyclePolicy.ALLOW && ancestor(type) >= 0) {
+            return false;
+        }
+        objects++;
+        return true;
+    }
+
+    /**
+     * Returns the nearest object of the given class being populated above the current depth.
+     *
+     * @param type The class of the object.
+     * @return The object, or {@code null} if there is none.
+     */
+    private <T> T backReference(final Class<T> type) {
+        final int ancestor = ancestor(type);
+        return ancestor < 0 ? null : type.cast(instances[ancestor]);
+    }
+
+    private int ancestor(final Class<?> type) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (types[i] == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isBeingPopulated(final Object instance) {
+        for (int i = depth - 1; i >= 0; i--) {
+            if (instances[i] == instance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves one nesting level down, before populating an object.
+     *
+     * @param type The class of the object.
+     * @return The nesting depth of the object about to be populated.
+     */
+    private int push(final Class<?> type) {
+        final int current = depth++;
+        if (current > maxDepth) {
+            maxDepth = current;
+        }
+        if (current == types.length) {
+            types = Arrays.copyOf(types, current * 2);
+            instances = Arrays.copyOf(instances, current * 2);
+        }
+        types[current] = type;
+        return current;
+    }
+
+    /**
+     * Moves one nesting level up, once an object is populated.
+     */
+    private void pop() {
+        depth--;
+        types[depth] = null;
+        instances[depth] = null;
+    }
+
+}
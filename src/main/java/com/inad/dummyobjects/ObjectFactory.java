@@ -0,0 +1,845 @@
+package com.inad.dummyobjects;
+
+import com.inad.dummyobjects.columns.ColumnBatch;
+import com.inad.dummyobjects.columns.ColumnPlan;
+import com.inad.dummyobjects.dataset.Dataset;
+import com.inad.dummyobjects.dataset.LinkedDataset;
+import com.inad.dummyobjects.export.StreamingExport;
+import com.inad.dummyobjects.jfr.CreateEvent;
+import com.inad.dummyobjects.metrics.GenerationListener;
+import com.inad.dummyobjects.plan.InstanceCreator;
+import com.inad.dummyobjects.plan.UniqueValues;
+import com.inad.dummyobjects.random.Alphabet;
+import com.inad.dummyobjects.random.IndexedRandom;
+import com.inad.dummyobjects.random.LengthDistribution;
+import com.inad.dummyobjects.random.RandomSource;
+import com.inad.dummyobjects.random.TemporalRange;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.inad.dummyobjects.constants.Constants.LETTERS;
+import static com.inad.dummyobjects.constants.Constants.MAX_DEPTH;
+import static com.inad.dummyobjects.constants.Constants.MAX_OBJECTS;
+import static com.inad.dummyobjects.constants.Constants.PARALLEL_THRESHOLD;
+import static com.inad.dummyobjects.constants.Constants.SIZE_LIST;
+import static com.inad.dummyobjects.constants.Constants.STRING_LENGTH;
+import static com.inad.dummyobjects.constants.Constants.SEEDED_TEMPORAL_RANGE_END;
+import static com.inad.dummyobjects.constants.Constants.TEMPORAL_RANGE_DAYS;
+
+/**
+ * A configured factory of dummy objects.
+ * <p>
+ * It offers the same methods as the static {@link Factory}, which delegates to a default instance, with the
+ * settings chosen through its {@link Builder}. Instances are immutable, but for the values taken by their
+ * {@link com.inad.dummyobjects.annotation.Unique} fields, and can be shared between threads; the generation plans
+ * are cached per class and shared by all of them.
+ * </p>
+ * <p>
+ * Every creation, but for the streams, is recorded as a {@link CreateEvent} when the JFR event is enabled.
+ * </p>
+ * <p>
+ * The unseeded methods draw their values from the generator of the calling thread in the {@link RandomSource} of
+ * the factory. The methods taking a {@code seed} always draw from an {@link IndexedRandom}, so that their results
+ * only depend on the seed; their dates are drawn from the {@link #seededTemporalRange() seeded temporal range}, which
+ * does not depend on when the factory was built.
+ * </p>
+ * <p>
+ * Every created graph is bounded by the {@link #maxDepth() depth limit}, the {@link #maxObjects() object budget} and
+ * the {@link #cyclePolicy() cycle policy} of the factory, so self-referencing and recursive models are generated
+ * without overflowing the stack.
+ * </p>
+ */
+public class ObjectFactory {
+
+    private static final TemporalRange SEEDED_TEMPORAL_RANGE = TemporalRange.between(
+            Instant.ofEpochMilli(SEEDED_TEMPORAL_RANGE_END).minus(Duration.ofDays(TEMPORAL_RANGE_DAYS)),
+            Instant.ofEpochMilli(SEEDED_TEMPORAL_RANGE_END));
+
+    private final RandomSource randomSource;
+    private final GenerationListener listener;
+    private final Alphabet alphabet;
+    private final LengthDistribution stringLength;
+    private final LengthDistribution collectionSize;
+    private final TemporalRange temporalRange;
+    private final TemporalRange seededTemporalRange;
+    private final int maxDepth;
+    private final int maxObjects;
+    private final CyclePolicy cyclePolicy;
+    private final UniqueValues uniqueValues = new UniqueValues();
+
+    private ObjectFactory(final Builder builder) {
+        this.randomSource = builder.randomSource;
+        this.listener = builder.listener;
+        this.alphabet = builder.alphabet;
+        this.stringLength = builder.stringLength;
+        this.collectionSize = builder.collectionSize;
+        this.temporalRange = builder.temporalRange != null
+                ? builder.temporalRange : TemporalRange.lastDays(TEMPORAL_RANGE_DAYS, builder.clock);
+        this.seededTemporalRange = builder.temporalRange != null
+                ? builder.temporalRange : SEEDED_TEMPORAL_RANGE;
+        this.maxDepth = builder.maxDepth;
+        this.maxObjects = builder.maxObjects;
+        this.cyclePolicy = builder.cyclePolicy;
+    }
+
+    /**
+     * Returns a builder of factories, initialized with the default settings.
+     *
+     * @return A new builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the source of the random generators of the unseeded methods.
+     *
+     * @return The random source of this factory.
+     */
+    public RandomSource randomSource() {
+        return randomSource;
+    }
+
+    /**
+     * Returns the listener of the objects created by this factory.
+     *
+     * @return The listener, or {@code null} if the factory has none.
+     */
+    public GenerationListener listener() {
+        return listener;
+    }
+
+    /**
+     * Returns the alphabet of the generated {@code String} fields.
+     *
+     * @return The alphabet of this factory.
+     */
+    public Alphabet alphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Returns the distribution of the lengths of the generated {@code String} fields.
+     *
+     * @return The string length distribution of this factory.
+     */
+    public LengthDistribution stringLength() {
+        return stringLength;
+    }
+
+    /**
+     * Returns the distribution of the sizes of the generated collections, maps and arrays.
+     *
+     * @return The collection size distribution of this factory.
+     */
+    public LengthDistribution collectionSize() {
+        return collectionSize;
+    }
+
+    /**
+     * Returns the range of the date and time values of the unseeded methods.
+     *
+     * @return The temporal range of this factory.
+     */
+    public TemporalRange temporalRange() {
+        return temporalRange;
+    }
+
+    /**
+     * Returns the range of the date and time values of the seeded methods: the one set on the builder, or else a
+     * fixed range, so seeded objects do not depend on when the factory was built.
+     *
+     * @return The temporal range of the seeded creations of this factory.
+     */
+    public TemporalRange seededTemporalRange() {
+        return seededTemporalRange;
+    }
+
+    /**
+     * Returns the maximum nesting depth of the created objects, the top-level object being at depth {@code 0}.
+     *
+     * @return The depth limit of this factory.
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the maximum number of objects created for a single top-level object, itself included.
+     *
+     * @return The object budget of this factory.
+     */
+    public int maxObjects() {
+        return maxObjects;
+    }
+
+    /**
+     * Returns what this factory does with the back-references of the created objects.
+     *
+     * @return The cycle policy of this factory.
+     */
+    public CyclePolicy cyclePolicy() {
+        return cyclePolicy;
+    }
+
+    /**
+     * Returns the values taken by the {@link com.inad.dummyobjects.annotation.Unique} fields of the objects created
+     * by this factory.
+     *
+     * @return The unique values of this factory.
+     */
+    public UniqueValues uniqueValues() {
+        return uniqueValues;
+    }
+
+    /**
+     * Creates a list of dummy objects of the specified class type, populated with random data.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param <T>       The type of the objects.
+     * @return A list containing {@code size} instances of {@code className} populated with random data.
+     */
+    public <T> List<T> create(final Class<T> className, final int size) {
+        final GenerationContext context = newContext();
+        final CreateEvent event = new CreateEvent();
+        event.start();
+        final List<T> list = Factory.create(context, className, size);
+        event.end(className, size, context.maxDepth());
+        return list;
+    }
+
+    /**
+     * Creates a single instance of the specified class populated with random data.
+     *
+     * @param className The class of the object to create.
+     * @param <T>       The type of the object.
+     * @return An instance of {@code className} with populated fields.
+     * @throws RuntimeException if instantiation, field access, or other reflection operations fail.
+     */
+    public <T> T create(final Class<T> className) {
+        return createOne(newContext(), className);
+    }
+
+    /**
+     * Creates a reproducible list of dummy objects of the specified class type.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return A list containing {@code size} instances of {@code className} populated with seeded random data.
+     */
+    public <T> List<T> create(final Class<T> className, final int size, final long seed) {
+        final InstanceCreator<T> creator = Factory.creatorFor(className);
+        final IndexedRandom random = new IndexedRandom(seed);
+        final GenerationContext context = new GenerationContext(random, this);
+        final CreateEvent event = new CreateEvent();
+        event.start();
+        final List<T> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            random.seek(i);
+            list.add(context.create(creator, className));
+        }
+        event.end(className, size, context.maxDepth());
+        return list;
+    }
+
+    /**
+     * Creates the object at the given index of a seeded creation, without creating the objects before it.
+     * <p>
+     * The result is equal to the element {@code index} of {@code create(className, size, seed)} and of
+     * {@code createParallel(className, size, seed)}.
+     * </p>
+     *
+     * @param className The class of the object to create.
+     * @param seed      The seed of the creation.
+     * @param index     The index of the object in the creation.
+     * @param <T>       The type of the object.
+     * @return The instance of {@code className} at {@code index}.
+     */
+    public <T> T createAt(final Class<T> className, final long seed, final long index) {
+        return createOne(new GenerationContext(new IndexedRandom(seed).seek(index), this), className);
+    }
+
+    /**
+     * Populates an existing object again with random data, in place.
+     * <p>
+     * Every field gets a new value as with {@link #create(Class)}, but the nested objects and the elements of the
+     * {@link ArrayList}s the object already references are populated in place instead of being replaced. An object
+     * populated again and again therefore allocates nothing for its primitive and enum fields, and only the values
+     * of its other fields (e.g. strings) for its nested objects.
+     * </p>
+     *
+     * <p>
+     * Immutable objects, such as records, cannot be populated in place: a new object is created instead.
+     * </p>
+     *
+     * @param existing The object to populate; its class is planned as with {@link #create(Class)}.
+     * @param <T>      The type of the object.
+     * @return {@code existing}, populated, or a new object if its class is immutable.
+     */
+    public <T> T populate(final T existing) {
+        return newContext().populate(Objects.requireNonNull(existing, "existing"));
+    }
+
+    /**
+     * Populates an existing object again in place with the values of the object at the given index of a seeded
+     * creation, i.e. the values of {@code createAt(existing.getClass(), seed, index)}.
+     *
+     * @param existing The object to populate.
+     * @param seed     The seed of the creation.
+     * @param index    The index of the object in the creation.
+     * @param <T>      The type of the object.
+     * @return {@code existing}, populated, or a new object if its class is immutable.
+     * @see #populate(Object)
+     */
+    public <T> T populate(final T existing, final long seed, final long index) {
+        final GenerationContext context = new GenerationContext(new IndexedRandom(seed).seek(index), this);
+        return context.populate(Objects.requireNonNull(existing, "existing"));
+    }
+
+    /**
+     * Fills a pool with {@code size} dummy objects of the specified class type, reusing the objects it holds.
+     * <p>
+     * The objects of the pool are populated again in place (see {@link #populate(Object)}); missing or foreign
+     * elements are replaced by new objects and the elements beyond {@code size} are removed. Refilling the same pool
+     * for every batch keeps the allocations of a long-running generation to the values themselves.
+     * </p>
+     *
+     * @param className The class of the objects.
+     * @param size      The number of objects in the batch.
+     * @param pool      A modifiable list holding the objects of the previous batch, or empty.
+     * @param <T>       The type of the objects.
+     * @return {@code pool}, holding {@code size} populated instances of {@code className}.
+     */
+    public <T> List<T> populate(final Class<T> className, final int size, final List<T> pool) {
+        final InstanceCreator<T> creator = Factory.creatorFor(className);
+        final GenerationContext context = newContext();
+        for (int i = 0; i < size; i++) {
+            final T element = i < pool.size() ? pool.get(i) : null;
+            if (element != null && element.getClass() == className) {
+                pool.set(i, context.populate(element));
+            } else if (i < pool.size()) {
+                pool.set(i, context.create(creator, className));
+            } else {
+                pool.add(context.create(creator, className));
+            }
+        }
+        if (pool.size() > size) {
+            pool.subList(size, pool.size()).clear();
+        }
+        return pool;
+    }
+
+    /**
+     * Creates a batch of dummy rows of the specified class type, stored column by column in primitive arrays.
+     * <p>
+     * No instance of {@code className} is created: the values of each supported field are generated in one loop into
+     * its {@link com.inad.dummyobjects.columns.Column}, following the rules of {@link ColumnPlan}. This suits bulk
+     * loads, where millions of rows would otherwise mean millions of objects and boxed values.
+     * </p>
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param <T>       The type of the rows.
+     * @return A batch of {@code size} rows of the supported fields of {@code className}.
+     */
+    public <T> ColumnBatch<T> createColumns(final Class<T> className, final int size) {
+        return ColumnPlan.of(className).generate(className, size, randomSource.current(), this);
+    }
+
+    /**
+     * Writes a dataset file of dummy rows of the specified class type, to be read with {@link Dataset#open}.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @see #writeDataset(Class, long, Path, long)
+     */
+    public void writeDataset(final Class<?> className, final long size, final Path path) {
+        Dataset.write(this, className, size, path);
+    }
+
+    /**
+     * Writes a reproducible dataset file of dummy rows of the specified class type, to be read with
+     * {@link Dataset#open}.
+     * <p>
+     * The rows are generated from the plan of the class and written straight to a memory-mapped file, without
+     * creating any instance, so files far larger than the heap can be written. Nested objects and lists are not
+     * stored.
+     * </p>
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @throws java.io.UncheckedIOException if the file cannot be written.
+     */
+    public void writeDataset(final Class<?> className, final long size, final Path path, final long seed) {
+        Dataset.write(this, className, size, path, seed);
+    }
+
+    /**
+     * Returns a builder of dataset files of related entities, whose foreign keys reference actual rows, generated
+     * with the settings of this factory.
+     *
+     * @return A new builder of linked datasets.
+     * @see LinkedDataset
+     */
+    public LinkedDataset.Builder linkedDataset() {
+        return LinkedDataset.builder(this);
+    }
+
+    /**
+     * Writes dummy rows of the specified class type to a JSON Lines file, one JSON object per line.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @see #writeJsonLines(Class, long, Path, long, Executor)
+     */
+    public void writeJsonLines(final Class<?> className, final long size, final Path path) {
+        StreamingExport.writeJsonLines(this, className, size, path);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a JSON Lines file.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @see #writeJsonLines(Class, long, Path, long, Executor)
+     */
+    public void writeJsonLines(final Class<?> className, final long size, final Path path, final long seed) {
+        StreamingExport.writeJsonLines(this, className, size, path, seed, null);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a JSON Lines file, encoding chunks of rows on the
+     * given executor.
+     * <p>
+     * The values are encoded as they are generated, nested objects and lists included, into buffers written to the
+     * file in large batches: no object is created and the memory used does not grow with {@code size}. The chunks
+     * are written in order, so the file is the same with or without an executor. Line {@code i} holds the values of
+     * {@code createAt(className, seed, i)}.
+     * </p>
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @param executor  The executor encoding the chunks of rows.
+     * @throws java.io.UncheckedIOException if the file cannot be written.
+     */
+    public void writeJsonLines(final Class<?> className, final long size, final Path path, final long seed,
+                               final Executor executor) {
+        StreamingExport.writeJsonLines(this, className, size, path, seed, Objects.requireNonNull(executor));
+    }
+
+    /**
+     * Writes dummy rows of the specified class type to a CSV file, after a header naming the columns.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @see #writeCsv(Class, long, Path, long, Executor)
+     */
+    public void writeCsv(final Class<?> className, final long size, final Path path) {
+        StreamingExport.writeCsv(this, className, size, path);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a CSV file.
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @see #writeCsv(Class, long, Path, long, Executor)
+     */
+    public void writeCsv(final Class<?> className, final long size, final Path path, final long seed) {
+        StreamingExport.writeCsv(this, className, size, path, seed, null);
+    }
+
+    /**
+     * Writes reproducible dummy rows of the specified class type to a CSV file, encoding chunks of rows on the given
+     * executor.
+     * <p>
+     * The fields of nested objects are flattened into columns named after their path ({@code address.city}) and
+     * lists are written as JSON arrays in a single cell. As with {@link #writeJsonLines(Class, long, Path, long,
+     * Executor)}, no object is created and the file does not depend on the executor.
+     * </p>
+     *
+     * @param className The class the rows stand for.
+     * @param size      The number of rows.
+     * @param path      The file to write, replaced if it exists.
+     * @param seed      The seed of the rows; equal seeds produce equal files.
+     * @param executor  The executor encoding the chunks of rows.
+     * @throws java.io.UncheckedIOException if the file cannot be written.
+     */
+    public void writeCsv(final Class<?> className, final long size, final Path path, final long seed,
+                         final Executor executor) {
+        StreamingExport.writeCsv(this, className, size, path, seed, Objects.requireNonNull(executor));
+    }
+
+    /**
+     * Creates a list of dummy objects of the specified class type, splitting the work across the
+     * common {@link ForkJoinPool}.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list containing {@code size} instances of {@code className} populated with random data.
+     */
+    public <T> List<T> createParallel(final Class<T> className, final int size) {
+        return createParallel(className, size, randomSource.current().nextLong(), false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a list of dummy objects of the specified class type, splitting the work across the given executor.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param executor  The executor running the creation tasks.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list containing {@code size} instances of {@code className} populated with random data.
+     * @see #createParallel(Class, int, long, Executor)
+     */
+    public <T> List<T> createParallel(final Class<T> className, final int size, final Executor executor) {
+        return createParallel(className, size, randomSource.current().nextLong(), false, executor);
+    }
+
+    /**
+     * Creates a reproducible list of dummy objects of the specified class type, splitting the work across the
+     * common {@link ForkJoinPool}.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list equal to {@code create(className, size, seed)}.
+     */
+    public <T> List<T> createParallel(final Class<T> className, final int size, final long seed) {
+        return createParallel(className, size, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a reproducible list of dummy objects of the specified class type, splitting the work across the given
+     * executor.
+     * <p>
+     * The objects are written into a presized array by tasks of at most
+     * {@link com.inad.dummyobjects.constants.Constants#PARALLEL_THRESHOLD} objects, each drawing its values from
+     * its own {@link IndexedRandom}. A {@link ForkJoinPool} runs the tasks with work stealing; any other executor
+     * runs them as independent chunks. Either way the result does not depend on the executor.
+     * </p>
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects to create in the list.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param executor  The executor running the creation tasks.
+     * @param <T>       The type of the objects.
+     * @return A fixed-size list equal to {@code create(className, size, seed)}.
+     */
+    public <T> List<T> createParallel(final Class<T> className, final int size, final long seed,
+                                      final Executor executor) {
+        return createParallel(className, size, seed, true, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> createParallel(final Class<T> className, final int size, final long seed, final boolean seeded,
+                                       final Executor executor) {
+        final InstanceCreator<T> creator = Factory.creatorFor(className);
+        final Object[] result = new Object[size];
+        if (executor instanceof ForkJoinPool pool) {
+            pool.invoke(new ParallelCreateTask<>(creator, className, this, result, 0, size, seed, seeded));
+        } else {
+            final List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int from = 0; from < size; from += PARALLEL_THRESHOLD) {
+                final ParallelCreateTask<T> chunk = new ParallelCreateTask<>(creator, className, this, result,
+                        from, Math.min(size, from + PARALLEL_THRESHOLD), seed, seeded);
+                chunks.add(CompletableFuture.runAsync(chunk::fill, executor));
+            }
+            try {
+                CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        return (List<T>) Arrays.asList(result);
+    }
+
+    /**
+     * Returns a stream creating dummy objects of the specified class type on demand.
+     * <p>
+     * The objects are created as the stream is consumed and are never collected, so the memory used does not grow
+     * with {@code size}. The stream splits well when made {@link Stream#parallel() parallel}.
+     * </p>
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects in the stream.
+     * @param <T>       The type of the objects.
+     * @return A sized stream of {@code size} instances of {@code className} populated with random data.
+     */
+    public <T> Stream<T> stream(final Class<T> className, final long size) {
+        return stream(className, size, randomSource.current().nextLong(), false);
+    }
+
+    /**
+     * Returns a reproducible stream creating dummy objects of the specified class type on demand.
+     *
+     * @param className The class of the objects to be created.
+     * @param size      The number of objects in the stream.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return A sized stream whose elements are equal to those of {@code create(className, size, seed)},
+     * whether it is sequential or parallel.
+     * @see #stream(Class, long)
+     */
+    public <T> Stream<T> stream(final Class<T> className, final long size, final long seed) {
+        return stream(className, size, seed, true);
+    }
+
+    private <T> Stream<T> stream(final Class<T> className, final long size, final long seed, final boolean seeded) {
+        final CreateSpliterator<T> spliterator =
+                new CreateSpliterator<>(Factory.creatorFor(className), className, this, seed, seeded, 0, size, true);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Returns an unbounded stream creating dummy objects of the specified class type on demand.
+     * It must be bounded by a short-circuiting operation such as {@link Stream#limit(long)}.
+     *
+     * @param className The class of the objects to be created.
+     * @param <T>       The type of the objects.
+     * @return An infinite stream of instances of {@code className} populated with random data.
+     * @see #stream(Class, long)
+     */
+    public <T> Stream<T> generate(final Class<T> className) {
+        return generate(className, randomSource.current().nextLong(), false);
+    }
+
+    /**
+     * Returns a reproducible unbounded stream creating dummy objects of the specified class type on demand.
+     *
+     * @param className The class of the objects to be created.
+     * @param seed      The seed of the creation; equal seeds produce equal objects.
+     * @param <T>       The type of the objects.
+     * @return An infinite stream whose element {@code i} is equal to {@code createAt(className, seed, i)}.
+     * @see #generate(Class)
+     */
+    public <T> Stream<T> generate(final Class<T> className, final long seed) {
+        return generate(className, seed, true);
+    }
+
+    private <T> Stream<T> generate(final Class<T> className, final long seed, final boolean seeded) {
+        final CreateSpliterator<T> spliterator = new CreateSpliterator<>(Factory.creatorFor(className), className,
+                this, seed, seeded, 0, Long.MAX_VALUE, false);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Creates a single top-level instance within the given context.
+     *
+     * @param context   The context of the generation.
+     * @param className The class of the object to create.
+     * @param <T>       The type of the object.
+     * @return An instance of {@code className} with populated fields.
+     */
+    private <T> T createOne(final GenerationContext context, final Class<T> className) {
+        final CreateEvent event = new CreateEvent();
+        event.start();
+        final T instance = context.create(className);
+        event.end(className, 1, context.maxDepth());
+        return instance;
+    }
+
+    /**
+     * Creates the context of a generation running on the calling thread.
+     *
+     * @return A new context drawing from the generator of the calling thread in the random source of this factory.
+     */
+    private GenerationContext newContext() {
+        return new GenerationContext(randomSource.current(), this);
+    }
+
+    /**
+     * Builder of {@link ObjectFactory} instances.
+     */
+    public static class Builder {
+
+        private RandomSource randomSource = RandomSource.threadLocalRandom();
+        private GenerationListener listener;
+        private Alphabet alphabet = Alphabet.of(LETTERS);
+        private LengthDistribution stringLength = LengthDistribution.fixed(STRING_LENGTH);
+        private LengthDistribution collectionSize = LengthDistribution.fixed(SIZE_LIST);
+        private TemporalRange temporalRange;
+        private Clock clock = Clock.systemUTC();
+        private int maxDepth = MAX_DEPTH;
+        private int maxObjects = MAX_OBJECTS;
+        private CyclePolicy cyclePolicy = CyclePolicy.NULL;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the source of the random generators of the unseeded methods.
+         * Defaults to {@link RandomSource#threadLocalRandom()}.
+         *
+         * @param randomSource The random source.
+         * @return This builder.
+         */
+        public Builder randomSource(final RandomSource randomSource) {
+            this.randomSource = Objects.requireNonNull(randomSource, "randomSource");
+            return this;
+        }
+
+        /**
+         * Sets the listener notified of every object created by the factory, e.g. a
+         * {@link com.inad.dummyobjects.metrics.GenerationMetrics}. Defaults to none, in which case the creations are
+         * neither timed nor tracked.
+         *
+         * @param listener The listener, or {@code null} for none.
+         * @return This builder.
+         */
+        public Builder listener(final GenerationListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Sets the alphabet of the generated {@code String} fields.
+         * Defaults to the {@value com.inad.dummyobjects.constants.Constants#LETTERS} characters.
+         *
+         * @param alphabet The alphabet.
+         * @return This builder.
+         */
+        public Builder alphabet(final Alphabet alphabet) {
+            this.alphabet = Objects.requireNonNull(alphabet, "alphabet");
+            return this;
+        }
+
+        /**
+         * Sets the distribution of the lengths of the generated {@code String} fields.
+         * Defaults to {@value com.inad.dummyobjects.constants.Constants#STRING_LENGTH} characters.
+         *
+         * @param stringLength The string length distribution.
+         * @return This builder.
+         */
+        public Builder stringLength(final LengthDistribution stringLength) {
+            this.stringLength = Objects.requireNonNull(stringLength, "stringLength");
+            return this;
+        }
+
+        /**
+         * Sets the distribution of the sizes of the generated collections, maps and arrays, e.g.
+         * {@code LengthDistribution.uniform(0, 5)}. The containers are presized to the drawn size.
+         * Defaults to {@value com.inad.dummyobjects.constants.Constants#SIZE_LIST} elements.
+         *
+         * @param collectionSize The collection size distribution.
+         * @return This builder.
+         */
+        public Builder collectionSize(final LengthDistribution collectionSize) {
+            this.collectionSize = Objects.requireNonNull(collectionSize, "collectionSize");
+            return this;
+        }
+
+        /**
+         * Sets the range of the generated {@code Date}, {@code Timestamp}, {@code Instant}, {@code LocalDate},
+         * {@code LocalDateTime} and {@code LocalTime} fields. Defaults to the
+         * {@value com.inad.dummyobjects.constants.Constants#TEMPORAL_RANGE_DAYS} days before the factory is built for
+         * the unseeded methods, and before {@link com.inad.dummyobjects.constants.Constants#SEEDED_TEMPORAL_RANGE_END}
+         * for the seeded ones, with local values in UTC.
+         *
+         * @param temporalRange The temporal range.
+         * @return This builder.
+         */
+        public Builder temporalRange(final TemporalRange temporalRange) {
+            this.temporalRange = Objects.requireNonNull(temporalRange, "temporalRange");
+            return this;
+        }
+
+        /**
+         * Sets the clock giving the end of the default range of the date and time values of the unseeded methods,
+         * read once when the factory is built. Defaults to {@link Clock#systemUTC()}.
+         *
+         * @param clock The clock.
+         * @return This builder.
+         */
+        public Builder clock(final Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /**
+         * Sets the maximum nesting depth of the created objects, the top-level object being at depth {@code 0}.
+         * The nested objects beyond it are left {@code null}, and the lists of them empty.
+         * Defaults to {@value com.inad.dummyobjects.constants.Constants#MAX_DEPTH}.
+         *
+         * @param maxDepth The depth limit.
+         * @return This builder.
+         * @throws IllegalArgumentException if {@code maxDepth} is negative.
+         */
+        public Builder maxDepth(final int maxDepth) {
+            if (maxDepth < 0) {
+                throw new IllegalArgumentException("The depth limit cannot be negative: " + maxDepth);
+            }
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of objects created for a single top-level object, itself included. Once the budget
+         * is spent, the remaining nested objects of the graph are left {@code null}, and the lists of them shorter.
+         * Defaults to {@value com.inad.dummyobjects.constants.Constants#MAX_OBJECTS}.
+         *
+         * @param maxObjects The object budget.
+         * @return This builder.
+         * @throws IllegalArgumentException if {@code maxObjects} is lower than {@code 1}.
+         */
+        public Builder maxObjects(final int maxObjects) {
+            if (maxObjects < 1) {
+                throw new IllegalArgumentException("The object budget must be at least 1: " + maxObjects);
+            }
+            this.maxObjects = maxObjects;
+            return this;
+        }
+
+        /**
+         * Sets what the factory does with the back-references of the created objects.
+         * Defaults to {@link CyclePolicy#NULL}.
+         *
+         * @param cyclePolicy The cycle policy.
+         * @return This builder.
+         */
+        public Builder cyclePolicy(final CyclePolicy cyclePolicy) {
+            this.cyclePolicy = Objects.requireNonNull(cyclePolicy, "cyclePolicy");
+            return this;
+        }
+
+        /**
+         * Builds a factory with the current settings of this builder.
+         *
+         * @return A new factory.
+         */
+        public ObjectFactory build() {
+            return new ObjectFactory(this);
+        }
+
+    }
+
+}
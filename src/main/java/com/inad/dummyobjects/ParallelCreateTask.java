@@ -0,0 +1,86 @@
+package com.inad.dummyobjects;
+
+import com.inad.dummyobjects.jfr.CreateEvent;
+import com.inad.dummyobjects.plan.InstanceCreator;
+import com.inad.dummyobjects.random.IndexedRandom;
+
+import java.util.concurrent.RecursiveAction;
+
+import static com.inad.dummyobjects.constants.Constants.PARALLEL_THRESHOLD;
+
+/**
+ * Fork/join task filling a range of a presized result array with created objects.
+ * <p>
+ * The range is split in halves until it is at most {@link com.inad.dummyobjects.constants.Constants#PARALLEL_THRESHOLD}
+ * objects long. Each task draws its values from its own {@link IndexedRandom}, positioned at the index of every object
+ * it creates, so the tasks never contend on a shared random and the object at an index is the same whatever the
+ * splitting and the number of threads.
+ * </p>
+ *
+ * @param <T> The type of the created objects.
+ */
+class ParallelCreateTask<T> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final InstanceCreator<T> creator;
+    private final Class<T> type;
+    private final ObjectFactory factory;
+    private final Object[] result;
+    private final int from;
+    private final int to;
+    private final long seed;
+    private final boolean seeded;
+
+    /**
+     * Creates a task filling {@code result[from..to)}.
+     *
+     * @param creator  The creator of the objects.
+     * @param type     The class of the objects.
+     * @param factory  The factory running the creation.
+     * @param result   The array receiving the objects.
+     * @param from     The first index to fill (inclusive).
+     * @param to       The last index to fill (exclusive).
+     * @param seed     The seed of the whole creation.
+     * @param seeded   Whether the creation was given its seed, and must be reproducible.
+     */
+    ParallelCreateTask(final InstanceCreator<T> creator, final Class<T> type, final ObjectFactory factory,
+                       final Object[] result, final int from, final int to, final long seed,
+                       final boolean seeded) {
+        this.creator = creator;
+        this.type = type;
+        this.factory = factory;
+        this.result = result;
+        this.from = from;
+        this.to = to;
+        this.seed = seed;
+        this.seeded = seeded;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= PARALLEL_THRESHOLD) {
+            fill();
+            return;
+        }
+        final int middle = (from + to) >>> 1;
+        invokeAll(new ParallelCreateTask<>(creator, type, factory, result, from, middle, seed, seeded),
+                new ParallelCreateTask<>(creator, type, factory, result, middle, to, seed, seeded));
+    }
+
+    /**
+     * Fills the whole range of this task on the current thread, recorded as one {@link CreateEvent}.
+     */
+    void fill() {
+        final IndexedRandom random = new IndexedRandom(seed);
+        final GenerationContext context = new GenerationContext(random, factory, seeded);
+        final CreateEvent event = new CreateEvent();
+        event.start();
+        for (int i = from; i < to; i++) {
+            random.seek(i);
+            result[i] = context.create(creator, type);
+        }
+        event.end(type, to - from, context.maxDepth());
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Draws the value of a numeric field from an exponential distribution, e.g. the durations between events. Integer
+ * fields get the value rounded to the nearest integer.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Exponential {
+
+    /**
+     * The mean of the distribution, the inverse of its rate.
+     *
+     * @return The positive mean.
+     */
+    double mean() default 1.0;
+
+}
@@ -0,0 +1,26 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field holding the {@link PrimaryKey} of another entity. In a
+ * {@link com.inad.dummyobjects.dataset.LinkedDataset}, the field takes the key of a row of that entity; elsewhere it
+ * gets the default values of its type.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ForeignKey {
+
+    /**
+     * The entity referenced by the field.
+     *
+     * @return The class holding the primary key.
+     */
+    Class<?> value();
+
+}
@@ -0,0 +1,26 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Requests a reflection-free factory for the annotated class.
+ * <p>
+ * With the {@code dummy-objects-processor} on the annotation processor path, the compiler generates a
+ * {@code <ClassName>DummyFactory} next to the annotated class and registers it as a
+ * {@link com.inad.dummyobjects.spi.GeneratedFactory}. {@link com.inad.dummyobjects.Factory#create(Class)}
+ * then picks it up automatically, without reflecting on the class.
+ * </p>
+ * <p>
+ * Fields are populated through their setters (including the ones generated by Lombok's {@code @Data}
+ * and {@code @Setter}), or assigned directly when they are not private.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateDummyFactory {
+}
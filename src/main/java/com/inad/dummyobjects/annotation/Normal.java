@@ -0,0 +1,32 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Draws the value of a numeric field from a normal distribution. Integer fields get the value rounded to the
+ * nearest integer.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Normal {
+
+    /**
+     * The mean of the distribution.
+     *
+     * @return The mean.
+     */
+    double mean() default 0.0;
+
+    /**
+     * The standard deviation of the distribution.
+     *
+     * @return The non-negative standard deviation.
+     */
+    double stddev() default 1.0;
+
+}
@@ -0,0 +1,25 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Leaves a reference field {@code null} in the given fraction of the generated objects, e.g. the optional columns of
+ * a table. Jakarta Bean Validation's {@code @Null} amounts to a rate of {@code 1}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface NullRate {
+
+    /**
+     * The probability of the field being {@code null}.
+     *
+     * @return A rate between {@code 0} and {@code 1}.
+     */
+    double value();
+
+}
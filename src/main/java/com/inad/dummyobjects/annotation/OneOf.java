@@ -0,0 +1,35 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Draws the value of a {@code String} or enum field among the given ones.
+ * <p>
+ * The values of an enum field are the names of its constants. Without weights they are equally likely; with
+ * weights they are drawn from an {@link com.inad.dummyobjects.random.AliasTable} built once per field.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface OneOf {
+
+    /**
+     * The values of the field.
+     *
+     * @return The values, at least one.
+     */
+    String[] value();
+
+    /**
+     * The non-negative weight of each value, in the same order.
+     *
+     * @return The weights, none for equally likely values.
+     */
+    double[] weights() default {};
+
+}
@@ -0,0 +1,30 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the values of a {@code String} field matching a regular expression.
+ * <p>
+ * The expression is compiled once per field into a {@link com.inad.dummyobjects.random.PatternGenerator}, which
+ * produces matching strings directly instead of rejecting random ones; see it for the supported syntax. The
+ * {@code max} of a {@link Size} on the same field bounds the unbounded repetitions. Jakarta Bean Validation's
+ * {@code @Pattern} is honored the same way.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Pattern {
+
+    /**
+     * The regular expression the values match.
+     *
+     * @return The regular expression.
+     */
+    String value();
+
+}
@@ -0,0 +1,18 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the key of an entity, an {@code int} or {@code long} field (or its wrapper) referenced by the
+ * {@link ForeignKey} fields of other entities in a {@link com.inad.dummyobjects.dataset.LinkedDataset}. A primary key
+ * is generated like a {@link Unique} field, so it never repeats.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface PrimaryKey {
+}
@@ -0,0 +1,38 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bounds the values of a numeric field ({@code int}, {@code long}, {@code float}, {@code double}, their wrappers and
+ * {@code BigDecimal}), drawn uniformly between {@code min} and {@code max}.
+ * <p>
+ * Both bounds are inclusive; integer fields get the integers of the range. A bound left out is the default one
+ * of the field type, moved past the other bound when they would cross, e.g. {@code @Range(min = 18)} on an
+ * {@code int} field draws from {@code [18..26]}. Jakarta Bean Validation's {@code @Min}, {@code @Max},
+ * {@code @DecimalMin}, {@code @DecimalMax}, {@code @Positive} and {@code @Negative} bound the values the same way.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Range {
+
+    /**
+     * The smallest value of the field.
+     *
+     * @return The lower bound, or {@code NaN} for the default one.
+     */
+    double min() default Double.NaN;
+
+    /**
+     * The largest value of the field.
+     *
+     * @return The upper bound, or {@code NaN} for the default one.
+     */
+    double max() default Double.NaN;
+
+}
@@ -0,0 +1,37 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bounds the length of a {@code String} field, or the size of a collection, map or array field, drawn uniformly
+ * between {@code min} and {@code max}.
+ * <p>
+ * Without a {@code max}, the lengths and sizes follow the distributions of the factory and are raised to
+ * {@code min}. Jakarta Bean Validation's {@code @Size}, {@code @NotEmpty} and {@code @NotBlank} bound them the same
+ * way.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Size {
+
+    /**
+     * The smallest length or size.
+     *
+     * @return The non-negative lower bound.
+     */
+    int min() default 0;
+
+    /**
+     * The largest length or size.
+     *
+     * @return The upper bound, {@link Integer#MAX_VALUE} for none.
+     */
+    int max() default Integer.MAX_VALUE;
+
+}
@@ -0,0 +1,31 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Gives distinct values to a field across the objects created by a factory, e.g. the keys of a table with a unique
+ * constraint.
+ * <p>
+ * The integer, {@code String} and enum fields take the values of a seeded permutation of their value space (the
+ * {@link Range} of an integer field, or its positive values; the strings of the factory alphabet of the
+ * {@link Size} maximum length, or of the default length; the constants of an enum), so a value is unique by
+ * construction. The other fields, such as those with a {@link Pattern} or a distribution, are drawn again while their
+ * value was already taken.
+ * </p>
+ * <p>
+ * The values are unique among the unseeded objects of a factory, and among the objects of one seed. The seeded
+ * top-level objects take the value at their index in the permutation of their seed, which keeps them reproducible;
+ * the objects of different seeds, and the seeded and unseeded objects, may share values. Since the values drawn again
+ * and the values of nested objects depend on the objects created before, a seeded creation rejects them with an
+ * {@link IllegalStateException}.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Unique {
+}
@@ -0,0 +1,30 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Draws the constants of an enum field with the given weights instead of uniformly.
+ * <p>
+ * The weights follow the declaration order of the constants, e.g. {@code @Weighted({8, 1, 1})} on a
+ * {@code PhoneType} field makes {@code PERSONAL} four times as frequent as {@code WORK} and {@code HOME} together.
+ * They are turned into an {@link com.inad.dummyobjects.random.AliasTable} once per field, so each value is drawn in
+ * constant time.
+ * </p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Weighted {
+
+    /**
+     * The non-negative weight of each constant of the enum, in declaration order.
+     *
+     * @return The weights, as many as the constants.
+     */
+    double[] value();
+
+}
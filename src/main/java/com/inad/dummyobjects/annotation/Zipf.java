@@ -0,0 +1,34 @@
+package com.inad.dummyobjects.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Draws the value of a numeric field from a Zipf distribution of the ranks {@code [1..size]}, e.g. the customer
+ * identifiers of orders, where a few customers place most of them.
+ *
+ * @see com.inad.dummyobjects.random.ZipfDistribution
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Zipf {
+
+    /**
+     * The number of ranks, the largest value of the field.
+     *
+     * @return The number of ranks.
+     */
+    int size();
+
+    /**
+     * The exponent of the distribution; the higher, the more frequent the first ranks.
+     *
+     * @return The positive exponent.
+     */
+    double exponent() default 1.0;
+
+}
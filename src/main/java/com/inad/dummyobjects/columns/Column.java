@@ -0,0 +1,279 @@
+package com.inad.dummyobjects.columns;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The values of one field for all the rows of a {@link ColumnBatch}, stored in primitive arrays.
+ * <p>
+ * Numeric and boolean fields (primitives and their wrappers) are stored in an array of their primitive type, enums as
+ * the ordinals of their constants, and strings as Latin-1 bytes concatenated in a single array with the offset of
+ * each row.
+ * </p>
+ */
+public abstract class Column {
+
+    protected final Field field;
+    protected final int size;
+
+    protected Column(final Field field, final int size) {
+        this.field = field;
+        this.size = size;
+    }
+
+    /**
+     * @return The field whose values this column holds.
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return The name of the field.
+     */
+    public String getName() {
+        return field.getName();
+    }
+
+    /**
+     * @return The number of rows of the column.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a row, boxed.
+     *
+     * @param row The index of the row.
+     * @return The value of the field in {@code row}.
+     */
+    public abstract Object get(int row);
+
+    /**
+     * Column of {@code int} and {@code Integer} fields.
+     */
+    public static class IntColumn extends Column {
+
+        private final int[] values;
+
+        public IntColumn(final Field field, final int[] values) {
+            super(field, values.length);
+            this.values = values;
+        }
+
+        public int[] values() {
+            return values;
+        }
+
+        public int getInt(final int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(final int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Column of {@code long} and {@code Long} fields.
+     */
+    public static class LongColumn extends Column {
+
+        private final long[] values;
+
+        public LongColumn(final Field field, final long[] values) {
+            super(field, values.length);
+            this.values = values;
+        }
+
+        public long[] values() {
+            return values;
+        }
+
+        public long getLong(final int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(final int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Column of {@code float} and {@code Float} fields.
+     */
+    public static class FloatColumn extends Column {
+
+        private final float[] values;
+
+        public FloatColumn(final Field field, final float[] values) {
+            super(field, values.length);
+            this.values = values;
+        }
+
+        public float[] values() {
+            return values;
+        }
+
+        public float getFloat(final int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(final int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Column of {@code double} and {@code Double} fields.
+     */
+    public static class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        public DoubleColumn(final Field field, final double[] values) {
+            super(field, values.length);
+            this.values = values;
+        }
+
+        public double[] values() {
+            return values;
+        }
+
+        public double getDouble(final int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(final int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Column of {@code boolean} and {@code Boolean} fields.
+     */
+    public static class BooleanColumn extends Column {
+
+        private final boolean[] values;
+
+        public BooleanColumn(final Field field, final boolean[] values) {
+            super(field, values.length);
+            this.values = values;
+        }
+
+        public boolean[] values() {
+            return values;
+        }
+
+        public boolean getBoolean(final int row) {
+            return values[row];
+        }
+
+        @Override
+        public Object get(final int row) {
+            return values[row];
+        }
+    }
+
+    /**
+     * Dictionary-encoded column of enum fields: each row holds the ordinal of its constant, in a {@code byte[]} when
+     * the enum has up to 256 constants (read as unsigned) and in a {@code short[]} otherwise.
+     */
+    public static class EnumColumn extends Column {
+
+        private final Object[] dictionary;
+        private final byte[] byteOrdinals;
+        private final short[] shortOrdinals;
+
+        public EnumColumn(final Field field, final Object[] dictionary, final byte[] ordinals) {
+            super(field, ordinals.length);
+            this.dictionary = dictionary;
+            this.byteOrdinals = ordinals;
+            this.shortOrdinals = null;
+        }
+
+        public EnumColumn(final Field field, final Object[] dictionary, final short[] ordinals) {
+            super(field, ordinals.length);
+            this.dictionary = dictionary;
+            this.byteOrdinals = null;
+            this.shortOrdinals = ordinals;
+        }
+
+        /**
+         * @return The constants of the enum, indexed by ordinal.
+         */
+        public Object[] dictionary() {
+            return dictionary.clone();
+        }
+
+        /**
+         * @return The ordinals as bytes, or {@code null} if they are stored as shorts.
+         */
+        public byte[] byteOrdinals() {
+            return byteOrdinals;
+        }
+
+        /**
+         * @return The ordinals as shorts, or {@code null} if they are stored as bytes.
+         */
+        public short[] shortOrdinals() {
+            return shortOrdinals;
+        }
+
+        public int ordinal(final int row) {
+            return byteOrdinals != null
+                    ? Byte.toUnsignedInt(byteOrdinals[row])
+                    : Short.toUnsignedInt(shortOrdinals[row]);
+        }
+
+        @Override
+        public Object get(final int row) {
+            return dictionary[ordinal(row)];
+        }
+    }
+
+    /**
+     * Column of {@code String} fields: the Latin-1 bytes of all the rows, and the offset of each row in them. The row
+     * {@code i} spans the bytes {@code [offsets[i]..offsets[i + 1])}.
+     */
+    public static class StringColumn extends Column {
+
+        private final int[] offsets;
+        private final byte[] data;
+
+        public StringColumn(final Field field, final int[] offsets, final byte[] data) {
+            super(field, offsets.length - 1);
+            this.offsets = offsets;
+            this.data = data;
+        }
+
+        /**
+         * @return The offsets of the rows, with one more element holding the end of the last row.
+         */
+        public int[] offsets() {
+            return offsets;
+        }
+
+        /**
+         * @return The concatenated Latin-1 bytes of the rows.
+         */
+        public byte[] data() {
+            return data;
+        }
+
+        public int length(final int row) {
+            return offsets[row + 1] - offsets[row];
+        }
+
+        @Override
+        public String get(final int row) {
+            return new String(data, offsets[row], length(row), StandardCharsets.ISO_8859_1);
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.inad.dummyobjects.columns;
+
+import java.util.List;
+
+/**
+ * A batch of dummy rows of a class, stored column by column.
+ * <p>
+ * Each supported field of the class has a {@link Column} holding its values for all the rows in a primitive array,
+ * so a batch of {@code n} rows allocates a few arrays instead of {@code n} objects and their boxed fields. The columns
+ * are listed in the order of the fields in the {@link com.inad.dummyobjects.plan.GenerationPlan} of the class.
+ * </p>
+ *
+ * @param <T> The class the rows stand for.
+ */
+public class ColumnBatch<T> {
+
+    private final Class<T> type;
+    private final int size;
+    private final List<Column> columns;
+
+    ColumnBatch(final Class<T> type, final int size, final List<Column> columns) {
+        this.type = type;
+        this.size = size;
+        this.columns = List.copyOf(columns);
+    }
+
+    /**
+     * @return The class the rows stand for.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return The number of rows of the batch.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return The columns of the batch, in field order.
+     */
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the column of the given field.
+     *
+     * @param name The name of the field.
+     * @return The column holding the values of the field.
+     * @throws IllegalArgumentException if the batch has no column for {@code name}.
+     */
+    public Column column(final String name) {
+        for (Column column : columns) {
+            if (column.getName().equals(name)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException("No column " + name + " in " + type.getName());
+    }
+
+    /**
+     * Returns the column of the given field, typed after its kind.
+     *
+     * @param name The name of the field.
+     * @param kind The class of the column, e.g. {@code Column.IntColumn.class}.
+     * @param <C>  The type of the column.
+     * @return The column holding the values of the field.
+     * @throws IllegalArgumentException if the batch has no column for {@code name}, or if it is not a {@code kind}.
+     */
+    public <C extends Column> C column(final String name, final Class<C> kind) {
+        final Column column = column(name);
+        if (!kind.isInstance(column)) {
+            throw new IllegalArgumentException("Column " + name + " is a " + column.getClass().getSimpleName());
+        }
+        return kind.cast(column);
+    }
+
+}
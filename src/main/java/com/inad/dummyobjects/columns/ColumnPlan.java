@@ -0,0 +1,314 @@
+package com.inad.dummyobjects.columns;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.plan.DefaultValues;
+import com.inad.dummyobjects.plan.FieldPlan;
+import com.inad.dummyobjects.random.Alphabet;
+import com.inad.dummyobjects.random.LengthDistribution;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * The columns generated for a class, resolved once from its {@link com.inad.dummyobjects.plan.GenerationPlan}.
+ * <p>
+ * The values follow the same rules as the fields of the objects created by the {@link Factory}:
+ * </p>
+ * <ul>
+ *     <li>Primitive and wrapper fields of type {@code int}, {@code long}, {@code float}, {@code double} and
+ *     {@code boolean} get a column of the primitive type, with the ranges of {@link DefaultValues}.</li>
+ *     <li>Enum fields get a dictionary-encoded column of ordinals.</li>
+ *     <li>String fields get the alphabet and the length distribution of the factory, as Latin-1 bytes and offsets.</li>
+ * </ul>
+ * <p>
+ * Other fields (BigDecimal, dates, nested objects and lists) have no primitive representation and are left out of
+ * the batch. Each column is filled by a single loop over the rows, one column after the other.
+ * </p>
+ * <p>
+ * The annotated fields are filled by the generator of their {@link FieldPlan} instead, so their distribution,
+ * constraint and uniqueness annotations (e.g. {@link com.inad.dummyobjects.annotation.Weighted} or
+ * {@link com.inad.dummyobjects.annotation.Unique}) are applied as for the objects created by the {@link Factory}.
+ * The columns have no null values, so the fields with a {@link com.inad.dummyobjects.annotation.NullRate} are
+ * rejected.
+ * </p>
+ */
+public class ColumnPlan {
+
+    private static final ClassValue<ColumnPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected ColumnPlan computeValue(final Class<?> type) {
+            return new ColumnPlan(type);
+        }
+    };
+
+    private final ColumnGenerator[] generators;
+    private final Field[] fields;
+
+    private ColumnPlan(final Class<?> type) {
+        final List<ColumnGenerator> generatorList = new ArrayList<>();
+        final List<Field> fieldList = new ArrayList<>();
+        for (FieldPlan plan : Factory.planFor(type).getFields()) {
+            ColumnGenerator generator = forType(plan.getField().getType());
+            if (generator != null && plan.getField().getAnnotations().length > 0) {
+                generator = planned(plan);
+            }
+            if (generator != null) {
+                generatorList.add(generator);
+                fieldList.add(plan.getField());
+            }
+        }
+        this.generators = generatorList.toArray(new ColumnGenerator[0]);
+        this.fields = fieldList.toArray(new Field[0]);
+    }
+
+    /**
+     * Returns the cached column plan of the given class.
+     *
+     * @param type The class of the rows.
+     * @return The column plan of {@code type}.
+     */
+    public static ColumnPlan of(final Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Generates a batch of rows.
+     *
+     * @param type    The class of the rows, the one this plan was resolved for.
+     * @param size    The number of rows.
+     * @param random  The random generator to draw the values from.
+     * @param factory The factory whose string settings apply.
+     * @param <T>     The class of the rows.
+     * @return A new batch of {@code size} rows.
+     * @throws IllegalStateException if a {@link com.inad.dummyobjects.annotation.Unique} field has no values left.
+     */
+    public <T> ColumnBatch<T> generate(final Class<T> type, final int size, final RandomGenerator random,
+                                       final ObjectFactory factory) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative batch size: " + size);
+        }
+        final List<Column> columns = new ArrayList<>(generators.length);
+        for (int i = 0; i < generators.length; i++) {
+            columns.add(generators[i].generate(fields[i], size, random, factory));
+        }
+        return new ColumnBatch<>(type, size, columns);
+    }
+
+    /**
+     * Resolves the generator of the columns of the given field type.
+     *
+     * @param type The type of the field.
+     * @return The generator, or {@code null} if the type has no column representation.
+     */
+    private static ColumnGenerator forType(final Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return ColumnPlan::ints;
+        } else if (type == long.class || type == Long.class) {
+            return ColumnPlan::longs;
+        } else if (type == float.class || type == Float.class) {
+            return ColumnPlan::floats;
+        } else if (type == double.class || type == Double.class) {
+            return ColumnPlan::doubles;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return ColumnPlan::booleans;
+        } else if (type == String.class) {
+            return ColumnPlan::strings;
+        } else if (type.isEnum()) {
+            return ColumnPlan::enums;
+        }
+        return null;
+    }
+
+    private static Column ints(final Field field, final int size, final RandomGenerator random,
+                               final ObjectFactory factory) {
+        final int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = DefaultValues.intValue(random);
+        }
+        return new Column.IntColumn(field, values);
+    }
+
+    private static Column longs(final Field field, final int size, final RandomGenerator random,
+                                final ObjectFactory factory) {
+        final long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = DefaultValues.longValue(random);
+        }
+        return new Column.LongColumn(field, values);
+    }
+
+    private static Column floats(final Field field, final int size, final RandomGenerator random,
+                                 final ObjectFactory factory) {
+        final float[] values = new float[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = DefaultValues.floatValue(random);
+        }
+        return new Column.FloatColumn(field, values);
+    }
+
+    private static Column doubles(final Field field, final int size, final RandomGenerator random,
+                                  final ObjectFactory factory) {
+        final double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = DefaultValues.doubleValue(random);
+        }
+        return new Column.DoubleColumn(field, values);
+    }
+
+    private static Column booleans(final Field field, final int size, final RandomGenerator random,
+                                   final ObjectFactory factory) {
+        final boolean[] values = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = DefaultValues.booleanValue(random);
+        }
+        return new Column.BooleanColumn(field, values);
+    }
+
+    /**
+     * Generates the ordinals of an enum column, as bytes for up to 256 constants and as shorts beyond.
+     */
+    private static Column enums(final Field field, final int size, final RandomGenerator random,
+                                final ObjectFactory factory) {
+        final Object[] dictionary = field.getType().getEnumConstants();
+        if (dictionary.length == 0) {
+            throw new IllegalArgumentException("Enum " + field.getType().getName() + " has no constants");
+        }
+        if (dictionary.length <= 1 << Byte.SIZE) {
+            final byte[] ordinals = new byte[size];
+            for (int i = 0; i < size; i++) {
+                ordinals[i] = (byte) random.nextInt(dictionary.length);
+            }
+            return new Column.EnumColumn(field, dictionary, ordinals);
+        }
+        final short[] ordinals = new short[size];
+        for (int i = 0; i < size; i++) {
+            ordinals[i] = (short) random.nextInt(dictionary.length);
+        }
+        return new Column.EnumColumn(field, dictionary, ordinals);
+    }
+
+    /**
+     * Generates a string column: the lengths are drawn first to size the data array, which is then filled in a
+     * single pass.
+     */
+    private static Column strings(final Field field, final int size, final RandomGenerator random,
+                                  final ObjectFactory factory) {
+        final LengthDistribution lengths = factory.stringLength();
+        final Alphabet alphabet = factory.alphabet();
+        final int[] offsets = new int[size + 1];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            offsets[i] = (int) total;
+            total += lengths.nextLength(random);
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("String column " + field.getName() + " exceeds 2 GB");
+            }
+        }
+        offsets[size] = (int) total;
+        final byte[] data = new byte[(int) total];
+        alphabet.fill(random, data, 0, data.length);
+        return new Column.StringColumn(field, offsets, data);
+    }
+
+    /**
+     * Returns the generator of the column of an annotated field, running the generator of its plan for each row.
+     *
+     * @throws IllegalArgumentException if the field may be left {@code null}.
+     */
+    private static ColumnGenerator planned(final FieldPlan plan) {
+        if (plan instanceof FieldPlan.ObjectFieldPlan reference && reference.getNullRate() > 0) {
+            throw new IllegalArgumentException("Columns have no null values: " + plan.getField());
+        }
+        return (field, size, random, factory) -> {
+            final GenerationContext context = new GenerationContext(random, factory, false);
+            final Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = plan.generate(context);
+            }
+            return column(field, values);
+        };
+    }
+
+    /**
+     * Stores the generated values of a field in a column of its type.
+     */
+    private static Column column(final Field field, final Object[] values) {
+        final Class<?> type = field.getType();
+        final int size = values.length;
+        if (type == int.class || type == Integer.class) {
+            final int[] ints = new int[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = (Integer) values[i];
+            }
+            return new Column.IntColumn(field, ints);
+        } else if (type == long.class || type == Long.class) {
+            final long[] longs = new long[size];
+            for (int i = 0; i < size; i++) {
+                longs[i] = (Long) values[i];
+            }
+            return new Column.LongColumn(field, longs);
+        } else if (type == float.class || type == Float.class) {
+            final float[] floats = new float[size];
+            for (int i = 0; i < size; i++) {
+                floats[i] = (Float) values[i];
+            }
+            return new Column.FloatColumn(field, floats);
+        } else if (type == double.class || type == Double.class) {
+            final double[] doubles = new double[size];
+            for (int i = 0; i < size; i++) {
+                doubles[i] = (Double) values[i];
+            }
+            return new Column.DoubleColumn(field, doubles);
+        } else if (type == boolean.class || type == Boolean.class) {
+            final boolean[] booleans = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                booleans[i] = (Boolean) values[i];
+            }
+            return new Column.BooleanColumn(field, booleans);
+        } else if (type.isEnum()) {
+            final Object[] dictionary = type.getEnumConstants();
+            if (dictionary.length <= 1 << Byte.SIZE) {
+                final byte[] ordinals = new byte[size];
+                for (int i = 0; i < size; i++) {
+                    ordinals[i] = (byte) ((Enum<?>) values[i]).ordinal();
+                }
+                return new Column.EnumColumn(field, dictionary, ordinals);
+            }
+            final short[] ordinals = new short[size];
+            for (int i = 0; i < size; i++) {
+                ordinals[i] = (short) ((Enum<?>) values[i]).ordinal();
+            }
+            return new Column.EnumColumn(field, dictionary, ordinals);
+        }
+        final int[] offsets = new int[size + 1];
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (int i = 0; i < size; i++) {
+            offsets[i] = data.size();
+            final String value = (String) values[i];
+            if (value.chars().anyMatch(c -> c > 0xFF)) {
+                throw new IllegalArgumentException("String column " + field.getName() + " has a value outside of "
+                        + "Latin-1: " + value);
+            }
+            data.writeBytes(value.getBytes(StandardCharsets.ISO_8859_1));
+        }
+        offsets[size] = data.size();
+        return new Column.StringColumn(field, offsets, data.toByteArray());
+    }
+
+    /**
+     * Generates the column of one field.
+     */
+    @FunctionalInterface
+    private interface ColumnGenerator {
+
+        Column generate(Field field, int size, RandomGenerator random, ObjectFactory factory);
+
+    }
+
+}
@@ -1,12 +1,12 @@
 package com.inad.dummyobjects.constants;
 
 /**
- * Constants used for type mapping and random generation settings.
+ * Constants of the random generation settings.
  * <p>
- * This class holds string literals representing simple class names (in lowercase)
- * which are used to identify field types via reflection. It also contains
- * configuration for random data generation, such as the character set for strings
- * and the default size for collections.
+ * This class holds the defaults of the {@code ObjectFactory} settings, such as the character set and the length of
+ * the strings or the size of the collections, the limits of the generation, and the names of the system properties
+ * read by the library. The types of the fields are dispatched through the {@code TypeHandlers} registry, keyed by
+ * class: the lowercase type names once used to identify them are deprecated.
  * </p>
  */
 public class Constants {
@@ -17,35 +17,134 @@ public class Constants {
      */
     public static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ -";
 
-    // Type identifiers used for reflection
+    // Type identifiers formerly used for reflection, deprecated since the field types are dispatched by class
+    // through the TypeHandlers registry
+    @Deprecated
     public static final String INT = "int";
+    @Deprecated
     public static final String LONG = "long";
+    @Deprecated
     public static final String FLOAT = "float";
+    @Deprecated
     public static final String DOUBLE = "double";
+    @Deprecated
     public static final String BOOLEAN = "boolean";
+    @Deprecated
     public static final String STRING = "string";
+    @Deprecated
     public static final String INTEGER = "integer";
+    @Deprecated
     public static final String BIG_DECIMAL = "bigdecimal";
+    @Deprecated
     public static final String DATE = "date";
+    @Deprecated
     public static final String INSTANT = "instant";
+    @Deprecated
     public static final String TIMESTAMP = "timestamp";
+    @Deprecated
     public static final String LOCAL_DATE = "localdate";
+    @Deprecated
     public static final String LOCAL_DATE_TIME = "localdatetime";
+    @Deprecated
     public static final String LOCAL_TIME = "localtime";
 
     /**
-     * The default number of elements to generate when populating a List.
+     * The default length of the generated strings.
+     */
+    public static final int STRING_LENGTH = 10;
+
+    /**
+     * The default number of days of the range of the generated date and time values, ending at the creation of the
+     * factory, or at {@link #SEEDED_TEMPORAL_RANGE_END} for the seeded ones.
+     */
+    public static final int TEMPORAL_RANGE_DAYS = 365;
+
+    /**
+     * The end of the default range of the seeded date and time values, in milliseconds since the epoch
+     * ({@code 2025-01-01T00:00:00Z}): it is fixed, so seeded objects do not depend on when or where they are created.
+     */
+    public static final long SEEDED_TEMPORAL_RANGE_END = 1_735_689_600_000L;
+
+    /**
+     * The length beyond which the unbounded repetitions of a {@code @Pattern} are no longer extended, unless the field
+     * has a {@code @Size} maximum.
+     */
+    public static final int PATTERN_MAX_LENGTH = 32;
+
+    /**
+     * The number of values drawn for a {@code @Unique} field that does not enumerate its values before giving up,
+     * when all of them were already taken.
+     */
+    public static final int UNIQUE_ATTEMPTS = 1_000;
+
+    /**
+     * The number of strings drawn for a {@code @NotBlank} field before giving up, when all of them only had
+     * whitespace.
+     */
+    public static final int NOT_BLANK_ATTEMPTS = 1_000;
+
+    /**
+     * The default number of elements to generate when populating a collection, a map or an array.
      */
     public static final int SIZE_LIST = 3;
 
     /**
      * The opening angle bracket used for parsing generic type names.
+     *
+     * @deprecated The generic types are resolved from {@link java.lang.reflect.Type}s, not parsed from their names.
      */
+    @Deprecated
     public static final String MINUS_THAN = "<";
 
     /**
      * The closing angle bracket used for parsing generic type names.
+     *
+     * @deprecated The generic types are resolved from {@link java.lang.reflect.Type}s, not parsed from their names.
      */
+    @Deprecated
     public static final String MAJOR_THAN = ">";
-    
+
+    /**
+     * The default maximum nesting depth of the created objects; deeper nested objects are left {@code null}.
+     */
+    public static final int MAX_DEPTH = 10;
+
+    /**
+     * The default maximum number of objects created for a single top-level object, itself included.
+     */
+    public static final int MAX_OBJECTS = 10_000;
+
+    /**
+     * The maximum number of objects created by a single task of a parallel creation.
+     * Larger ranges are split between several tasks.
+     */
+    public static final int PARALLEL_THRESHOLD = 1024;
+
+    /**
+     * The size of the memory-mapped windows through which dataset files are written and read (64 MB).
+     */
+    public static final int DATASET_WINDOW = 64 << 20;
+
+    /**
+     * The number of encoded bytes the streaming exports buffer before writing them to the file (1 MB).
+     */
+    public static final int EXPORT_BATCH_SIZE = 1 << 20;
+
+    /**
+     * System property enabling the bytecode generation engine ({@code -Ddummyobjects.bytecode=true}).
+     * When enabled, the factory defines a hidden class per generated type on first use.
+     */
+    public static final String BYTECODE_PROPERTY = "dummyobjects.bytecode";
+
+    /**
+     * System property enabling the metrics of the static {@code Factory} ({@code -Ddummyobjects.metrics=true}).
+     * When enabled, its generations are counted and timed, and exposed through JMX.
+     */
+    public static final String METRICS_PROPERTY = "dummyobjects.metrics";
+
+    /**
+     * The JMX domain and type of the registered generation metrics.
+     */
+    public static final String METRICS_OBJECT_NAME = "com.inad.dummyobjects:type=GenerationMetrics";
+
 }
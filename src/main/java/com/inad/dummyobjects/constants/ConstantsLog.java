@@ -7,7 +7,11 @@ package com.inad.dummyobjects.constants;
  * for logging operations, primarily used during the object creation process to trace
  * execution flow (e.g., identifying collections or class names).
  * </p>
+ *
+ * @deprecated The library no longer logs to the console; generations are observed through
+ * {@link com.inad.dummyobjects.metrics.GenerationListener}s instead.
  */
+@Deprecated
 public class ConstantsLog {
 
     /**
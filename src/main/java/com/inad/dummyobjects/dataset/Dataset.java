@@ -0,0 +1,389 @@
+package com.inad.dummyobjects.dataset;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.plan.FieldPlan;
+import com.inad.dummyobjects.plan.FieldWriter;
+import com.inad.dummyobjects.plan.GenerationPlan;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static com.inad.dummyobjects.constants.Constants.DATASET_WINDOW;
+
+/**
+ * A dataset file of dummy rows, read through memory-mapped windows.
+ * <p>
+ * Dataset files are written by {@link ObjectFactory#writeDataset(Class, long, Path, long)}, without creating any
+ * instance of the class: the numbers, booleans, enums, strings, big decimals and dates of each row are encoded in a
+ * compact layout described by the schema in the header of the file. Nested objects and lists are not stored; related
+ * entities are written as separate files linked by their keys with a {@link LinkedDataset}.
+ * </p>
+ * <p>
+ * A {@link Row} reads its fields in place from the mapped file, when they are accessed; {@link #get(long)} rebuilds
+ * an instance with all of them. The file is indexed, so any row is read without reading the rows before it.
+ * A dataset is not thread-safe, and must be {@link #close() closed} to release its file.
+ * </p>
+ *
+ * @param <T> The class of the rows.
+ */
+public class Dataset<T> implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final Class<T> type;
+    private final DatasetSchema schema;
+    private final GenerationPlan<T> plan;
+    private final FieldPlan[] targets;
+    private final int[] arguments;
+    private final Map<String, Integer> fields = new HashMap<>();
+    private final MappedWindow index;
+    private final MappedWindow rows;
+
+    private Dataset(final FileChannel channel, final Class<T> type, final DatasetSchema schema) {
+        this.channel = channel;
+        this.type = type;
+        this.schema = schema;
+        this.plan = Factory.planFor(type);
+        this.targets = new FieldPlan[schema.fieldCount()];
+        final FieldPlan[] stored = DatasetWriter.STORED_FIELDS.get(type);
+        for (int i = 0; i < schema.fieldCount(); i++) {
+            fields.put(schema.name(i), i);
+            for (FieldPlan candidate : stored) {
+                if (candidate.getField().getName().equals(schema.name(i))) {
+                    if (FieldKind.of(candidate.getField().getType()) != schema.kind(i)) {
+                        throw new IllegalArgumentException("Field " + schema.name(i) + " of " + type.getName()
+                                + " is not stored as " + schema.kind(i));
+                    }
+                    targets[i] = candidate;
+                }
+            }
+        }
+        this.arguments = new int[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            arguments[i] = targets[i] == null || plan.isMutable() ? -1 : plan.argumentIndex(targets[i]);
+        }
+        this.index = new MappedWindow(channel, FileChannel.MapMode.READ_ONLY, DATASET_WINDOW);
+        this.rows = new MappedWindow(channel, FileChannel.MapMode.READ_ONLY, DATASET_WINDOW);
+    }
+
+    /**
+     * Writes a dataset file of unseeded dummy rows with the settings of the given factory. The rows are not a seeded
+     * creation, so their {@code @Unique} values are unique among the unseeded objects of the factory.
+     *
+     * @param factory The factory whose settings apply.
+     * @param type    The class of the rows.
+     * @param rows    The number of rows.
+     * @param path    The file to write, replaced if it exists.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void write(final ObjectFactory factory, final Class<?> type, final long rows, final Path path) {
+        DatasetWriter.write(factory, type, rows, path, factory.randomSource().current().nextLong(), false, null);
+    }
+
+    /**
+     * Writes a dataset file of dummy rows with the settings of the given factory.
+     *
+     * @param factory The factory whose settings apply.
+     * @param type    The class of the rows.
+     * @param rows    The number of rows.
+     * @param path    The file to write, replaced if it exists.
+     * @param seed    The seed of the rows; equal seeds produce equal files.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void write(final ObjectFactory factory, final Class<?> type, final long rows, final Path path,
+                             final long seed) {
+        DatasetWriter.write(factory, type, rows, path, seed);
+    }
+
+    /**
+     * Opens a dataset file.
+     *
+     * @param path The file to read.
+     * @param type The class the rows were written from.
+     * @param <T>  The class of the rows.
+     * @return The open dataset.
+     * @throws IllegalArgumentException if the file is not a dataset of {@code type}.
+     * @throws UncheckedIOException     if the file cannot be read.
+     */
+    public static <T> Dataset<T> open(final Path path, final Class<T> type) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            final DatasetSchema schema = DatasetSchema.read(channel);
+            if (!schema.className().equals(type.getName())) {
+                throw new IllegalArgumentException("Dataset of " + schema.className() + ", not " + type.getName());
+            }
+            return new Dataset<>(channel, type, schema);
+        } catch (IOException e) {
+            closeQuietly(channel, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel, e);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(final FileChannel channel, final Exception failure) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * @return The class of the rows.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public long size() {
+        return schema.rows();
+    }
+
+    /**
+     * @return The names of the stored fields, in field order.
+     */
+    public List<String> getFieldNames() {
+        return schema.names();
+    }
+
+    /**
+     * Returns a view of a row, reading its fields from the file when they are accessed.
+     *
+     * @param row The index of the row.
+     * @return The view of the row.
+     * @throws IndexOutOfBoundsException if {@code row} is not in {@code [0..size())}.
+     */
+    public Row row(final long row) {
+        if (row < 0 || row >= schema.rows()) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + schema.rows());
+        }
+        try {
+            final long at = schema.indexStart() + row * Long.BYTES;
+            final ByteBuffer offsets = index.cover(at, Long.BYTES * 2);
+            final int slot = (int) (at - index.start());
+            final long start = offsets.getLong(slot);
+            final int length = (int) (offsets.getLong(slot + Long.BYTES) - start);
+            return new Row(rows.cover(start, length), (int) (start - rows.start()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rebuilds the instance of a row. Its nested objects and lists are left {@code null}.
+     *
+     * @param row The index of the row.
+     * @return A new instance holding the values of the row.
+     */
+    public T get(final long row) {
+        return row(row).toObject();
+    }
+
+    /**
+     * Returns a sequential stream rebuilding the instances of all the rows, in order.
+     *
+     * @return A stream of {@code size()} instances.
+     */
+    public Stream<T> stream() {
+        return LongStream.range(0, schema.rows()).mapToObj(this::get);
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A row of the dataset, read in place from the mapped file.
+     * <p>
+     * The typed getters read the fields of the matching kind; they throw an {@link IllegalArgumentException} for
+     * an unknown field or another kind, and a {@link NullPointerException} if the value is {@code null}.
+     * </p>
+     */
+    public class Row {
+
+        private final ByteBuffer buffer;
+        private final int base;
+
+        private Row(final ByteBuffer buffer, final int base) {
+            this.buffer = buffer;
+            this.base = base;
+        }
+
+        public boolean isNull(final String name) {
+            return isNull(field(name));
+        }
+
+        public int getInt(final String name) {
+            return buffer.getInt(slot(name, FieldKind.INT));
+        }
+
+        public long getLong(final String name) {
+            return buffer.getLong(slot(name, FieldKind.LONG));
+        }
+
+        public float getFloat(final String name) {
+            return buffer.getFloat(slot(name, FieldKind.FLOAT));
+        }
+
+        public double getDouble(final String name) {
+            return buffer.getDouble(slot(name, FieldKind.DOUBLE));
+        }
+
+        public boolean getBoolean(final String name) {
+            return buffer.get(slot(name, FieldKind.BOOLEAN)) != 0;
+        }
+
+        /**
+         * Reads the ordinal of an enum field, without resolving its constant.
+         *
+         * @param name The name of the field.
+         * @return The ordinal of the value.
+         */
+        public int getOrdinal(final String name) {
+            return buffer.getInt(slot(name, FieldKind.ENUM));
+        }
+
+        public String getString(final String name) {
+            final int slot = slot(name, FieldKind.STRING);
+            return (String) FieldKind.STRING.decode(buffer, base + buffer.getInt(slot),
+                    buffer.getInt(slot + Integer.BYTES));
+        }
+
+        /**
+         * Returns the bytes of a string field (UTF-8) or a big decimal field (its plain text), without copying them.
+         *
+         * @param name The name of the field.
+         * @return A read-only view of the bytes of the value.
+         */
+        public ByteBuffer getBytes(final String name) {
+            final int field = field(name);
+            if (!schema.kind(field).isVariable()) {
+                throw new IllegalArgumentException("Field " + name + " is a " + schema.kind(field));
+            }
+            final int slot = nonNullSlot(field);
+            return buffer.slice(base + buffer.getInt(slot), buffer.getInt(slot + Integer.BYTES)).asReadOnlyBuffer();
+        }
+
+        /**
+         * Reads a field of any kind.
+         *
+         * @param name The name of the field.
+         * @return The value, boxed, or {@code null}. Enums not matching a field of the class are read as ordinals.
+         */
+        public Object get(final String name) {
+            return read(field(name));
+        }
+
+        /**
+         * Rebuilds an instance holding the values of this row. Records and immutable classes are constructed from the
+         * values of the row, their fields that are not stored holding their default value.
+         *
+         * @return A new instance of the class of the dataset.
+         */
+        public T toObject() {
+            if (!plan.isMutable()) {
+                final Object[] values = plan.newArguments();
+                for (int i = 0; i < targets.length; i++) {
+                    final Object value = targets[i] != null ? read(i) : null;
+                    if (value != null) {
+                        values[arguments[i]] = value;
+                    }
+                }
+                return plan.construct(values);
+            }
+            final T instance = plan.newInstance();
+            for (int i = 0; i < targets.length; i++) {
+                if (targets[i] != null) {
+                    set(targets[i], instance, i);
+                }
+            }
+            return instance;
+        }
+
+        private void set(final FieldPlan target, final T instance, final int field) {
+            final FieldWriter writer = target.getWriter();
+            final Class<?> fieldType = target.getField().getType();
+            if (!fieldType.isPrimitive()) {
+                writer.set(instance, read(field));
+                return;
+            }
+            final int slot = base + schema.slot(field);
+            if (fieldType == int.class) {
+                writer.setInt(instance, buffer.getInt(slot));
+            } else if (fieldType == long.class) {
+                writer.setLong(instance, buffer.getLong(slot));
+            } else if (fieldType == float.class) {
+                writer.setFloat(instance, buffer.getFloat(slot));
+            } else if (fieldType == double.class) {
+                writer.setDouble(instance, buffer.getDouble(slot));
+            } else {
+                writer.setBoolean(instance, buffer.get(slot) != 0);
+            }
+        }
+
+        private Object read(final int field) {
+            if (isNull(field)) {
+                return null;
+            }
+            final FieldKind kind = schema.kind(field);
+            final int slot = base + schema.slot(field);
+            if (kind.isVariable()) {
+                return kind.decode(buffer, base + buffer.getInt(slot), buffer.getInt(slot + Integer.BYTES));
+            } else if (kind == FieldKind.ENUM && targets[field] == null) {
+                return buffer.getInt(slot);
+            }
+            return kind.read(buffer, slot, kind == FieldKind.ENUM ? targets[field].getField().getType() : null);
+        }
+
+        private boolean isNull(final int field) {
+            return (buffer.get(base + (field >>> 3)) & 1 << (field & 7)) != 0;
+        }
+
+        private int field(final String name) {
+            final Integer field = fields.get(name);
+            if (field == null) {
+                throw new IllegalArgumentException("No field " + name + " in the dataset of " + type.getName());
+            }
+            return field;
+        }
+
+        private int slot(final String name, final FieldKind kind) {
+            final int field = field(name);
+            if (schema.kind(field) != kind) {
+                throw new IllegalArgumentException("Field " + name + " is a " + schema.kind(field) + ", not a " + kind);
+            }
+            return nonNullSlot(field);
+        }
+
+        private int nonNullSlot(final int field) {
+            if (isNull(field)) {
+                throw new NullPointerException("Field " + schema.name(field) + " is null");
+            }
+            return base + schema.slot(field);
+        }
+
+    }
+
+}
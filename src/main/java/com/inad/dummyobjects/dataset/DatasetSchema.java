@@ -0,0 +1,180 @@
+package com.inad.dummyobjects.dataset;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * The layout of the rows of a dataset file, stored in its header.
+ * <p>
+ * A row starts with a bitmap flagging its {@code null} fields, followed by one slot per field in field order (see
+ * {@link FieldKind#width()}), followed by the bytes of its variable-length values. The file is laid out as:
+ * </p>
+ * <ol>
+ *     <li>the magic number, the length of the header and the header: version, class name, row count and the name and
+ *     kind of each field;</li>
+ *     <li>the row index, aligned on 8 bytes: the file offset of each row, plus the end of the last row;</li>
+ *     <li>the rows.</li>
+ * </ol>
+ */
+final class DatasetSchema {
+
+    static final int MAGIC = 0x44554D59;
+    static final short VERSION = 1;
+
+    private final String className;
+    private final long rows;
+    private final String[] names;
+    private final FieldKind[] kinds;
+    private final int[] slots;
+    private final int fixedSize;
+    private final long indexStart;
+
+    DatasetSchema(final String className, final long rows, final String[] names, final FieldKind[] kinds) {
+        this.className = className;
+        this.rows = rows;
+        this.names = names;
+        this.kinds = kinds;
+        this.slots = new int[kinds.length];
+        int offset = (kinds.length + 7) >>> 3;
+        for (int i = 0; i < kinds.length; i++) {
+            slots[i] = offset;
+            offset += kinds[i].width();
+        }
+        this.fixedSize = offset;
+        this.indexStart = (Integer.BYTES * 2L + encode().length + 7) & ~7L;
+    }
+
+    /**
+     * Reads the schema from the header of a dataset file.
+     *
+     * @param channel The channel of the file.
+     * @return The schema of the file.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the file is not a dataset file of a supported version.
+     */
+    static DatasetSchema read(final FileChannel channel) throws IOException {
+        final ByteBuffer start = readFully(channel, 0, Integer.BYTES * 2);
+        if (start.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a dataset file");
+        }
+        final ByteBuffer header = readFully(channel, Integer.BYTES * 2, start.getInt(Integer.BYTES));
+        final short version = header.getShort();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported dataset version: " + version);
+        }
+        final byte[] bytes = header.array();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 2, bytes.length - 2))) {
+            final String className = in.readUTF();
+            final long rows = in.readLong();
+            final String[] names = new String[in.readShort()];
+            final FieldKind[] kinds = new FieldKind[names.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = in.readUTF();
+                kinds[i] = FieldKind.values()[in.readByte()];
+            }
+            return new DatasetSchema(className, rows, names, kinds);
+        }
+    }
+
+    private static ByteBuffer readFully(final FileChannel channel, final long position, final int length)
+            throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalArgumentException("Truncated dataset file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Encodes the file header: magic number, header length and header.
+     *
+     * @return The bytes of the header.
+     */
+    byte[] header() {
+        final byte[] header = encode();
+        return ByteBuffer.allocate(Integer.BYTES * 2 + header.length)
+                .putInt(MAGIC)
+                .putInt(header.length)
+                .put(header)
+                .array();
+    }
+
+    private byte[] encode() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeShort(VERSION);
+            out.writeUTF(className);
+            out.writeLong(rows);
+            out.writeShort(names.length);
+            for (int i = 0; i < names.length; i++) {
+                out.writeUTF(names[i]);
+                out.writeByte(kinds[i].ordinal());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    String className() {
+        return className;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    List<String> names() {
+        return List.of(names);
+    }
+
+    int fieldCount() {
+        return names.length;
+    }
+
+    String name(final int field) {
+        return names[field];
+    }
+
+    FieldKind kind(final int field) {
+        return kinds[field];
+    }
+
+    /**
+     * @return The offset of the slot of the field from the start of the row.
+     */
+    int slot(final int field) {
+        return slots[field];
+    }
+
+    /**
+     * @return The size of the fixed part of the rows, null bitmap included.
+     */
+    int fixedSize() {
+        return fixedSize;
+    }
+
+    /**
+     * @return The file offset of the row index.
+     */
+    long indexStart() {
+        return indexStart;
+    }
+
+    /**
+     * @return The file offset of the first row.
+     */
+    long dataStart() {
+        return indexStart + (rows + 1) * Long.BYTES;
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.inad.dummyobjects.dataset;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.plan.FieldPlan;
+import com.inad.dummyobjects.random.IndexedRandom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static com.inad.dummyobjects.constants.Constants.DATASET_WINDOW;
+
+/**
+ * Writes the rows of a dataset file straight from the field plans of a class.
+ * <p>
+ * No instance of the class is created: each row runs the generators of the stored fields and writes their values to
+ * a memory-mapped window of the file, so the heap only holds the values of the row being written. Row {@code i} draws
+ * its values from an {@link IndexedRandom} positioned at {@code i}, so the file only depends on the seed.
+ * </p>
+ */
+final class DatasetWriter {
+
+    /**
+     * The plans of the fields stored in the rows of each class, in field order.
+     */
+    static final ClassValue<FieldPlan[]> STORED_FIELDS = new ClassValue<>() {
+        @Override
+        protected FieldPlan[] computeValue(final Class<?> type) {
+            final List<FieldPlan> stored = new ArrayList<>();
+            for (FieldPlan plan : Factory.planFor(type).getFields()) {
+                if (FieldKind.of(plan.getField().getType()) != null) {
+                    stored.add(plan);
+                }
+            }
+            return stored.toArray(new FieldPlan[0]);
+        }
+    };
+
+    private DatasetWriter() {
+    }
+
+    /**
+     * Writes a dataset file, replacing any existing file.
+     *
+     * @param factory The factory whose settings apply.
+     * @param type    The class of the rows.
+     * @param rows    The number of rows.
+     * @param path    The file to write.
+     * @param seed    The seed of the rows.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    static void write(final ObjectFactory factory, final Class<?> type, final long rows, final Path path,
+                      final long seed) {
+        write(factory, type, rows, path, seed, true, null);
+    }
+
+    /**
+     * Writes a dataset file whose rows are adjusted by a hook before being written, replacing any existing file.
+     *
+     * @param factory The factory whose settings apply.
+     * @param type    The class of the rows.
+     * @param rows    The number of rows.
+     * @param path    The file to write.
+     * @param seed    The seed of the rows.
+     * @param seeded  Whether the rows are a seeded creation, reproducible from the seed.
+     * @param hook    The hook called with the values of each row, or {@code null}.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    static void write(final ObjectFactory factory, final Class<?> type, final long rows, final Path path,
+                      final long seed, final boolean seeded, final RowHook hook) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Negative row count: " + rows);
+        }
+        final FieldPlan[] plans = STORED_FIELDS.get(type);
+        final String[] names = new String[plans.length];
+        final FieldKind[] kinds = new FieldKind[plans.length];
+        for (int i = 0; i < plans.length; i++) {
+            names[i] = plans[i].getField().getName();
+            kinds[i] = FieldKind.of(plans[i].getField().getType());
+        }
+        final DatasetSchema schema = new DatasetSchema(type.getName(), rows, names, kinds);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(schema.header()), 0);
+            final long end = writeRows(channel, schema, plans, new IndexedRandom(seed), seeded, factory,
+                    hook);
+            channel.truncate(end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the rows and their index.
+     *
+     * @return The end of the last row.
+     */
+    private static long writeRows(final FileChannel channel, final DatasetSchema schema, final FieldPlan[] plans,
+                                  final IndexedRandom random, final boolean seeded, final ObjectFactory factory,
+                                  final RowHook hook)
+            throws IOException {
+        final MappedWindow index = new MappedWindow(channel, FileChannel.MapMode.READ_WRITE, DATASET_WINDOW);
+        final MappedWindow data = new MappedWindow(channel, FileChannel.MapMode.READ_WRITE, DATASET_WINDOW);
+        final GenerationContext context = new GenerationContext(random, factory, seeded);
+        final long[] bits = new long[plans.length];
+        final Object[] values = new Object[plans.length];
+        final byte[][] bytes = new byte[plans.length][];
+        long position = schema.dataStart();
+        for (long row = 0; row < schema.rows(); row++) {
+            putIndex(index, schema, row, position);
+            random.seek(row);
+            for (int i = 0; i < plans.length; i++) {
+                values[i] = null;
+                bits[i] = generate(plans[i], context, values, i);
+            }
+            if (hook != null) {
+                hook.accept(row, random, bits, values);
+            }
+            int length = schema.fixedSize();
+            for (int i = 0; i < plans.length; i++) {
+                if (values[i] != null && schema.kind(i).isVariable()) {
+                    bytes[i] = schema.kind(i).encode(values[i]);
+                    length += bytes[i].length;
+                }
+            }
+            final MappedByteBuffer buffer = data.cover(position, length);
+            final int base = (int) (position - data.start());
+            writeRow(buffer, base, schema, plans, bits, values, bytes);
+            position += length;
+        }
+        putIndex(index, schema, schema.rows(), position);
+        return position;
+    }
+
+    private static void putIndex(final MappedWindow index, final DatasetSchema schema, final long row,
+                                 final long offset) throws IOException {
+        final long at = schema.indexStart() + row * Long.BYTES;
+        index.cover(at, Long.BYTES).putLong((int) (at - index.start()), offset);
+    }
+
+    /**
+     * Runs the generator of a field: primitive values are returned as raw bits, objects are stored in
+     * {@code values}.
+     */
+    private static long generate(final FieldPlan plan, final GenerationContext context, final Object[] values,
+                                 final int field) {
+        if (plan instanceof FieldPlan.IntFieldPlan p) {
+            return p.getGenerator().generateInt(context);
+        } else if (plan instanceof FieldPlan.LongFieldPlan p) {
+            return p.getGenerator().generateLong(context);
+        } else if (plan instanceof FieldPlan.FloatFieldPlan p) {
+            return Float.floatToRawIntBits(p.getGenerator().generateFloat(context));
+        } else if (plan instanceof FieldPlan.DoubleFieldPlan p) {
+            return Double.doubleToRawLongBits(p.getGenerator().generateDouble(context));
+        } else if (plan instanceof FieldPlan.BooleanFieldPlan p) {
+            return p.getGenerator().generateBoolean(context) ? 1 : 0;
+        }
+        values[field] = ((FieldPlan.ObjectFieldPlan) plan).getGenerator().generate(context);
+        return 0;
+    }
+
+    private static void writeRow(final ByteBuffer buffer, final int base, final DatasetSchema schema,
+                                 final FieldPlan[] plans, final long[] bits, final Object[] values,
+                                 final byte[][] bytes) {
+        for (int i = 0, bitmap = (plans.length + 7) >>> 3; i < bitmap; i++) {
+            buffer.put(base + i, (byte) 0);
+        }
+        int variable = schema.fixedSize();
+        for (int i = 0; i < plans.length; i++) {
+            final int at = base + schema.slot(i);
+            final FieldKind kind = schema.kind(i);
+            if (plans[i].getField().getType().isPrimitive()) {
+                switch (kind) {
+                    case INT, FLOAT -> buffer.putInt(at, (int) bits[i]);
+                    case LONG, DOUBLE -> buffer.putLong(at, bits[i]);
+                    default -> buffer.put(at, (byte) bits[i]);
+                }
+            } else if (values[i] == null) {
+                buffer.put(base + (i >>> 3), (byte) (buffer.get(base + (i >>> 3)) | 1 << (i & 7)));
+            } else if (kind.isVariable()) {
+                buffer.putInt(at, variable).putInt(at + Integer.BYTES, bytes[i].length);
+                buffer.put(base + variable, bytes[i]);
+                variable += bytes[i].length;
+                bytes[i] = null;
+            } else {
+                kind.write(buffer, at, values[i]);
+            }
+        }
+    }
+
+    /**
+     * Adjusts the values of the rows before they are written, e.g. to link them to the rows of other datasets.
+     */
+    @FunctionalInterface
+    interface RowHook {
+
+        /**
+         * @param row    The index of the row.
+         * @param random The generator of the row, positioned after the values of its fields.
+         * @param bits   The raw bits of the primitive fields, in stored field order.
+         * @param values The values of the other fields, in stored field order.
+         */
+        void accept(long row, RandomGenerator random, long[] bits, Object[] values);
+    }
+
+}
@@ -0,0 +1,298 @@
+package com.inad.dummyobjects.dataset;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+/**
+ * The encoding of a field in the rows of a dataset file.
+ * <p>
+ * Each kind has a slot of fixed width in the fixed part of the row. Numbers, booleans, enum ordinals and dates are
+ * stored in their slot; strings and big decimals store the offset of their bytes in the variable part of the row
+ * and their length. Dates are stored as epoch values, so they are read back in any time zone.
+ * </p>
+ */
+enum FieldKind {
+
+    INT(Integer.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putInt(at, (Integer) value);
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return buffer.getInt(at);
+        }
+    },
+    LONG(Long.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putLong(at, (Long) value);
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return buffer.getLong(at);
+        }
+    },
+    FLOAT(Float.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putFloat(at, (Float) value);
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return buffer.getFloat(at);
+        }
+    },
+    DOUBLE(Double.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putDouble(at, (Double) value);
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return buffer.getDouble(at);
+        }
+    },
+    BOOLEAN(1, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.put(at, (Boolean) value ? (byte) 1 : 0);
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return buffer.get(at) != 0;
+        }
+    },
+    ENUM(Integer.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putInt(at, ((Enum<?>) value).ordinal());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return type.getEnumConstants()[buffer.getInt(at)];
+        }
+    },
+    DATE(Long.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putLong(at, ((Date) value).getTime());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return new Date(buffer.getLong(at));
+        }
+    },
+    TIMESTAMP(Long.BYTES + Integer.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            final Timestamp timestamp = (Timestamp) value;
+            buffer.putLong(at, timestamp.getTime());
+            buffer.putInt(at + Long.BYTES, timestamp.getNanos());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            final Timestamp timestamp = new Timestamp(buffer.getLong(at));
+            timestamp.setNanos(buffer.getInt(at + Long.BYTES));
+            return timestamp;
+        }
+    },
+    INSTANT(Long.BYTES + Integer.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            final Instant instant = (Instant) value;
+            buffer.putLong(at, instant.getEpochSecond());
+            buffer.putInt(at + Long.BYTES, instant.getNano());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return Instant.ofEpochSecond(buffer.getLong(at), buffer.getInt(at + Long.BYTES));
+        }
+    },
+    LOCAL_DATE(Long.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putLong(at, ((LocalDate) value).toEpochDay());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return LocalDate.ofEpochDay(buffer.getLong(at));
+        }
+    },
+    LOCAL_DATE_TIME(Long.BYTES + Integer.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            final LocalDateTime dateTime = (LocalDateTime) value;
+            buffer.putLong(at, dateTime.toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(at + Long.BYTES, dateTime.getNano());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return LocalDateTime.ofEpochSecond(buffer.getLong(at), buffer.getInt(at + Long.BYTES), ZoneOffset.UTC);
+        }
+    },
+    LOCAL_TIME(Long.BYTES, false) {
+        @Override
+        void write(final ByteBuffer buffer, final int at, final Object value) {
+            buffer.putLong(at, ((LocalTime) value).toNanoOfDay());
+        }
+
+        @Override
+        Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+            return LocalTime.ofNanoOfDay(buffer.getLong(at));
+        }
+    },
+    STRING(2 * Integer.BYTES, true) {
+        @Override
+        byte[] encode(final Object value) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        Object decode(final ByteBuffer buffer, final int from, final int length) {
+            final byte[] bytes = new byte[length];
+            buffer.get(from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    },
+    BIG_DECIMAL(2 * Integer.BYTES, true) {
+        @Override
+        byte[] encode(final Object value) {
+            return ((BigDecimal) value).toString().getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        Object decode(final ByteBuffer buffer, final int from, final int length) {
+            final byte[] bytes = new byte[length];
+            buffer.get(from, bytes);
+            return new BigDecimal(new String(bytes, StandardCharsets.US_ASCII));
+        }
+    };
+
+    private final int width;
+    private final boolean variable;
+
+    FieldKind(final int width, final boolean variable) {
+        this.width = width;
+        this.variable = variable;
+    }
+
+    /**
+     * Resolves the kind of the fields of the given type.
+     *
+     * @param type The type of a field.
+     * @return The kind of the field, or {@code null} if it cannot be stored in a row (nested objects and lists).
+     */
+    static FieldKind of(final Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return INT;
+        } else if (type == long.class || type == Long.class) {
+            return LONG;
+        } else if (type == float.class || type == Float.class) {
+            return FLOAT;
+        } else if (type == double.class || type == Double.class) {
+            return DOUBLE;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return BOOLEAN;
+        } else if (type == String.class) {
+            return STRING;
+        } else if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        } else if (type == Timestamp.class) {
+            return TIMESTAMP;
+        } else if (type == Date.class) {
+            return DATE;
+        } else if (type == Instant.class) {
+            return INSTANT;
+        } else if (type == LocalDate.class) {
+            return LOCAL_DATE;
+        } else if (type == LocalDateTime.class) {
+            return LOCAL_DATE_TIME;
+        } else if (type == LocalTime.class) {
+            return LOCAL_TIME;
+        } else if (type.isEnum()) {
+            return ENUM;
+        }
+        return null;
+    }
+
+    /**
+     * @return The width of the slot of the field in the fixed part of the row. The slot of a variable-length value
+     * holds the offset of its bytes from the start of the row, and their length.
+     */
+    int width() {
+        return width;
+    }
+
+    /**
+     * @return {@code true} if the value is stored in the variable part of the row.
+     */
+    boolean isVariable() {
+        return variable;
+    }
+
+    /**
+     * Writes a fixed-width value to its slot.
+     *
+     * @param buffer The buffer holding the row.
+     * @param at     The absolute index of the slot.
+     * @param value  The value, not {@code null}.
+     */
+    void write(final ByteBuffer buffer, final int at, final Object value) {
+        throw new UnsupportedOperationException(name() + " values are variable-length");
+    }
+
+    /**
+     * Reads a fixed-width value from its slot.
+     *
+     * @param buffer The buffer holding the row.
+     * @param at     The absolute index of the slot.
+     * @param type   The type of the field, for enums.
+     * @return The value.
+     */
+    Object read(final ByteBuffer buffer, final int at, final Class<?> type) {
+        throw new UnsupportedOperationException(name() + " values are variable-length");
+    }
+
+    /**
+     * Encodes a variable-length value.
+     *
+     * @param value The value, not {@code null}.
+     * @return The bytes of the value.
+     */
+    byte[] encode(final Object value) {
+        throw new UnsupportedOperationException(name() + " values are fixed-width");
+    }
+
+    /**
+     * Decodes a variable-length value.
+     *
+     * @param buffer The buffer holding the row.
+     * @param from   The absolute index of the first byte of the value.
+     * @param length The number of bytes of the value.
+     * @return The value.
+     */
+    Object decode(final ByteBuffer buffer, final int from, final int length) {
+        throw new UnsupportedOperationException(name() + " values are fixed-width");
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.inad.dummyobjects.dataset;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.inad.dummyobjects.constants.Constants.DATASET_WINDOW;
+
+/**
+ * The primary keys of the rows of an entity, stored off-heap as a dense array of {@code long}s indexed by row.
+ * <p>
+ * The keys are kept in a temporary file, mapped in segments of the size of the dataset windows and deleted when the
+ * index is closed, so an index of hundreds of millions of keys costs no heap and is paged in and out by the
+ * operating system. Any key is read in constant time, which lets the foreign keys sample the rows at random.
+ * </p>
+ */
+final class KeyIndex implements AutoCloseable {
+
+    private static final int SEGMENT_SHIFT = Integer.numberOfTrailingZeros(DATASET_WINDOW / Long.BYTES);
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final long size;
+
+    /**
+     * Creates an index of the given number of keys, all {@code 0}.
+     *
+     * @param size The number of rows.
+     * @throws IOException if the temporary file cannot be created or mapped.
+     */
+    KeyIndex(final long size) throws IOException {
+        final Path file = Files.createTempFile("dummy-objects-keys", ".bin");
+        this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+        this.size = size;
+        this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+        try {
+            for (int i = 0; i < segments.length; i++) {
+                final long first = (long) i << SEGMENT_SHIFT;
+                final long keys = Math.min(size - first, SEGMENT_MASK + 1);
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, first * Long.BYTES, keys * Long.BYTES);
+            }
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The number of rows of the index.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Records the key of a row.
+     *
+     * @param row The row.
+     * @param key Its primary key.
+     */
+    void set(final long row, final long key) {
+        segments[(int) (row >>> SEGMENT_SHIFT)].putLong((int) (row & SEGMENT_MASK) * Long.BYTES, key);
+    }
+
+    /**
+     * Returns the key of a row.
+     *
+     * @param row The row.
+     * @return Its primary key.
+     */
+    long get(final long row) {
+        return segments[(int) (row >>> SEGMENT_SHIFT)].getLong((int) (row & SEGMENT_MASK) * Long.BYTES);
+    }
+
+    /**
+     * Deletes the file of the index. The index must not be used afterwards.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
@@ -0,0 +1,433 @@
+package com.inad.dummyobjects.dataset;
+
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.ForeignKey;
+import com.inad.dummyobjects.annotation.PrimaryKey;
+import com.inad.dummyobjects.plan.FieldPlan;
+import com.inad.dummyobjects.random.IndexedRandom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * The dataset files of related entities, whose {@link ForeignKey} fields reference the {@link PrimaryKey} of actual
+ * rows of the entities they point to.
+ * <p>
+ * The entities are written in dependency order, one {@link Dataset} file each, without creating any instance. While
+ * the rows of a referenced entity are written, their keys are recorded in an off-heap {@link KeyIndex}; the foreign
+ * keys of the entities written next take the key of a row drawn from it, in constant time. An entity declared with
+ * a {@link Builder#fanOut(Class, Class, int, int) fan-out} gets instead a number of rows per row of its parent, drawn
+ * between the given bounds, which follow the order of their parents. The heap therefore holds neither the rows nor
+ * the keys, whatever the number of rows.
+ * </p>
+ * <p>
+ * The files are named after the entities ({@code com.example.Person.bin}) and only depend on the seed.
+ * </p>
+ */
+public final class LinkedDataset {
+
+    private final Map<Class<?>, Path> paths;
+    private final Map<Class<?>, Long> sizes;
+
+    private LinkedDataset(final Map<Class<?>, Path> paths, final Map<Class<?>, Long> sizes) {
+        this.paths = paths;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Returns a builder of linked datasets generated with the settings of the given factory.
+     *
+     * @param factory The factory whose settings apply.
+     * @return A new builder.
+     */
+    public static Builder builder(final ObjectFactory factory) {
+        return new Builder(Objects.requireNonNull(factory, "factory"));
+    }
+
+    /**
+     * Returns the entities of the dataset, in the order they were written.
+     *
+     * @return The classes of the entities.
+     */
+    public List<Class<?>> getEntities() {
+        return List.copyOf(paths.keySet());
+    }
+
+    /**
+     * Returns the file of an entity.
+     *
+     * @param type The class of the entity.
+     * @return The dataset file of its rows.
+     * @throws IllegalArgumentException if the entity is not part of the dataset.
+     */
+    public Path path(final Class<?> type) {
+        final Path path = paths.get(type);
+        if (path == null) {
+            throw new IllegalArgumentException(type.getName() + " is not part of the dataset");
+        }
+        return path;
+    }
+
+    /**
+     * Returns the number of rows of an entity.
+     *
+     * @param type The class of the entity.
+     * @return The number of rows written.
+     * @throws IllegalArgumentException if the entity is not part of the dataset.
+     */
+    public long size(final Class<?> type) {
+        path(type);
+        return sizes.get(type);
+    }
+
+    /**
+     * Opens the file of an entity.
+     *
+     * @param type The class of the entity.
+     * @param <T>  The class of the rows.
+     * @return The open dataset, to be closed by the caller.
+     * @throws IllegalArgumentException if the entity is not part of the dataset.
+     * @throws UncheckedIOException     if the file cannot be read.
+     */
+    public <T> Dataset<T> open(final Class<T> type) {
+        return Dataset.open(path(type), type);
+    }
+
+    /**
+     * Builder of {@link LinkedDataset}s, declaring the entities in any order.
+     */
+    public static final class Builder {
+
+        private final ObjectFactory factory;
+        private final Map<Class<?>, Entity> entities = new LinkedHashMap<>();
+
+        private Builder(final ObjectFactory factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Declares an entity with a fixed number of rows. Each of its foreign keys references a row drawn uniformly.
+         *
+         * @param type The class of the entity.
+         * @param rows The number of rows.
+         * @return This builder.
+         * @throws IllegalArgumentException if the entity is already declared or {@code rows} is negative.
+         */
+        public Builder rows(final Class<?> type, final long rows) {
+            if (rows < 0) {
+                throw new IllegalArgumentException("Negative row count: " + rows);
+            }
+            return add(new Entity(type, rows, null, 0, 0));
+        }
+
+        /**
+         * Declares an entity generated per row of a parent entity, e.g. the phones of each person: every row of the
+         * parent gets a number of rows drawn uniformly from {@code [min..max]}, whose foreign key to the parent
+         * references it. The other foreign keys of the entity reference a row drawn uniformly.
+         *
+         * @param type   The class of the entity.
+         * @param parent The class of the parent, referenced by a foreign key of {@code type}.
+         * @param min    The minimum number of rows per parent row.
+         * @param max    The maximum number of rows per parent row.
+         * @return This builder.
+         * @throws IllegalArgumentException if the entity is already declared or the bounds are invalid.
+         */
+        public Builder fanOut(final Class<?> type, final Class<?> parent, final int min, final int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Invalid fan-out: [" + min + ", " + max + "]");
+            }
+            return add(new Entity(type, -1, Objects.requireNonNull(parent, "parent"), min, max));
+        }
+
+        /**
+         * Writes the files of the entities to a directory, replacing any existing file.
+         *
+         * @param directory The directory of the files, which must exist.
+         * @param seed      The seed of the rows; equal seeds produce equal files.
+         * @return The written dataset.
+         * @throws IllegalArgumentException if a foreign key references an entity that is not declared or has no
+         *                                  primary key of a compatible type, or if the entities reference each other
+         *                                  in a cycle.
+         * @throws UncheckedIOException     if a file cannot be written.
+         */
+        public LinkedDataset write(final Path directory, final long seed) {
+            final List<Entity> order = order();
+            final Map<Class<?>, KeyIndex> indexes = new HashMap<>();
+            final Map<Class<?>, Path> paths = new LinkedHashMap<>();
+            final Map<Class<?>, Long> sizes = new HashMap<>();
+            try {
+                for (Entity entity : order) {
+                    final long entitySeed = seed + entity.type.getName().hashCode();
+                    final FanOut fanOut = entity.parent == null ? null
+                            : new FanOut(indexes.get(entity.parent), ~entitySeed, entity.min, entity.max);
+                    final long rows = fanOut == null ? entity.rows : fanOut.total();
+                    final KeyIndex keys = isReferenced(entity.type) ? new KeyIndex(rows) : null;
+                    final DatasetWriter.RowHook links = entity.links(keys, indexes, fanOut);
+                    if (keys != null) {
+                        indexes.put(entity.type, keys);
+                    }
+                    final Path path = directory.resolve(entity.type.getName() + ".bin");
+                    DatasetWriter.write(factory, entity.type, rows, path, entitySeed, true, links);
+                    paths.put(entity.type, path);
+                    sizes.put(entity.type, rows);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                close(indexes.values());
+            }
+            return new LinkedDataset(paths, sizes);
+        }
+
+        private Builder add(final Entity entity) {
+            if (entities.putIfAbsent(entity.type, entity) != null) {
+                throw new IllegalArgumentException(entity.type.getName() + " is already declared");
+            }
+            return this;
+        }
+
+        private boolean isReferenced(final Class<?> type) {
+            for (Entity entity : entities.values()) {
+                if (entity.references().contains(type)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Sorts the entities so that each one comes after the entities it references, checking their keys.
+         */
+        private List<Entity> order() {
+            final List<Entity> order = new ArrayList<>();
+            final List<Entity> pending = new ArrayList<>(entities.values());
+            while (!pending.isEmpty()) {
+                boolean progress = false;
+                for (int i = 0; i < pending.size(); i++) {
+                    final Entity entity = pending.get(i);
+                    if (entity.isReady(entities, order)) {
+                        order.add(entity);
+                        pending.remove(i--);
+                        progress = true;
+                    }
+                }
+                if (!progress) {
+                    throw new IllegalArgumentException("The entities reference each other in a cycle: "
+                            + pending.stream().map(e -> e.type.getName()).toList());
+                }
+            }
+            return order;
+        }
+
+        private static void close(final Iterable<KeyIndex> indexes) {
+            UncheckedIOException failure = null;
+            for (KeyIndex index : indexes) {
+                try {
+                    index.close();
+                } catch (IOException e) {
+                    failure = failure == null ? new UncheckedIOException(e) : failure;
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * An entity of the dataset, with the positions of its keys among its stored fields.
+     */
+    private static final class Entity {
+
+        private final Class<?> type;
+        private final long rows;
+        private final Class<?> parent;
+        private final int min;
+        private final int max;
+        private final FieldPlan[] stored;
+        private final int primaryKey;
+        private final int[] foreignKeys;
+        private final Class<?>[] targets;
+
+        Entity(final Class<?> type, final long rows, final Class<?> parent, final int min, final int max) {
+            this.type = Objects.requireNonNull(type, "type");
+            this.rows = rows;
+            this.parent = parent;
+            this.min = min;
+            this.max = max;
+            this.stored = DatasetWriter.STORED_FIELDS.get(type);
+            int key = -1;
+            final List<Integer> references = new ArrayList<>();
+            for (int i = 0; i < stored.length; i++) {
+                final Field field = stored[i].getField();
+                if (field.isAnnotationPresent(PrimaryKey.class)) {
+                    checkKeyType(field);
+                    if (key >= 0) {
+                        throw new IllegalArgumentException(type.getName() + " has several primary keys");
+                    }
+                    key = i;
+                }
+                if (field.isAnnotationPresent(ForeignKey.class)) {
+                    checkKeyType(field);
+                    references.add(i);
+                }
+            }
+            this.primaryKey = key;
+            this.foreignKeys = references.stream().mapToInt(Integer::intValue).toArray();
+            this.targets = new Class<?>[foreignKeys.length];
+            for (int i = 0; i < foreignKeys.length; i++) {
+                targets[i] = stored[foreignKeys[i]].getField().getAnnotation(ForeignKey.class).value();
+            }
+            if (parent != null && !references().contains(parent)) {
+                throw new IllegalArgumentException(type.getName() + " has no foreign key to " + parent.getName());
+            }
+        }
+
+        List<Class<?>> references() {
+            return List.of(targets);
+        }
+
+        /**
+         * Checks whether the entities referenced by this one are written, and that their keys match.
+         */
+        boolean isReady(final Map<Class<?>, Entity> entities, final List<Entity> written) {
+            for (int i = 0; i < targets.length; i++) {
+                final Entity target = entities.get(targets[i]);
+                if (target == null) {
+                    throw new IllegalArgumentException(type.getName() + " references " + targets[i].getName()
+                            + ", which is not declared");
+                } else if (target.primaryKey < 0) {
+                    throw new IllegalArgumentException(targets[i].getName() + " has no primary key");
+                } else if (isInt(stored[foreignKeys[i]].getField()) && !isInt(target.keyField())) {
+                    throw new IllegalArgumentException("The int foreign key " + stored[foreignKeys[i]].getField()
+                            + " cannot reference the long key " + target.keyField());
+                } else if (!written.contains(target)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Field keyField() {
+            return stored[primaryKey].getField();
+        }
+
+        /**
+         * Returns the hook recording the primary keys of the rows in {@code keys}, if any, and setting their foreign
+         * keys.
+         */
+        DatasetWriter.RowHook links(final KeyIndex keys, final Map<Class<?>, KeyIndex> indexes, final FanOut fanOut) {
+            final KeyIndex[] referenced = new KeyIndex[targets.length];
+            final boolean[] owned = new boolean[targets.length];
+            boolean parentOwned = false;
+            for (int i = 0; i < targets.length; i++) {
+                referenced[i] = indexes.get(targets[i]);
+                owned[i] = fanOut != null && targets[i] == parent && !parentOwned;
+                parentOwned |= owned[i];
+                if (referenced[i].size() == 0 && !owned[i]) {
+                    throw new IllegalArgumentException(type.getName() + " references " + targets[i].getName()
+                            + ", which has no row");
+                }
+            }
+            final boolean[] primitive = new boolean[targets.length];
+            for (int i = 0; i < targets.length; i++) {
+                primitive[i] = stored[foreignKeys[i]].getField().getType().isPrimitive();
+            }
+            return (row, random, bits, values) -> {
+                final long parentKey = fanOut == null ? 0 : fanOut.next();
+                for (int i = 0; i < foreignKeys.length; i++) {
+                    final int at = foreignKeys[i];
+                    if (!primitive[i] && values[at] == null && !owned[i]) {
+                        continue;
+                    }
+                    final long key = owned[i] ? parentKey : referenced[i].get(random.nextLong(referenced[i].size()));
+                    if (primitive[i]) {
+                        bits[at] = key;
+                    } else {
+                        values[at] = isInt(stored[at].getField()) ? (Object) (int) key : (Object) key;
+                    }
+                }
+                if (keys != null) {
+                    keys.set(row, key(bits, values));
+                }
+            };
+        }
+
+        private long key(final long[] bits, final Object[] values) {
+            if (stored[primaryKey].getField().getType().isPrimitive()) {
+                return bits[primaryKey];
+            } else if (values[primaryKey] == null) {
+                throw new IllegalStateException("Null primary key " + keyField());
+            }
+            return ((Number) values[primaryKey]).longValue();
+        }
+
+        private static void checkKeyType(final Field field) {
+            final Class<?> type = field.getType();
+            if (type != int.class && type != long.class && type != Integer.class && type != Long.class) {
+                throw new IllegalArgumentException("Keys are int or long fields: " + field);
+            }
+        }
+
+        private static boolean isInt(final Field field) {
+            return field.getType() == int.class || field.getType() == Integer.class;
+        }
+    }
+
+    /**
+     * Walks the rows of a parent entity, each repeated for the number of child rows drawn for it.
+     */
+    private static final class FanOut {
+
+        private final KeyIndex parents;
+        private final IndexedRandom random;
+        private final int min;
+        private final int max;
+        private long parent = -1;
+        private int remaining;
+
+        FanOut(final KeyIndex parents, final long seed, final int min, final int max) {
+            this.parents = parents;
+            this.random = new IndexedRandom(seed);
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * @return The total number of child rows.
+         */
+        long total() {
+            long total = 0;
+            for (long row = 0; row < parents.size(); row++) {
+                total += count(row);
+            }
+            return total;
+        }
+
+        /**
+         * @return The key of the parent of the next child row.
+         */
+        long next() {
+            while (remaining == 0) {
+                remaining = count(++parent);
+            }
+            remaining--;
+            return parents.get(parent);
+        }
+
+        private int count(final long row) {
+            final RandomGenerator counts = random.seek(row);
+            return min == max ? min : counts.nextInt(min, max + 1);
+        }
+    }
+
+}
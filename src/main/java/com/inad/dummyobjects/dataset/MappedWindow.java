@@ -0,0 +1,60 @@
+package com.inad.dummyobjects.dataset;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A region of a file mapped in memory, moved along the file on demand.
+ * <p>
+ * A single {@link MappedByteBuffer} cannot exceed 2 GB, so larger files are accessed through a window remapped
+ * whenever the requested bytes fall outside of it. The buffers handed out stay valid after the window moves.
+ * </p>
+ */
+final class MappedWindow {
+
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final int size;
+    private MappedByteBuffer buffer;
+    private long start;
+
+    /**
+     * @param channel The channel of the file.
+     * @param mode    The mapping mode; a {@code READ_WRITE} window grows the file as it moves past its end.
+     * @param size    The size of the window; larger requests get a window of their size.
+     */
+    MappedWindow(final FileChannel channel, final FileChannel.MapMode mode, final int size) {
+        this.channel = channel;
+        this.mode = mode;
+        this.size = size;
+    }
+
+    /**
+     * Returns a buffer covering the given bytes of the file. The bytes are at index {@code position - start()} of it.
+     *
+     * @param position The file offset of the first byte.
+     * @param length   The number of bytes.
+     * @return The mapped buffer.
+     * @throws IOException if the file cannot be mapped.
+     */
+    MappedByteBuffer cover(final long position, final int length) throws IOException {
+        if (buffer == null || position < start || position + length > start + buffer.capacity()) {
+            long mapped = Math.max(size, length);
+            if (mode == FileChannel.MapMode.READ_ONLY) {
+                mapped = Math.min(mapped, channel.size() - position);
+            }
+            buffer = channel.map(mode, position, mapped);
+            start = position;
+        }
+        return buffer;
+    }
+
+    /**
+     * @return The file offset of the start of the current window.
+     */
+    long start() {
+        return start;
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.inad.dummyobjects.export;
+
+import com.inad.dummyobjects.CyclePolicy;
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.plan.FieldGenerator;
+import com.inad.dummyobjects.plan.FieldGenerators;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes each row as a line of comma-separated cells (RFC 4180), after a header naming the columns.
+ * <p>
+ * The fields of nested objects are flattened into columns named after their path ({@code address.city}), and
+ * collections, maps and arrays are written as JSON in a single cell, as the nested objects they hold are. Null values
+ * are empty cells.
+ * </p>
+ * <p>
+ * The columns follow the limits of the factory: the nested objects deeper than its depth limit, or back-references
+ * when its cycle policy does not allow them, have no columns, and the nested objects left out once the object budget
+ * of a row is spent, or left {@code null} by their null rate, have empty cells.
+ * </p>
+ */
+final class CsvEncoder extends RowEncoder {
+
+    private final ExportBuffer cell = new ExportBuffer(256);
+    private final List<Class<?>> path = new ArrayList<>();
+
+    @Override
+    void header(final Class<?> type, final ObjectFactory factory, final ExportBuffer out) {
+        path.add(type);
+        columns(type, "", factory, out, true, true);
+        path.clear();
+        out.put('\n');
+    }
+
+    @Override
+    void row(final Class<?> type, final GenerationContext context, final ExportBuffer out) {
+        path.add(type);
+        context.enterNested(type);
+        cells(type, context, out, true);
+        context.exitNested();
+        path.clear();
+        out.put('\n');
+    }
+
+    /**
+     * Writes the columns of a flattened object: their names for the header, or empty cells for a row.
+     */
+    private boolean columns(final Class<?> type, final String prefix, final ObjectFactory factory,
+                            final ExportBuffer out, final boolean first, final boolean named) {
+        final RecordShape shape = RecordShape.of(type);
+        boolean leading = first;
+        for (int i = 0; i < shape.size(); i++) {
+            if (shape.kind(i) == RecordShape.Kind.OBJECT) {
+                if (expands(shape.nested(i), factory)) {
+                    path.add(shape.nested(i));
+                    leading = columns(shape.nested(i), prefix + shape.name(i) + '.', factory, out, leading, named);
+                    path.remove(path.size() - 1);
+                }
+                continue;
+            }
+            if (!leading) {
+                out.put(',');
+            }
+            if (named) {
+                out.putCsvEscaped(prefix + shape.name(i));
+            }
+            leading = false;
+        }
+        return leading;
+    }
+
+    private boolean cells(final Class<?> type, final GenerationContext context, final ExportBuffer out,
+                          final boolean first) {
+        final RecordShape shape = RecordShape.of(type);
+        boolean leading = first;
+        for (int i = 0; i < shape.size(); i++) {
+            if (shape.kind(i) == RecordShape.Kind.OBJECT) {
+                leading = nested(shape, i, context, out, leading);
+                continue;
+            }
+            if (!leading) {
+                out.put(',');
+            }
+            cell(shape, i, context, out);
+            leading = false;
+        }
+        return leading;
+    }
+
+    private boolean nested(final RecordShape shape, final int field, final GenerationContext context,
+                           final ExportBuffer out, final boolean first) {
+        final Class<?> type = shape.nested(field);
+        if (!expands(type, context.factory())) {
+            return first;
+        }
+        path.add(type);
+        final boolean leading;
+        if (!shape.nextNull(field, context) && context.enterNested(type)) {
+            leading = cells(type, context, out, first);
+            context.exitNested();
+        } else {
+            leading = columns(type, "", context.factory(), out, first, false);
+        }
+        path.remove(path.size() - 1);
+        return leading;
+    }
+
+    /**
+     * Checks whether a nested object of the given class, below the current path, has columns.
+     */
+    private boolean expands(final Class<?> type, final ObjectFactory factory) {
+        return path.size() <= factory.maxDepth()
+                && (factory.cyclePolicy() == CyclePolicy.ALLOW || !path.contains(type));
+    }
+
+    private void cell(final RecordShape shape, final int i, final GenerationContext context,
+                      final ExportBuffer out) {
+        final Object generator = shape.generator(i);
+        switch (shape.kind(i)) {
+            case INT -> out.putInt(((FieldGenerator.OfInt) generator).generateInt(context));
+            case LONG -> out.putLong(((FieldGenerator.OfLong) generator).generateLong(context));
+            case FLOAT -> out.putAscii(Float.toString(((FieldGenerator.OfFloat) generator).generateFloat(context)));
+            case DOUBLE -> out.putAscii(Double.toString(
+                    ((FieldGenerator.OfDouble) generator).generateDouble(context)));
+            case BOOLEAN -> out.putAscii(((FieldGenerator.OfBoolean) generator).generateBoolean(context)
+                    ? "true" : "false");
+            case VALUE -> value(((FieldGenerator) generator).generate(context), out);
+            case LIST -> {
+                if (!shape.nextNull(i, context)) {
+                    cell.clear();
+                    JsonLinesEncoder.list(shape, i, context, cell);
+                    out.putCsvQuoted(cell);
+                }
+            }
+            default -> throw new IllegalStateException(shape.kind(i).name());
+        }
+    }
+
+    private void value(final Object value, final ExportBuffer out) {
+        if (value instanceof Number || value instanceof Boolean) {
+            out.putAscii(value.toString());
+        } else if (value instanceof Collection<?> || value instanceof Map<?, ?>
+                || value != null && (value.getClass().isArray() || FieldGenerators.isNested(value.getClass()))) {
+            cell.clear();
+            JsonLinesEncoder.value(value, cell);
+            out.putCsvQuoted(cell);
+        } else if (value != null) {
+            out.putCsvEscaped(text(value));
+        }
+    }
+
+}
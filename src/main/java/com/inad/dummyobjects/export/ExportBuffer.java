@@ -0,0 +1,213 @@
+package com.inad.dummyobjects.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A growable buffer of encoded text, written to a {@link FileChannel} in large batches and then reused.
+ * <p>
+ * Numbers are written digit by digit and strings are encoded to UTF-8 char by char, so encoding a row allocates
+ * nothing but the values the generators return.
+ * </p>
+ */
+final class ExportBuffer {
+
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int size;
+
+    ExportBuffer(final int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Writes the content of the buffer to the channel, and clears it.
+     *
+     * @param channel The channel to write to.
+     * @throws IOException if the channel cannot be written.
+     */
+    void writeTo(final FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, size);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        size = 0;
+    }
+
+    ExportBuffer put(final char ascii) {
+        ensure(1);
+        bytes[size++] = (byte) ascii;
+        return this;
+    }
+
+    ExportBuffer put(final byte[] ascii) {
+        ensure(ascii.length);
+        System.arraycopy(ascii, 0, bytes, size, ascii.length);
+        size += ascii.length;
+        return this;
+    }
+
+    ExportBuffer putAscii(final String ascii) {
+        ensure(ascii.length());
+        for (int i = 0; i < ascii.length(); i++) {
+            bytes[size++] = (byte) ascii.charAt(i);
+        }
+        return this;
+    }
+
+    ExportBuffer putInt(final int value) {
+        return putLong(value);
+    }
+
+    ExportBuffer putLong(final long value) {
+        if (value == Long.MIN_VALUE) {
+            return put(MIN_LONG);
+        }
+        ensure(20);
+        long remaining = value;
+        if (remaining < 0) {
+            bytes[size++] = '-';
+            remaining = -remaining;
+        }
+        final int digits = digits(remaining);
+        for (int i = size + digits - 1; i >= size; i--, remaining /= 10) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+        }
+        size += digits;
+        return this;
+    }
+
+    /**
+     * Writes a string as the content of a JSON string literal: UTF-8, with quotes, backslashes and control
+     * characters escaped. The enclosing quotes are not written.
+     *
+     * @param value The string.
+     * @return This buffer.
+     */
+    ExportBuffer putJsonEscaped(final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put('\\').put(c);
+            } else if (c < 0x20) {
+                ensure(6);
+                bytes[size++] = '\\';
+                bytes[size++] = 'u';
+                bytes[size++] = '0';
+                bytes[size++] = '0';
+                bytes[size++] = HEX[c >>> 4];
+                bytes[size++] = HEX[c & 0xF];
+            } else {
+                i = putUtf8(value, i);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Writes a string as a CSV cell: UTF-8, enclosed in quotes with its quotes doubled if it contains a separator,
+     * a quote or a line break.
+     *
+     * @param value The string.
+     * @return This buffer.
+     */
+    ExportBuffer putCsvEscaped(final String value) {
+        boolean quoted = false;
+        for (int i = 0; i < value.length() && !quoted; i++) {
+            final char c = value.charAt(i);
+            quoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quoted) {
+            put('"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                put('"').put('"');
+            } else {
+                i = putUtf8(value, i);
+            }
+        }
+        if (quoted) {
+            put('"');
+        }
+        return this;
+    }
+
+    /**
+     * Appends the content of another buffer as a quoted CSV cell, doubling its quotes.
+     *
+     * @param other The buffer holding the cell content.
+     * @return This buffer.
+     */
+    ExportBuffer putCsvQuoted(final ExportBuffer other) {
+        ensure(other.size + 2);
+        bytes[size++] = '"';
+        for (int i = 0; i < other.size; i++) {
+            if (other.bytes[i] == '"') {
+                put('"');
+            }
+            put((char) (other.bytes[i] & 0xFF));
+        }
+        return put('"');
+    }
+
+    /**
+     * Encodes the character at the given index, and the low surrogate following it for a surrogate pair.
+     *
+     * @return The index of the last character encoded.
+     */
+    private int putUtf8(final String value, final int index) {
+        ensure(4);
+        final char c = value.charAt(index);
+        if (c < 0x80) {
+            bytes[size++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[size++] = (byte) (0xC0 | c >>> 6);
+            bytes[size++] = (byte) (0x80 | c & 0x3F);
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            final int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            bytes[size++] = (byte) (0xF0 | codePoint >>> 18);
+            bytes[size++] = (byte) (0x80 | codePoint >>> 12 & 0x3F);
+            bytes[size++] = (byte) (0x80 | codePoint >>> 6 & 0x3F);
+            bytes[size++] = (byte) (0x80 | codePoint & 0x3F);
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            bytes[size++] = '?';
+        } else {
+            bytes[size++] = (byte) (0xE0 | c >>> 12);
+            bytes[size++] = (byte) (0x80 | c >>> 6 & 0x3F);
+            bytes[size++] = (byte) (0x80 | c & 0x3F);
+        }
+        return index;
+    }
+
+    private static int digits(final long value) {
+        int digits = 1;
+        for (long bound = 10; digits < 19 && value >= bound; bound *= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private void ensure(final int extra) {
+        if (size + extra > bytes.length) {
+            final byte[] grown = new byte[Math.max(size + extra, bytes.length * 2)];
+            System.arraycopy(bytes, 0, grown, 0, size);
+            bytes = grown;
+        }
+    }
+
+}
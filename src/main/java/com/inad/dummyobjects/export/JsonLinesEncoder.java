@@ -0,0 +1,208 @@
+package com.inad.dummyobjects.export;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.plan.FieldGenerator;
+import com.inad.dummyobjects.plan.FieldGenerators;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes each row as a JSON object on its own line (JSON Lines). Nested objects are JSON objects and lists are JSON
+ * arrays; numbers and booleans are JSON literals and any other value is a JSON string. The nested objects left out by
+ * the limits of the factory are {@code null}, or missing from their array. The nested objects held by sets, maps and
+ * arrays are JSON objects as well, encoded from their fields; a reference back to one of the objects being encoded is
+ * {@code null}.
+ */
+final class JsonLinesEncoder extends RowEncoder {
+
+    @Override
+    void header(final Class<?> type, final ObjectFactory factory, final ExportBuffer out) {
+        // JSON Lines files have no header
+    }
+
+    @Override
+    void row(final Class<?> type, final GenerationContext context, final ExportBuffer out) {
+        context.enterNested(type);
+        object(type, context, out);
+        context.exitNested();
+        out.put('\n');
+    }
+
+    static void object(final Class<?> type, final GenerationContext context, final ExportBuffer out) {
+        final RecordShape shape = RecordShape.of(type);
+        out.put('{');
+        for (int i = 0; i < shape.size(); i++) {
+            if (i > 0) {
+                out.put(',');
+            }
+            out.put(shape.jsonName(i));
+            field(shape, i, context, out);
+        }
+        out.put('}');
+    }
+
+    static void list(final RecordShape shape, final int field, final GenerationContext context,
+                     final ExportBuffer out) {
+        final int size = shape.nextSize(field, context);
+        out.put('[');
+        boolean first = true;
+        for (int k = 0; k < size; k++) {
+            if (!context.enterNested(shape.nested(field))) {
+                continue;
+            }
+            if (!first) {
+                out.put(',');
+            }
+            object(shape.nested(field), context, out);
+            context.exitNested();
+            first = false;
+        }
+        out.put(']');
+    }
+
+    private static void field(final RecordShape shape, final int i, final GenerationContext context,
+                              final ExportBuffer out) {
+        final Object generator = shape.generator(i);
+        switch (shape.kind(i)) {
+            case INT -> out.putInt(((FieldGenerator.OfInt) generator).generateInt(context));
+            case LONG -> out.putLong(((FieldGenerator.OfLong) generator).generateLong(context));
+            case FLOAT -> number(((FieldGenerator.OfFloat) generator).generateFloat(context), out);
+            case DOUBLE -> number(((FieldGenerator.OfDouble) generator).generateDouble(context), out);
+            case BOOLEAN -> out.putAscii(((FieldGenerator.OfBoolean) generator).generateBoolean(context)
+                    ? "true" : "false");
+            case VALUE -> value(((FieldGenerator) generator).generate(context), out);
+            case OBJECT -> {
+                if (shape.nextNull(i, context)) {
+                    out.putAscii("null");
+                } else {
+                    nested(shape.nested(i), context, out);
+                }
+            }
+            case LIST -> {
+                if (shape.nextNull(i, context)) {
+                    out.putAscii("null");
+                } else {
+                    list(shape, i, context, out);
+                }
+            }
+            default -> throw new IllegalStateException(shape.kind(i).name());
+        }
+    }
+
+    private static void nested(final Class<?> type, final GenerationContext context, final ExportBuffer out) {
+        if (context.enterNested(type)) {
+            object(type, context, out);
+            context.exitNested();
+        } else {
+            out.putAscii("null");
+        }
+    }
+
+    /**
+     * Writes a generated value: collections and arrays as JSON arrays, maps as JSON objects keyed by the text of
+     * their keys, and nested objects as JSON objects of their fields.
+     */
+    static void value(final Object value, final ExportBuffer out) {
+        value(value, out, null);
+    }
+
+    /**
+     * Writes a generated value, with the nested objects being encoded, allocated on the first one.
+     */
+    private static void value(final Object value, final ExportBuffer out, final List<Object> path) {
+        if (value == null) {
+            out.putAscii("null");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte || value instanceof Boolean) {
+            out.putAscii(value.toString());
+        } else if (value instanceof Double || value instanceof Float) {
+            number(((Number) value).doubleValue(), out);
+        } else if (value instanceof Number) {
+            out.putAscii(value.toString());
+        } else if (value instanceof Collection<?> collection) {
+            out.put('[');
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    out.put(',');
+                }
+                value(element, out, path);
+                first = false;
+            }
+            out.put(']');
+        } else if (value instanceof Map<?, ?> map) {
+            out.put('{');
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!first) {
+                    out.put(',');
+                }
+                out.put('"').putJsonEscaped(text(entry.getKey())).put('"').put(':');
+                value(entry.getValue(), out, path);
+                first = false;
+            }
+            out.put('}');
+        } else if (value instanceof char[] chars) {
+            out.put('"').putJsonEscaped(new String(chars)).put('"');
+        } else if (value.getClass().isArray()) {
+            out.put('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                if (i > 0) {
+                    out.put(',');
+                }
+                value(Array.get(value, i), out, path);
+            }
+            out.put(']');
+        } else if (FieldGenerators.isNested(value.getClass())) {
+            instance(value, out, path != null ? path : new ArrayList<>());
+        } else {
+            out.put('"').putJsonEscaped(text(value)).put('"');
+        }
+    }
+
+    /**
+     * Writes a nested object created by a generator as a JSON object of its fields.
+     */
+    private static void instance(final Object value, final ExportBuffer out, final List<Object> path) {
+        for (Object enclosing : path) {
+            if (enclosing == value) {
+                out.putAscii("null");
+                return;
+            }
+        }
+        path.add(value);
+        final RecordShape shape = RecordShape.of(value.getClass());
+        out.put('{');
+        for (int i = 0; i < shape.size(); i++) {
+            if (i > 0) {
+                out.put(',');
+            }
+            out.put(shape.jsonName(i));
+            value(shape.read(i, value), out, path);
+        }
+        out.put('}');
+        path.remove(path.size() - 1);
+    }
+
+    private static void number(final double value, final ExportBuffer out) {
+        if (Double.isFinite(value)) {
+            out.putAscii(Double.toString(value));
+        } else {
+            out.putAscii("null");
+        }
+    }
+
+    private static void number(final float value, final ExportBuffer out) {
+        if (Float.isFinite(value)) {
+            out.putAscii(Float.toString(value));
+        } else {
+            out.putAscii("null");
+        }
+    }
+
+}
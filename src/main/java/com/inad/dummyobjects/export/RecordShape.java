@@ -0,0 +1,143 @@
+package com.inad.dummyobjects.export;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.plan.FieldPlan;
+
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The fields of a class as the exporters walk them, resolved once per class from its generation plan.
+ * <p>
+ * Values are drawn from the generators of the plan in field order, as the {@link Factory} does, but nested objects
+ * and the elements of lists are encoded field by field instead of being created: the nested class is walked through
+ * its own shape. The nested objects held by the other containers (sets, maps and arrays) are created by their
+ * generator, then encoded from their fields through the shape of their class.
+ * </p>
+ */
+final class RecordShape {
+
+    /**
+     * How the value of a field is produced and encoded.
+     */
+    enum Kind {
+        INT, LONG, FLOAT, DOUBLE, BOOLEAN,
+        /** A value returned by the generator of the field (handlers, enums, and containers of values). */
+        VALUE,
+        /** A nested object, walked through the shape of its class. */
+        OBJECT,
+        /** A collection of nested objects, each walked through the shape of their class. */
+        LIST
+    }
+
+    private static final ClassValue<RecordShape> SHAPES = new ClassValue<>() {
+        @Override
+        protected RecordShape computeValue(final Class<?> type) {
+            return new RecordShape(Factory.planFor(type).getFields());
+        }
+    };
+
+    private final String[] names;
+    private final byte[][] jsonNames;
+    private final Kind[] kinds;
+    private final Object[] generators;
+    private final Class<?>[] nested;
+    private final FieldPlan[] plans;
+
+    private RecordShape(final FieldPlan[] plans) {
+        this.names = new String[plans.length];
+        this.jsonNames = new byte[plans.length][];
+        this.kinds = new Kind[plans.length];
+        this.generators = new Object[plans.length];
+        this.nested = new Class<?>[plans.length];
+        this.plans = plans;
+        for (int i = 0; i < plans.length; i++) {
+            final Field field = plans[i].getField();
+            final Class<?> type = field.getType();
+            names[i] = field.getName();
+            jsonNames[i] = ('"' + field.getName() + "\":").getBytes(StandardCharsets.UTF_8);
+            generators[i] = plans[i].getGenerator();
+            if (type == int.class) {
+                kinds[i] = Kind.INT;
+            } else if (type == long.class) {
+                kinds[i] = Kind.LONG;
+            } else if (type == float.class) {
+                kinds[i] = Kind.FLOAT;
+            } else if (type == double.class) {
+                kinds[i] = Kind.DOUBLE;
+            } else if (type == boolean.class) {
+                kinds[i] = Kind.BOOLEAN;
+            } else if (plans[i] instanceof FieldPlan.NestedFieldPlan) {
+                kinds[i] = Kind.OBJECT;
+                nested[i] = type;
+                generators[i] = null;
+            } else if (plans[i] instanceof FieldPlan.ListFieldPlan list) {
+                kinds[i] = Kind.LIST;
+                nested[i] = list.getElementType();
+                generators[i] = null;
+            } else {
+                kinds[i] = Kind.VALUE;
+            }
+        }
+    }
+
+    static RecordShape of(final Class<?> type) {
+        return SHAPES.get(type);
+    }
+
+    int size() {
+        return kinds.length;
+    }
+
+    String name(final int field) {
+        return names[field];
+    }
+
+    /**
+     * @return The UTF-8 bytes of the JSON member name of the field, quoted and followed by a colon.
+     */
+    byte[] jsonName(final int field) {
+        return jsonNames[field];
+    }
+
+    Kind kind(final int field) {
+        return kinds[field];
+    }
+
+    /**
+     * @return The generator of the field, typed after its kind, or {@code null} for nested objects and lists.
+     */
+    Object generator(final int field) {
+        return generators[field];
+    }
+
+    /**
+     * @return The class of a nested object, or of the elements of a list.
+     */
+    Class<?> nested(final int field) {
+        return nested[field];
+    }
+
+    /**
+     * Reads the value of a field of an object of the class of this shape.
+     */
+    Object read(final int field, final Object instance) {
+        return plans[field].getWriter().get(instance);
+    }
+
+    /**
+     * Draws whether a nested object or a list is left {@code null}, at the null rate of its field.
+     */
+    boolean nextNull(final int field, final GenerationContext context) {
+        return ((FieldPlan.ObjectFieldPlan) plans[field]).nextNull(context);
+    }
+
+    /**
+     * Draws the size of a list.
+     */
+    int nextSize(final int field, final GenerationContext context) {
+        return ((FieldPlan.ListFieldPlan) plans[field]).nextSize(context);
+    }
+
+}
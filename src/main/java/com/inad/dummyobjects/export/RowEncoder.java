@@ -0,0 +1,48 @@
+package com.inad.dummyobjects.export;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * Encodes the generated rows of a class to text. An encoder may keep scratch state, so each thread uses its own.
+ */
+abstract class RowEncoder {
+
+    /**
+     * Writes the header of the file, if the format has one.
+     *
+     * @param type    The class of the rows.
+     * @param factory The factory generating the rows.
+     * @param out     The buffer to write to.
+     */
+    abstract void header(Class<?> type, ObjectFactory factory, ExportBuffer out);
+
+    /**
+     * Generates a row and writes it, line break included.
+     *
+     * @param type    The class of the rows.
+     * @param context The context to draw the values from.
+     * @param out     The buffer to write to.
+     */
+    abstract void row(Class<?> type, GenerationContext context, ExportBuffer out);
+
+    /**
+     * Returns the text of a value that is neither a number nor a boolean: dates as ISO-8601 instants, enums as
+     * their name, and any other value as its {@code toString()}.
+     *
+     * @param value The value, not {@code null}.
+     * @return The text of the value.
+     */
+    static String text(final Object value) {
+        if (value instanceof Timestamp || value.getClass() == Date.class) {
+            return ((Date) value).toInstant().toString();
+        } else if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+}
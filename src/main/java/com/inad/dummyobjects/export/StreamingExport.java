@@ -0,0 +1,183 @@
+package com.inad.dummyobjects.export;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.random.IndexedRandom;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static com.inad.dummyobjects.constants.Constants.EXPORT_BATCH_SIZE;
+import static com.inad.dummyobjects.constants.Constants.PARALLEL_THRESHOLD;
+
+/**
+ * Writes generated rows straight to JSON Lines or CSV files, without creating the objects.
+ * <p>
+ * Each row runs the generation plan of its class and encodes every value as it is generated into a reused buffer,
+ * which is written to a {@link FileChannel} whenever it holds {@link
+ * com.inad.dummyobjects.constants.Constants#EXPORT_BATCH_SIZE} bytes. Nested objects and lists are encoded field by
+ * field as well, so the memory used does not grow with the number of rows.
+ * </p>
+ * <p>
+ * Row {@code i} draws its values from an {@link IndexedRandom} positioned at {@code i}, as
+ * {@link ObjectFactory#createAt(Class, long, long)} does. With an executor, chunks of
+ * {@link com.inad.dummyobjects.constants.Constants#PARALLEL_THRESHOLD} rows are encoded concurrently and written in
+ * order, so the file is the same as the sequential one. The files written without a seed draw theirs from the random
+ * source of the factory and are not seeded creations, so their {@code @Unique} values are unique among the unseeded
+ * objects of the factory, as with {@link ObjectFactory#create(Class, int)}.
+ * </p>
+ */
+public final class StreamingExport {
+
+    private StreamingExport() {
+    }
+
+    /**
+     * Writes a JSON Lines file of unseeded rows: one JSON object per row and per line.
+     *
+     * @param factory The factory whose settings apply.
+     * @param type    The class of the rows.
+     * @param rows    The number of rows.
+     * @param path    The file to write, replaced if it exists.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void writeJsonLines(final ObjectFactory factory, final Class<?> type, final long rows,
+                                      final Path path) {
+        write(JsonLinesEncoder::new, factory, type, rows, path, factory.randomSource().current().nextLong(), false,
+                null);
+    }
+
+    /**
+     * Writes a JSON Lines file: one JSON object per row and per line.
+     *
+     * @param factory  The factory whose settings apply.
+     * @param type     The class of the rows.
+     * @param rows     The number of rows.
+     * @param path     The file to write, replaced if it exists.
+     * @param seed     The seed of the rows; equal seeds produce equal files.
+     * @param executor The executor encoding the chunks of rows, or {@code null} to encode them on the calling thread.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void writeJsonLines(final ObjectFactory factory, final Class<?> type, final long rows,
+                                      final Path path, final long seed, final Executor executor) {
+        write(JsonLinesEncoder::new, factory, type, rows, path, seed, true, executor);
+    }
+
+    /**
+     * Writes a CSV file of unseeded rows: a header naming the columns, then one line per row.
+     *
+     * @param factory The factory whose settings apply.
+     * @param type    The class of the rows.
+     * @param rows    The number of rows.
+     * @param path    The file to write, replaced if it exists.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void writeCsv(final ObjectFactory factory, final Class<?> type, final long rows, final Path path) {
+        write(CsvEncoder::new, factory, type, rows, path, factory.randomSource().current().nextLong(), false, null);
+    }
+
+    /**
+     * Writes a CSV file: a header naming the columns, then one line per row. Nested objects are flattened into
+     * columns and lists are written as JSON arrays.
+     *
+     * @param factory  The factory whose settings apply.
+     * @param type     The class of the rows.
+     * @param rows     The number of rows.
+     * @param path     The file to write, replaced if it exists.
+     * @param seed     The seed of the rows; equal seeds produce equal files.
+     * @param executor The executor encoding the chunks of rows, or {@code null} to encode them on the calling thread.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void writeCsv(final ObjectFactory factory, final Class<?> type, final long rows, final Path path,
+                                final long seed, final Executor executor) {
+        write(CsvEncoder::new, factory, type, rows, path, seed, true, executor);
+    }
+
+    private static void write(final Supplier<RowEncoder> encoders, final ObjectFactory factory, final Class<?> type,
+                              final long rows, final Path path, final long seed, final boolean seeded,
+                              final Executor executor) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("Negative row count: " + rows);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final ExportBuffer buffer = new ExportBuffer(EXPORT_BATCH_SIZE);
+            final RowEncoder encoder = encoders.get();
+            encoder.header(type, factory, buffer);
+            if (executor == null) {
+                final IndexedRandom random = new IndexedRandom(seed);
+                final GenerationContext context = new GenerationContext(random, factory, seeded);
+                for (long row = 0; row < rows; row++) {
+                    random.seek(row);
+                    encoder.row(type, context, buffer);
+                    if (buffer.size() >= EXPORT_BATCH_SIZE) {
+                        buffer.writeTo(channel);
+                    }
+                }
+                buffer.writeTo(channel);
+            } else {
+                buffer.writeTo(channel);
+                writeChunks(channel, encoders, factory, type, rows, seed, seeded, executor);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Encodes the rows in chunks on the executor, and writes the chunks in order as they complete. At most two
+     * chunks per processor are in flight, and their buffers are reused.
+     */
+    private static void writeChunks(final FileChannel channel, final Supplier<RowEncoder> encoders,
+                                    final ObjectFactory factory, final Class<?> type, final long rows,
+                                    final long seed, final boolean seeded, final Executor executor)
+            throws IOException {
+        final int inFlight = 2 * Runtime.getRuntime().availableProcessors();
+        final Queue<ExportBuffer> buffers = new ConcurrentLinkedQueue<>();
+        final ArrayDeque<CompletableFuture<ExportBuffer>> chunks = new ArrayDeque<>();
+        long next = 0;
+        try {
+            while (next < rows || !chunks.isEmpty()) {
+                while (next < rows && chunks.size() < inFlight) {
+                    final long from = next;
+                    final long to = Math.min(rows, from + PARALLEL_THRESHOLD);
+                    chunks.add(CompletableFuture.supplyAsync(
+                            () -> encodeChunk(encoders.get(), buffers, factory, type, from, to, seed, seeded),
+                            executor));
+                    next = to;
+                }
+                final ExportBuffer chunk = chunks.poll().join();
+                chunk.writeTo(channel);
+                buffers.add(chunk);
+            }
+        } catch (CompletionException e) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private static ExportBuffer encodeChunk(final RowEncoder encoder, final Queue<ExportBuffer> buffers,
+                                            final ObjectFactory factory, final Class<?> type, final long from,
+                                            final long to, final long seed, final boolean seeded) {
+        final ExportBuffer buffer = buffers.poll();
+        final ExportBuffer out = buffer != null ? buffer : new ExportBuffer(EXPORT_BATCH_SIZE / 16);
+        final IndexedRandom random = new IndexedRandom(seed);
+        final GenerationContext context = new GenerationContext(random, factory, seeded);
+        for (long row = from; row < to; row++) {
+            random.seek(row);
+            encoder.row(type, context, out);
+        }
+        return out;
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.inad.dummyobjects.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * JFR event recorded for every batch of objects requested from a factory: a single object, a list, or the chunk of
+ * a parallel creation run by one thread.
+ * <p>
+ * The event follows the usual JFR pattern: when it is disabled, {@link #start()} and {@link #end} do nothing and
+ * the JIT removes the event allocation, so the creation pays nothing for it.
+ * </p>
+ */
+@Name("com.inad.dummyobjects.Create")
+@Label("Dummy Objects Creation")
+@Category("Dummy Objects")
+@Description("Creation of a batch of dummy objects")
+public class CreateEvent extends Event {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @Label("Class")
+    @Description("Class of the created objects")
+    private String className;
+
+    @Label("Count")
+    @Description("Number of objects created, not counting their nested objects")
+    private int count;
+
+    @Label("Depth")
+    @Description("Deepest nesting level reached by the nested objects")
+    private int depth;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the creating thread")
+    @DataAmount(DataAmount.BYTES)
+    private long allocated;
+
+    /**
+     * Starts timing the batch, and measuring its allocations when the event is enabled.
+     */
+    public void start() {
+        begin();
+        if (isEnabled()) {
+            allocated = allocatedBytes();
+        }
+    }
+
+    /**
+     * Ends the batch and commits the event if it passes the recording thresholds.
+     *
+     * @param type      The class of the created objects.
+     * @param batchSize The number of objects created.
+     * @param maxDepth  The deepest nesting level reached.
+     */
+    public void end(final Class<?> type, final int batchSize, final int maxDepth) {
+        if (shouldCommit()) {
+            className = type.getName();
+            count = batchSize;
+            depth = maxDepth;
+            allocated = allocatedBytes() - allocated;
+            commit();
+        }
+    }
+
+    /**
+     * Returns the bytes allocated so far by the current thread, when the JVM measures it.
+     *
+     * @return The allocated bytes, or {@code 0} if they are not measured.
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads) {
+            return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+}
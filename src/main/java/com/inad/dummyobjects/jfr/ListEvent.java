@@ -0,0 +1,47 @@
+package com.inad.dummyobjects.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded for every collection field expanded into a list of nested objects.
+ * Like {@link CreateEvent}, it costs nothing when it is disabled.
+ */
+@Name("com.inad.dummyobjects.ListExpansion")
+@Label("Dummy Objects List Expansion")
+@Category("Dummy Objects")
+@Description("Expansion of a collection field into a list of nested dummy objects")
+public class ListEvent extends Event {
+
+    @Label("Element Class")
+    @Description("Class of the elements of the list")
+    private String elementClass;
+
+    @Label("Size")
+    @Description("Number of elements of the list")
+    private int size;
+
+    @Label("Depth")
+    @Description("Nesting level of the elements")
+    private int depth;
+
+    /**
+     * Ends the expansion and commits the event if it passes the recording thresholds.
+     *
+     * @param type      The class of the elements.
+     * @param listSize  The number of elements.
+     * @param listDepth The nesting level of the elements.
+     */
+    public void end(final Class<?> type, final int listSize, final int listDepth) {
+        if (shouldCommit()) {
+            elementClass = type.getName();
+            size = listSize;
+            depth = listDepth;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.inad.dummyobjects.metrics;
+
+/**
+ * Observes the objects created by an {@link com.inad.dummyobjects.ObjectFactory}.
+ * <p>
+ * A listener is opt-in: factories without one skip the timing and the callbacks entirely. It is called on the
+ * threads running the generation, possibly concurrently, so implementations must be thread-safe and fast.
+ * </p>
+ */
+public interface GenerationListener {
+
+    /**
+     * Called after an object has been created and populated.
+     *
+     * @param type  The class of the object.
+     * @param depth The nesting depth of the object: {@code 0} for the objects requested from the factory,
+     *              {@code 1} for their nested objects and list elements, and so on.
+     * @param nanos The time spent creating the object, its nested objects included, in nanoseconds.
+     */
+    void objectCreated(Class<?> type, int depth, long nanos);
+
+    /**
+     * Called for every field populated while creating an object of a planned class.
+     *
+     * @param fieldType The declared type of the field.
+     */
+    void fieldGenerated(Class<?> fieldType);
+
+}
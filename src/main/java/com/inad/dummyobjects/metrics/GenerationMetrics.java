@@ -0,0 +1,97 @@
+package com.inad.dummyobjects.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.inad.dummyobjects.constants.Constants.METRICS_OBJECT_NAME;
+
+/**
+ * Listener counting the objects and fields generated by a factory, exposed as an MXBean.
+ * <p>
+ * The counters are {@link LongAdder}s, so concurrent generations update them without contending on a shared value.
+ * </p>
+ */
+public class GenerationMetrics implements GenerationListener, GenerationMetricsMXBean {
+
+    private final Map<Class<?>, LongAdder> objectCounts = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> creationNanos = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LongAdder> fieldTypeCounts = new ConcurrentHashMap<>();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+
+    @Override
+    public void objectCreated(final Class<?> type, final int depth, final long nanos) {
+        objectCounts.computeIfAbsent(type, t -> new LongAdder()).increment();
+        creationNanos.computeIfAbsent(type, t -> new LongAdder()).add(nanos);
+        maxDepth.accumulate(depth);
+    }
+
+    @Override
+    public void fieldGenerated(final Class<?> fieldType) {
+        fieldTypeCounts.computeIfAbsent(fieldType, t -> new LongAdder()).increment();
+    }
+
+    @Override
+    public Map<String, Long> getObjectCounts() {
+        return snapshot(objectCounts);
+    }
+
+    @Override
+    public Map<String, Long> getFieldTypeCounts() {
+        return snapshot(fieldTypeCounts);
+    }
+
+    @Override
+    public Map<String, Long> getCreationNanos() {
+        return snapshot(creationNanos);
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth.intValue();
+    }
+
+    @Override
+    public void reset() {
+        objectCounts.clear();
+        creationNanos.clear();
+        fieldTypeCounts.clear();
+        maxDepth.reset();
+    }
+
+    /**
+     * Registers these metrics in the platform MBean server, under
+     * {@value com.inad.dummyobjects.constants.Constants#METRICS_OBJECT_NAME} and the given name.
+     *
+     * @param name The value of the {@code name} key of the object name, identifying the factory.
+     * @return The object name of the registered MBean.
+     * @throws RuntimeException if the MBean cannot be registered (e.g. the name is already in use).
+     */
+    public ObjectName register(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName(METRICS_OBJECT_NAME + ",name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Copies the counters into a map sorted by class name.
+     *
+     * @param counters The counters to copy.
+     * @return The current value of each counter.
+     */
+    private static Map<String, Long> snapshot(final Map<Class<?>, LongAdder> counters) {
+        final Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((type, counter) -> snapshot.put(type.getName(), counter.sum()));
+        return snapshot;
+    }
+
+}
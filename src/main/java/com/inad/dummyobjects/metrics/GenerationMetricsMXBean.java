@@ -0,0 +1,36 @@
+package com.inad.dummyobjects.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link GenerationMetrics} of a factory.
+ * Classes and field types are keyed by their fully qualified name.
+ */
+public interface GenerationMetricsMXBean {
+
+    /**
+     * @return The number of objects created per class.
+     */
+    Map<String, Long> getObjectCounts();
+
+    /**
+     * @return The number of fields populated per field type.
+     */
+    Map<String, Long> getFieldTypeCounts();
+
+    /**
+     * @return The total time spent creating the objects of each class, nested objects included, in nanoseconds.
+     */
+    Map<String, Long> getCreationNanos();
+
+    /**
+     * @return The deepest nesting level reached by a created object.
+     */
+    int getMaxDepth();
+
+    /**
+     * Clears all the counters.
+     */
+    void reset();
+
+}
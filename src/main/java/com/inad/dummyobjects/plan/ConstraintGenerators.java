@@ -0,0 +1,393 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.annotation.NullRate;
+import com.inad.dummyobjects.annotation.Pattern;
+import com.inad.dummyobjects.annotation.Range;
+import com.inad.dummyobjects.annotation.Size;
+import com.inad.dummyobjects.random.PatternGenerator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
+
+import static com.inad.dummyobjects.constants.Constants.NOT_BLANK_ATTEMPTS;
+import static com.inad.dummyobjects.constants.Constants.PATTERN_MAX_LENGTH;
+
+/**
+ * Plans of the fields whose values are constrained by annotations ({@link Range}, {@link Size}, {@link Pattern} and
+ * {@link NullRate}), resolved once per field by {@link FieldPlan}.
+ * <p>
+ * The constraints are compiled into the generator of the field when the plan is built: the values are drawn within
+ * their bounds, and the patterns are compiled into a {@link PatternGenerator}, so the generated objects are valid
+ * without being checked or generated again. The Jakarta (or {@code javax}) Bean Validation constraints
+ * {@code @Min}, {@code @Max}, {@code @DecimalMin}, {@code @DecimalMax}, {@code @Positive}, {@code @PositiveOrZero},
+ * {@code @Negative}, {@code @NegativeOrZero}, {@code @Size}, {@code @NotEmpty}, {@code @NotBlank}, {@code @Pattern}
+ * and {@code @Null} are honored as well. They are matched by name, so the library does not depend on the Bean
+ * Validation API, and they are ignored on the fields whose type they do not apply to, while the annotations of the
+ * library are rejected there. A {@code @Size} minimum applies to the strings of a pattern too, and a {@code @NotBlank}
+ * string is drawn again while it only has whitespace, up to
+ * {@link com.inad.dummyobjects.constants.Constants#NOT_BLANK_ATTEMPTS} times.
+ * </p>
+ */
+final class ConstraintGenerators {
+
+    private static final String[] VALIDATION_PACKAGES = {
+            "jakarta.validation.constraints.", "javax.validation.constraints."
+    };
+
+    private ConstraintGenerators() {
+    }
+
+    /**
+     * Resolves the plan of a field with constrained values.
+     *
+     * @param field  The field.
+     * @param writer The writer of the field.
+     * @return The plan generating values within the constraints of the field, or {@code null} if the field has no
+     * range, size or pattern.
+     * @throws IllegalArgumentException if a constraint does not apply to the type of the field, or is invalid.
+     */
+    static FieldPlan forField(final Field field, final FieldWriter writer) {
+        final Constraints constraints = Constraints.of(field);
+        final Class<?> type = field.getType();
+        if (constraints.pattern != null) {
+            if (type != String.class) {
+                throw new IllegalArgumentException("@Pattern applies to String fields only: " + field);
+            }
+            final int min = Math.max(constraints.minSize, 0);
+            final int max = constraints.maxSize >= 0 ? constraints.maxSize : Math.max(min, PATTERN_MAX_LENGTH);
+            if (max < min) {
+                throw new IllegalArgumentException("Invalid size range of " + field + ": [" + min + ", " + max + "]");
+            }
+            final PatternGenerator pattern = PatternGenerator.compile(constraints.pattern, min, max);
+            return new FieldPlan.ObjectFieldPlan(field, writer, constraints.notBlank
+                    ? c -> notBlank(field, () -> pattern.next(c.random()))
+                    : c -> pattern.next(c.random()));
+        } else if (constraints.minSize >= 0 || constraints.maxSize >= 0) {
+            return sized(field, writer, constraints);
+        } else if (!Double.isNaN(constraints.min) || !Double.isNaN(constraints.max)) {
+            return ranged(field, writer, constraints);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the bounds given to a numeric field, for the distributions to be clamped to.
+     *
+     * @param field The field.
+     * @return The lower and upper bounds of the field, infinite when left out, or {@code null} if it has none.
+     */
+    static double[] bounds(final Field field) {
+        final Constraints constraints = Constraints.of(field);
+        if (Double.isNaN(constraints.min) && Double.isNaN(constraints.max)) {
+            return null;
+        }
+        return new double[]{
+                Double.isNaN(constraints.min) ? Double.NEGATIVE_INFINITY : constraints.min,
+                Double.isNaN(constraints.max) ? Double.POSITIVE_INFINITY : constraints.max
+        };
+    }
+
+    /**
+     * Returns the sizes given to a field.
+     *
+     * @param field The field.
+     * @return The minimum and maximum sizes of the field, {@code -1} when left out.
+     */
+    static int[] sizes(final Field field) {
+        final Constraints constraints = Constraints.of(field);
+        return new int[]{constraints.minSize, constraints.maxSize};
+    }
+
+    /**
+     * Checks whether the values of a field must match a pattern.
+     *
+     * @param field The field.
+     * @return {@code true} if the field has a pattern.
+     */
+    static boolean hasPattern(final Field field) {
+        return Constraints.of(field).pattern != null;
+    }
+
+    /**
+     * Returns the probability of the field being left {@code null}.
+     *
+     * @param field The field.
+     * @return The rate of its {@link NullRate}, {@code 1} if it must be null, or {@code 0}.
+     * @throws IllegalArgumentException if the rate is not between {@code 0} and {@code 1}.
+     */
+    static double nullRate(final Field field) {
+        return Constraints.of(field).nullRate;
+    }
+
+    private static FieldPlan sized(final Field field, final FieldWriter writer, final Constraints constraints) {
+        final Class<?> type = field.getType();
+        final int min = Math.max(constraints.minSize, 0);
+        final int max = constraints.maxSize;
+        if (max >= 0 && max < min) {
+            throw new IllegalArgumentException("Invalid size range of " + field + ": [" + min + ", " + max + "]");
+        }
+        if (type == String.class || type == char[].class) {
+            final ToIntFunction<GenerationContext> lengths = max >= 0
+                    ? c -> c.random().nextInt(min, max + 1)
+                    : c -> Math.max(min, c.nextStringLength());
+            if (constraints.notBlank) {
+                return new FieldPlan.ObjectFieldPlan(field, writer,
+                        c -> notBlank(field, () -> c.nextString(lengths.applyAsInt(c))));
+            }
+            return new FieldPlan.ObjectFieldPlan(field, writer, type == String.class
+                    ? c -> c.nextString(lengths.applyAsInt(c))
+                    : c -> c.nextString(lengths.applyAsInt(c)).toCharArray());
+        } else if (!isSized(type)) {
+            throw new IllegalArgumentException("@Size applies to String, collection, map and array fields only: "
+                    + field);
+        }
+        final ToIntFunction<GenerationContext> sizes = max >= 0
+                ? c -> c.random().nextInt(min, max + 1)
+                : c -> Math.max(min, c.nextCollectionSize());
+        final FieldGenerator generator = FieldGenerators.forType(field.getGenericType(), sizes);
+        final Class<?> elementType = FieldGenerators.nestedElementType(field);
+        if (elementType != null) {
+            return new FieldPlan.ListFieldPlan(field, writer, generator, elementType, sizes, 0);
+        }
+        return new FieldPlan.ObjectFieldPlan(field, writer, generator);
+    }
+
+    /**
+     * Draws strings until one has a character other than whitespace.
+     */
+    private static String notBlank(final Field field, final Supplier<String> strings) {
+        for (int attempt = 0; attempt < NOT_BLANK_ATTEMPTS; attempt++) {
+            final String value = strings.get();
+            if (!value.isBlank()) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("No string with a non-whitespace character for " + field + " after "
+                + NOT_BLANK_ATTEMPTS + " attempts");
+    }
+
+    private static FieldPlan ranged(final Field field, final FieldWriter writer, final Constraints constraints) {
+        final Class<?> type = field.getType();
+        if (type == int.class || type == Integer.class) {
+            final long[] range = integers(field, constraints, 1, 9, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            final long min = range[0];
+            final long max = range[1];
+            return type == int.class
+                    ? new FieldPlan.IntFieldPlan(field, writer, c -> (int) nextLong(c.random(), min, max))
+                    : new FieldPlan.ObjectFieldPlan(field, writer, c -> (int) nextLong(c.random(), min, max));
+        } else if (type == long.class || type == Long.class) {
+            final long[] range = integers(field, constraints, 100, 999, Long.MIN_VALUE, Long.MAX_VALUE);
+            final long min = range[0];
+            final long max = range[1];
+            return type == long.class
+                    ? new FieldPlan.LongFieldPlan(field, writer, c -> nextLong(c.random(), min, max))
+                    : new FieldPlan.ObjectFieldPlan(field, writer, c -> nextLong(c.random(), min, max));
+        } else if (type == BigDecimal.class) {
+            final long[] range = integers(field, constraints, 10, 99, Long.MIN_VALUE, Long.MAX_VALUE);
+            final long min = range[0];
+            final long max = range[1];
+            return new FieldPlan.ObjectFieldPlan(field, writer,
+                    c -> BigDecimal.valueOf(nextLong(c.random(), min, max)));
+        } else if (type == float.class || type == Float.class) {
+            final double[] range = complete(field, constraints, 10, 100);
+            final double min = range[0];
+            final double max = range[1];
+            return type == float.class
+                    ? new FieldPlan.FloatFieldPlan(field, writer, c -> (float) nextDouble(c.random(), min, max))
+                    : new FieldPlan.ObjectFieldPlan(field, writer, c -> (float) nextDouble(c.random(), min, max));
+        } else if (type == double.class || type == Double.class) {
+            final double[] range = complete(field, constraints, 1, 10);
+            final double min = range[0];
+            final double max = range[1];
+            return type == double.class
+                    ? new FieldPlan.DoubleFieldPlan(field, writer, c -> nextDouble(c.random(), min, max))
+                    : new FieldPlan.ObjectFieldPlan(field, writer, c -> nextDouble(c.random(), min, max));
+        }
+        throw new IllegalArgumentException("@Range applies to number fields only: " + field);
+    }
+
+    /**
+     * Resolves the integer range of a field, completing the bounds left out with the default range of its type.
+     */
+    private static long[] integers(final Field field, final Constraints constraints, final long defaultMin,
+                                   final long defaultMax, final long typeMin, final long typeMax) {
+        final double[] range = complete(field, constraints, defaultMin, defaultMax);
+        final long min = (long) Math.max(Math.ceil(range[0]), typeMin);
+        final long max = (long) Math.min(Math.floor(range[1]), typeMax);
+        if (min > max) {
+            throw new IllegalArgumentException("No integer in the range of " + field);
+        }
+        return new long[]{min, max};
+    }
+
+    /**
+     * Completes the bounds left out with the default ones, moved past the given bound when they would cross it.
+     */
+    private static double[] complete(final Field field, final Constraints constraints, final double defaultMin,
+                                     final double defaultMax) {
+        final double width = defaultMax - defaultMin;
+        double min = constraints.min;
+        double max = constraints.max;
+        if (Double.isNaN(min)) {
+            min = max < defaultMin ? max - width : defaultMin;
+        }
+        if (Double.isNaN(max)) {
+            max = min > defaultMax ? min + width : defaultMax;
+        }
+        if (min > max || Double.isInfinite(min) || Double.isInfinite(max)) {
+            throw new IllegalArgumentException("Invalid range of " + field + ": [" + min + ", " + max + "]");
+        }
+        return new double[]{min, max};
+    }
+
+    /**
+     * Draws a long of {@code [min..max]}, both inclusive.
+     */
+    private static long nextLong(final RandomGenerator random, final long min, final long max) {
+        if (max == Long.MAX_VALUE) {
+            return min == Long.MIN_VALUE ? random.nextLong() : random.nextLong(min - 1, max) + 1;
+        }
+        return random.nextLong(min, max + 1);
+    }
+
+    private static double nextDouble(final RandomGenerator random, final double min, final double max) {
+        return min == max ? min : random.nextDouble(min, max);
+    }
+
+    private static boolean isSized(final Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private static boolean isNumber(final Class<?> type) {
+        return type == int.class || type == long.class || type == float.class || type == double.class
+                || type == Integer.class || type == Long.class || type == Float.class || type == Double.class
+                || type == BigDecimal.class;
+    }
+
+    /**
+     * The constraints read from the annotations of a field; a bound or a size of {@code NaN} or {@code -1} is left
+     * out.
+     */
+    private static final class Constraints {
+
+        private double min = Double.NaN;
+        private double max = Double.NaN;
+        private int minSize = -1;
+        private int maxSize = -1;
+        private String pattern;
+        private boolean notBlank;
+        private double nullRate;
+
+        static Constraints of(final Field field) {
+            final Constraints constraints = new Constraints();
+            final Class<?> type = field.getType();
+            for (Annotation annotation : field.getAnnotations()) {
+                if (annotation instanceof Range range) {
+                    constraints.atLeast(range.min());
+                    constraints.atMost(range.max());
+                } else if (annotation instanceof Size size) {
+                    constraints.sized(size.min(), size.max());
+                } else if (annotation instanceof Pattern pattern) {
+                    constraints.pattern = pattern.value();
+                } else if (annotation instanceof NullRate rate) {
+                    if (!(rate.value() >= 0 && rate.value() <= 1)) {
+                        throw new IllegalArgumentException("Invalid null rate of " + field + ": " + rate.value());
+                    }
+                    constraints.nullRate = rate.value();
+                } else {
+                    constraints.validation(annotation, type);
+                }
+            }
+            return constraints;
+        }
+
+        /**
+         * Reads a Bean Validation constraint, if it applies to the given type.
+         */
+        private void validation(final Annotation annotation, final Class<?> type) {
+            final String name = validationName(annotation);
+            if (name == null) {
+                return;
+            }
+            final boolean integer = type != float.class && type != double.class
+                    && type != Float.class && type != Double.class;
+            if (isNumber(type)) {
+                switch (name) {
+                    case "Min" -> atLeast(((Number) attribute(annotation, "value")).doubleValue());
+                    case "Max" -> atMost(((Number) attribute(annotation, "value")).doubleValue());
+                    case "DecimalMin" -> atLeast(Double.parseDouble((String) attribute(annotation, "value")));
+                    case "DecimalMax" -> atMost(Double.parseDouble((String) attribute(annotation, "value")));
+                    case "Positive" -> atLeast(integer ? 1 : Double.MIN_VALUE);
+                    case "PositiveOrZero" -> atLeast(0);
+                    case "Negative" -> atMost(integer ? -1 : -Double.MIN_VALUE);
+                    case "NegativeOrZero" -> atMost(0);
+                    default -> {
+                    }
+                }
+            } else if (type == String.class || isSized(type)) {
+                switch (name) {
+                    case "Size" -> sized((Integer) attribute(annotation, "min"),
+                            (Integer) attribute(annotation, "max"));
+                    case "NotEmpty" -> sized(1, Integer.MAX_VALUE);
+                    case "NotBlank" -> {
+                        sized(1, Integer.MAX_VALUE);
+                        notBlank = type == String.class;
+                    }
+                    case "Pattern" -> pattern = type == String.class ? (String) attribute(annotation, "regexp")
+                            : pattern;
+                    default -> {
+                    }
+                }
+            }
+            if (name.equals("Null") && !type.isPrimitive()) {
+                nullRate = 1;
+            }
+        }
+
+        private void atLeast(final double value) {
+            if (!Double.isNaN(value)) {
+                min = Double.isNaN(min) ? value : Math.max(min, value);
+            }
+        }
+
+        private void atMost(final double value) {
+            if (!Double.isNaN(value)) {
+                max = Double.isNaN(max) ? value : Math.min(max, value);
+            }
+        }
+
+        private void sized(final int min, final int max) {
+            minSize = Math.max(minSize, min);
+            if (max != Integer.MAX_VALUE) {
+                maxSize = maxSize < 0 ? max : Math.min(maxSize, max);
+            }
+        }
+
+        private static String validationName(final Annotation annotation) {
+            final String name = annotation.annotationType().getName();
+            for (String prefix : VALIDATION_PACKAGES) {
+                if (name.startsWith(prefix)) {
+                    return name.substring(prefix.length());
+                }
+            }
+            return null;
+        }
+
+        private static Object attribute(final Annotation annotation, final String name) {
+            try {
+                return annotation.annotationType().getMethod(name).invoke(annotation);
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException("Cannot read " + name + " of " + annotation, e);
+            }
+        }
+    }
+
+}
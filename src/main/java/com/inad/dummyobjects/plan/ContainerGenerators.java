@@ -0,0 +1,287 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generators of the collections, maps and arrays, resolved once per field by {@link FieldGenerators}.
+ * <p>
+ * The element types come from the generic type of the field, and the generators of the elements are resolved along
+ * with the container, so nested generic types ({@code Map<String, List<Integer>>}) are supported. The sizes are drawn
+ * from the {@link com.inad.dummyobjects.ObjectFactory#collectionSize() collection size distribution} of the factory,
+ * or from the bounds of a {@link com.inad.dummyobjects.annotation.Size} on the field, and the containers are presized
+ * to them. Interfaces are generated as their usual implementation:
+ * {@link ArrayList} for lists and plain collections, {@link HashSet} for sets, {@link TreeSet} for sorted sets,
+ * {@link ArrayDeque} for queues, {@link HashMap} for maps, {@link TreeMap} for sorted maps and
+ * {@link ConcurrentHashMap} for concurrent maps; concrete classes are instantiated through their no-arg constructor.
+ * </p>
+ * <p>
+ * The nested objects left out by the limits of the factory are not added, so a collection, a map or an array of
+ * nested objects may be smaller than its drawn size, and so may be a set or a map whose generated elements collide.
+ * </p>
+ */
+final class ContainerGenerators {
+
+    private ContainerGenerators() {
+    }
+
+    /**
+     * Resolves the generator of a collection.
+     *
+     * @param type        The class of the collection.
+     * @param elementType The type of its elements.
+     * @param sizes       The distribution of its sizes.
+     * @return The generator of the collection.
+     * @throws IllegalArgumentException if the collection cannot be instantiated, or is sorted with elements that are
+     *                                  not comparable.
+     */
+    static FieldGenerator forCollection(final Class<?> type, final Type elementType,
+                                        final ToIntFunction<GenerationContext> sizes) {
+        final Class<?> element = FieldGenerators.rawType(elementType);
+        if (FieldGenerators.isNested(element) && type.isAssignableFrom(ArrayList.class)) {
+            // nested lists go through the context, which reports them to the flight recorder
+            return c -> c.create(element, sizes.applyAsInt(c));
+        }
+        final IntFunction<Collection<Object>> collections = collections(type, element);
+        final FieldGenerator elements = forElement(elementType);
+        return c -> {
+            final int size = sizes.applyAsInt(c);
+            final Collection<Object> collection = collections.apply(size);
+            for (int i = 0; i < size; i++) {
+                final Object value = elements.generate(c);
+                if (value != null) {
+                    collection.add(value);
+                }
+            }
+            return collection;
+        };
+    }
+
+    /**
+     * Resolves the generator of a map.
+     *
+     * @param type      The class of the map.
+     * @param keyType   The type of its keys.
+     * @param valueType The type of its values.
+     * @param sizes     The distribution of its sizes.
+     * @return The generator of the map.
+     * @throws IllegalArgumentException if the map cannot be instantiated, or is sorted with keys that are not
+     *                                  comparable.
+     */
+    static FieldGenerator forMap(final Class<?> type, final Type keyType, final Type valueType,
+                                 final ToIntFunction<GenerationContext> sizes) {
+        final IntFunction<Map<Object, Object>> maps = maps(type, FieldGenerators.rawType(keyType));
+        final FieldGenerator keys = forElement(keyType);
+        final FieldGenerator values = forElement(valueType);
+        return c -> {
+            final int size = sizes.applyAsInt(c);
+            final Map<Object, Object> map = maps.apply(size);
+            for (int i = 0; i < size; i++) {
+                final Object key = keys.generate(c);
+                final Object value = values.generate(c);
+                if (key != null && value != null) {
+                    map.put(key, value);
+                }
+            }
+            return map;
+        };
+    }
+
+    /**
+     * Resolves the generator of an array. The arrays of primitives are filled in a single loop, without boxing,
+     * and a {@code char[]} is a string of the factory alphabet and length distribution.
+     *
+     * @param componentType The type of the elements of the array.
+     * @param sizes         The distribution of its lengths; a {@code char[]} follows the string lengths instead.
+     * @return The generator of the array.
+     */
+    static FieldGenerator forArray(final Type componentType, final ToIntFunction<GenerationContext> sizes) {
+        final Class<?> component = FieldGenerators.rawType(componentType);
+        if (component.isPrimitive()) {
+            return forPrimitiveArray(component, sizes);
+        }
+        final FieldGenerator elements = forElement(componentType);
+        return c -> {
+            final int size = sizes.applyAsInt(c);
+            final Object[] array = (Object[]) Array.newInstance(component, size);
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                final Object value = elements.generate(c);
+                if (value != null) {
+                    array[count++] = value;
+                }
+            }
+            return count == size ? array : Arrays.copyOf(array, count);
+        };
+    }
+
+    private static FieldGenerator forPrimitiveArray(final Class<?> component,
+                                                    final ToIntFunction<GenerationContext> sizes) {
+        if (component == int.class) {
+            return c -> {
+                final int[] array = new int[sizes.applyAsInt(c)];
+                final RandomGenerator random = c.random();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = DefaultValues.intValue(random);
+                }
+                return array;
+            };
+        } else if (component == long.class) {
+            return c -> {
+                final long[] array = new long[sizes.applyAsInt(c)];
+                final RandomGenerator random = c.random();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = DefaultValues.longValue(random);
+                }
+                return array;
+            };
+        } else if (component == float.class) {
+            return c -> {
+                final float[] array = new float[sizes.applyAsInt(c)];
+                final RandomGenerator random = c.random();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = DefaultValues.floatValue(random);
+                }
+                return array;
+            };
+        } else if (component == double.class) {
+            return c -> {
+                final double[] array = new double[sizes.applyAsInt(c)];
+                final RandomGenerator random = c.random();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = DefaultValues.doubleValue(random);
+                }
+                return array;
+            };
+        } else if (component == boolean.class) {
+            return c -> {
+                final boolean[] array = new boolean[sizes.applyAsInt(c)];
+                final RandomGenerator random = c.random();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = random.nextBoolean();
+                }
+                return array;
+            };
+        } else if (component == short.class) {
+            return c -> {
+                final short[] array = new short[sizes.applyAsInt(c)];
+                final RandomGenerator random = c.random();
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = (short) DefaultValues.intValue(random);
+                }
+                return array;
+            };
+        } else if (component == byte.class) {
+            return c -> {
+                final byte[] array = new byte[sizes.applyAsInt(c)];
+                c.random().nextBytes(array);
+                return array;
+            };
+        }
+        return c -> c.nextString().toCharArray();
+    }
+
+    /**
+     * Resolves the generator of the elements of a container. Unlike a field, a nested element is never a reused
+     * back-reference (see {@link com.inad.dummyobjects.GenerationContext#createElement(Class)}).
+     */
+    private static FieldGenerator forElement(final Type type) {
+        final Class<?> raw = FieldGenerators.rawType(type);
+        return FieldGenerators.isNested(raw) ? c -> c.createElement(raw) : FieldGenerators.forType(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static IntFunction<Collection<Object>> collections(final Class<?> type, final Class<?> element) {
+        if (type == ArrayList.class || type.isAssignableFrom(ArrayList.class)) {
+            return ArrayList::new;
+        } else if (type == LinkedHashSet.class) {
+            return size -> new LinkedHashSet<>(capacity(size));
+        } else if (type == HashSet.class || type.isAssignableFrom(HashSet.class)) {
+            return size -> new HashSet<>(capacity(size));
+        } else if (type == TreeSet.class || type.isAssignableFrom(TreeSet.class)) {
+            requireComparable(type, element);
+            return size -> new TreeSet<>();
+        } else if (type == ArrayDeque.class || type.isAssignableFrom(ArrayDeque.class)) {
+            return ArrayDeque::new;
+        }
+        final MethodHandle constructor = constructor(type);
+        return size -> (Collection<Object>) instantiate(constructor);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static IntFunction<Map<Object, Object>> maps(final Class<?> type, final Class<?> key) {
+        if (type == LinkedHashMap.class) {
+            return size -> new LinkedHashMap<>(capacity(size));
+        } else if (type == HashMap.class || type.isAssignableFrom(HashMap.class)) {
+            return size -> new HashMap<>(capacity(size));
+        } else if (type == TreeMap.class || type.isAssignableFrom(TreeMap.class)) {
+            requireComparable(type, key);
+            return size -> new TreeMap<>();
+        } else if (type == ConcurrentHashMap.class || type.isAssignableFrom(ConcurrentHashMap.class)) {
+            return size -> new ConcurrentHashMap<>(capacity(size));
+        } else if (type == EnumMap.class && key.isEnum()) {
+            return size -> new EnumMap(key);
+        }
+        final MethodHandle constructor = constructor(type);
+        return size -> (Map<Object, Object>) instantiate(constructor);
+    }
+
+    /**
+     * Returns the initial capacity of a hash table holding {@code size} entries without being resized.
+     */
+    private static int capacity(final int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static void requireComparable(final Class<?> type, final Class<?> element) {
+        if (!Comparable.class.isAssignableFrom(element)) {
+            throw new IllegalArgumentException("The elements of a " + type.getSimpleName()
+                    + " must be comparable: " + element.getName());
+        }
+    }
+
+    private static MethodHandle constructor(final Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("Unsupported container type: " + type.getName());
+        }
+        try {
+            return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException("The container type has no public no-arg constructor: "
+                    + type.getName(), e);
+        }
+    }
+
+    private static Object instantiate(final MethodHandle constructor) {
+        try {
+            return constructor.invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+}
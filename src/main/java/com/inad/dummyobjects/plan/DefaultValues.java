@@ -0,0 +1,101 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.random.TemporalRange;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.random.RandomGenerator;
+
+import static com.inad.dummyobjects.util.Utils.randomNumber;
+
+/**
+ * The default random value of each supported field type.
+ * <p>
+ * These are the values used by the reflective {@link FieldGenerators} and {@link FieldPlan}s, and
+ * by the factories generated at compile time, so both paths produce data following the same rules.
+ * Every value is drawn from the random generator of the current generation. The date and time values
+ * are drawn from the {@link TemporalRange} of the factory, with epoch arithmetic rather than clock reads.
+ * </p>
+ */
+public class DefaultValues {
+
+    private DefaultValues() {
+    }
+
+    /**
+     * Generates a string with the alphabet and the length distribution of the factory running the generation.
+     *
+     * @param context The context of the current generation.
+     * @return A random string.
+     */
+    public static String string(final GenerationContext context) {
+        return context.nextString();
+    }
+
+    public static int intValue(final RandomGenerator random) {
+        return randomNumber(random, 1, 10);
+    }
+
+    public static long longValue(final RandomGenerator random) {
+        return randomNumber(random, 100L, 1000L);
+    }
+
+    public static float floatValue(final RandomGenerator random) {
+        return randomNumber(random, 10f, 100f);
+    }
+
+    public static double doubleValue(final RandomGenerator random) {
+        return randomNumber(random, 1.0, 10.0);
+    }
+
+    public static boolean booleanValue(final RandomGenerator random) {
+        return random.nextBoolean();
+    }
+
+    public static BigDecimal bigDecimal(final RandomGenerator random) {
+        return new BigDecimal(randomNumber(random, 10, 100));
+    }
+
+    public static Date date(final GenerationContext context) {
+        return context.temporalRange().nextDate(context.random());
+    }
+
+    public static Instant instant(final GenerationContext context) {
+        return context.temporalRange().nextInstant(context.random());
+    }
+
+    public static Timestamp timestamp(final GenerationContext context) {
+        return context.temporalRange().nextTimestamp(context.random());
+    }
+
+    public static LocalDate localDate(final GenerationContext context) {
+        return context.temporalRange().nextLocalDate(context.random());
+    }
+
+    public static LocalDateTime localDateTime(final GenerationContext context) {
+        return context.temporalRange().nextLocalDateTime(context.random());
+    }
+
+    public static LocalTime localTime(final GenerationContext context) {
+        return context.temporalRange().nextLocalTime(context.random());
+    }
+
+    /**
+     * Picks a random constant among the given ones.
+     *
+     * @param random    The random generator to draw from.
+     * @param constants The constants to pick from, e.g. the cached {@code values()} of an enum.
+     * @param <E>       The type of the constants.
+     * @return A random element of {@code constants}.
+     */
+    public static <E> E element(final RandomGenerator random, final E[] constants) {
+        return constants[randomNumber(random, 0, constants.length)];
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.annotation.Exponential;
+import com.inad.dummyobjects.annotation.Normal;
+import com.inad.dummyobjects.annotation.OneOf;
+import com.inad.dummyobjects.annotation.Weighted;
+import com.inad.dummyobjects.annotation.Zipf;
+import com.inad.dummyobjects.random.AliasTable;
+import com.inad.dummyobjects.random.ZipfDistribution;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plans of the fields whose values follow the distribution given by an annotation ({@link Weighted},
+ * {@link OneOf}, {@link Zipf}, {@link Normal} or {@link Exponential}), resolved once per field by {@link FieldPlan}.
+ * <p>
+ * The tables and constants of a distribution are computed when the plan is built, so a value is drawn in constant
+ * time with no allocation besides the boxing of wrapper fields. The numeric distributions apply to the
+ * {@code int}, {@code long}, {@code float} and {@code double} fields, their wrappers, and {@link BigDecimal} fields.
+ * </p>
+ */
+final class DistributionGenerators {
+
+    private static final List<Class<? extends Annotation>> ANNOTATIONS =
+            List.of(Weighted.class, OneOf.class, Zipf.class, Normal.class, Exponential.class);
+
+    private DistributionGenerators() {
+    }
+
+    /**
+     * Resolves the plan of a field annotated with a distribution.
+     *
+     * @param field  The field.
+     * @param writer The writer of the field.
+     * @return The plan drawing the values of the field from its distribution, or {@code null} if the field has no
+     * distribution annotation.
+     * @throws IllegalArgumentException if the field has several distributions, or one that does not apply to its
+     *                                  type or has invalid parameters.
+     */
+    static FieldPlan forField(final Field field, final FieldWriter writer) {
+        Annotation distribution = null;
+        for (Class<? extends Annotation> type : ANNOTATIONS) {
+            final Annotation annotation = field.getAnnotation(type);
+            if (annotation != null && distribution != null) {
+                throw new IllegalArgumentException("Field " + field + " has several distributions");
+            } else if (annotation != null) {
+                distribution = annotation;
+            }
+        }
+        if (distribution instanceof Weighted weighted) {
+            return new FieldPlan.ObjectFieldPlan(field, writer, weighted(field, weighted.value()));
+        } else if (distribution instanceof OneOf oneOf) {
+            return new FieldPlan.ObjectFieldPlan(field, writer, oneOf(field, oneOf));
+        } else if (distribution instanceof Zipf zipf) {
+            final ZipfDistribution ranks = ZipfDistribution.of(zipf.size(), zipf.exponent());
+            return numeric(field, writer, ranks::next);
+        } else if (distribution instanceof Normal normal) {
+            final double mean = normal.mean();
+            final double stddev = normal.stddev();
+            if (!(stddev >= 0)) {
+                throw new IllegalArgumentException("Invalid standard deviation of " + field + ": " + stddev);
+            }
+            return numeric(field, writer, random -> random.nextGaussian(mean, stddev));
+        } else if (distribution instanceof Exponential exponential) {
+            final double mean = exponential.mean();
+            if (!(mean > 0)) {
+                throw new IllegalArgumentException("Invalid mean of " + field + ": " + mean);
+            }
+            return numeric(field, writer, random -> mean * random.nextExponential());
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a field is annotated with a distribution.
+     *
+     * @param field The field.
+     * @return {@code true} if the field has a distribution annotation.
+     */
+    static boolean hasDistribution(final Field field) {
+        for (Class<? extends Annotation> type : ANNOTATIONS) {
+            if (field.isAnnotationPresent(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static FieldGenerator weighted(final Field field, final double[] weights) {
+        final Object[] constants = field.getType().getEnumConstants();
+        if (constants == null) {
+            throw new IllegalArgumentException("@Weighted applies to enum fields only: " + field);
+        } else if (weights.length != constants.length) {
+            throw new IllegalArgumentException("Field " + field + " needs " + constants.length + " weights");
+        }
+        return choice(constants, weights);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static FieldGenerator oneOf(final Field field, final OneOf oneOf) {
+        final Class<?> type = field.getType();
+        final String[] names = oneOf.value();
+        if (names.length == 0) {
+            throw new IllegalArgumentException("@OneOf needs at least one value: " + field);
+        } else if (oneOf.weights().length != 0 && oneOf.weights().length != names.length) {
+            throw new IllegalArgumentException("Field " + field + " needs " + names.length + " weights");
+        }
+        final Object[] values = new Object[names.length];
+        for (int i = 0; i < names.length; i++) {
+            if (type == String.class) {
+                values[i] = names[i];
+            } else if (type.isEnum()) {
+                values[i] = Enum.valueOf((Class<Enum>) type, names[i]);
+            } else {
+                throw new IllegalArgumentException("@OneOf applies to String and enum fields only: " + field);
+            }
+        }
+        if (oneOf.weights().length == 0) {
+            return c -> DefaultValues.element(c.random(), values);
+        }
+        return choice(values, oneOf.weights());
+    }
+
+    private static FieldGenerator choice(final Object[] values, final double[] weights) {
+        final AliasTable table = AliasTable.of(weights);
+        return c -> values[table.next(c.random())];
+    }
+
+    /**
+     * Returns the plan of a numeric field drawn from a distribution of real numbers, clamped to the
+     * {@link com.inad.dummyobjects.annotation.Range} of the field if any, and rounded for integer fields.
+     */
+    private static FieldPlan numeric(final Field field, final FieldWriter writer,
+                                     final ToDoubleFunction<RandomGenerator> unbounded) {
+        final double[] bounds = ConstraintGenerators.bounds(field);
+        final ToDoubleFunction<RandomGenerator> distribution = bounds == null ? unbounded
+                : random -> Math.min(Math.max(unbounded.applyAsDouble(random), bounds[0]), bounds[1]);
+        final Class<?> type = field.getType();
+        if (type == int.class) {
+            return new FieldPlan.IntFieldPlan(field, writer,
+                    c -> (int) Math.round(distribution.applyAsDouble(c.random())));
+        } else if (type == long.class) {
+            return new FieldPlan.LongFieldPlan(field, writer,
+                    c -> Math.round(distribution.applyAsDouble(c.random())));
+        } else if (type == float.class) {
+            return new FieldPlan.FloatFieldPlan(field, writer, c -> (float) distribution.applyAsDouble(c.random()));
+        } else if (type == double.class) {
+            return new FieldPlan.DoubleFieldPlan(field, writer, c -> distribution.applyAsDouble(c.random()));
+        } else if (type == Integer.class) {
+            return new FieldPlan.ObjectFieldPlan(field, writer,
+                    c -> (int) Math.round(distribution.applyAsDouble(c.random())));
+        } else if (type == Long.class) {
+            return new FieldPlan.ObjectFieldPlan(field, writer,
+                    c -> Math.round(distribution.applyAsDouble(c.random())));
+        } else if (type == Float.class) {
+            return new FieldPlan.ObjectFieldPlan(field, writer, c -> (float) distribution.applyAsDouble(c.random()));
+        } else if (type == Double.class) {
+            return new FieldPlan.ObjectFieldPlan(field, writer, c -> distribution.applyAsDouble(c.random()));
+        } else if (type == BigDecimal.class) {
+            return new FieldPlan.ObjectFieldPlan(field, writer,
+                    c -> BigDecimal.valueOf(distribution.applyAsDouble(c.random())));
+        }
+        throw new IllegalArgumentException("Numeric distributions apply to number fields only: " + field);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+
+/**
+ * Produces the random value assigned to a single field.
+ * <p>
+ * A generator is resolved once per field when the {@link GenerationPlan} of a class is built,
+ * so calling it does not involve any type inspection. The primitive specializations ({@link OfInt},
+ * {@link OfLong}, etc.) produce values for primitive fields without boxing.
+ * </p>
+ */
+@FunctionalInterface
+public interface FieldGenerator {
+
+    /**
+     * Generates a new value for the field.
+     *
+     * @param context The context of the current generation, providing the random generator.
+     * @return The generated value.
+     */
+    Object generate(GenerationContext context);
+
+    /**
+     * Generator of {@code int} values.
+     */
+    @FunctionalInterface
+    interface OfInt {
+        int generateInt(GenerationContext context);
+    }
+
+    /**
+     * Generator of {@code long} values.
+     */
+    @FunctionalInterface
+    interface OfLong {
+        long generateLong(GenerationContext context);
+    }
+
+    /**
+     * Generator of {@code float} values.
+     */
+    @FunctionalInterface
+    interface OfFloat {
+        float generateFloat(GenerationContext context);
+    }
+
+    /**
+     * Generator of {@code double} values.
+     */
+    @FunctionalInterface
+    interface OfDouble {
+        double generateDouble(GenerationContext context);
+    }
+
+    /**
+     * Generator of {@code boolean} values.
+     */
+    @FunctionalInterface
+    interface OfBoolean {
+        boolean generateBoolean(GenerationContext context);
+    }
+
+}
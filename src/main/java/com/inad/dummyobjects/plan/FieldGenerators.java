@@ -0,0 +1,183 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Resolves the {@link FieldGenerator} for a non-primitive field based on its type.
+ * <p>
+ * The type inspection happens only once per field, while the {@link GenerationPlan} is built.
+ * The types with a handler in the {@link TypeHandlers} registry (standard Java types such as String, Date,
+ * Numbers, etc., and the registered custom types) use it; Enums, Collections, Maps and arrays are supported as well,
+ * their element types being resolved from the generic type of the field (see {@link ContainerGenerators}).
+ * Any other type is generated as a nested dummy object.
+ * Primitive fields are handled by the specialized plans of {@link FieldPlan}.
+ * </p>
+ */
+public class FieldGenerators {
+
+    private FieldGenerators() {
+    }
+
+    /**
+     * Resolves the generator for the given field.
+     *
+     * @param field The non-primitive field to resolve a generator for.
+     * @return The generator producing values for the field.
+     * @throws IllegalArgumentException if the field is a collection, a map or an array whose type cannot be
+     *                                  generated (e.g. a raw {@code List}).
+     */
+    public static FieldGenerator forField(final Field field) {
+        return forType(field.getGenericType());
+    }
+
+    /**
+     * Resolves the generator for a field of a class or of one of its superclasses. The factories generated at
+     * compile time delegate their collection, map and array fields to it, so that they build the same containers as
+     * the reflective factory.
+     *
+     * @param type The class declaring or inheriting the field.
+     * @param name The name of the field.
+     * @return The generator producing values for the field.
+     * @throws IllegalArgumentException if the class has no such field, or if the field is a collection, a map or an
+     *                                  array whose type cannot be generated.
+     */
+    public static FieldGenerator forField(final Class<?> type, final String name) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return forField(current.getDeclaredField(name));
+            } catch (NoSuchFieldException e) {
+                // declared by a superclass
+            }
+        }
+        throw new IllegalArgumentException("No field " + name + " in " + type.getName());
+    }
+
+    /**
+     * Resolves the generator for the given type, which may be parameterized.
+     *
+     * @param type The type of the values.
+     * @return The generator producing values of {@code type}.
+     * @throws IllegalArgumentException if the type is a collection, a map or an array that cannot be generated.
+     */
+    static FieldGenerator forType(final Type type) {
+        return forType(type, GenerationContext::nextCollectionSize);
+    }
+
+    /**
+     * Resolves the generator for the given type, drawing the sizes of the collections, maps and arrays from the
+     * given distribution.
+     *
+     * @param type  The type of the values.
+     * @param sizes The distribution of the sizes of a container, applied at the top level only.
+     * @return The generator producing values of {@code type}.
+     * @throws IllegalArgumentException if the type is a collection, a map or an array that cannot be generated.
+     */
+    static FieldGenerator forType(final Type type, final ToIntFunction<GenerationContext> sizes) {
+        final Class<?> raw = rawType(type);
+        final FieldGenerator handler = TypeHandlers.find(raw);
+        if (handler != null) {
+            return handler;
+        } else if (raw.isEnum()) {
+            return forEnum(raw);
+        } else if (raw.isArray()) {
+            return ContainerGenerators.forArray(componentType(type), sizes);
+        } else if (Collection.class.isAssignableFrom(raw)) {
+            return ContainerGenerators.forCollection(raw, typeArgument(type, 0), sizes);
+        } else if (Map.class.isAssignableFrom(raw)) {
+            return ContainerGenerators.forMap(raw, typeArgument(type, 0), typeArgument(type, 1), sizes);
+        }
+        return c -> c.create(raw);
+    }
+
+    /**
+     * Resolves the class of the nested objects held by a collection field.
+     *
+     * @param field The field.
+     * @return The class of the elements if the field is a collection of nested objects, {@code null} otherwise.
+     */
+    public static Class<?> nestedElementType(final Field field) {
+        if (!Collection.class.isAssignableFrom(field.getType())) {
+            return null;
+        }
+        final Class<?> element = rawType(typeArgument(field.getGenericType(), 0));
+        return isNested(element) ? element : null;
+    }
+
+    /**
+     * Checks whether the values of the given class are generated as nested dummy objects.
+     *
+     * @param type The class of the values.
+     * @return {@code true} if {@code type} has no handler and is not an enum, a collection, a map nor an array.
+     */
+    public static boolean isNested(final Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && !type.isEnum() && TypeHandlers.find(type) == null
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Resolves a generator picking a random constant of the enum type.
+     * The constants are read once instead of being cloned on every call.
+     *
+     * @param type The Enum type.
+     * @return The generator for the enum.
+     */
+    static FieldGenerator forEnum(final Class<?> type) {
+        final Object[] constants = type.getEnumConstants();
+        return c -> DefaultValues.element(c.random(), constants);
+    }
+
+    /**
+     * Returns the class a type erases to: the raw type of a parameterized type, and the upper bound of a wildcard or
+     * a type variable.
+     *
+     * @param type The type.
+     * @return The erasure of {@code type}.
+     */
+    static Class<?> rawType(final Type type) {
+        if (type instanceof Class<?> cls) {
+            return cls;
+        } else if (type instanceof ParameterizedType parameterized) {
+            return (Class<?>) parameterized.getRawType();
+        } else if (type instanceof GenericArrayType array) {
+            return Array.newInstance(rawType(array.getGenericComponentType()), 0).getClass();
+        } else if (type instanceof WildcardType wildcard) {
+            return rawType(wildcard.getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable<?> variable) {
+            return rawType(variable.getBounds()[0]);
+        }
+        throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+
+    /**
+     * Returns a type argument of a parameterized type, e.g. {@code String} for the argument {@code 0} of
+     * {@code List<String>}.
+     *
+     * @param type  The parameterized type.
+     * @param index The index of the argument.
+     * @return The type argument.
+     * @throws IllegalArgumentException if {@code type} is not parameterized.
+     */
+    private static Type typeArgument(final Type type, final int index) {
+        if (type instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[index];
+        }
+        throw new IllegalArgumentException("Cannot resolve the type arguments of " + type.getTypeName());
+    }
+
+    private static Type componentType(final Type type) {
+        return type instanceof GenericArrayType array ? array.getGenericComponentType()
+                : rawType(type).getComponentType();
+    }
+
+}
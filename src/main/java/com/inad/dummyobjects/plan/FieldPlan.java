@@ -0,0 +1,461 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.annotation.PrimaryKey;
+import com.inad.dummyobjects.annotation.Unique;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.function.ToIntFunction;
+
+/**
+ * Pairs an accessible field with its {@link FieldWriter} and the generator resolved for its type.
+ * <p>
+ * Primitive fields get a plan specialized for their type, so the value flows from the generator to
+ * the writer without being boxed. Fields annotated with a distribution (e.g.
+ * {@link com.inad.dummyobjects.annotation.Weighted}) draw their values from it, and {@link Unique} and
+ * {@link PrimaryKey} fields get distinct values.
+ * </p>
+ */
+public abstract class FieldPlan {
+
+    protected final Field field;
+    protected final FieldWriter writer;
+
+    protected FieldPlan(final Field field, final FieldWriter writer) {
+        this.field = field;
+        this.writer = writer;
+    }
+
+    /**
+     * Resolves the plan for the given field.
+     *
+     * @param field The field to populate, already made accessible.
+     * @return The plan for the field, or {@code null} if the field is a primitive type with no
+     * supported generator (e.g. {@code char}).
+     * @throws IllegalAccessException if the field cannot be accessed.
+     * @throws IllegalArgumentException if the field is a collection, a map or an array that cannot be generated, or
+     *                                  has an invalid distribution, constraint or uniqueness annotation.
+     */
+    public static FieldPlan of(final Field field) throws IllegalAccessException {
+        final FieldWriter writer = FieldWriter.of(field);
+        final FieldPlan plan = field.isAnnotationPresent(Unique.class) || field.isAnnotationPresent(PrimaryKey.class)
+                ? UniqueGenerators.forField(field, writer) : resolve(field, writer);
+        final double nullRate = ConstraintGenerators.nullRate(field);
+        if (nullRate == 0 || plan == null) {
+            return plan;
+        } else if (plan instanceof ObjectFieldPlan reference) {
+            return reference.withNullRate(nullRate);
+        }
+        throw new IllegalArgumentException("@NullRate applies to reference fields only: " + field);
+    }
+
+    /**
+     * Resolves the plan of a field, before its null rate is applied.
+     */
+    static FieldPlan resolve(final Field field, final FieldWriter writer) {
+        final FieldPlan distributed = DistributionGenerators.forField(field, writer);
+        if (distributed != null) {
+            return distributed;
+        }
+        final FieldPlan constrained = ConstraintGenerators.forField(field, writer);
+        if (constrained != null) {
+            return constrained;
+        } else if (!field.getType().isPrimitive()) {
+            final FieldGenerator generator = FieldGenerators.forField(field);
+            final Class<?> elementType = FieldGenerators.nestedElementType(field);
+            if (FieldGenerators.isNested(field.getType())) {
+                return new NestedFieldPlan(field, writer, generator);
+            } else if (elementType != null) {
+                return new ListFieldPlan(field, writer, generator, elementType);
+            }
+            return new ObjectFieldPlan(field, writer, generator);
+        }
+        final Class<?> type = field.getType();
+        if (type == int.class) {
+            return new IntFieldPlan(field, writer, c -> DefaultValues.intValue(c.random()));
+        } else if (type == long.class) {
+            return new LongFieldPlan(field, writer, c -> DefaultValues.longValue(c.random()));
+        } else if (type == float.class) {
+            return new FloatFieldPlan(field, writer, c -> DefaultValues.floatValue(c.random()));
+        } else if (type == double.class) {
+            return new DoubleFieldPlan(field, writer, c -> DefaultValues.doubleValue(c.random()));
+        } else if (type == boolean.class) {
+            return new BooleanFieldPlan(field, writer, c -> DefaultValues.booleanValue(c.random()));
+        }
+        return null;
+    }
+
+    /**
+     * Generates a value and assigns it to the field of the given instance.
+     *
+     * @param instance The object instance containing the field.
+     * @param context  The context of the current generation.
+     */
+    public abstract void apply(Object instance, GenerationContext context);
+
+    /**
+     * Generates a value for the field without assigning it, boxed if the field is primitive. Used to construct the
+     * instances of immutable classes from the values of their fields.
+     *
+     * @param context The context of the current generation.
+     * @return The generated value.
+     */
+    public abstract Object generate(GenerationContext context);
+
+    /**
+     * Generates new values for the field of an instance that was already populated, reusing the objects it
+     * references where possible. Defaults to {@link #apply(Object, GenerationContext)}: the field gets a new value.
+     *
+     * @param instance The object instance containing the field.
+     * @param context  The context of the current generation.
+     */
+    public void populate(final Object instance, final GenerationContext context) {
+        apply(instance, context);
+    }
+
+    /**
+     * Returns the generator producing the values of the field, typed after the kind of plan
+     * (a {@link FieldGenerator} for reference fields, a {@link FieldGenerator.OfInt} for {@code int} fields, etc.).
+     *
+     * @return The generator of the field.
+     */
+    public abstract Object getGenerator();
+
+    public Field getField() {
+        return field;
+    }
+
+    public FieldWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Plan for reference fields, left {@code null} at the rate given by a
+     * {@link com.inad.dummyobjects.annotation.NullRate}.
+     */
+    public static class ObjectFieldPlan extends FieldPlan {
+
+        protected final FieldGenerator values;
+        protected final double nullRate;
+        private final FieldGenerator generator;
+
+        public ObjectFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator generator) {
+            this(field, writer, generator, 0);
+        }
+
+        /**
+         * @param field    The field.
+         * @param writer   The writer of the field.
+         * @param values   The generator of the values of the field.
+         * @param nullRate The probability of the field being {@code null} instead.
+         */
+        public ObjectFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator values,
+                               final double nullRate) {
+            super(field, writer);
+            this.values = values;
+            this.nullRate = nullRate;
+            this.generator = nullRate > 0 ? c -> c.random().nextDouble() < nullRate ? null : values.generate(c)
+                    : values;
+        }
+
+        @Override
+        public void apply(final Object instance, final GenerationContext context) {
+            writer.set(instance, generator.generate(context));
+        }
+
+        @Override
+        public Object generate(final GenerationContext context) {
+            return generator.generate(context);
+        }
+
+        /**
+         * Returns the generator of the field, which produces {@code null} at the null rate of the field.
+         *
+         * @return The generator of the field.
+         */
+        @Override
+        public FieldGenerator getGenerator() {
+            return generator;
+        }
+
+        public double getNullRate() {
+            return nullRate;
+        }
+
+        /**
+         * Draws whether the field is left {@code null}, for the callers generating the values of nested fields
+         * without their generator.
+         *
+         * @param context The context of the current generation.
+         * @return {@code true} if the field should be {@code null}.
+         */
+        public boolean nextNull(final GenerationContext context) {
+            return nullRate > 0 && context.random().nextDouble() < nullRate;
+        }
+
+        /**
+         * Returns the same plan, leaving the field {@code null} at the given rate.
+         */
+        ObjectFieldPlan withNullRate(final double rate) {
+            return new ObjectFieldPlan(field, writer, values, rate);
+        }
+    }
+
+    /**
+     * Plan for fields generated as nested dummy objects. Populating it again populates the nested object in place,
+     * if there is one of the field type.
+     */
+    public static class NestedFieldPlan extends ObjectFieldPlan {
+
+        public NestedFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator generator) {
+            this(field, writer, generator, 0);
+        }
+
+        public NestedFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator values,
+                               final double nullRate) {
+            super(field, writer, values, nullRate);
+        }
+
+        @Override
+        public void populate(final Object instance, final GenerationContext context) {
+            if (nextNull(context)) {
+                writer.set(instance, null);
+                return;
+            }
+            final Object current = writer.get(instance);
+            if (current != null && current.getClass() == field.getType()) {
+                final Object populated = context.populate(current);
+                if (populated != current) {
+                    writer.set(instance, populated);
+                }
+            } else {
+                writer.set(instance, values.generate(context));
+            }
+        }
+
+        @Override
+        NestedFieldPlan withNullRate(final double rate) {
+            return new NestedFieldPlan(field, writer, values, rate);
+        }
+    }
+
+    /**
+     * Plan for the fields holding a collection of nested objects. Populating it again refills an {@link ArrayList} in
+     * place: its elements of the element type are populated again, the others are removed, and the missing ones are
+     * created, up to a size drawn from the collection size distribution of the factory, or from the
+     * {@link com.inad.dummyobjects.annotation.Size} of the field. Any other collection is replaced.
+     */
+    public static class ListFieldPlan extends ObjectFieldPlan {
+
+        private final Class<?> elementType;
+        private final ToIntFunction<GenerationContext> sizes;
+
+        public ListFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator generator,
+                             final Class<?> elementType) {
+            this(field, writer, generator, elementType, GenerationContext::nextCollectionSize, 0);
+        }
+
+        /**
+         * @param field       The field.
+         * @param writer      The writer of the field.
+         * @param values      The generator of the collections of the field.
+         * @param elementType The class of the nested objects.
+         * @param sizes       The distribution of the sizes of the collections, the one {@code values} draws from.
+         * @param nullRate    The probability of the field being {@code null} instead.
+         */
+        public ListFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator values,
+                             final Class<?> elementType, final ToIntFunction<GenerationContext> sizes,
+                             final double nullRate) {
+            super(field, writer, values, nullRate);
+            this.elementType = elementType;
+            this.sizes = sizes;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void populate(final Object instance, final GenerationContext context) {
+            if (nextNull(context)) {
+                writer.set(instance, null);
+                return;
+            }
+            if (!(writer.get(instance) instanceof ArrayList<?> current)) {
+                writer.set(instance, values.generate(context));
+                return;
+            }
+            final ArrayList<Object> list = (ArrayList<Object>) current;
+            final int size = sizes.applyAsInt(context);
+            int kept = 0;
+            for (int i = 0; i < list.size() && kept < size; i++) {
+                final Object element = list.get(i);
+                if (element != null && element.getClass() == elementType) {
+                    list.set(kept++, context.populate(element));
+                }
+            }
+            list.subList(kept, list.size()).clear();
+            if (kept < size) {
+                list.addAll(context.create(elementType, size - kept));
+            }
+        }
+
+        public Class<?> getElementType() {
+            return elementType;
+        }
+
+        /**
+         * Draws the size of a collection of the field.
+         *
+         * @param context The context of the current generation.
+         * @return A non-negative size.
+         */
+        public int nextSize(final GenerationContext context) {
+            return sizes.applyAsInt(context);
+        }
+
+        @Override
+        ListFieldPlan withNullRate(final double rate) {
+            return new ListFieldPlan(field, writer, values, elementType, sizes, rate);
+        }
+    }
+
+    /**
+     * Plan for {@code int} fields.
+     */
+    public static class IntFieldPlan extends FieldPlan {
+
+        private final FieldGenerator.OfInt generator;
+
+        public IntFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator.OfInt generator) {
+            super(field, writer);
+            this.generator = generator;
+        }
+
+        @Override
+        public void apply(final Object instance, final GenerationContext context) {
+            writer.setInt(instance, generator.generateInt(context));
+        }
+
+        @Override
+        public Object generate(final GenerationContext context) {
+            return generator.generateInt(context);
+        }
+
+        @Override
+        public FieldGenerator.OfInt getGenerator() {
+            return generator;
+        }
+    }
+
+    /**
+     * Plan for {@code long} fields.
+     */
+    public static class LongFieldPlan extends FieldPlan {
+
+        private final FieldGenerator.OfLong generator;
+
+        public LongFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator.OfLong generator) {
+            super(field, writer);
+            this.generator = generator;
+        }
+
+        @Override
+        public void apply(final Object instance, final GenerationContext context) {
+            writer.setLong(instance, generator.generateLong(context));
+        }
+
+        @Override
+        public Object generate(final GenerationContext context) {
+            return generator.generateLong(context);
+        }
+
+        @Override
+        public FieldGenerator.OfLong getGenerator() {
+            return generator;
+        }
+    }
+
+    /**
+     * Plan for {@code float} fields.
+     */
+    public static class FloatFieldPlan extends FieldPlan {
+
+        private final FieldGenerator.OfFloat generator;
+
+        public FloatFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator.OfFloat generator) {
+            super(field, writer);
+            this.generator = generator;
+        }
+
+        @Override
+        public void apply(final Object instance, final GenerationContext context) {
+            writer.setFloat(instance, generator.generateFloat(context));
+        }
+
+        @Override
+        public Object generate(final GenerationContext context) {
+            return generator.generateFloat(context);
+        }
+
+        @Override
+        public FieldGenerator.OfFloat getGenerator() {
+            return generator;
+        }
+    }
+
+    /**
+     * Plan for {@code double} fields.
+     */
+    public static class DoubleFieldPlan extends FieldPlan {
+
+        private final FieldGenerator.OfDouble generator;
+
+        public DoubleFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator.OfDouble generator) {
+            super(field, writer);
+            this.generator = generator;
+        }
+
+        @Override
+        public void apply(final Object instance, final GenerationContext context) {
+            writer.setDouble(instance, generator.generateDouble(context));
+        }
+
+        @Override
+        public Object generate(final GenerationContext context) {
+            return generator.generateDouble(context);
+        }
+
+        @Override
+        public FieldGenerator.OfDouble getGenerator() {
+            return generator;
+        }
+    }
+
+    /**
+     * Plan for {@code boolean} fields.
+     */
+    public static class BooleanFieldPlan extends FieldPlan {
+
+        private final FieldGenerator.OfBoolean generator;
+
+        public BooleanFieldPlan(final Field field, final FieldWriter writer, final FieldGenerator.OfBoolean generator) {
+            super(field, writer);
+            this.generator = generator;
+        }
+
+        @Override
+        public void apply(final Object instance, final GenerationContext context) {
+            writer.setBoolean(instance, generator.generateBoolean(context));
+        }
+
+        @Override
+        public Object generate(final GenerationContext context) {
+            return generator.generateBoolean(context);
+        }
+
+        @Override
+        public FieldGenerator.OfBoolean getGenerator() {
+            return generator;
+        }
+    }
+
+}
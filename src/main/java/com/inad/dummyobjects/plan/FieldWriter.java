@@ -0,0 +1,189 @@
+package com.inad.dummyobjects.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Writes values into a single field through a {@link MethodHandle} setter.
+ * <p>
+ * The setter is resolved once and adapted to an exact signature: {@code (Object, int)void} for an
+ * {@code int} field, {@code (Object, Object)void} for a reference field, and so on. Primitive values
+ * are therefore written without boxing, and the access check is done only once when the setter is
+ * resolved instead of on every write as {@link Field#set(Object, Object)} does.
+ * </p>
+ * <p>
+ * Each typed method may only be called for a field of the matching type; calling e.g.
+ * {@link #setInt(Object, int)} on a {@code long} field fails with a
+ * {@link java.lang.invoke.WrongMethodTypeException}.
+ * </p>
+ */
+public class FieldWriter {
+
+    private final MethodHandle setter;
+    private final MethodHandle getter;
+
+    private FieldWriter(final MethodHandle setter, final MethodHandle getter) {
+        this.setter = setter;
+        this.getter = getter;
+    }
+
+    /**
+     * Resolves the writer for the given field.
+     * <p>
+     * A setter handle is used rather than a {@link java.lang.invoke.VarHandle} because the latter is
+     * read-only for {@code final} fields, which {@link Field#set(Object, Object)} can write once the
+     * field is accessible.
+     * </p>
+     *
+     * @param field The field to write, already made accessible if it is not public.
+     * @return The writer for the field; for a {@code final} field that cannot be written (e.g. a record component),
+     * a writer whose setters throw an {@link UnsupportedOperationException}.
+     * @throws IllegalAccessException if the field is not accessible.
+     */
+    public static FieldWriter of(final Field field) throws IllegalAccessException {
+        final Class<?> valueType = field.getType().isPrimitive() ? field.getType() : Object.class;
+        MethodHandle setter;
+        try {
+            setter = MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            if (!Modifier.isFinal(field.getModifiers())) {
+                throw e;
+            }
+            setter = readOnly(field);
+        }
+        setter = setter.asType(MethodType.methodType(void.class, Object.class, valueType));
+        final MethodHandle getter = MethodHandles.lookup()
+                .unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+        return new FieldWriter(setter, getter);
+    }
+
+    /**
+     * Reads the current value of the field, boxed if it is primitive. Used to reuse the objects an instance
+     * already references when it is populated again.
+     *
+     * @param instance The object instance containing the field.
+     * @return The value of the field.
+     */
+    public Object get(final Object instance) {
+        try {
+            return getter.invokeExact(instance);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes a reference value.
+     *
+     * @param instance The object instance containing the field.
+     * @param value    The value to write.
+     */
+    public void set(final Object instance, final Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes an {@code int} value.
+     *
+     * @param instance The object instance containing the field.
+     * @param value    The value to write.
+     */
+    public void setInt(final Object instance, final int value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes a {@code long} value.
+     *
+     * @param instance The object instance containing the field.
+     * @param value    The value to write.
+     */
+    public void setLong(final Object instance, final long value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes a {@code float} value.
+     *
+     * @param instance The object instance containing the field.
+     * @param value    The value to write.
+     */
+    public void setFloat(final Object instance, final float value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes a {@code double} value.
+     *
+     * @param instance The object instance containing the field.
+     * @param value    The value to write.
+     */
+    public void setDouble(final Object instance, final double value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Writes a {@code boolean} value.
+     *
+     * @param instance The object instance containing the field.
+     * @param value    The value to write.
+     */
+    public void setBoolean(final Object instance, final boolean value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Returns a setter of the given field throwing an {@link UnsupportedOperationException}.
+     */
+    private static MethodHandle readOnly(final Field field) throws IllegalAccessException {
+        final MethodHandle exception;
+        try {
+            exception = MethodHandles.lookup().findConstructor(UnsupportedOperationException.class,
+                    MethodType.methodType(void.class, String.class)).bindTo("Read-only field: " + field);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        final MethodHandle fail = MethodHandles.foldArguments(
+                MethodHandles.throwException(void.class, UnsupportedOperationException.class), exception);
+        return MethodHandles.dropArguments(fail, 0, field.getDeclaringClass(), field.getType());
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new RuntimeException(t);
+    }
+
+}
@@ -0,0 +1,239 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pre-resolved recipe for generating instances of a class.
+ * <p>
+ * The {@link Instantiator} and the fields of the class (including the fields declared by its superclasses)
+ * are resolved once, and each field gets its {@link FieldGenerator}. Creating an instance then only
+ * runs the plan, without any further reflection lookups or type inspection.
+ * </p>
+ * <p>
+ * A class with a no-arg constructor is instantiated first and its fields are assigned one by one. Records and
+ * immutable classes are constructed from the generated values of their fields instead, through their canonical
+ * constructor, an all-args constructor or a builder; such instances are not {@link #isMutable() mutable}, and cannot
+ * be populated again in place.
+ * </p>
+ *
+ * @param <T> The type of the objects created by this plan.
+ */
+public class GenerationPlan<T> implements InstanceCreator<T> {
+
+    private final Class<T> type;
+    private final Instantiator instantiator;
+    private final FieldPlan[] fields;
+    private final int[] arguments;
+    private final Object[] defaults;
+    private final InstanceCreator<T> creator;
+
+    private GenerationPlan(final Class<T> type, final Instantiator instantiator, final FieldPlan[] fields,
+                           final InstanceCreator<T> creator) {
+        this.type = type;
+        this.instantiator = instantiator;
+        this.fields = fields;
+        this.creator = creator;
+        final List<Field> parameters = Arrays.asList(instantiator.getParameters());
+        this.arguments = new int[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            arguments[i] = parameters.indexOf(fields[i].getField());
+        }
+        this.defaults = new Object[parameters.size()];
+        for (int i = 0; i < defaults.length; i++) {
+            final Class<?> parameter = parameters.get(i).getType();
+            defaults[i] = parameter.isPrimitive() ? Array.get(Array.newInstance(parameter, 1), 0) : null;
+        }
+    }
+
+    /**
+     * Builds the plan for the given class.
+     * <p>
+     * Static and synthetic fields are skipped, as well as primitive fields with no supported generator.
+     * </p>
+     *
+     * @param type The class to build the plan for.
+     * @param <T>  The type of the class.
+     * @return The generation plan for {@code type}.
+     * @throws NoSuchMethodException  if the class can be constructed by none of the strategies of
+     *                                {@link Instantiator}.
+     * @throws IllegalAccessException if a field or the constructor cannot be accessed.
+     */
+    public static <T> GenerationPlan<T> of(final Class<T> type)
+            throws NoSuchMethodException, IllegalAccessException {
+        final List<Field> instanceFields = new ArrayList<>();
+        final List<FieldPlan> plans = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+                field.trySetAccessible();
+                instanceFields.add(field);
+                final FieldPlan plan = FieldPlan.of(field);
+                if (plan != null) {
+                    plans.add(plan);
+                }
+            }
+        }
+        return new GenerationPlan<>(type, Instantiator.of(type, instanceFields), plans.toArray(new FieldPlan[0]),
+                null);
+    }
+
+    /**
+     * Returns a plan that creates instances through a hidden class generated for this plan
+     * (see {@link HiddenClassCreators}).
+     *
+     * @return The specialized plan, or this plan if the class cannot be specialized (e.g. it is not mutable).
+     */
+    public GenerationPlan<T> specialized() {
+        if (creator != null || !isMutable()) {
+            return this;
+        }
+        final InstanceCreator<T> generated;
+        try {
+            generated = HiddenClassCreators.define(this);
+        } catch (LinkageError e) {
+            // the optional ASM dependency is not on the class path
+            return this;
+        }
+        return generated == null ? this : new GenerationPlan<>(type, instantiator, fields, generated);
+    }
+
+    /**
+     * Checks whether this plan creates instances through a generated hidden class.
+     *
+     * @return {@code true} if the plan is specialized.
+     */
+    public boolean isSpecialized() {
+        return creator != null;
+    }
+
+    /**
+     * Creates a new instance and populates all of its planned fields.
+     *
+     * @param context The context of the current generation, providing the random generator.
+     * @return A new instance of the planned class with populated fields.
+     * @throws RuntimeException if instantiation fails.
+     */
+    @Override
+    public T create(final GenerationContext context) {
+        if (creator != null) {
+            return creator.create(context);
+        } else if (!isMutable()) {
+            return construct(context);
+        }
+        final T instance = newInstance();
+        context.register(instance);
+        for (FieldPlan field : fields) {
+            field.apply(instance, context);
+        }
+        return instance;
+    }
+
+    /**
+     * Generates the values of all the planned fields, then constructs the instance from them.
+     */
+    private T construct(final GenerationContext context) {
+        final Object[] values = newArguments();
+        for (int i = 0; i < fields.length; i++) {
+            values[arguments[i]] = fields[i].generate(context);
+        }
+        final T instance = construct(values);
+        context.register(instance);
+        return instance;
+    }
+
+    /**
+     * Checks whether the instances are created through a no-arg constructor, their fields being assigned afterwards,
+     * so that they can be populated again in place.
+     *
+     * @return {@code true} if the planned class is instantiated through its no-arg constructor.
+     */
+    public boolean isMutable() {
+        return instantiator.getStrategy() == Instantiator.Strategy.NO_ARG_CONSTRUCTOR;
+    }
+
+    /**
+     * Populates an existing instance again, reusing the nested objects and list elements it references
+     * (see {@link FieldPlan#populate(Object, GenerationContext)}).
+     *
+     * @param instance The instance to populate, of the planned class.
+     * @param context  The context of the current generation, providing the random generator.
+     * @throws UnsupportedOperationException if the plan is not {@link #isMutable() mutable}.
+     */
+    public void populate(final T instance, final GenerationContext context) {
+        if (!isMutable()) {
+            throw new UnsupportedOperationException(type.getName() + " instances are immutable");
+        }
+        for (FieldPlan field : fields) {
+            field.populate(instance, context);
+        }
+    }
+
+    /**
+     * Creates a new instance through the no-arg constructor, without populating its fields.
+     *
+     * @return A new instance of the planned class.
+     * @throws UnsupportedOperationException if the plan is not {@link #isMutable() mutable}.
+     * @throws RuntimeException              if instantiation fails.
+     */
+    public T newInstance() {
+        return type.cast(instantiator.newInstance());
+    }
+
+    /**
+     * Returns the arguments constructing an instance whose fields hold their default value ({@code 0},
+     * {@code false} or {@code null}), to be completed before calling {@link #construct(Object[])}.
+     *
+     * @return A new array holding an argument per {@link Instantiator#getParameters() parameter}.
+     */
+    public Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    /**
+     * Returns the index of the argument holding the value of the given field.
+     *
+     * @param field The plan of a field of this plan.
+     * @return The index of its argument, or {@code -1} if the plan is {@link #isMutable() mutable}.
+     */
+    public int argumentIndex(final FieldPlan field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == field) {
+                return arguments[i];
+            }
+        }
+        throw new IllegalArgumentException("Not a field of the plan: " + field.getField());
+    }
+
+    /**
+     * Constructs an instance of an immutable class from the values of its fields.
+     *
+     * @param values The arguments, initialized by {@link #newArguments()}.
+     * @return A new instance of the planned class.
+     * @throws UnsupportedOperationException if the plan is {@link #isMutable() mutable}.
+     */
+    public T construct(final Object[] values) {
+        return type.cast(instantiator.construct(values));
+    }
+
+    public Instantiator getInstantiator() {
+        return instantiator;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public FieldPlan[] getFields() {
+        return fields.clone();
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodHandles.Lookup.ClassOption.NESTMATE;
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Spins a hidden class per {@link GenerationPlan} that creates instances with plain bytecode.
+ * <p>
+ * The generated class is defined as a nestmate of the planned type, so it calls the no-arg constructor
+ * and assigns the fields with {@code new}/{@code putfield} instructions, exactly like hand-written code
+ * would, including for private members. The generators of the plan are held in final fields of the hidden
+ * class, which the JIT trusts as constants. Fields that cannot be assigned directly (final fields, or fields
+ * declared by a superclass outside the nest of the type) are populated by calling their {@link FieldPlan}.
+ * </p>
+ * <p>
+ * The class file is written with ASM, an optional dependency: when it is not on the class path, or when the
+ * type cannot be specialized (no private access to it, a class loader that does not see this library, etc.),
+ * {@link #define(GenerationPlan)} returns {@code null} and the reflective path is used instead.
+ * </p>
+ */
+public class HiddenClassCreators {
+
+    private static final String CREATOR_SUFFIX = "$$DummyCreator";
+    private static final String GENERATOR_FIELD = "g";
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String CREATOR = Type.getInternalName(InstanceCreator.class);
+    private static final String FIELD_PLAN = Type.getInternalName(FieldPlan.class);
+    private static final String CONTEXT = Type.getDescriptor(GenerationContext.class);
+
+    private HiddenClassCreators() {
+    }
+
+    /**
+     * Defines the hidden class creating instances for the given plan.
+     *
+     * @param plan The plan to specialize.
+     * @param <T>  The type of the planned class.
+     * @return The creator backed by the hidden class, or {@code null} if the type cannot be specialized.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> InstanceCreator<T> define(final GenerationPlan<T> plan) {
+        final Class<T> type = plan.getType();
+        final FieldPlan[] fields = plan.getFields();
+        if (Modifier.isAbstract(type.getModifiers()) || !isVisible(type, InstanceCreator.class)) {
+            return null;
+        }
+        try {
+            final Object[] generators = new Object[fields.length];
+            final Class<?>[] generatorTypes = new Class<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                final boolean direct = isDirectlyWritable(type, fields[i].getField());
+                generators[i] = direct ? fields[i].getGenerator() : fields[i];
+                generatorTypes[i] = direct ? generatorType(fields[i]) : FieldPlan.class;
+            }
+
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            final byte[] bytes = generate(type, fields, generatorTypes);
+            final Class<?> creator = lookup.defineHiddenClass(bytes, true, NESTMATE).lookupClass();
+            return (InstanceCreator<T>) lookup
+                    .findConstructor(creator, MethodType.methodType(void.class, Object[].class))
+                    .invoke(generators);
+        } catch (LinkageError | IllegalAccessException e) {
+            // ASM is missing or the type cannot be specialized: keep the reflective path
+            return null;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    /**
+     * Writes the class file of the hidden class.
+     *
+     * @param type           The planned class.
+     * @param fields         The plans of its fields.
+     * @param generatorTypes The declared type of the generator held for each field.
+     * @return The class file bytes.
+     */
+    private static byte[] generate(final Class<?> type, final FieldPlan[] fields, final Class<?>[] generatorTypes) {
+        final String target = Type.getInternalName(type);
+        final String name = target + CREATOR_SUFFIX;
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        cw.visit(V17, ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, null, OBJECT, new String[]{CREATOR});
+        for (int i = 0; i < fields.length; i++) {
+            cw.visitField(ACC_PRIVATE | ACC_FINAL, GENERATOR_FIELD + i, Type.getDescriptor(generatorTypes[i]),
+                    null, null).visitEnd();
+        }
+
+        // <init>(Object[] generators): stores each generator in its typed final field
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "([Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        for (int i = 0; i < fields.length; i++) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(generatorTypes[i]));
+            mv.visitFieldInsn(PUTFIELD, name, GENERATOR_FIELD + i, Type.getDescriptor(generatorTypes[i]));
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // create(GenerationContext context): new T(), registered in the context, then assigns every field
+        mv = cw.visitMethod(ACC_PUBLIC, "create", "(" + CONTEXT + ")Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, target);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, target, "<init>", "()V", false);
+        mv.visitVarInsn(ASTORE, 2);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(GenerationContext.class), "register",
+                "(Ljava/lang/Object;)V", false);
+        for (int i = 0; i < fields.length; i++) {
+            final String generator = Type.getInternalName(generatorTypes[i]);
+            final String generatorDescriptor = Type.getDescriptor(generatorTypes[i]);
+            if (generatorTypes[i] == FieldPlan.class) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, GENERATOR_FIELD + i, generatorDescriptor);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitMethodInsn(INVOKEVIRTUAL, FIELD_PLAN, "apply", "(Ljava/lang/Object;" + CONTEXT + ")V", false);
+                continue;
+            }
+            final Field field = fields[i].getField();
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, name, GENERATOR_FIELD + i, generatorDescriptor);
+            mv.visitVarInsn(ALOAD, 1);
+            emitGenerate(mv, generator, field.getType());
+            mv.visitFieldInsn(PUTFIELD, Type.getInternalName(field.getDeclaringClass()), field.getName(),
+                    Type.getDescriptor(field.getType()));
+        }
+        mv.visitVarInsn(ALOAD, 2);
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    /**
+     * Emits the call to the generator below the context on top of the stack, leaving a value of the field type.
+     *
+     * @param mv        The method being written.
+     * @param generator The internal name of the generator type.
+     * @param fieldType The type of the field being assigned.
+     */
+    private static void emitGenerate(final MethodVisitor mv, final String generator, final Class<?> fieldType) {
+        if (fieldType == int.class) {
+            mv.visitMethodInsn(INVOKEINTERFACE, generator, "generateInt", "(" + CONTEXT + ")I", true);
+        } else if (fieldType == long.class) {
+            mv.visitMethodInsn(INVOKEINTERFACE, generator, "generateLong", "(" + CONTEXT + ")J", true);
+        } else if (fieldType == float.class) {
+            mv.visitMethodInsn(INVOKEINTERFACE, generator, "generateFloat", "(" + CONTEXT + ")F", true);
+        } else if (fieldType == double.class) {
+            mv.visitMethodInsn(INVOKEINTERFACE, generator, "generateDouble", "(" + CONTEXT + ")D", true);
+        } else if (fieldType == boolean.class) {
+            mv.visitMethodInsn(INVOKEINTERFACE, generator, "generateBoolean", "(" + CONTEXT + ")Z", true);
+        } else {
+            mv.visitMethodInsn(INVOKEINTERFACE, generator, "generate", "(" + CONTEXT + ")Ljava/lang/Object;", true);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(fieldType));
+        }
+    }
+
+    /**
+     * Returns the declared type of the generator held by the given field plan.
+     *
+     * @param plan The field plan.
+     * @return The functional interface implemented by the generator of the plan.
+     */
+    private static Class<?> generatorType(final FieldPlan plan) {
+        if (plan instanceof FieldPlan.IntFieldPlan) {
+            return FieldGenerator.OfInt.class;
+        } else if (plan instanceof FieldPlan.LongFieldPlan) {
+            return FieldGenerator.OfLong.class;
+        } else if (plan instanceof FieldPlan.FloatFieldPlan) {
+            return FieldGenerator.OfFloat.class;
+        } else if (plan instanceof FieldPlan.DoubleFieldPlan) {
+            return FieldGenerator.OfDouble.class;
+        } else if (plan instanceof FieldPlan.BooleanFieldPlan) {
+            return FieldGenerator.OfBoolean.class;
+        }
+        return FieldGenerator.class;
+    }
+
+    /**
+     * Checks whether a nestmate of {@code type} can assign the field with a plain {@code putfield}.
+     *
+     * @param type  The planned class.
+     * @param field The field to assign.
+     * @return {@code true} if the field can be assigned directly.
+     */
+    private static boolean isDirectlyWritable(final Class<?> type, final Field field) {
+        return !Modifier.isFinal(field.getModifiers())
+                && field.getDeclaringClass().isNestmateOf(type)
+                && isVisible(type, field.getType());
+    }
+
+    /**
+     * Checks whether {@code other} can be resolved and accessed from code living in the package of {@code type}.
+     *
+     * @param type  The planned class.
+     * @param other The class referenced by the generated code.
+     * @return {@code true} if the generated code can reference {@code other}.
+     */
+    private static boolean isVisible(final Class<?> type, final Class<?> other) {
+        if (other.isPrimitive()) {
+            return true;
+        }
+        try {
+            if (Class.forName(other.getName(), false, type.getClassLoader()) != other) {
+                return false;
+            }
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+        if (other.getPackageName().equals(type.getPackageName())) {
+            return true;
+        }
+        for (Class<?> current = other; current != null; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
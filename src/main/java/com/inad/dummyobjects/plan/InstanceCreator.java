@@ -0,0 +1,24 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+
+/**
+ * Creates fully populated instances of a class.
+ * <p>
+ * This is the contract shared by the reflective {@link GenerationPlan}s, the hidden classes spun by
+ * {@link HiddenClassCreators} and the factories generated at compile time.
+ * </p>
+ *
+ * @param <T> The type of the created objects.
+ */
+public interface InstanceCreator<T> {
+
+    /**
+     * Creates a new instance with all of its planned fields populated.
+     *
+     * @param context The context of the current generation, providing the random generator.
+     * @return A new populated instance.
+     */
+    T create(GenerationContext context);
+
+}
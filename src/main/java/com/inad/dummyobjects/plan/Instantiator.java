@@ -0,0 +1,213 @@
+package com.inad.dummyobjects.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Constructs the instances of a class, through the strategy resolved once for the class.
+ * <p>
+ * The strategy is picked in the following order, and resolved into {@link MethodHandle}s:
+ * </p>
+ * <ul>
+ *     <li>{@link Strategy#CANONICAL_CONSTRUCTOR} for records;</li>
+ *     <li>{@link Strategy#NO_ARG_CONSTRUCTOR} for classes declaring a no-arg constructor, whose fields are then
+ *     assigned one by one;</li>
+ *     <li>{@link Strategy#ALL_ARGS_CONSTRUCTOR} for classes declaring a constructor taking all of their fields in
+ *     declaration order, as Lombok's {@code @AllArgsConstructor} and {@code @Value} generate;</li>
+ *     <li>{@link Strategy#BUILDER} for classes with a static {@code builder()} method returning a builder with a
+ *     method named after each field and a {@code build()} method, as Lombok's {@code @Builder} generates.</li>
+ * </ul>
+ * <p>
+ * With the last three, the values of all the fields are generated first, and the instance is constructed from them
+ * in a single call, without assigning any field afterwards: immutable classes are supported.
+ * </p>
+ */
+public final class Instantiator {
+
+    /**
+     * How the instances of a class are constructed.
+     */
+    public enum Strategy {
+        NO_ARG_CONSTRUCTOR, CANONICAL_CONSTRUCTOR, ALL_ARGS_CONSTRUCTOR, BUILDER
+    }
+
+    private final Strategy strategy;
+    private final Field[] parameters;
+    private final MethodHandle handle;
+    private final MethodHandle[] setters;
+    private final MethodHandle build;
+
+    private Instantiator(final Strategy strategy, final Field[] parameters, final MethodHandle handle,
+                         final MethodHandle[] setters, final MethodHandle build) {
+        this.strategy = strategy;
+        this.parameters = parameters;
+        this.handle = handle;
+        this.setters = setters;
+        this.build = build;
+    }
+
+    /**
+     * Resolves the strategy constructing the instances of the given class.
+     *
+     * @param type   The class to construct.
+     * @param fields The instance fields of the class, superclass fields included, in declaration order.
+     * @return The instantiator of {@code type}.
+     * @throws NoSuchMethodException  if the class supports none of the strategies.
+     * @throws IllegalAccessException if the constructor or the builder cannot be accessed.
+     */
+    static Instantiator of(final Class<?> type, final List<Field> fields)
+            throws NoSuchMethodException, IllegalAccessException {
+        if (type.isRecord()) {
+            final RecordComponent[] components = type.getRecordComponents();
+            final Class<?>[] types = new Class<?>[components.length];
+            final Field[] parameters = new Field[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                parameters[i] = field(fields, components[i].getName());
+            }
+            return constructor(Strategy.CANONICAL_CONSTRUCTOR, type.getDeclaredConstructor(types), parameters);
+        }
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                constructor.trySetAccessible();
+                final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class));
+                return new Instantiator(Strategy.NO_ARG_CONSTRUCTOR, new Field[0], handle, null, null);
+            }
+        }
+        final Field[] parameters = fields.toArray(new Field[0]);
+        final Class<?>[] types = Arrays.stream(parameters).map(Field::getType).toArray(Class<?>[]::new);
+        try {
+            return constructor(Strategy.ALL_ARGS_CONSTRUCTOR, type.getDeclaredConstructor(types), parameters);
+        } catch (NoSuchMethodException e) {
+            // no all-args constructor, look for a builder
+        }
+        final Instantiator builder = builder(type, parameters);
+        if (builder == null) {
+            throw new NoSuchMethodException(type.getName() + " has no no-arg constructor, no constructor taking all"
+                    + " of its fields and no builder");
+        }
+        return builder;
+    }
+
+    private static Field field(final List<Field> fields, final String name) throws NoSuchMethodException {
+        for (Field field : fields) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new NoSuchMethodException("No field for the record component " + name);
+    }
+
+    private static Instantiator constructor(final Strategy strategy, final Constructor<?> constructor,
+                                            final Field[] parameters) throws IllegalAccessException {
+        constructor.trySetAccessible();
+        final MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                .asType(MethodType.genericMethodType(parameters.length))
+                .asSpreader(Object[].class, parameters.length);
+        return new Instantiator(strategy, parameters, handle, null, null);
+    }
+
+    private static Instantiator builder(final Class<?> type, final Field[] parameters) throws IllegalAccessException {
+        final Method builder;
+        final Method build;
+        final MethodHandle[] setters = new MethodHandle[parameters.length];
+        try {
+            builder = type.getDeclaredMethod("builder");
+            build = builder.getReturnType().getMethod("build");
+            for (int i = 0; i < parameters.length; i++) {
+                final Method setter = builder.getReturnType()
+                        .getMethod(parameters[i].getName(), parameters[i].getType());
+                setter.trySetAccessible();
+                setters[i] = MethodHandles.lookup().unreflect(setter)
+                        .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            }
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (!Modifier.isStatic(builder.getModifiers()) || !type.isAssignableFrom(build.getReturnType())) {
+            return null;
+        }
+        builder.trySetAccessible();
+        build.trySetAccessible();
+        return new Instantiator(Strategy.BUILDER, parameters,
+                MethodHandles.lookup().unreflect(builder).asType(MethodType.methodType(Object.class)), setters,
+                MethodHandles.lookup().unreflect(build).asType(MethodType.methodType(Object.class, Object.class)));
+    }
+
+    /**
+     * Creates an instance through the no-arg constructor.
+     *
+     * @return A new instance, with its fields left to their initial values.
+     * @throws UnsupportedOperationException if the strategy is not {@link Strategy#NO_ARG_CONSTRUCTOR}.
+     */
+    Object newInstance() {
+        if (strategy != Strategy.NO_ARG_CONSTRUCTOR) {
+            throw new UnsupportedOperationException("Instances are constructed through the " + strategy);
+        }
+        try {
+            return handle.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * Constructs an instance from the values of its fields.
+     *
+     * @param arguments The values of the {@link #getParameters() parameters}, in order, primitives boxed.
+     * @return A new instance.
+     * @throws UnsupportedOperationException if the strategy is {@link Strategy#NO_ARG_CONSTRUCTOR}.
+     */
+    Object construct(final Object[] arguments) {
+        try {
+            switch (strategy) {
+                case CANONICAL_CONSTRUCTOR, ALL_ARGS_CONSTRUCTOR -> {
+                    return handle.invokeExact(arguments);
+                }
+                case BUILDER -> {
+                    Object builder = handle.invokeExact();
+                    for (int i = 0; i < setters.length; i++) {
+                        builder = setters[i].invokeExact(builder, arguments[i]);
+                    }
+                    return build.invokeExact(builder);
+                }
+                default -> throw new UnsupportedOperationException("Instances are created empty by the " + strategy);
+            }
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the fields whose values are passed to {@link #construct(Object[])}, in order.
+     *
+     * @return The parameter fields, empty for the {@link Strategy#NO_ARG_CONSTRUCTOR}.
+     */
+    public Field[] getParameters() {
+        return parameters.clone();
+    }
+
+    private static RuntimeException rethrow(final Throwable t) {
+        if (t instanceof RuntimeException e) {
+            return e;
+        }
+        if (t instanceof Error e) {
+            throw e;
+        }
+        return new RuntimeException(t);
+    }
+
+}
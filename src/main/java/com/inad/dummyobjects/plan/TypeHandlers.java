@@ -0,0 +1,87 @@
+package com.inad.dummyobjects.plan;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the generators used for the fields of a given type.
+ * <p>
+ * The registry maps the exact class of a field to its generator and is consulted once per field, while the
+ * {@link GenerationPlan} is built, so the values are generated without any type inspection. It comes with
+ * handlers for the standard types (String, wrappers, BigDecimal, Date and the {@code java.time} types), and custom
+ * handlers can be registered for domain types such as money amounts or identifiers. Types with no handler are
+ * generated as nested dummy objects.
+ * </p>
+ * <p>
+ * A handler applies to the plans built after its registration, so it should be registered before the first
+ * creation of the classes using its type. Primitive fields and the factories generated at compile time do not
+ * consult the registry.
+ * </p>
+ */
+public class TypeHandlers {
+
+    private static final Map<Class<?>, FieldGenerator> HANDLERS = new ConcurrentHashMap<>();
+
+    static {
+        HANDLERS.put(String.class, c -> DefaultValues.string(c));
+        HANDLERS.put(Integer.class, c -> DefaultValues.intValue(c.random()));
+        HANDLERS.put(Long.class, c -> DefaultValues.longValue(c.random()));
+        HANDLERS.put(Float.class, c -> DefaultValues.floatValue(c.random()));
+        HANDLERS.put(Double.class, c -> DefaultValues.doubleValue(c.random()));
+        HANDLERS.put(Boolean.class, c -> DefaultValues.booleanValue(c.random()));
+        HANDLERS.put(BigDecimal.class, c -> DefaultValues.bigDecimal(c.random()));
+        HANDLERS.put(Date.class, c -> DefaultValues.date(c));
+        HANDLERS.put(Instant.class, c -> DefaultValues.instant(c));
+        HANDLERS.put(Timestamp.class, c -> DefaultValues.timestamp(c));
+        HANDLERS.put(LocalDate.class, c -> DefaultValues.localDate(c));
+        HANDLERS.put(LocalDateTime.class, c -> DefaultValues.localDateTime(c));
+        HANDLERS.put(LocalTime.class, c -> DefaultValues.localTime(c));
+    }
+
+    private TypeHandlers() {
+    }
+
+    /**
+     * Registers the generator of the fields of the given type, replacing any previous one.
+     *
+     * @param type      The exact class of the fields; subclasses and primitive types are not matched.
+     * @param generator The generator, producing instances of {@code type}.
+     * @param <T>       The type of the fields.
+     * @throws IllegalArgumentException if {@code type} is a primitive type.
+     */
+    public static <T> void register(final Class<T> type, final FieldGenerator generator) {
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("Primitive types cannot have a handler: " + type);
+        }
+        HANDLERS.put(type, Objects.requireNonNull(generator, "generator"));
+    }
+
+    /**
+     * Removes the generator registered for the given type, built-in ones included.
+     *
+     * @param type The class of the fields.
+     * @return {@code true} if a generator was registered for {@code type}.
+     */
+    public static boolean unregister(final Class<?> type) {
+        return HANDLERS.remove(type) != null;
+    }
+
+    /**
+     * Returns the generator registered for the given type.
+     *
+     * @param type The exact class of a field.
+     * @return The generator of {@code type}, or {@code null} if none is registered.
+     */
+    public static FieldGenerator find(final Class<?> type) {
+        return HANDLERS.get(type);
+    }
+
+}
@@ -0,0 +1,345 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.Unique;
+import com.inad.dummyobjects.random.IndexedRandom;
+import com.inad.dummyobjects.random.Permutation;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import static com.inad.dummyobjects.constants.Constants.STRING_LENGTH;
+import static com.inad.dummyobjects.constants.Constants.UNIQUE_ATTEMPTS;
+
+/**
+ * Plans of the {@link Unique} and {@link com.inad.dummyobjects.annotation.PrimaryKey} fields, resolved once per
+ * field by {@link FieldPlan}.
+ * <p>
+ * The integer, {@code String} and enum fields enumerate their value space: the {@code n}-th value of a field is the
+ * value at position {@code n} of a {@link Permutation} of the space, so the values are unique by construction, in
+ * constant time. The unseeded objects take the positions of a counter per factory and field, in a permutation keyed
+ * per factory. The seeded top-level objects take the position of their index in the permutation keyed by their seed,
+ * so their values only depend on the seed, the index and the field, and are unique among the objects of that seed;
+ * the unseeded objects and the objects of other seeds may take the same values.
+ * </p>
+ * <p>
+ * The other fields (with a pattern or a distribution, floating-point, etc.) draw their values again while they were
+ * already taken, up to {@link com.inad.dummyobjects.constants.Constants#UNIQUE_ATTEMPTS} times. The values taken
+ * are kept as 64-bit fingerprints in an open-addressing set of {@code long}s: two values sharing a fingerprint are
+ * taken as equal, which skips the second one but never repeats a value.
+ * </p>
+ * <p>
+ * Such a set, like the counter of a nested object, depends on the objects generated before, so neither can keep a
+ * seeded object reproducible: a seeded context rejects the unique fields drawing their values and the unique fields
+ * of nested objects.
+ * </p>
+ */
+final class UniqueGenerators {
+
+    private UniqueGenerators() {
+    }
+
+    /**
+     * Resolves the plan of a unique field.
+     *
+     * @param field  The field.
+     * @param writer The writer of the field.
+     * @return The plan generating distinct values.
+     * @throws IllegalArgumentException if the field is a collection, a map, an array, a nested object or a
+     *                                  {@code boolean}, or has invalid constraints.
+     */
+    static FieldPlan forField(final Field field, final FieldWriter writer) {
+        final Class<?> type = field.getType();
+        if (type.isArray() || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException("@Unique does not apply to collection, map and array fields: "
+                    + field);
+        }
+        if (!DistributionGenerators.hasDistribution(field) && !ConstraintGenerators.hasPattern(field)) {
+            final FieldPlan enumerated = enumerated(field, writer);
+            if (enumerated != null) {
+                return enumerated;
+            }
+        }
+        return drawn(field, writer, FieldPlan.resolve(field, writer));
+    }
+
+    private static FieldPlan enumerated(final Field field, final FieldWriter writer) {
+        final Class<?> type = field.getType();
+        if (type == int.class || type == Integer.class) {
+            final long[] range = integers(field, Integer.MIN_VALUE, Integer.MAX_VALUE);
+            final long min = range[0];
+            final long size = range[1] - min + 1;
+            final ToLongFunction<ObjectFactory> sizes = f -> size;
+            return type == int.class
+                    ? new FieldPlan.IntFieldPlan(field, writer, c -> (int) (min + next(field, c, sizes)))
+                    : new FieldPlan.ObjectFieldPlan(field, writer, c -> (int) (min + next(field, c, sizes)));
+        } else if (type == long.class || type == Long.class || type == BigDecimal.class) {
+            final long[] range = integers(field, Long.MIN_VALUE, Long.MAX_VALUE);
+            final long min = range[0];
+            final long span = range[1] - min;
+            final long size = span < 0 || span == Long.MAX_VALUE ? Long.MAX_VALUE : span + 1;
+            final ToLongFunction<ObjectFactory> sizes = f -> size;
+            if (type == long.class) {
+                return new FieldPlan.LongFieldPlan(field, writer, c -> min + next(field, c, sizes));
+            }
+            return new FieldPlan.ObjectFieldPlan(field, writer, type == Long.class
+                    ? c -> min + next(field, c, sizes)
+                    : c -> BigDecimal.valueOf(min + next(field, c, sizes)));
+        } else if (type == String.class) {
+            final int[] lengths = ConstraintGenerators.sizes(field);
+            final int length = lengths[1] >= 0 ? lengths[1] : Math.max(lengths[0], STRING_LENGTH);
+            final ToLongFunction<ObjectFactory> sizes = f -> f.alphabet().count(length);
+            return new FieldPlan.ObjectFieldPlan(field, writer,
+                    c -> c.factory().alphabet().nth(next(field, c, sizes), length));
+        } else if (type.isEnum()) {
+            final Object[] constants = type.getEnumConstants();
+            final ToLongFunction<ObjectFactory> sizes = f -> constants.length;
+            return new FieldPlan.ObjectFieldPlan(field, writer, c -> constants[(int) next(field, c, sizes)]);
+        }
+        return null;
+    }
+
+    /**
+     * Resolves the integer range of a unique field: its bounds, or the positive values of its type if left out.
+     */
+    private static long[] integers(final Field field, final long typeMin, final long typeMax) {
+        final double[] bounds = ConstraintGenerators.bounds(field);
+        final double lower = bounds == null ? Double.NEGATIVE_INFINITY : bounds[0];
+        final double upper = bounds == null ? Double.POSITIVE_INFINITY : bounds[1];
+        final long min = Double.isInfinite(lower) ? upper < 1 ? typeMin : 1
+                : (long) Math.max(Math.ceil(lower), typeMin);
+        final long max = Double.isInfinite(upper) ? typeMax : (long) Math.min(Math.floor(upper), typeMax);
+        if (min > max) {
+            throw new IllegalArgumentException("No integer in the range of " + field);
+        }
+        return new long[]{min, max};
+    }
+
+    /**
+     * Returns the next value of the space of a field enumerating its values.
+     *
+     * @param field The field.
+     * @param c     The context of the current generation.
+     * @param sizes The size of the value space, given the factory.
+     * @return A value of {@code [0..size)} not taken yet.
+     */
+    private static long next(final Field field, final GenerationContext c, final ToLongFunction<ObjectFactory> sizes) {
+        final UniqueValues values = c.factory().uniqueValues();
+        Sequence sequence = values.get(field);
+        if (sequence == null) {
+            sequence = values.of(field, f -> new Sequence(f, sizes.applyAsLong(c.factory()), values.key()));
+        }
+        return sequence.next(c);
+    }
+
+    private static FieldPlan drawn(final Field field, final FieldWriter writer, final FieldPlan plan) {
+        if (plan instanceof FieldPlan.IntFieldPlan ints) {
+            final FieldGenerator.OfInt values = ints.getGenerator();
+            return new FieldPlan.IntFieldPlan(field, writer, c -> {
+                final Taken taken = taken(field, c);
+                int value;
+                int attempts = 0;
+                do {
+                    value = values.generateInt(c);
+                } while (!taken.add(value, field, ++attempts));
+                return value;
+            });
+        } else if (plan instanceof FieldPlan.LongFieldPlan longs) {
+            final FieldGenerator.OfLong values = longs.getGenerator();
+            return new FieldPlan.LongFieldPlan(field, writer, c -> {
+                final Taken taken = taken(field, c);
+                long value;
+                int attempts = 0;
+                do {
+                    value = values.generateLong(c);
+                } while (!taken.add(value, field, ++attempts));
+                return value;
+            });
+        } else if (plan instanceof FieldPlan.FloatFieldPlan floats) {
+            final FieldGenerator.OfFloat values = floats.getGenerator();
+            return new FieldPlan.FloatFieldPlan(field, writer, c -> {
+                final Taken taken = taken(field, c);
+                float value;
+                int attempts = 0;
+                do {
+                    value = values.generateFloat(c);
+                } while (!taken.add(Float.floatToIntBits(value), field, ++attempts));
+                return value;
+            });
+        } else if (plan instanceof FieldPlan.DoubleFieldPlan doubles) {
+            final FieldGenerator.OfDouble values = doubles.getGenerator();
+            return new FieldPlan.DoubleFieldPlan(field, writer, c -> {
+                final Taken taken = taken(field, c);
+                double value;
+                int attempts = 0;
+                do {
+                    value = values.generateDouble(c);
+                } while (!taken.add(Double.doubleToLongBits(value), field, ++attempts));
+                return value;
+            });
+        } else if (plan != null && plan.getClass() == FieldPlan.ObjectFieldPlan.class) {
+            final FieldGenerator values = ((FieldPlan.ObjectFieldPlan) plan).getGenerator();
+            return new FieldPlan.ObjectFieldPlan(field, writer, c -> {
+                final Taken taken = taken(field, c);
+                Object value;
+                int attempts = 0;
+                do {
+                    value = values.generate(c);
+                } while (value != null && !taken.add(fingerprint(value), field, ++attempts));
+                return value;
+            });
+        }
+        throw new IllegalArgumentException("@Unique does not apply to nested and boolean fields: " + field);
+    }
+
+    private static Taken taken(final Field field, final GenerationContext c) {
+        if (c.isSeeded()) {
+            throw new IllegalStateException("The unique field " + field + " draws its values, which cannot be"
+                    + " reproduced in a seeded creation");
+        }
+        final UniqueValues values = c.factory().uniqueValues();
+        final Taken taken = values.get(field);
+        return taken != null ? taken : values.of(field, f -> new Taken());
+    }
+
+    /**
+     * Returns a 64-bit fingerprint of a value, equal for equal values.
+     */
+    private static long fingerprint(final Object value) {
+        if (value instanceof String string) {
+            long hash = 1125899906842597L;
+            for (int i = 0; i < string.length(); i++) {
+                hash = 31 * hash + string.charAt(i);
+            }
+            return hash;
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            return Double.doubleToLongBits(((Number) value).doubleValue());
+        } else if (value instanceof UUID uuid) {
+            return uuid.getMostSignificantBits() * 31 + uuid.getLeastSignificantBits();
+        }
+        return value.hashCode();
+    }
+
+    /**
+     * The positions taken in the value space of a field enumerating its values.
+     */
+    private static final class Sequence {
+
+        private final Field field;
+        private final long size;
+        private final Permutation unseeded;
+        private final AtomicLong taken = new AtomicLong();
+        private volatile Permutation seeded;
+
+        Sequence(final Field field, final long size, final long key) {
+            this.field = field;
+            this.size = size;
+            this.unseeded = Permutation.of(size, key ^ key(field));
+        }
+
+        long next(final GenerationContext c) {
+            if (!c.isSeeded()) {
+                return apply(unseeded, taken.getAndIncrement());
+            } else if (c.depth() > 1) {
+                throw new IllegalStateException("The unique field " + field + " of a nested object cannot be"
+                        + " reproduced in a seeded creation");
+            }
+            final IndexedRandom random = (IndexedRandom) c.random();
+            return apply(seeded(random.seed()), random.index());
+        }
+
+        private long apply(final Permutation permutation, final long position) {
+            if (position < 0 || position >= size) {
+                throw new IllegalStateException("The " + size + " values of the unique field " + field
+                        + " are exhausted");
+            }
+            return permutation.apply(position);
+        }
+
+        private Permutation seeded(final long seed) {
+            final long key = seed ^ key(field);
+            Permutation permutation = seeded;
+            if (permutation == null || permutation.getKey() != key) {
+                permutation = Permutation.of(size, key);
+                seeded = permutation;
+            }
+            return permutation;
+        }
+
+        private static long key(final Field field) {
+            return (long) field.getDeclaringClass().getName().hashCode() << Integer.SIZE ^ field.getName().hashCode();
+        }
+    }
+
+    /**
+     * Open-addressing set of the fingerprints of the values taken by a field drawing its values again, with
+     * {@code 0} standing for an empty slot.
+     */
+    private static final class Taken {
+
+        private long[] slots = new long[16];
+        private int count;
+        private boolean zero;
+
+        /**
+         * Adds a fingerprint to the set.
+         *
+         * @param fingerprint The fingerprint of the value drawn.
+         * @param field       The field.
+         * @param attempts    The number of values drawn so far, this one included.
+         * @return {@code true} if the value was not taken.
+         * @throws IllegalStateException if the value was taken at the last attempt.
+         */
+        synchronized boolean add(final long fingerprint, final Field field, final int attempts) {
+            if (insert(fingerprint)) {
+                return true;
+            } else if (attempts >= UNIQUE_ATTEMPTS) {
+                throw new IllegalStateException("No value left for the unique field " + field + " after "
+                        + attempts + " attempts");
+            }
+            return false;
+        }
+
+        private boolean insert(final long fingerprint) {
+            if (fingerprint == 0) {
+                final boolean added = !zero;
+                zero = true;
+                return added;
+            }
+            final int mask = slots.length - 1;
+            int i = (int) (fingerprint ^ fingerprint >>> 29) * 0x9e3779b9 >>> 1 & mask;
+            while (slots[i] != 0) {
+                if (slots[i] == fingerprint) {
+                    return false;
+                }
+                i = i + 1 & mask;
+            }
+            slots[i] = fingerprint;
+            if (++count * 2 > slots.length) {
+                grow();
+            }
+            return true;
+        }
+
+        private void grow() {
+            final long[] old = slots;
+            slots = new long[old.length * 2];
+            count = 0;
+            for (long fingerprint : old) {
+                if (fingerprint != 0) {
+                    insert(fingerprint);
+                }
+            }
+        }
+    }
+
+}
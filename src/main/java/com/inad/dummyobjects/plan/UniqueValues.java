@@ -0,0 +1,60 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.Unique;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * The values taken by the {@link Unique} fields of the objects created by an {@link ObjectFactory}, which are unique
+ * among the objects of that factory only.
+ * <p>
+ * A field enumerating its values keeps a counter and a permutation, a field drawing them again keeps a compact set
+ * of the fingerprints of the values taken (see {@link UniqueGenerators}): the memory does not depend on the number
+ * of values for the former, and is a few {@code long}s per value for the latter, without boxing.
+ * </p>
+ * <p>
+ * The values are thread-safe, so the parallel creations share them.
+ * </p>
+ */
+public final class UniqueValues {
+
+    private final long key = ThreadLocalRandom.current().nextLong();
+    private final ConcurrentHashMap<Field, Object> fields = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the key of the permutations of the unseeded values, drawn once per factory.
+     */
+    long key() {
+        return key;
+    }
+
+    /**
+     * Returns the state of a unique field.
+     *
+     * @param field The field.
+     * @param <T>   The type of the state.
+     * @return The state of the field, or {@code null} if it has none yet.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final Field field) {
+        return (T) fields.get(field);
+    }
+
+    /**
+     * Returns the state of a unique field, created on first use.
+     *
+     * @param field   The field.
+     * @param factory The factory of the state, given the field.
+     * @param <T>     The type of the state.
+     * @return The state of the field.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T of(final Field field, final Function<Field, T> factory) {
+        return (T) fields.computeIfAbsent(field, factory);
+    }
+
+}
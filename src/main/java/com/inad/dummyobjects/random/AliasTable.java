@@ -0,0 +1,112 @@
+package com.inad.dummyobjects.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker's alias table, drawing an index of {@code [0..n)} with probabilities proportional to given weights.
+ * <p>
+ * The table is built once in {@code O(n)} with Vose's method: each of the {@code n} columns holds the probability
+ * of its own index and the alias topping it up to {@code 1/n}. A draw picks a column and tosses a biased coin
+ * between the column and its alias, so it takes constant time and allocates nothing, whatever the weights.
+ * </p>
+ * <p>
+ * A table is immutable and can be shared between threads.
+ * </p>
+ */
+public final class AliasTable {
+
+    private final double[] probabilities;
+    private final int[] aliases;
+
+    private AliasTable(final double[] probabilities, final int[] aliases) {
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+
+    /**
+     * Builds the table of the given weights.
+     *
+     * @param weights The non-negative weight of each index; they need not sum to 1.
+     * @return The alias table drawing index {@code i} with probability {@code weights[i] / sum(weights)}.
+     * @throws IllegalArgumentException if there are no weights, if one of them is negative or not finite, or if
+     *                                  they are all zero.
+     */
+    public static AliasTable of(final double... weights) {
+        final int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("No weights");
+        }
+        double sum = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight: " + weight);
+            }
+            sum += weight;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("The weights are all zero");
+        }
+
+        final double[] probabilities = new double[n];
+        final int[] aliases = new int[n];
+        // scaled[i] is n times the probability of i: columns under 1 are small, the others are large
+        final double[] scaled = new double[n];
+        final int[] small = new int[n];
+        final int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // the remaining columns are full, up to rounding errors
+        while (largeCount > 0) {
+            final int full = large[--largeCount];
+            probabilities[full] = 1;
+            aliases[full] = full;
+        }
+        while (smallCount > 0) {
+            final int full = small[--smallCount];
+            probabilities[full] = 1;
+            aliases[full] = full;
+        }
+        return new AliasTable(probabilities, aliases);
+    }
+
+    /**
+     * Draws an index.
+     *
+     * @param random The random generator to draw from.
+     * @return An index of {@code [0..size())}, never one with a zero weight.
+     */
+    public int next(final RandomGenerator random) {
+        final int column = random.nextInt(probabilities.length);
+        return random.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+
+    /**
+     * Returns the number of indexes of the table.
+     *
+     * @return The number of weights the table was built from.
+     */
+    public int size() {
+        return probabilities.length;
+    }
+
+}
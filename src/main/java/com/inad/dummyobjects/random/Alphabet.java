@@ -0,0 +1,158 @@
+package com.inad.dummyobjects.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Set of Latin-1 characters compiled once into a lookup table for generating random strings.
+ * <p>
+ * Each character is picked with a power-of-two mask applied to the bits of a random {@code long}, so a single call to
+ * the generator yields several characters (twelve for a 28-character alphabet). Masked values beyond the alphabet
+ * are skipped, which keeps the picks uniform. The characters are written as Latin-1 bytes, which is also the
+ * internal representation of such strings, so a string costs no more than its final {@link String}.
+ * </p>
+ * <p>
+ * An alphabet is immutable and can be shared between threads.
+ * </p>
+ */
+public final class Alphabet {
+
+    private final byte[] symbols;
+    private final byte[] distinct;
+    private final int bits;
+    private final int mask;
+    private final int perLong;
+
+    private Alphabet(final byte[] symbols) {
+        this.symbols = symbols;
+        this.distinct = distinct(symbols);
+        this.bits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(symbols.length - 1));
+        this.mask = (1 << bits) - 1;
+        this.perLong = Long.SIZE / bits;
+    }
+
+    /**
+     * Compiles the alphabet of the given characters.
+     *
+     * @param characters The characters of the alphabet; a character repeated is picked more often.
+     * @return The compiled alphabet.
+     * @throws IllegalArgumentException if {@code characters} is empty or has a character outside of Latin-1.
+     */
+    public static Alphabet of(final String characters) {
+        if (characters.isEmpty()) {
+            throw new IllegalArgumentException("An alphabet needs at least one character.");
+        }
+        final byte[] symbols = new byte[characters.length()];
+        for (int i = 0; i < symbols.length; i++) {
+            final char c = characters.charAt(i);
+            if (c > 0xFF) {
+                throw new IllegalArgumentException("Not a Latin-1 character: " + c);
+            }
+            symbols[i] = (byte) c;
+        }
+        return new Alphabet(symbols);
+    }
+
+    /**
+     * Returns the number of characters of the alphabet.
+     *
+     * @return The size of the alphabet.
+     */
+    public int size() {
+        return symbols.length;
+    }
+
+    /**
+     * Generates a random string of this alphabet.
+     *
+     * @param random The random generator to draw from.
+     * @param length The length of the string.
+     * @return A new random string.
+     */
+    public String next(final RandomGenerator random, final int length) {
+        return next(random, length, new byte[length]);
+    }
+
+    /**
+     * Generates a random string of this alphabet, using the given buffer as a scratch space.
+     *
+     * @param random The random generator to draw from.
+     * @param length The length of the string.
+     * @param buffer The buffer the characters are written to before the string is built, of at least
+     *               {@code length} bytes. It can be reused for the next string.
+     * @return A new random string.
+     */
+    public String next(final RandomGenerator random, final int length, final byte[] buffer) {
+        fill(random, buffer, 0, length);
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the number of distinct strings of this alphabet of the given length.
+     *
+     * @param length The length of the strings.
+     * @return The number of strings, or {@link Long#MAX_VALUE} if there are more.
+     */
+    public long count(final int length) {
+        long count = 1;
+        for (int i = 0; i < length && count < Long.MAX_VALUE; i++) {
+            count = count > Long.MAX_VALUE / distinct.length ? Long.MAX_VALUE : count * distinct.length;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a string of this alphabet by its rank, which writes the rank in base {@code n} with the {@code n}
+     * distinct characters of the alphabet as digits, so distinct ranks give distinct strings.
+     *
+     * @param rank   The rank of the string, of {@code [0..count(length))}.
+     * @param length The length of the string.
+     * @return The string of the given rank.
+     */
+    public String nth(final long rank, final int length) {
+        final byte[] target = new byte[length];
+        long rest = rank;
+        for (int i = length - 1; i >= 0; i--) {
+            target[i] = distinct[(int) (rest % distinct.length)];
+            rest /= distinct.length;
+        }
+        return new String(target, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes random characters of this alphabet as Latin-1 bytes into the given array.
+     *
+     * @param random The random generator to draw from.
+     * @param target The array to write to.
+     * @param offset The index of the first byte to write.
+     * @param length The number of characters to write.
+     */
+    public void fill(final RandomGenerator random, final byte[] target, final int offset, final int length) {
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            long value = random.nextLong();
+            for (int k = 0; k < perLong && i < end; k++, value >>>= bits) {
+                final int index = (int) value & mask;
+                if (index < symbols.length) {
+                    target[i++] = symbols[index];
+                }
+            }
+        }
+    }
+
+    private static byte[] distinct(final byte[] symbols) {
+        final boolean[] seen = new boolean[256];
+        final byte[] distinct = new byte[symbols.length];
+        int count = 0;
+        for (byte symbol : symbols) {
+            if (!seen[symbol & 0xFF]) {
+                seen[symbol & 0xFF] = true;
+                distinct[count++] = symbol;
+            }
+        }
+        return Arrays.copyOf(distinct, count);
+    }
+
+}
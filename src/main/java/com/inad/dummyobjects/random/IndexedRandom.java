@@ -0,0 +1,83 @@
+package com.inad.dummyobjects.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 generator whose sequence is selected by a {@code (seed, index)} pair.
+ * <p>
+ * {@link #seek(long)} moves the generator to the start of the sequence of an index in constant time, so the values
+ * drawn for the object at that index depend only on the seed and the index: not on the objects generated before it,
+ * nor on the thread or the order in which the indexes are visited. The start of each sequence is the mixed
+ * seed and index, which spreads the sequences over the whole period instead of making neighbouring indexes
+ * overlap.
+ * </p>
+ * <p>
+ * An instance is mutable and must be confined to one thread.
+ * </p>
+ */
+public class IndexedRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private long index;
+    private long state;
+
+    /**
+     * Creates a generator for the given seed, positioned at index {@code 0}.
+     *
+     * @param seed The seed shared by every index.
+     */
+    public IndexedRandom(final long seed) {
+        this.seed = seed;
+        seek(0);
+    }
+
+    /**
+     * Returns the seed of this generator.
+     *
+     * @return The seed.
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Returns the index the generator was last positioned at.
+     *
+     * @return The index of the object being generated.
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Positions the generator at the start of the sequence of the given index.
+     *
+     * @param index The index of the object about to be generated.
+     * @return This generator.
+     */
+    public IndexedRandom seek(final long index) {
+        this.index = index;
+        state = mix64(seed ^ mix64(index * GOLDEN_GAMMA + GOLDEN_GAMMA));
+        return this;
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     * The finalizer of SplitMix64 (Stafford's variant 13).
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.inad.dummyobjects.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Distribution of the lengths of generated strings, and of the sizes of generated collections.
+ */
+@FunctionalInterface
+public interface LengthDistribution {
+
+    /**
+     * Draws the length of the next string.
+     *
+     * @param random The random generator to draw from.
+     * @return A non-negative length.
+     */
+    int nextLength(RandomGenerator random);
+
+    /**
+     * Returns the distribution of a single length.
+     *
+     * @param length The length of every string.
+     * @return A distribution always returning {@code length}.
+     * @throws IllegalArgumentException if {@code length} is negative.
+     */
+    static LengthDistribution fixed(final int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+        return random -> length;
+    }
+
+    /**
+     * Returns the uniform distribution of the lengths between the given bounds.
+     *
+     * @param min The minimum length (inclusive).
+     * @param max The maximum length (inclusive).
+     * @return A distribution returning every length of {@code [min..max]} with the same probability.
+     * @throws IllegalArgumentException if {@code min} is negative or greater than {@code max}.
+     */
+    static LengthDistribution uniform(final int min, final int max) {
+        if (min < 0 || min > max) {
+            throw new IllegalArgumentException("Invalid length range: [" + min + ", " + max + "]");
+        }
+        return random -> random.nextInt(min, max + 1);
+    }
+
+}
@@ -0,0 +1,733 @@
+package com.inad.dummyobjects.random;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generator of the strings matching a regular expression, compiled once into a deterministic automaton.
+ * <p>
+ * The expression is parsed into a nondeterministic automaton, which is determinized by subset construction and
+ * pruned of the states that cannot reach a match. A string is a random walk from the start state: at each state the
+ * walk stops, if the state accepts, or follows one of its transitions with the same probability, appending a random
+ * character of the transition. Every string it produces matches, so nothing is generated then rejected, and a walk
+ * only allocates the string it builds. Once the string is long enough that the shortest completion would exceed the
+ * maximum length, the walk follows the shortest path to a match, so unbounded repetitions stay short while fixed
+ * ones ({@code \d{40}}) are always honored; before that, it only follows the transitions whose shortest match fits
+ * in the maximum length, when there are some. A minimum length works the other way round: until it is reached, the
+ * walk does not stop and only follows the transitions from which a match of at least that length remains reachable.
+ * </p>
+ * <p>
+ * The supported syntax is the common subset of {@link java.util.regex.Pattern}: literals and escapes
+ * ({@code \t}, {@code \n}, {@code \xhh}, {@code \}{@code uhhhh}, escaped metacharacters), the classes {@code .},
+ * {@code \d}, {@code \w}, {@code \s} and their negations, bracket classes with ranges and negation, groups
+ * (capturing or not), alternation, and the quantifiers {@code ?}, {@code *}, {@code +}, {@code {n}},
+ * {@code {n,}} and {@code {n,m}} (lazy and possessive ones are treated as greedy). Anchors are accepted at the
+ * ends of the expression. Negated classes and {@code .} generate the printable ASCII characters and the characters
+ * appearing in the expression. Back-references and lookarounds are not supported.
+ * </p>
+ * <p>
+ * A generator is immutable and can be shared between threads.
+ * </p>
+ */
+public final class PatternGenerator {
+
+    private static final int MAX_STATES = 10_000;
+    private static final int MAX_REPETITIONS = 1_000;
+    private static final String DIGITS = "0123456789";
+    private static final String WORD = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_";
+    private static final String SPACES = " \t\n\u000B\f\r";
+
+    private final String regex;
+    private final int minLength;
+    private final int maxLength;
+    private final boolean[] accepting;
+    private final int[] distances;
+    private final int[][] targets;
+    private final char[][][] labels;
+    private final int[] reaches;
+
+    private PatternGenerator(final String regex, final int minLength, final int maxLength, final boolean[] accepting,
+                             final int[] distances, final int[][] targets, final char[][][] labels) {
+        this.regex = regex;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.accepting = accepting;
+        this.distances = distances;
+        this.targets = targets;
+        this.labels = labels;
+        this.reaches = reaches(minLength, accepting, targets);
+        if (reaches[0] < minLength) {
+            throw new IllegalArgumentException("Pattern matches no string of at least " + minLength + " characters: "
+                    + regex);
+        }
+    }
+
+    /**
+     * Compiles a regular expression.
+     *
+     * @param regex     The regular expression.
+     * @param maxLength The length beyond which unbounded repetitions are no longer extended.
+     * @return The generator of the strings matching {@code regex}.
+     * @throws IllegalArgumentException if the expression is invalid, uses an unsupported construct, matches no
+     *                                  string, or is too large to be compiled.
+     */
+    public static PatternGenerator compile(final String regex, final int maxLength) {
+        return compile(regex, 0, maxLength);
+    }
+
+    /**
+     * Compiles a regular expression whose strings have a minimum length.
+     *
+     * @param regex     The regular expression.
+     * @param minLength The minimum length of the strings.
+     * @param maxLength The length beyond which unbounded repetitions are no longer extended.
+     * @return The generator of the strings of at least {@code minLength} characters matching {@code regex}.
+     * @throws IllegalArgumentException if the expression is invalid, uses an unsupported construct, matches no
+     *                                  string of at least {@code minLength} characters, or is too large to be
+     *                                  compiled, or if the lengths are negative or {@code minLength} exceeds
+     *                                  {@code maxLength}.
+     */
+    public static PatternGenerator compile(final String regex, final int minLength, final int maxLength) {
+        if (minLength < 0 || maxLength < 0) {
+            throw new IllegalArgumentException("Negative length: [" + minLength + ", " + maxLength + "]");
+        }
+        if (minLength > maxLength) {
+            throw new IllegalArgumentException("Invalid length range: [" + minLength + ", " + maxLength + "]");
+        }
+        final Node tree = new Parser(regex).parse();
+        final char[] universe = universe(tree);
+        final Nfa nfa = new Nfa();
+        final int end = nfa.state();
+        final int start = nfa.build(tree, end, universe);
+        return determinize(regex, minLength, maxLength, nfa, start, end, universe);
+    }
+
+    /**
+     * Generates a string matching the expression.
+     *
+     * @param random The random generator to draw from.
+     * @return A new matching string.
+     */
+    public String next(final RandomGenerator random) {
+        final StringBuilder builder = new StringBuilder();
+        int state = 0;
+        while (true) {
+            final int[] next = targets[state];
+            final int length = builder.length();
+            int transition;
+            if (length >= minLength && length + distances[state] >= maxLength) {
+                if (accepting[state]) {
+                    break;
+                }
+                transition = shortest(state, random);
+            } else {
+                final boolean strict = fitting(state, length, true) > 0;
+                final int count = fitting(state, length, strict);
+                final boolean stop = accepting[state] && length >= minLength;
+                final int pick = random.nextInt(stop ? count + 1 : count);
+                if (pick == count) {
+                    break;
+                }
+                transition = nthFitting(state, length, strict, pick);
+            }
+            final char[] label = labels[state][transition];
+            builder.append(label[random.nextInt(label.length)]);
+            state = next[transition];
+        }
+        return builder.toString();
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    public int getMinLength() {
+        return minLength;
+    }
+
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Picks one of the transitions of a state getting closer to a match.
+     */
+    private int shortest(final int state, final RandomGenerator random) {
+        final int[] next = targets[state];
+        int count = 0;
+        for (int target : next) {
+            if (distances[target] == distances[state] - 1) {
+                count++;
+            }
+        }
+        int pick = random.nextInt(count);
+        for (int i = 0; i < next.length; i++) {
+            if (distances[next[i]] == distances[state] - 1 && pick-- == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No transition towards a match");
+    }
+
+    /**
+     * Counts the transitions of a state from which a match of the minimum length remains reachable and, if strict,
+     * whose shortest match does not exceed the maximum length.
+     */
+    private int fitting(final int state, final int length, final boolean strict) {
+        int count = 0;
+        for (int target : targets[state]) {
+            if (fits(target, length, strict)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int nthFitting(final int state, final int length, final boolean strict, final int n) {
+        final int[] next = targets[state];
+        int pick = n;
+        for (int i = 0; i < next.length; i++) {
+            if (fits(next[i], length, strict) && pick-- == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No transition towards a match of the length range");
+    }
+
+    private boolean fits(final int target, final int length, final boolean strict) {
+        return length + 1 + reaches[target] >= minLength
+                && (!strict || length + 1 + distances[target] <= maxLength);
+    }
+
+    /**
+     * Computes the longest distance of each state to a match, capped at the minimum length, by relaxing the
+     * transitions until nothing changes; the values only grow and are bounded, so it terminates.
+     */
+    private static int[] reaches(final int minLength, final boolean[] accepting, final int[][] targets) {
+        final int[] reaches = new int[accepting.length];
+        if (minLength == 0) {
+            return reaches;
+        }
+        for (int s = 0; s < reaches.length; s++) {
+            reaches[s] = accepting[s] ? 0 : -1;
+        }
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int s = 0; s < reaches.length; s++) {
+                for (int target : targets[s]) {
+                    final int reach = reaches[target] < 0 ? -1 : Math.min(minLength, reaches[target] + 1);
+                    if (reach > reaches[s]) {
+                        reaches[s] = reach;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return reaches;
+    }
+
+    /**
+     * Returns the characters the negated classes are drawn from: the printable ASCII characters and the ones
+     * appearing in the expression, sorted.
+     */
+    private static char[] universe(final Node tree) {
+        final BitSet chars = new BitSet();
+        chars.set(' ', '~' + 1);
+        tree.collect(chars);
+        final char[] universe = new char[chars.cardinality()];
+        for (int c = chars.nextSetBit(0), i = 0; c >= 0; c = chars.nextSetBit(c + 1)) {
+            universe[i++] = (char) c;
+        }
+        return universe;
+    }
+
+    private static PatternGenerator determinize(final String regex, final int minLength, final int maxLength,
+                                                final Nfa nfa, final int start, final int end,
+                                                final char[] universe) {
+        final Map<BitSet, Integer> ids = new HashMap<>();
+        final List<BitSet> states = new ArrayList<>();
+        final List<Map<Integer, StringBuilder>> transitions = new ArrayList<>();
+        final BitSet initial = new BitSet();
+        nfa.close(start, initial);
+        ids.put(initial, 0);
+        states.add(initial);
+        for (int s = 0; s < states.size(); s++) {
+            final Map<Integer, StringBuilder> byTarget = new LinkedHashMap<>();
+            for (char c : universe) {
+                final BitSet moved = nfa.move(states.get(s), c);
+                if (moved.isEmpty()) {
+                    continue;
+                }
+                Integer id = ids.get(moved);
+                if (id == null) {
+                    if (states.size() == MAX_STATES) {
+                        throw new IllegalArgumentException("Pattern too complex: " + regex);
+                    }
+                    id = states.size();
+                    ids.put(moved, id);
+                    states.add(moved);
+                }
+                byTarget.computeIfAbsent(id, k -> new StringBuilder()).append(c);
+            }
+            transitions.add(byTarget);
+        }
+
+        // shortest distance of each state to a match, by a backward breadth-first search
+        final int n = states.size();
+        final boolean[] accepting = new boolean[n];
+        final int[] distances = new int[n];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        final ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int s = 0; s < n; s++) {
+            accepting[s] = states.get(s).get(end);
+            if (accepting[s]) {
+                distances[s] = 0;
+                queue.add(s);
+            }
+        }
+        final List<List<Integer>> sources = new ArrayList<>(n);
+        for (int s = 0; s < n; s++) {
+            sources.add(new ArrayList<>());
+        }
+        for (int s = 0; s < n; s++) {
+            for (int target : transitions.get(s).keySet()) {
+                sources.get(target).add(s);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final int target = queue.poll();
+            for (int s : sources.get(target)) {
+                if (distances[s] == Integer.MAX_VALUE) {
+                    distances[s] = distances[target] + 1;
+                    queue.add(s);
+                }
+            }
+        }
+        if (distances[0] == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Pattern matches no string: " + regex);
+        }
+
+        final int[][] targets = new int[n][];
+        final char[][][] labels = new char[n][][];
+        for (int s = 0; s < n; s++) {
+            final List<Integer> live = new ArrayList<>();
+            for (int target : transitions.get(s).keySet()) {
+                if (distances[target] != Integer.MAX_VALUE) {
+                    live.add(target);
+                }
+            }
+            targets[s] = new int[live.size()];
+            labels[s] = new char[live.size()][];
+            for (int i = 0; i < live.size(); i++) {
+                targets[s][i] = live.get(i);
+                labels[s][i] = transitions.get(s).get(live.get(i)).toString().toCharArray();
+            }
+        }
+        return new PatternGenerator(regex, minLength, maxLength, accepting, distances, targets, labels);
+    }
+
+    /**
+     * Node of the syntax tree of an expression.
+     */
+    private sealed interface Node {
+
+        /**
+         * Adds the characters of the non-negated classes of the subtree to the given set.
+         */
+        void collect(BitSet chars);
+    }
+
+    /**
+     * A class of characters, complemented against the universe when negated.
+     */
+    private record CharClass(BitSet chars, boolean negated) implements Node {
+
+        @Override
+        public void collect(final BitSet all) {
+            if (!negated) {
+                all.or(chars);
+            }
+        }
+
+        BitSet resolve(final char[] universe) {
+            if (!negated) {
+                return chars;
+            }
+            final BitSet resolved = new BitSet();
+            for (char c : universe) {
+                if (!chars.get(c)) {
+                    resolved.set(c);
+                }
+            }
+            return resolved;
+        }
+    }
+
+    private record Sequence(List<Node> nodes) implements Node {
+
+        @Override
+        public void collect(final BitSet chars) {
+            nodes.forEach(node -> node.collect(chars));
+        }
+    }
+
+    private record Alternation(List<Node> nodes) implements Node {
+
+        @Override
+        public void collect(final BitSet chars) {
+            nodes.forEach(node -> node.collect(chars));
+        }
+    }
+
+    /**
+     * A repetition between {@code min} and {@code max} times, {@code max} being {@code -1} when unbounded.
+     */
+    private record Repeat(Node node, int min, int max) implements Node {
+
+        @Override
+        public void collect(final BitSet chars) {
+            node.collect(chars);
+        }
+    }
+
+    /**
+     * Recursive descent parser of an expression.
+     */
+    private static final class Parser {
+
+        private final String regex;
+        private int position;
+
+        Parser(final String regex) {
+            this.regex = regex;
+        }
+
+        Node parse() {
+            if (peek('^')) {
+                position++;
+            }
+            final Node tree = alternation();
+            if (position < regex.length()) {
+                throw error("Unexpected '" + regex.charAt(position) + "'");
+            }
+            return tree;
+        }
+
+        private Node alternation() {
+            final List<Node> nodes = new ArrayList<>();
+            nodes.add(sequence());
+            while (peek('|')) {
+                position++;
+                nodes.add(sequence());
+            }
+            return nodes.size() == 1 ? nodes.get(0) : new Alternation(nodes);
+        }
+
+        private Node sequence() {
+            final List<Node> nodes = new ArrayList<>();
+            while (position < regex.length() && !peek('|') && !peek(')')) {
+                if (peek('$') && (position == regex.length() - 1 || regex.charAt(position + 1) == ')'
+                        || regex.charAt(position + 1) == '|')) {
+                    position++;
+                    continue;
+                }
+                nodes.add(quantified(atom()));
+            }
+            return new Sequence(nodes);
+        }
+
+        private Node quantified(final Node atom) {
+            Node node = atom;
+            while (position < regex.length()) {
+                final char c = regex.charAt(position);
+                if (c == '?' || c == '*' || c == '+') {
+                    position++;
+                    node = new Repeat(node, c == '+' ? 1 : 0, c == '?' ? 1 : -1);
+                } else if (c == '{' && position + 1 < regex.length()
+                        && Character.isDigit(regex.charAt(position + 1))) {
+                    position++;
+                    final int min = number();
+                    int max = min;
+                    if (peek(',')) {
+                        position++;
+                        max = peek('}') ? -1 : number();
+                    }
+                    expect('}');
+                    if (max != -1 && max < min || Math.max(min, max) > MAX_REPETITIONS) {
+                        throw error("Invalid repetition {" + min + "," + max + "}");
+                    }
+                    node = new Repeat(node, min, max);
+                } else {
+                    break;
+                }
+                if (peek('?') || peek('+')) {
+                    position++;
+                }
+            }
+            return node;
+        }
+
+        private Node atom() {
+            final char c = regex.charAt(position++);
+            switch (c) {
+                case '(' -> {
+                    if (regex.startsWith("?:", position)) {
+                        position += 2;
+                    } else if (peek('?')) {
+                        throw error("Unsupported group construct");
+                    }
+                    final Node group = alternation();
+                    expect(')');
+                    return group;
+                }
+                case '[' -> {
+                    return bracket();
+                }
+                case '.' -> {
+                    return new CharClass(chars("\n\r"), true);
+                }
+                case '\\' -> {
+                    return escape();
+                }
+                case '*', '+', '?', '{' -> throw error("Dangling quantifier '" + c + "'");
+                case ')' -> throw error("Unbalanced ')'");
+                default -> {
+                    return new CharClass(chars(String.valueOf(c)), false);
+                }
+            }
+        }
+
+        private CharClass bracket() {
+            final boolean negated = peek('^');
+            if (negated) {
+                position++;
+            }
+            final BitSet chars = new BitSet();
+            boolean first = true;
+            while (!peek(']') || first) {
+                if (position >= regex.length()) {
+                    throw error("Unclosed character class");
+                }
+                first = false;
+                final int from;
+                final char c = regex.charAt(position++);
+                if (c == '\\') {
+                    final CharClass escaped = escape();
+                    if (escaped.negated() || escaped.chars().cardinality() != 1) {
+                        if (escaped.negated()) {
+                            throw error("Negated classes are not supported in brackets");
+                        }
+                        chars.or(escaped.chars());
+                        continue;
+                    }
+                    from = escaped.chars().nextSetBit(0);
+                } else if (c == '[') {
+                    throw error("Nested character classes are not supported");
+                } else {
+                    from = c;
+                }
+                if (peek('-') && position + 1 < regex.length() && regex.charAt(position + 1) != ']') {
+                    position++;
+                    char to = regex.charAt(position++);
+                    if (to == '\\') {
+                        final CharClass escaped = escape();
+                        if (escaped.negated() || escaped.chars().cardinality() != 1) {
+                            throw error("Invalid range");
+                        }
+                        to = (char) escaped.chars().nextSetBit(0);
+                    }
+                    if (to < from) {
+                        throw error("Invalid range " + (char) from + "-" + to);
+                    }
+                    chars.set(from, to + 1);
+                } else {
+                    chars.set(from);
+                }
+            }
+            position++;
+            return new CharClass(chars, negated);
+        }
+
+        private CharClass escape() {
+            if (position >= regex.length()) {
+                throw error("Trailing backslash");
+            }
+            final char c = regex.charAt(position++);
+            return switch (c) {
+                case 'd' -> new CharClass(chars(DIGITS), false);
+                case 'D' -> new CharClass(chars(DIGITS), true);
+                case 'w' -> new CharClass(chars(WORD), false);
+                case 'W' -> new CharClass(chars(WORD), true);
+                case 's' -> new CharClass(chars(SPACES), false);
+                case 'S' -> new CharClass(chars(SPACES), true);
+                case 't' -> new CharClass(chars("\t"), false);
+                case 'n' -> new CharClass(chars("\n"), false);
+                case 'r' -> new CharClass(chars("\r"), false);
+                case 'f' -> new CharClass(chars("\f"), false);
+                case 'x' -> new CharClass(chars(String.valueOf(hex(2))), false);
+                case 'u' -> new CharClass(chars(String.valueOf(hex(4))), false);
+                default -> {
+                    if (Character.isLetterOrDigit(c)) {
+                        throw error("Unsupported escape \\" + c);
+                    }
+                    yield new CharClass(chars(String.valueOf(c)), false);
+                }
+            };
+        }
+
+        private char hex(final int digits) {
+            if (position + digits > regex.length()) {
+                throw error("Invalid hexadecimal escape");
+            }
+            try {
+                final char c = (char) Integer.parseInt(regex.substring(position, position + digits), 16);
+                position += digits;
+                return c;
+            } catch (NumberFormatException e) {
+                throw error("Invalid hexadecimal escape");
+            }
+        }
+
+        private int number() {
+            final int from = position;
+            while (position < regex.length() && Character.isDigit(regex.charAt(position))) {
+                position++;
+            }
+            if (from == position || position - from > 9) {
+                throw error("Invalid number");
+            }
+            return Integer.parseInt(regex.substring(from, position));
+        }
+
+        private boolean peek(final char c) {
+            return position < regex.length() && regex.charAt(position) == c;
+        }
+
+        private void expect(final char c) {
+            if (!peek(c)) {
+                throw error("Expected '" + c + "'");
+            }
+            position++;
+        }
+
+        private IllegalArgumentException error(final String message) {
+            return new IllegalArgumentException(message + " at index " + position + " of pattern: " + regex);
+        }
+
+        private static BitSet chars(final String chars) {
+            final BitSet set = new BitSet();
+            chars.chars().forEach(set::set);
+            return set;
+        }
+    }
+
+    /**
+     * Nondeterministic automaton built from a syntax tree with Thompson's construction, backwards from the final
+     * state: each state has epsilon transitions and at most one transition on a class of characters.
+     */
+    private static final class Nfa {
+
+        private final List<int[]> epsilons = new ArrayList<>();
+        private final List<BitSet> classes = new ArrayList<>();
+        private final List<Integer> classTargets = new ArrayList<>();
+
+        int state() {
+            epsilons.add(new int[0]);
+            classes.add(null);
+            classTargets.add(-1);
+            if (epsilons.size() > MAX_STATES * 10) {
+                throw new IllegalArgumentException("Pattern too large");
+            }
+            return epsilons.size() - 1;
+        }
+
+        /**
+         * Builds the states matching the node and then continuing at {@code next}.
+         *
+         * @return The entry state of the node.
+         */
+        int build(final Node node, final int next, final char[] universe) {
+            if (node instanceof CharClass charClass) {
+                final int state = state();
+                classes.set(state, charClass.resolve(universe));
+                classTargets.set(state, next);
+                return state;
+            } else if (node instanceof Sequence sequence) {
+                int entry = next;
+                for (int i = sequence.nodes().size() - 1; i >= 0; i--) {
+                    entry = build(sequence.nodes().get(i), entry, universe);
+                }
+                return entry;
+            } else if (node instanceof Alternation alternation) {
+                final int state = state();
+                for (Node option : alternation.nodes()) {
+                    epsilon(state, build(option, next, universe));
+                }
+                return state;
+            }
+            final Repeat repeat = (Repeat) node;
+            int entry = next;
+            if (repeat.max() == -1) {
+                // a loop state matching the node any number of times
+                final int loop = state();
+                epsilon(loop, next);
+                epsilon(loop, build(repeat.node(), loop, universe));
+                entry = loop;
+            } else {
+                for (int i = repeat.min(); i < repeat.max(); i++) {
+                    final int optional = state();
+                    epsilon(optional, next);
+                    epsilon(optional, build(repeat.node(), entry, universe));
+                    entry = optional;
+                }
+            }
+            for (int i = 0; i < repeat.min(); i++) {
+                entry = build(repeat.node(), entry, universe);
+            }
+            return entry;
+        }
+
+        private void epsilon(final int from, final int to) {
+            final int[] current = epsilons.get(from);
+            final int[] extended = Arrays.copyOf(current, current.length + 1);
+            extended[current.length] = to;
+            epsilons.set(from, extended);
+        }
+
+        /**
+         * Adds the given state and the ones reachable from it by epsilon transitions to the set.
+         */
+        void close(final int state, final BitSet set) {
+            if (set.get(state)) {
+                return;
+            }
+            set.set(state);
+            for (int next : epsilons.get(state)) {
+                close(next, set);
+            }
+        }
+
+        /**
+         * Returns the closure of the states reached from the given ones on the given character.
+         */
+        BitSet move(final BitSet states, final char c) {
+            final BitSet moved = new BitSet();
+            for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+                final BitSet chars = classes.get(s);
+                if (chars != null && chars.get(c)) {
+                    close(classTargets.get(s), moved);
+                }
+            }
+            return moved;
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.inad.dummyobjects.random;
+
+/**
+ * Keyed bijection of {@code [0..size)} onto itself, which maps the positions {@code 0, 1, 2, ...} to distinct values
+ * scattered over the whole range, like a shuffle of the range that is never stored.
+ * <p>
+ * The positions are encrypted by a balanced Feistel network over the smallest power of four covering the range,
+ * whose rounds mix one half of the bits with SplitMix64 and the round key. Since such a network is a bijection
+ * whatever its round function, a value beyond the range is encrypted again (cycle walking) until it falls within
+ * it, which keeps the bijection on the range itself. The covering domain being less than four times as large as
+ * the range, a value takes a few rounds on average: constant time and no memory, however many values are drawn.
+ * </p>
+ * <p>
+ * A permutation is immutable and can be shared between threads.
+ * </p>
+ */
+public final class Permutation {
+
+    private static final int ROUNDS = 4;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long size;
+    private final long key;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    private Permutation(final long size, final long key) {
+        this.size = size;
+        this.key = key;
+        final int bits = Long.SIZE - Long.numberOfLeadingZeros(size - 1);
+        this.halfBits = Math.max(1, (bits + 1) / 2);
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = mix64(key + (i + 1) * GOLDEN_GAMMA);
+        }
+    }
+
+    /**
+     * Returns the permutation of the given range selected by a key.
+     *
+     * @param size The number of values of the range.
+     * @param key  The key selecting the permutation; equal keys give equal permutations.
+     * @return The permutation of {@code [0..size)}.
+     * @throws IllegalArgumentException if {@code size} is not positive.
+     */
+    public static Permutation of(final long size, final long key) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        return new Permutation(size, key);
+    }
+
+    /**
+     * Returns the value at a position of the permutation.
+     *
+     * @param position A position of {@code [0..size)}.
+     * @return The value at that position, of {@code [0..size)}; distinct positions give distinct values.
+     * @throws IllegalArgumentException if {@code position} is out of the range.
+     */
+    public long apply(final long position) {
+        if (position < 0 || position >= size) {
+            throw new IllegalArgumentException("Position out of [0, " + size + "): " + position);
+        }
+        long value = position;
+        do {
+            value = encrypt(value);
+        } while (Long.compareUnsigned(value, size) >= 0);
+        return value;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getKey() {
+        return key;
+    }
+
+    private long encrypt(final long value) {
+        long left = value >>> halfBits;
+        long right = value & halfMask;
+        for (long roundKey : roundKeys) {
+            final long next = left ^ mix64(right ^ roundKey) & halfMask;
+            left = right;
+            right = next;
+        }
+        return left << halfBits | right;
+    }
+
+    /**
+     * The finalizer of SplitMix64 (Stafford's variant 13).
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+}
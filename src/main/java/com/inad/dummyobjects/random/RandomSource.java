@@ -0,0 +1,62 @@
+package com.inad.dummyobjects.random;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Supplies the random generator of the calling thread.
+ * <p>
+ * Every unseeded generation asks its source for the generator of the thread it runs on, so a source must never
+ * hand the same mutable generator to two threads. The implementations returned by the factory methods keep one
+ * generator per thread and never contend on a shared seed.
+ * </p>
+ */
+@FunctionalInterface
+public interface RandomSource {
+
+    /**
+     * Returns the random generator of the calling thread.
+     *
+     * @return A generator confined to the calling thread.
+     */
+    RandomGenerator current();
+
+    /**
+     * Returns the source backed by {@link ThreadLocalRandom}, the default one.
+     *
+     * @return A source returning {@link ThreadLocalRandom#current()}.
+     */
+    static RandomSource threadLocalRandom() {
+        return ThreadLocalRandom::current;
+    }
+
+    /**
+     * Returns a source keeping a {@link SplittableRandom} per thread, each split from a common root generator.
+     *
+     * @return A new source of thread-local {@link SplittableRandom}s.
+     */
+    static RandomSource splittable() {
+        final SplittableRandom root = new SplittableRandom();
+        return new ThreadLocalSource(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        });
+    }
+
+    /**
+     * Returns a source keeping a generator of the given {@link java.util.random} algorithm per thread,
+     * e.g. {@code "L64X128MixRandom"} or {@code "Xoroshiro128PlusPlus"}.
+     *
+     * @param algorithm The name of the algorithm, as accepted by {@link RandomGeneratorFactory#of(String)}.
+     * @return A new source of thread-local generators of {@code algorithm}.
+     * @throws IllegalArgumentException if the algorithm is not available.
+     */
+    static RandomSource of(final String algorithm) {
+        final RandomGeneratorFactory<RandomGenerator> factory = RandomGeneratorFactory.of(algorithm);
+        return new ThreadLocalSource(factory::create);
+    }
+
+}
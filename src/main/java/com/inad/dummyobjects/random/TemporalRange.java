@@ -0,0 +1,209 @@
+package com.inad.dummyobjects.random;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Range of the generated date and time values.
+ * <p>
+ * A value is a random epoch millisecond of {@code [start..end)}, drawn from the generator of the generation, and is
+ * converted to each type with plain arithmetic: the clock is read at most once, when the range is created, and the
+ * local types ({@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}) are computed at a fixed
+ * {@link ZoneOffset} instead of going through the rules of a time zone. The values are therefore spread over the
+ * range, and only depend on the random generator: seeded creations are reproducible as long as the range is, i.e.
+ * it is absolute or relative to a fixed {@link Clock}.
+ * </p>
+ * <p>
+ * A range is immutable and can be shared between threads.
+ * </p>
+ */
+public final class TemporalRange {
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final long start;
+    private final long end;
+    private final ZoneOffset offset;
+    private final long offsetMillis;
+
+    private TemporalRange(final long start, final long end, final ZoneOffset offset) {
+        if (start > end) {
+            throw new IllegalArgumentException("Invalid temporal range: [" + start + ", " + end + ")");
+        }
+        this.start = start;
+        this.end = end;
+        this.offset = Objects.requireNonNull(offset, "offset");
+        this.offsetMillis = offset.getTotalSeconds() * 1000L;
+    }
+
+    /**
+     * Returns the range of the instants between the given bounds, with local values in UTC.
+     *
+     * @param start The first instant of the range (inclusive).
+     * @param end   The end of the range (exclusive); equal to {@code start} for a single instant.
+     * @return The range {@code [start..end)}.
+     * @throws IllegalArgumentException if {@code start} is after {@code end}.
+     */
+    public static TemporalRange between(final Instant start, final Instant end) {
+        return new TemporalRange(start.toEpochMilli(), end.toEpochMilli(), ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the range of the given number of days before the current instant of the clock, which is read once.
+     *
+     * @param days  The number of days of the range.
+     * @param clock The clock giving the end of the range, e.g. {@link Clock#fixed(Instant, java.time.ZoneId)} for
+     *              reproducible values; the local values are computed at its current offset.
+     * @return The range {@code [now - days..now)}.
+     * @throws IllegalArgumentException if {@code days} is negative.
+     */
+    public static TemporalRange lastDays(final int days, final Clock clock) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Negative number of days: " + days);
+        }
+        final Instant now = clock.instant();
+        return new TemporalRange(now.minus(Duration.ofDays(days)).toEpochMilli(), now.toEpochMilli(),
+                clock.getZone().getRules().getOffset(now));
+    }
+
+    /**
+     * Returns the range of the given number of days before now, at the offset of the system default time zone.
+     *
+     * @param days The number of days of the range.
+     * @return The range {@code [now - days..now)}.
+     * @throws IllegalArgumentException if {@code days} is negative.
+     */
+    public static TemporalRange lastDays(final int days) {
+        return lastDays(days, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns a copy of this range computing the local values at the given offset.
+     *
+     * @param offset The offset of the local values.
+     * @return A range with the same instants, and the given offset.
+     */
+    public TemporalRange withOffset(final ZoneOffset offset) {
+        return new TemporalRange(start, end, offset);
+    }
+
+    /**
+     * Draws an instant of the range, uniformly at millisecond precision.
+     *
+     * @param random The random generator to draw from.
+     * @return A number of milliseconds since the epoch, of {@code [start..end)}, or {@code start} if the range is a
+     * single instant.
+     */
+    public long nextEpochMilli(final RandomGenerator random) {
+        return start == end ? start : random.nextLong(start, end);
+    }
+
+    /**
+     * Draws a date of the range, as {@link #nextEpochMilli(RandomGenerator)} does.
+     *
+     * @param random The random generator to draw from.
+     * @return A new date of {@code [start..end)}, or {@code start} if the range is a single instant.
+     */
+    public Date nextDate(final RandomGenerator random) {
+        return new Date(nextEpochMilli(random));
+    }
+
+    /**
+     * Draws a timestamp of the range, as {@link #nextEpochMilli(RandomGenerator)} does. Its nanoseconds are a whole
+     * number of milliseconds.
+     *
+     * @param random The random generator to draw from.
+     * @return A new timestamp of {@code [start..end)}, or {@code start} if the range is a single instant.
+     */
+    public Timestamp nextTimestamp(final RandomGenerator random) {
+        return new Timestamp(nextEpochMilli(random));
+    }
+
+    /**
+     * Draws an instant of the range, as {@link #nextEpochMilli(RandomGenerator)} does.
+     *
+     * @param random The random generator to draw from.
+     * @return An instant of {@code [start..end)}, or {@code start} if the range is a single instant.
+     */
+    public Instant nextInstant(final RandomGenerator random) {
+        return Instant.ofEpochMilli(nextEpochMilli(random));
+    }
+
+    /**
+     * Draws an instant of the range and returns its date at the {@link #getOffset() offset} of the range. The dates
+     * of the first and last instants are both included, so the range of {@code n} days covers {@code n + 1} dates
+     * unless it starts at midnight.
+     *
+     * @param random The random generator to draw from.
+     * @return The local date of an instant of {@code [start..end)}.
+     */
+    public LocalDate nextLocalDate(final RandomGenerator random) {
+        return LocalDate.ofEpochDay(Math.floorDiv(nextEpochMilli(random) + offsetMillis, MILLIS_PER_DAY));
+    }
+
+    /**
+     * Draws an instant of the range and returns its date and time at the {@link #getOffset() offset} of the range,
+     * at millisecond precision.
+     *
+     * @param random The random generator to draw from.
+     * @return The local date and time of an instant of {@code [start..end)}.
+     */
+    public LocalDateTime nextLocalDateTime(final RandomGenerator random) {
+        final long millis = nextEpochMilli(random);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L),
+                (int) Math.floorMod(millis, 1000L) * (int) NANOS_PER_MILLI, offset);
+    }
+
+    /**
+     * Draws an instant of the range and returns its time of day at the {@link #getOffset() offset} of the range, at
+     * millisecond precision. The times only cover the whole day if the range lasts a day or more.
+     *
+     * @param random The random generator to draw from.
+     * @return The local time of an instant of {@code [start..end)}.
+     */
+    public LocalTime nextLocalTime(final RandomGenerator random) {
+        return LocalTime.ofNanoOfDay(Math.floorMod(nextEpochMilli(random) + offsetMillis, MILLIS_PER_DAY)
+                * NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns the start of the range.
+     *
+     * @return The first instant of the range (inclusive), in milliseconds since the epoch.
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the end of the range.
+     *
+     * @return The end of the range (exclusive, unless it equals the start), in milliseconds since the epoch.
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the offset of the local values: UTC for {@link #between(Instant, Instant)}, the offset of the clock
+     * when the range was created for {@link #lastDays(int, Clock)}, or the one given to
+     * {@link #withOffset(ZoneOffset)}. It is fixed, so the local values ignore the daylight saving changes within
+     * the range.
+     *
+     * @return The offset the local dates and times are computed at.
+     */
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+}
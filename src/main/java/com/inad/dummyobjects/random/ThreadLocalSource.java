@@ -0,0 +1,27 @@
+package com.inad.dummyobjects.random;
+
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Random source creating one generator per thread on its first use.
+ */
+class ThreadLocalSource implements RandomSource {
+
+    private final ThreadLocal<RandomGenerator> generators;
+
+    /**
+     * Creates a source calling the given supplier once per thread.
+     *
+     * @param supplier Creates the generator of a thread.
+     */
+    ThreadLocalSource(final Supplier<? extends RandomGenerator> supplier) {
+        this.generators = ThreadLocal.withInitial(supplier);
+    }
+
+    @Override
+    public RandomGenerator current() {
+        return generators.get();
+    }
+
+}
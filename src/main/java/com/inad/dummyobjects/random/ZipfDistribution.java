@@ -0,0 +1,119 @@
+package com.inad.dummyobjects.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf distribution of the ranks {@code [1..n]}: rank {@code k} is drawn with a probability proportional to
+ * {@code 1 / k^exponent}, so a few ranks get most of the draws, like the customers of an order table or the words
+ * of a text.
+ * <p>
+ * The ranks are drawn by rejection-inversion (Hörmann and Derflinger, 1996) instead of a table of the {@code n}
+ * probabilities: the constants of the distribution are computed once, and a draw inverts the integral of a hat
+ * function, accepted after about one try on average. It therefore takes constant time, allocates nothing and uses
+ * no memory per rank, which allows millions of ranks.
+ * </p>
+ * <p>
+ * A distribution is immutable and can be shared between threads.
+ * </p>
+ */
+public final class ZipfDistribution {
+
+    private final int size;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralSize;
+    private final double threshold;
+
+    private ZipfDistribution(final int size, final double exponent) {
+        this.size = size;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralSize = hIntegral(size + 0.5);
+        this.threshold = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    /**
+     * Returns the Zipf distribution of the given number of ranks.
+     *
+     * @param size     The number of ranks.
+     * @param exponent The exponent, {@code 1} for the classic Zipf law; the higher, the more skewed.
+     * @return The distribution of the ranks {@code [1..size]}.
+     * @throws IllegalArgumentException if {@code size} is not positive or {@code exponent} is not positive and finite.
+     */
+    public static ZipfDistribution of(final int size, final double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Invalid number of ranks: " + size);
+        }
+        if (!(exponent > 0) || Double.isInfinite(exponent)) {
+            throw new IllegalArgumentException("Invalid exponent: " + exponent);
+        }
+        return new ZipfDistribution(size, exponent);
+    }
+
+    /**
+     * Draws a rank.
+     *
+     * @param random The random generator to draw from.
+     * @return A rank of {@code [1..size]}.
+     */
+    public int next(final RandomGenerator random) {
+        while (true) {
+            final double u = hIntegralSize + random.nextDouble() * (hIntegralX1 - hIntegralSize);
+            final double x = hIntegralInverse(u);
+            final int k = (int) Math.min(Math.max(x + 0.5, 1), size);
+            if (k - x <= threshold || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+
+    /**
+     * The hat function, {@code x^-exponent}.
+     */
+    private double h(final double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    /**
+     * The integral of the hat function, {@code (x^(1 - exponent) - 1) / (1 - exponent)}, continuous at
+     * {@code exponent = 1} where it is {@code log(x)}.
+     */
+    private double hIntegral(final double x) {
+        final double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(final double x) {
+        final double t = Math.max(x * (1 - exponent), -1);
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    /**
+     * Returns {@code log(1 + x) / x}, accurate near {@code 0}.
+     */
+    private static double log1pOverX(final double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+    }
+
+    /**
+     * Returns {@code (exp(x) - 1) / x}, accurate near {@code 0}.
+     */
+    private static double expm1OverX(final double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+    }
+
+}
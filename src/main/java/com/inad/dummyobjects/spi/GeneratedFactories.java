@@ -0,0 +1,47 @@
+package com.inad.dummyobjects.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of the {@link GeneratedFactory} implementations found on the class path.
+ * <p>
+ * The providers are loaded once, on first use, through the {@link ServiceLoader} of the
+ * thread context class loader.
+ * </p>
+ */
+public class GeneratedFactories {
+
+    private GeneratedFactories() {
+    }
+
+    /**
+     * Returns the generated factory registered for the given class.
+     *
+     * @param type The class to look up.
+     * @param <T>  The type of the class.
+     * @return The generated factory of {@code type}, or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedFactory<T> find(final Class<T> type) {
+        return (GeneratedFactory<T>) Holder.FACTORIES.get(type);
+    }
+
+    /**
+     * Lazy holder, so the service lookup only happens when a factory is first requested.
+     */
+    private static class Holder {
+
+        private static final Map<Class<?>, GeneratedFactory<?>> FACTORIES = load();
+
+        private static Map<Class<?>, GeneratedFactory<?>> load() {
+            final Map<Class<?>, GeneratedFactory<?>> factories = new HashMap<>();
+            for (GeneratedFactory<?> factory : ServiceLoader.load(GeneratedFactory.class)) {
+                factories.put(factory.type(), factory);
+            }
+            return factories;
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.inad.dummyobjects.spi;
+
+import com.inad.dummyobjects.plan.InstanceCreator;
+
+/**
+ * Reflection-free factory of a single class, usually generated at compile time by the
+ * {@code dummy-objects-processor} for classes annotated with
+ * {@link com.inad.dummyobjects.annotation.GenerateDummyFactory}.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader}: they must be listed in
+ * {@code META-INF/services/com.inad.dummyobjects.spi.GeneratedFactory} (the processor writes this file)
+ * and have a public no-arg constructor. When a factory is registered for a class,
+ * {@link com.inad.dummyobjects.Factory} uses it instead of its reflective generation plan.
+ * </p>
+ *
+ * @param <T> The type of the created objects.
+ */
+public interface GeneratedFactory<T> extends InstanceCreator<T> {
+
+    /**
+     * Returns the class created by this factory.
+     *
+     * @return The created class.
+     */
+    Class<T> type();
+
+}
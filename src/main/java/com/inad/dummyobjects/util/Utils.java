@@ -1,21 +1,37 @@
 package com.inad.dummyobjects.util;
 
 import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.random.RandomSource;
 
 import java.lang.reflect.Field;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class providing methods for generating random values.
  * <p>
- * This class wraps {@link java.util.Random} to provide easy access to random
- * strings, numbers (integers, longs, floats, doubles), booleans, and enum values.
- * It is primarily used by the {@link Factory} to populate dummy objects.
+ * This class provides easy access to random strings, numbers (integers, longs, floats, doubles),
+ * booleans, and enum values. It is primarily used by the {@link Factory} to populate dummy objects.
+ * </p>
+ * <p>
+ * Each method has a variant drawing its values from a given {@link RandomGenerator}: an overload for the strings
+ * and numbers, {@link #randomBooleanFrom(RandomGenerator)} and {@link #randomEnumFrom(RandomGenerator, Field)} for
+ * the booleans and enums. Pass it the generator of the generation, e.g.
+ * {@link com.inad.dummyobjects.GenerationContext#random()}, to follow the random source of a factory and keep seeded
+ * creations reproducible. The methods without a generator are thin wrappers drawing from the generator of the
+ * calling thread in the {@link RandomSource#threadLocalRandom() default source}, so concurrent callers never contend
+ * on a shared seed.
  * </p>
  */
 public class Utils {
 
-    private static final Random random = new Random();
+    private static final RandomSource source = RandomSource.threadLocalRandom();
+
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(final Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
 
     /**
      * Generates a random string of the specified length.
@@ -25,9 +41,21 @@ public class Utils {
      * @return A random string constructed from characters in {@code characterSet}.
      */
     public static String randomString(final int length, final String characterSet) {
-        final StringBuilder sb = new StringBuilder();
+        return randomString(source.current(), length, characterSet);
+    }
+
+    /**
+     * Generates a random string of the specified length using the given random generator.
+     *
+     * @param generator    The random generator to draw from.
+     * @param length       The length of the string to generate.
+     * @param characterSet The string containing the set of characters to choose from.
+     * @return A random string constructed from characters in {@code characterSet}.
+     */
+    public static String randomString(final RandomGenerator generator, final int length, final String characterSet) {
+        final StringBuilder sb = new StringBuilder(length);
         for (int i = 0; i < length; i++) {
-            int index = random.nextInt(characterSet.length());
+            int index = generator.nextInt(characterSet.length());
             sb.append(characterSet.charAt(index));
         }
         return sb.toString();
@@ -41,7 +69,19 @@ public class Utils {
      * @return A random long between {@code min} and {@code max}.
      */
     public static long randomNumber(final long min, final long max) {
-        return random.nextLong(min, max);
+        return randomNumber(source.current(), min, max);
+    }
+
+    /**
+     * Generates a random long value within the specified range using the given random generator.
+     *
+     * @param generator The random generator to draw from.
+     * @param min       The minimum value (inclusive).
+     * @param max       The maximum value (exclusive).
+     * @return A random long between {@code min} and {@code max}.
+     */
+    public static long randomNumber(final RandomGenerator generator, final long min, final long max) {
+        return generator.nextLong(min, max);
     }
 
     /**
@@ -52,7 +92,19 @@ public class Utils {
      * @return A random float between {@code min} and {@code max}.
      */
     public static float randomNumber(final float min, final float max) {
-        return random.nextFloat(min, max);
+        return randomNumber(source.current(), min, max);
+    }
+
+    /**
+     * Generates a random float value within the specified range using the given random generator.
+     *
+     * @param generator The random generator to draw from.
+     * @param min       The minimum value (inclusive).
+     * @param max       The maximum value (exclusive).
+     * @return A random float between {@code min} and {@code max}.
+     */
+    public static float randomNumber(final RandomGenerator generator, final float min, final float max) {
+        return generator.nextFloat(min, max);
     }
 
     /**
@@ -63,7 +115,19 @@ public class Utils {
      * @return A random double between {@code min} and {@code max}.
      */
     public static double randomNumber(final double min, final double max) {
-        return random.nextDouble(min, max);
+        return randomNumber(source.current(), min, max);
+    }
+
+    /**
+     * Generates a random double value within the specified range using the given random generator.
+     *
+     * @param generator The random generator to draw from.
+     * @param min       The minimum value (inclusive).
+     * @param max       The maximum value (exclusive).
+     * @return A random double between {@code min} and {@code max}.
+     */
+    public static double randomNumber(final RandomGenerator generator, final double min, final double max) {
+        return generator.nextDouble(min, max);
     }
 
     /**
@@ -72,27 +136,50 @@ public class Utils {
      * @return {@code true} or {@code false} randomly.
      */
     public static boolean randomBoolean() {
-        return random.nextBoolean();
+        return randomBooleanFrom(source.current());
     }
 
     /**
-     * Selects a random enum constant for the type of the provided field.
+     * Generates a random boolean value using the given random generator.
+     *
+     * @param generator The random generator to draw from.
+     * @return {@code true} or {@code false} randomly.
+     */
+    public static boolean randomBooleanFrom(final RandomGenerator generator) {
+        return generator.nextBoolean();
+    }
+
+    /**
+     * Selects a random enum constant for the type of the provided field. The constants of each enum are read once
+     * and cached, instead of being looked up and cloned on every call.
      *
      * @param field The field representing an Enum type.
      * @param <E>   The Enum type.
      * @return A random constant from the enum defined by the field's type.
-     * @throws ClassNotFoundException If the class of the field type cannot be located.
+     * @throws ClassNotFoundException Never thrown, kept for compatibility.
      * @throws ClassCastException     If the field type is not an Enum.
      */
-    @SuppressWarnings("unchecked")
     public static <E extends Enum<E>> E randomEnum(final Field field)
             throws ClassNotFoundException, ClassCastException {
-        E[] enums = (E[]) Class.forName(field.getType().getName()).getEnumConstants();
+        return randomEnumFrom(source.current(), field);
+    }
+
+    /**
+     * Selects a random enum constant for the type of the provided field using the given random generator.
+     *
+     * @param generator The random generator to draw from.
+     * @param field     The field representing an Enum type.
+     * @param <E>       The Enum type.
+     * @return A random constant from the enum defined by the field's type.
+     * @throws ClassCastException If the field type is not an Enum.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> E randomEnumFrom(final RandomGenerator generator, final Field field) {
+        final Object[] enums = ENUM_CONSTANTS.get(field.getType());
         if (enums == null) {
             throw new ClassCastException("Field type is not an enum.");
         }
-        int rand = randomNumber(0, enums.length);
-        return enums[rand];
+        return (E) enums[randomNumber(generator, 0, enums.length)];
     }
 
     /**
@@ -103,7 +190,19 @@ public class Utils {
      * @return A random int between {@code min} and {@code max}.
      */
     public static int randomNumber(final int min, final int max) {
-        return random.nextInt(min, max);
+        return randomNumber(source.current(), min, max);
+    }
+
+    /**
+     * Generates a random integer value within the specified range using the given random generator.
+     *
+     * @param generator The random generator to draw from.
+     * @param min       The minimum value (inclusive).
+     * @param max       The maximum value (exclusive).
+     * @return A random int between {@code min} and {@code max}.
+     */
+    public static int randomNumber(final RandomGenerator generator, final int min, final int max) {
+        return generator.nextInt(min, max);
     }
 
 }
\ No newline at end of file
@@ -1,13 +1,29 @@
 package com.inad.dummyobjects;
 
+import com.inad.dummyobjects.random.LengthDistribution;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FactoryTest {
@@ -103,6 +119,223 @@ class FactoryTest {
         }
     }
 
+    @Test
+    @DisplayName("Factory.createParallel(Class, int) should create a fully populated list of specific size")
+    void testCreateParallel() {
+        int size = 5_000;
+        List<DummyDto> list = Factory.createParallel(DummyDto.class, size);
+
+        assertEquals(size, list.size(), "List size should match the requested size");
+        for (DummyDto item : list) {
+            assertNotNull(item, "List items should not be null");
+            verifyPrimitives(item);
+            verifyList(item);
+        }
+    }
+
+    @Test
+    @DisplayName("Factory.createParallel(Class, int, Executor) should run on a plain executor")
+    void testCreateParallelWithExecutor() {
+        int size = 3_000;
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<DummyDto> list = Factory.createParallel(DummyDto.class, size, executor);
+
+            assertEquals(size, list.size(), "List size should match the requested size");
+            list.forEach(item -> assertNotNull(item.getInnerDto(), "List items should have populated nested objects"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Factory.create(Class, int, long) should be reproducible for a seed")
+    void testCreateSeeded() {
+        List<String> first = fingerprints(Factory.create(DummyDto.class, 100, 42L));
+        List<String> second = fingerprints(Factory.create(DummyDto.class, 100, 42L));
+        List<String> other = fingerprints(Factory.create(DummyDto.class, 100, 43L));
+
+        assertEquals(first, second, "Equal seeds should produce equal objects");
+        assertNotEquals(first, other, "Different seeds should produce different objects");
+    }
+
+    @Test
+    @DisplayName("Factory.createParallel(Class, int, long) should match the sequential creation for any thread count")
+    void testCreateParallelSeeded() {
+        int size = 5_000;
+        long seed = 20_240_917L;
+        List<String> sequential = fingerprints(Factory.create(DummyDto.class, size, seed));
+
+        assertEquals(sequential, fingerprints(Factory.createParallel(DummyDto.class, size, seed)),
+                "The common pool should produce the sequential objects");
+        for (int threads : new int[]{1, 2, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                assertEquals(sequential, fingerprints(Factory.createParallel(DummyDto.class, size, seed, pool)),
+                        "A fork/join pool of " + threads + " threads should produce the sequential objects");
+                assertEquals(sequential, fingerprints(Factory.createParallel(DummyDto.class, size, seed, executor)),
+                        "An executor of " + threads + " threads should produce the sequential objects");
+            } finally {
+                pool.shutdown();
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Factory.createAt(Class, long, long) should regenerate a single object of a seeded creation")
+    void testCreateAt() {
+        List<DummyDto> list = Factory.create(DummyDto.class, 2_000, 7L);
+
+        for (int index : new int[]{0, 1, 1_023, 1_024, 1_999}) {
+            assertEquals(fingerprint(list.get(index)), fingerprint(Factory.createAt(DummyDto.class, 7L, index)),
+                    "Object " + index + " should be regenerated identically");
+        }
+    }
+
+    @Test
+    @DisplayName("Factory.stream(Class, long, long) should create the seeded objects sequentially and in parallel")
+    void testStream() {
+        int size = 5_000;
+        List<String> expected = fingerprints(Factory.create(DummyDto.class, size, 11L));
+
+        assertEquals(size, Factory.stream(DummyDto.class, size).count(), "Stream size should match the requested size");
+        assertEquals(expected, fingerprints(Factory.stream(DummyDto.class, size, 11L).collect(Collectors.toList())),
+                "The sequential stream should produce the seeded objects");
+        assertEquals(expected, fingerprints(Factory.stream(DummyDto.class, size, 11L).parallel()
+                .collect(Collectors.toList())), "The parallel stream should produce the seeded objects");
+    }
+
+    @Test
+    @DisplayName("Factory.generate(Class, long) should create an unbounded stream of the seeded objects")
+    void testGenerate() {
+        List<String> expected = fingerprints(Factory.create(DummyDto.class, 3_000, 5L));
+
+        assertEquals(expected, fingerprints(Factory.generate(DummyDto.class, 5L).limit(3_000)
+                .collect(Collectors.toList())), "The unbounded stream should produce the seeded objects");
+        assertEquals(expected, fingerprints(Factory.generate(DummyDto.class, 5L).parallel().limit(3_000)
+                .collect(Collectors.toList())), "The parallel unbounded stream should produce the seeded objects");
+        assertTrue(Factory.generate(DummyDto.class).limit(10).allMatch(dto -> dto.getInnerDto() != null),
+                "The unbounded stream should create populated objects");
+    }
+
+    @Test
+    @DisplayName("Factory.populate(T) should refill an object in place, reusing its nested objects and list elements")
+    void testPopulate() {
+        DummyDto dto = Factory.create(DummyDto.class);
+        InnerDto inner = dto.getInnerDto();
+        List<InnerDto> list = dto.getListDto();
+        InnerDto first = list.get(0);
+        list.add(new InnerDto());
+
+        assertSame(dto, Factory.populate(dto, 9L, 4L), "The object itself should be populated");
+        assertSame(inner, dto.getInnerDto(), "The nested object should be reused");
+        assertSame(list, dto.getListDto(), "The list should be reused");
+        assertSame(first, dto.getListDto().get(0), "The list elements should be reused");
+        assertEquals(3, list.size(), "The list should be trimmed to its generated size");
+        assertEquals(fingerprint(Factory.createAt(DummyDto.class, 9L, 4L)), fingerprint(dto),
+                "A seeded population should produce the seeded object");
+
+        dto.setListDto(List.of());
+        dto.setInnerDto(null);
+        Factory.populate(dto);
+        assertNotNull(dto.getInnerDto(), "A missing nested object should be created");
+        assertEquals(3, dto.getListDto().size(), "An unmodifiable list should be replaced");
+    }
+
+    @Test
+    @DisplayName("Factory.populate(Class, int, List) should refill a pool of objects")
+    void testPopulatePool() {
+        List<DummyDto> pool = Factory.create(DummyDto.class, 5);
+        DummyDto first = pool.get(0);
+
+        assertSame(pool, Factory.populate(DummyDto.class, 8, pool), "The pool should be returned");
+        assertEquals(8, pool.size(), "The pool should grow to the batch size");
+        assertSame(first, pool.get(0), "The pooled objects should be reused");
+        Factory.populate(DummyDto.class, 2, pool);
+        assertEquals(2, pool.size(), "The pool should shrink to the batch size");
+        pool.forEach(dto -> assertNotNull(dto.getInnerDto(), "The pooled objects should be populated"));
+    }
+
+    // Date and time fields hold the current time, so they are left out of the comparisons
+    private static List<String> fingerprints(List<DummyDto> list) {
+        return list.stream().map(FactoryTest::fingerprint).collect(Collectors.toList());
+    }
+
+    private static String fingerprint(DummyDto dto) {
+        return String.join("|", dto.getStringVal(), String.valueOf(dto.getIntVal()),
+                String.valueOf(dto.getLongVal()), String.valueOf(dto.getFloatVal()),
+                String.valueOf(dto.getDoubleVal()), String.valueOf(dto.isBooleanVal()),
+                String.valueOf(dto.getIntegerWrapper()), String.valueOf(dto.getLongWrapper()),
+                String.valueOf(dto.getFloatWrapper()), String.valueOf(dto.getDoubleWrapper()),
+                String.valueOf(dto.getBooleanWrapper()), String.valueOf(dto.getBigDecimalVal()),
+                String.valueOf(dto.getEnumVal()), fingerprint(dto.getInnerDto()),
+                dto.getListDto().stream().map(FactoryTest::fingerprint).collect(Collectors.joining(",")));
+    }
+
+    private static String fingerprint(InnerDto dto) {
+        return dto.getName() + ":" + dto.getNumber();
+    }
+
+    @Test
+    @DisplayName("Factory.create(Class) should populate fields declared by superclasses")
+    void testCreateInheritedFields() {
+        ChildDto dto = Factory.create(ChildDto.class);
+
+        assertNotNull(dto.getName(), "Inherited field should be populated");
+        assertTrue(dto.getNumber() >= 1, "Inherited primitive field should be populated");
+        assertNotNull(dto.getChildName(), "Own field should be populated");
+    }
+
+    @Test
+    @DisplayName("Factory.planFor(Class) should build the generation plan only once per class")
+    void testPlanIsCached() {
+        assertSame(Factory.planFor(DummyDto.class), Factory.planFor(DummyDto.class),
+                "The generation plan should be reused");
+    }
+
+    @Test
+    @DisplayName("Factory.create(Class) should populate sets, maps, queues and arrays from their generic types")
+    void testContainers() {
+        ContainersDto dto = Factory.create(ContainersDto.class);
+
+        assertInstanceOf(HashSet.class, dto.tags, "Sets should be hash sets");
+        assertFalse(dto.tags.isEmpty(), "Sets should be populated");
+        dto.tags.forEach(tag -> assertInstanceOf(String.class, tag));
+        assertInstanceOf(TreeSet.class, dto.sortedEnums, "Sorted sets should be tree sets");
+        assertFalse(dto.sortedEnums.isEmpty(), "Sorted sets should be populated");
+        assertEquals(3, dto.counts.size(), "Maps should be populated");
+        dto.counts.values().forEach(values -> assertEquals(3, values.size(), "Nested generics should be resolved"));
+        assertInstanceOf(ArrayDeque.class, dto.queue, "Queues should be array deques");
+        assertEquals(3, dto.queue.size(), "Queues of nested objects should be populated");
+        dto.queue.forEach(inner -> assertNotNull(inner.getName()));
+        assertEquals(3, dto.linked.size(), "Concrete collections should be instantiated");
+        assertEquals(3, dto.ints.length, "Primitive arrays should be populated");
+        for (int value : dto.ints) {
+            assertTrue(value >= 1 && value < 10, "Primitive array elements should follow the default ranges");
+        }
+        assertEquals(3, dto.bytes.length, "Byte arrays should be populated");
+        assertEquals(10, dto.chars.length, "Char arrays should be strings");
+        assertEquals(3, dto.inners.length, "Object arrays should be populated");
+        assertNotNull(dto.inners[2].getName(), "Object array elements should be populated");
+        assertEquals(3, dto.wildcards.size(), "Wildcards should resolve to their bound");
+    }
+
+    @Test
+    @DisplayName("ObjectFactory should size collections from its collection size distribution")
+    void testCollectionSize() {
+        ObjectFactory factory = ObjectFactory.builder().collectionSize(LengthDistribution.uniform(4, 6)).build();
+
+        for (ContainersDto dto : factory.create(ContainersDto.class, 20)) {
+            assertTrue(dto.ints.length >= 4 && dto.ints.length <= 6, "Arrays should follow the distribution");
+            assertTrue(dto.queue.size() >= 4 && dto.queue.size() <= 6, "Queues should follow the distribution");
+            assertTrue(dto.counts.size() >= 4 && dto.counts.size() <= 6, "Maps should follow the distribution");
+        }
+        assertEquals(0, ObjectFactory.builder().collectionSize(LengthDistribution.fixed(0)).build()
+                .create(DummyDto.class).getListDto().size(), "Lists should be empty for a size of 0");
+    }
+
     public enum TestEnum {
         ITEM_1, ITEM_2
     }
@@ -129,4 +362,31 @@ class FactoryTest {
         }
     }
 
-}
\ No newline at end of file
+    // Subclass used to verify that inherited fields are populated
+    public static class ChildDto extends InnerDto {
+        private String childName;
+
+        public String getChildName() {
+            return childName;
+        }
+
+        public void setChildName(String childName) {
+            this.childName = childName;
+        }
+    }
+
+    // Container fields resolved from their generic types
+    public static class ContainersDto {
+        private Set<String> tags;
+        private SortedSet<TestEnum> sortedEnums;
+        private Map<String, List<Long>> counts;
+        private Queue<InnerDto> queue;
+        private LinkedList<Double> linked;
+        private int[] ints;
+        private byte[] bytes;
+        private char[] chars;
+        private InnerDto[] inners;
+        private List<? extends Integer> wildcards;
+    }
+
+}
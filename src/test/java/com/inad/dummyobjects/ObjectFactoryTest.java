@@ -0,0 +1,237 @@
+package com.inad.dummyobjects;
+
+import com.inad.dummyobjects.random.Alphabet;
+import com.inad.dummyobjects.random.LengthDistribution;
+import com.inad.dummyobjects.random.RandomSource;
+import com.inad.dummyobjects.random.TemporalRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjectFactoryTest {
+
+    @Test
+    @DisplayName("ObjectFactory should draw its unseeded values from its random source")
+    void testCustomRandomSource() {
+        AtomicInteger calls = new AtomicInteger();
+        SplittableRandom random = new SplittableRandom(1L);
+        ObjectFactory factory = ObjectFactory.builder()
+                .randomSource(() -> {
+                    calls.incrementAndGet();
+                    return random;
+                })
+                .build();
+
+        DummyDto dto = factory.create(DummyDto.class);
+
+        assertNotNull(dto.getInnerDto(), "Nested object should be populated");
+        assertEquals(1, calls.get(), "A single generator should be requested per creation");
+    }
+
+    @Test
+    @DisplayName("ObjectFactory should create objects from a java.util.random algorithm")
+    void testAlgorithmRandomSource() {
+        ObjectFactory factory = ObjectFactory.builder().randomSource(RandomSource.of("L64X128MixRandom")).build();
+
+        List<DummyDto> list = factory.createParallel(DummyDto.class, 3_000);
+
+        assertEquals(3_000, list.size(), "List size should match the requested size");
+        list.forEach(item -> assertTrue(item.getIntVal() >= 1, "List items should have populated fields"));
+    }
+
+    @Test
+    @DisplayName("RandomSource.splittable() should keep one generator per thread")
+    void testSplittableRandomSource() throws InterruptedException {
+        RandomSource source = RandomSource.splittable();
+        Object[] other = new Object[1];
+        Thread thread = new Thread(() -> other[0] = source.current());
+        thread.start();
+        thread.join();
+
+        assertSame(source.current(), source.current(), "A thread should reuse its generator");
+        assertNotSame(source.current(), other[0], "Each thread should have its own generator");
+    }
+
+    @Test
+    @DisplayName("RandomSource.of(String) should reject unknown algorithms")
+    void testUnknownAlgorithm() {
+        assertThrows(IllegalArgumentException.class, () -> RandomSource.of("NoSuchRandom"));
+    }
+
+    @Test
+    @DisplayName("ObjectFactory should generate strings with its alphabet and length distribution")
+    void testStringSettings() {
+        ObjectFactory factory = ObjectFactory.builder()
+                .alphabet(Alphabet.of("0123456789"))
+                .stringLength(LengthDistribution.uniform(3, 5))
+                .build();
+
+        for (DummyDto dto : factory.create(DummyDto.class, 50)) {
+            for (String value : new String[]{dto.getStringVal(), dto.getInnerDto().getName()}) {
+                assertTrue(value.length() >= 3 && value.length() <= 5, "Length should follow the distribution");
+                assertTrue(value.chars().allMatch(Character::isDigit), "Characters should follow the alphabet");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Seeded creations should not depend on the random source")
+    void testSeededIgnoresRandomSource() {
+        ObjectFactory factory = ObjectFactory.builder().randomSource(RandomSource.splittable()).build();
+
+        assertEquals(Factory.createAt(DummyDto.class, 3L, 10L).getStringVal(),
+                factory.createAt(DummyDto.class, 3L, 10L).getStringVal(),
+                "Equal seeds should produce equal objects in every factory");
+    }
+
+    @Test
+    @DisplayName("Seeded dates should be reproducible with a fixed clock")
+    void testSeededDates() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-01T12:00:00Z"), ZoneOffset.UTC);
+        DummyDto first = ObjectFactory.builder().temporalRange(TemporalRange.lastDays(10, clock)).build()
+                .createAt(DummyDto.class, 5L, 3L);
+        DummyDto second = ObjectFactory.builder().temporalRange(TemporalRange.lastDays(10, clock)).build()
+                .createAt(DummyDto.class, 5L, 3L);
+
+        assertEquals(first.getDateVal(), second.getDateVal(), "Dates should be equal");
+        assertEquals(first.getLocalDateTimeVal(), second.getLocalDateTimeVal(), "Local date-times should be equal");
+        assertTrue(first.getInstantVal().isBefore(clock.instant()), "Instants should be before the clock");
+        assertNotEquals(first.getDateVal().toInstant(), first.getInstantVal(), "Each field should draw its own value");
+    }
+
+    @Test
+    @DisplayName("Seeded dates should not depend on when the factory was built")
+    void testSeededDatesDefaultRange() {
+        ObjectFactory early = ObjectFactory.builder()
+                .clock(Clock.fixed(Instant.parse("2020-03-01T00:00:00Z"), ZoneOffset.UTC)).build();
+        ObjectFactory late = ObjectFactory.builder()
+                .clock(Clock.fixed(Instant.parse("2031-09-15T08:30:00Z"), ZoneOffset.ofHours(9))).build();
+        DummyDto first = early.createAt(DummyDto.class, 8L, 2L);
+        DummyDto second = late.createAt(DummyDto.class, 8L, 2L);
+
+        assertEquals(first.getInstantVal(), second.getInstantVal(), "Instants should be equal");
+        assertEquals(first.getLocalDateTimeVal(), second.getLocalDateTimeVal(), "Local date-times should be equal");
+        assertEquals(first.getDateVal(), second.getDateVal(), "Dates should be equal");
+        assertTrue(late.create(DummyDto.class).getInstantVal().isAfter(Instant.parse("2030-09-15T08:30:00Z")),
+                "Unseeded dates should end at the clock of the factory");
+    }
+
+    @Test
+    @DisplayName("Back-references should be left null by default")
+    void testCycleNull() {
+        Node node = Factory.create(Node.class);
+
+        assertNull(node.next, "A back-reference should be left null");
+        assertTrue(node.children.isEmpty(), "Back-references should not be added to lists");
+        assertNotNull(node.tag, "Other fields should be populated");
+    }
+
+    @Test
+    @DisplayName("The REUSE cycle policy should set back-references to the enclosing object")
+    void testCycleReuse() {
+        ObjectFactory factory = ObjectFactory.builder().cyclePolicy(CyclePolicy.REUSE).build();
+
+        Node node = factory.create(Node.class);
+        Holder holder = factory.create(Holder.class);
+
+        assertSame(node, node.next, "A back-reference should reference the enclosing object");
+        assertTrue(node.children.isEmpty(), "Back-references should not be added to lists");
+        assertSame(holder.node, holder.node.next, "The nearest enclosing object should be reused");
+    }
+
+    @Test
+    @DisplayName("The ALLOW cycle policy should nest objects down to the depth limit")
+    void testDepthLimit() {
+        ObjectFactory factory = ObjectFactory.builder().cyclePolicy(CyclePolicy.ALLOW).maxDepth(4).build();
+
+        Node node = factory.createAt(Node.class, 1L, 0L);
+
+        int depth = 0;
+        for (Node current = node; current.next != null; current = current.next) {
+            depth++;
+        }
+        assertEquals(4, depth, "Objects should be nested down to the depth limit");
+        assertEquals(3, node.children.size(), "Lists should be populated above the limit");
+    }
+
+    @Test
+    @DisplayName("Same-class hierarchies should be cut by default and generated down to the depth limit with ALLOW")
+    void testSameClassHierarchy() {
+        Employee cut = Factory.create(Employee.class);
+        Employee deep = ObjectFactory.builder().cyclePolicy(CyclePolicy.ALLOW).maxDepth(2).build()
+                .create(Employee.class);
+
+        assertNull(cut.manager, "A same-class field should be a back-reference");
+        assertTrue(cut.reports.isEmpty(), "Same-class elements should be back-references");
+        assertNotNull(deep.manager.manager, "The hierarchy should reach the depth limit");
+        assertNull(deep.manager.manager.manager, "The hierarchy should stop at the depth limit");
+        assertFalse(deep.reports.isEmpty(), "Same-class elements should be created");
+    }
+
+    @Test
+    @DisplayName("The object budget should bound the objects created per top-level object")
+    void testObjectBudget() {
+        ObjectFactory factory = ObjectFactory.builder().cyclePolicy(CyclePolicy.ALLOW).maxObjects(20).build();
+
+        for (Node node : factory.create(Node.class, 5)) {
+            assertEquals(20, count(node), "Each graph should hold the object budget");
+        }
+        assertThrows(IllegalArgumentException.class, () -> ObjectFactory.builder().maxObjects(0));
+        assertThrows(IllegalArgumentException.class, () -> ObjectFactory.builder().maxDepth(-1));
+    }
+
+    @Test
+    @DisplayName("Populating a cyclic graph again should not loop")
+    void testPopulateCycle() {
+        ObjectFactory factory = ObjectFactory.builder().cyclePolicy(CyclePolicy.REUSE).build();
+        Node node = factory.create(Node.class);
+        String tag = node.tag;
+
+        assertSame(node, factory.populate(node).next, "The back-reference should be kept");
+        assertNotEquals(tag, node.tag, "The fields should be populated again");
+    }
+
+    private static int count(final Node node) {
+        if (node == null) {
+            return 0;
+        }
+        int count = 1 + count(node.next);
+        for (Node child : node.children) {
+            count += count(child);
+        }
+        return count;
+    }
+
+    public static class Node {
+        private String tag;
+        private Node next;
+        private List<Node> children;
+    }
+
+    public static class Employee {
+        private String name;
+        private Employee manager;
+        private List<Employee> reports;
+    }
+
+    public static class Holder {
+        private Node node;
+    }
+
+}
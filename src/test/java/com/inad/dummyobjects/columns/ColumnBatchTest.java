@@ -0,0 +1,122 @@
+package com.inad.dummyobjects.columns;
+
+import com.inad.dummyobjects.DummyDto;
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.NullRate;
+import com.inad.dummyobjects.annotation.Pattern;
+import com.inad.dummyobjects.annotation.Range;
+import com.inad.dummyobjects.annotation.Unique;
+import com.inad.dummyobjects.random.Alphabet;
+import com.inad.dummyobjects.random.LengthDistribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnBatchTest {
+
+    @Test
+    @DisplayName("createColumns should generate one primitive column per supported field")
+    void testColumns() {
+        ColumnBatch<DummyDto> batch = Factory.createColumns(DummyDto.class, 500);
+
+        assertEquals(500, batch.size(), "Batch size should match the requested size");
+        List<String> names = batch.getColumns().stream().map(Column::getName).toList();
+        assertEquals(List.of("stringVal", "intVal", "longVal", "floatVal", "doubleVal", "booleanVal",
+                "integerWrapper", "longWrapper", "floatWrapper", "doubleWrapper", "booleanWrapper", "enumVal"),
+                names, "Only the fields with a primitive representation should have a column");
+        for (int value : batch.column("intVal", Column.IntColumn.class).values()) {
+            assertTrue(value >= 1 && value < 10, "Int values should follow the default range");
+        }
+        for (long value : batch.column("longWrapper", Column.LongColumn.class).values()) {
+            assertTrue(value >= 100 && value < 1000, "Long values should follow the default range");
+        }
+        batch.getColumns().forEach(column -> assertEquals(500, column.size(), "Columns should hold every row"));
+    }
+
+    @Test
+    @DisplayName("Enum columns should hold the ordinals of the enum constants")
+    void testEnumColumn() {
+        Column.EnumColumn column = Factory.createColumns(DummyDto.class, 200)
+                .column("enumVal", Column.EnumColumn.class);
+
+        assertNotNull(column.byteOrdinals(), "Small enums should be encoded as bytes");
+        assertNull(column.shortOrdinals(), "Small enums should not be encoded as shorts");
+        assertArrayEquals(column.getField().getType().getEnumConstants(), column.dictionary(),
+                "Dictionary should list the constants");
+        for (int i = 0; i < column.size(); i++) {
+            assertEquals(column.ordinal(i), ((Enum<?>) column.get(i)).ordinal(),
+                    "Rows should decode to the constant of their ordinal");
+        }
+    }
+
+    @Test
+    @DisplayName("String columns should follow the string settings of the factory")
+    void testStringColumn() {
+        ObjectFactory factory = ObjectFactory.builder()
+                .alphabet(Alphabet.of("xyz"))
+                .stringLength(LengthDistribution.uniform(0, 6))
+                .build();
+        Column.StringColumn column = factory.createColumns(DummyDto.class, 300)
+                .column("stringVal", Column.StringColumn.class);
+
+        int[] offsets = column.offsets();
+        assertEquals(0, offsets[0], "The first row should start the data");
+        assertEquals(column.data().length, offsets[300], "The last offset should end the data");
+        for (int i = 0; i < 300; i++) {
+            String value = column.get(i);
+            assertEquals(column.length(i), value.length(), "Rows should decode to their length");
+            assertTrue(value.length() <= 6, "Length should follow the distribution");
+            assertTrue(value.chars().allMatch(c -> "xyz".indexOf(c) >= 0), "Characters should follow the alphabet");
+        }
+    }
+
+    @Test
+    @DisplayName("ColumnBatch.column should reject unknown columns")
+    void testUnknownColumn() {
+        ColumnBatch<DummyDto> batch = Factory.createColumns(DummyDto.class, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> batch.column("innerDto"));
+        assertThrows(IllegalArgumentException.class, () -> batch.column("intVal", Column.LongColumn.class));
+    }
+
+
+    @Test
+    @DisplayName("Annotated fields should be generated by their plan, so their annotations apply")
+    void testAnnotatedColumns() {
+        ColumnBatch<Keyed> batch = Factory.createColumns(Keyed.class, 100);
+
+        int[] ids = batch.column("id", Column.IntColumn.class).values();
+        assertEquals(100, Arrays.stream(ids).distinct().count(), "Unique values should be distinct");
+        assertTrue(Arrays.stream(ids).allMatch(id -> id >= 0 && id < 100), "Values should be in their range");
+        Column.StringColumn codes = batch.column("code", Column.StringColumn.class);
+        for (int i = 0; i < codes.size(); i++) {
+            assertTrue(codes.get(i).matches("[A-Z]{3}"), "Strings should match their pattern: " + codes.get(i));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Factory.createColumns(Nullable.class, 10),
+                "Fields that may be null should be rejected");
+    }
+
+    public static class Keyed {
+        @Unique
+        @Range(min = 0, max = 99)
+        private int id;
+        @Pattern("[A-Z]{3}")
+        private String code;
+    }
+
+    public static class Nullable {
+        @NullRate(0.5)
+        private Integer count;
+    }
+
+}
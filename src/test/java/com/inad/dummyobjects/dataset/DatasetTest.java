@@ -0,0 +1,113 @@
+package com.inad.dummyobjects.dataset;
+
+import com.inad.dummyobjects.DummyDto;
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.annotation.Pattern;
+import com.inad.dummyobjects.annotation.Unique;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DatasetTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Dataset rows should hold the seeded values of the flat fields")
+    void testRoundTrip() {
+        Path file = directory.resolve("dummies.bin");
+        Factory.writeDataset(DummyDto.class, 2_000, file, 42L);
+
+        try (Dataset<DummyDto> dataset = Dataset.open(file, DummyDto.class)) {
+            assertEquals(2_000, dataset.size(), "Size should match the written rows");
+            assertFalse(dataset.getFieldNames().contains("innerDto"), "Nested objects should not be stored");
+            for (long index : new long[]{0, 1, 999, 1_999}) {
+                DummyDto expected = Factory.createAt(DummyDto.class, 42L, index);
+                DummyDto actual = dataset.get(index);
+                assertEquals(expected.getStringVal(), actual.getStringVal(), "Strings should round-trip");
+                assertEquals(expected.getIntVal(), actual.getIntVal(), "Ints should round-trip");
+                assertEquals(expected.getDoubleVal(), actual.getDoubleVal(), "Doubles should round-trip");
+                assertEquals(expected.isBooleanVal(), actual.isBooleanVal(), "Booleans should round-trip");
+                assertEquals(expected.getLongWrapper(), actual.getLongWrapper(), "Wrappers should round-trip");
+                assertEquals(expected.getBigDecimalVal(), actual.getBigDecimalVal(), "Decimals should round-trip");
+                assertEquals(expected.getEnumVal(), actual.getEnumVal(), "Enums should round-trip");
+                assertNotNull(actual.getLocalDateTimeVal(), "Dates should be stored");
+                assertNull(actual.getInnerDto(), "Nested objects should not be rebuilt");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Dataset rows should read their fields in place")
+    void testRowView() {
+        Path file = directory.resolve("rows.bin");
+        Factory.writeDataset(DummyDto.class, 10, file, 7L);
+
+        try (Dataset<DummyDto> dataset = Dataset.open(file, DummyDto.class)) {
+            Dataset<DummyDto>.Row row = dataset.row(3);
+            DummyDto instance = dataset.get(3);
+
+            assertEquals(instance.getIntVal(), row.getInt("intVal"), "Int views should match the instance");
+            assertEquals(instance.getStringVal(), row.getString("stringVal"), "String views should match");
+            assertEquals(instance.getStringVal(), StandardCharsets.UTF_8.decode(row.getBytes("stringVal")).toString(),
+                    "Byte views should hold the encoded string");
+            assertEquals(instance.getEnumVal().ordinal(), row.getOrdinal("enumVal"), "Ordinals should match");
+            assertEquals(instance.getEnumVal(), row.get("enumVal"), "Enums should resolve to their constant");
+            assertEquals(Factory.createAt(DummyDto.class, 7L, 3L).getInstantVal(), row.get("instantVal"),
+                    "Instants should round-trip");
+            assertThrows(IllegalArgumentException.class, () -> row.getLong("intVal"));
+            assertThrows(IllegalArgumentException.class, () -> row.get("innerDto"));
+            assertThrows(IndexOutOfBoundsException.class, () -> dataset.row(10));
+            assertEquals(List.of(dataset.get(0).getStringVal(), dataset.get(1).getStringVal()),
+                    dataset.stream().limit(2).map(DummyDto::getStringVal).toList(), "The stream should rebuild the rows");
+        }
+    }
+
+    @Test
+    @DisplayName("Dataset.open should reject datasets of another class")
+    void testWrongClass() {
+        Path file = directory.resolve("other.bin");
+        Factory.writeDataset(DummyDto.class, 1, file);
+
+        assertThrows(IllegalArgumentException.class, () -> Dataset.open(file, Other.class));
+    }
+
+    @Test
+    @DisplayName("Unseeded datasets should give distinct values to the drawn @Unique fields")
+    void testUnseededUnique() {
+        Path file = directory.resolve("codes.bin");
+        Factory.writeDataset(Coded.class, 300, file);
+
+        try (Dataset<Coded> dataset = Dataset.open(file, Coded.class)) {
+            Set<String> codes = new HashSet<>();
+            for (long index = 0; index < dataset.size(); index++) {
+                codes.add(dataset.get(index).code);
+            }
+            assertEquals(300, codes.size(), "Drawn unique values should be distinct");
+        }
+    }
+
+    public static class Coded {
+        @Unique
+        @Pattern("[a-z]{3}")
+        private String code;
+    }
+
+    public static class Other {
+        private int value;
+    }
+
+}
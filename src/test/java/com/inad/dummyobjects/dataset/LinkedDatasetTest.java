@@ -0,0 +1,149 @@
+package com.inad.dummyobjects.dataset;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.ForeignKey;
+import com.inad.dummyobjects.annotation.NullRate;
+import com.inad.dummyobjects.annotation.PrimaryKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinkedDatasetTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Foreign keys should reference the primary keys of written rows")
+    void testForeignKeys() {
+        LinkedDataset linked = Factory.linkedDataset()
+                .rows(Line.class, 5_000)
+                .fanOut(Order.class, Customer.class, 0, 4)
+                .rows(Customer.class, 1_000)
+                .write(directory, 3L);
+
+        assertEquals(List.of(Customer.class, Order.class, Line.class), linked.getEntities(),
+                "Entities should be written in dependency order");
+        Set<Long> customers = new HashSet<>();
+        try (Dataset<Customer> dataset = linked.open(Customer.class)) {
+            dataset.stream().forEach(customer -> customers.add(customer.id));
+        }
+        assertEquals(1_000, customers.size(), "Primary keys should be unique");
+
+        Set<Integer> orders = new HashSet<>();
+        Map<Long, Integer> perCustomer = new HashMap<>();
+        try (Dataset<Order> dataset = linked.open(Order.class)) {
+            assertEquals(linked.size(Order.class), dataset.size(), "Sizes should match the files");
+            long previous = Long.MIN_VALUE;
+            int changes = 0;
+            for (long i = 0; i < dataset.size(); i++) {
+                Order order = dataset.get(i);
+                assertTrue(customers.contains(order.customerId), "Orders should reference existing customers");
+                orders.add(order.id);
+                perCustomer.merge(order.customerId, 1, Integer::sum);
+                changes += order.customerId != previous ? 1 : 0;
+                previous = order.customerId;
+            }
+            assertEquals(perCustomer.size(), changes, "The orders of a customer should follow each other");
+        }
+        assertTrue(perCustomer.values().stream().allMatch(count -> count <= 4), "Fan-out should be bounded");
+        assertTrue(linked.size(Order.class) > 1_000 && linked.size(Order.class) < 3_000,
+                "Fan-out should be drawn per customer");
+
+        try (Dataset<Line> dataset = linked.open(Line.class)) {
+            long nulls = 0;
+            for (long i = 0; i < dataset.size(); i++) {
+                Line line = dataset.get(i);
+                assertTrue(orders.contains(line.orderId), "Lines should reference existing orders");
+                if (line.customerId == null) {
+                    nulls++;
+                } else {
+                    assertTrue(customers.contains(line.customerId), "Lines should reference existing customers");
+                }
+            }
+            assertTrue(nulls > 1_500 && nulls < 3_500, "Null rates of foreign keys should be kept");
+        }
+    }
+
+    @Test
+    @DisplayName("Linked datasets should only depend on the seed")
+    void testReproducible() throws Exception {
+        Path first = Files.createDirectory(directory.resolve("first"));
+        Path second = Files.createDirectory(directory.resolve("second"));
+        for (Path target : new Path[]{first, second}) {
+            ObjectFactory.builder().build().linkedDataset()
+                    .rows(Customer.class, 200)
+                    .fanOut(Order.class, Customer.class, 1, 3)
+                    .write(target, 11L);
+        }
+
+        for (String name : new String[]{Customer.class.getName(), Order.class.getName()}) {
+            assertEquals(-1, Files.mismatch(first.resolve(name + ".bin"), second.resolve(name + ".bin")),
+                    "Files of equal seeds should be equal: " + name);
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid links should be rejected before any file is written")
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> Factory.linkedDataset().rows(Order.class, 10).write(directory, 1L), "undeclared");
+        assertThrows(IllegalArgumentException.class,
+                () -> Factory.linkedDataset().rows(Node.class, 10).write(directory, 1L), "cycle");
+        assertThrows(IllegalArgumentException.class,
+                () -> Factory.linkedDataset().rows(Customer.class, 10).rows(Customer.class, 10), "twice");
+        assertThrows(IllegalArgumentException.class,
+                () -> Factory.linkedDataset().fanOut(Customer.class, Order.class, 0, 1), "no foreign key");
+        assertThrows(IllegalArgumentException.class,
+                () -> Factory.linkedDataset().rows(Narrow.class, 1).rows(Customer.class, 1).write(directory, 1L),
+                "int reference to a long key");
+    }
+
+    public static class Customer {
+        @PrimaryKey
+        private long id;
+        private String name;
+    }
+
+    public static class Order {
+        @PrimaryKey
+        private int id;
+        @ForeignKey(Customer.class)
+        private long customerId;
+        private double amount;
+    }
+
+    public static class Line {
+        @ForeignKey(Order.class)
+        private int orderId;
+        @NullRate(0.5)
+        @ForeignKey(Customer.class)
+        private Long customerId;
+    }
+
+    public static class Node {
+        @PrimaryKey
+        private long id;
+        @ForeignKey(Node.class)
+        private long parentId;
+    }
+
+    public static class Narrow {
+        @ForeignKey(Customer.class)
+        private int customerId;
+    }
+
+}
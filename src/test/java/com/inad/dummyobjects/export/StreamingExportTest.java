@@ -0,0 +1,216 @@
+package com.inad.dummyobjects.export;
+
+import com.inad.dummyobjects.CyclePolicy;
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.NullRate;
+import com.inad.dummyobjects.annotation.Pattern;
+import com.inad.dummyobjects.annotation.Unique;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingExportTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("writeJsonLines should write the seeded objects, nested ones included, one per line")
+    void testJsonLines() throws IOException {
+        Path file = directory.resolve("customers.jsonl");
+        Factory.writeJsonLines(Customer.class, 3_000, file, 11L);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3_000, lines.size(), "There should be one line per row");
+        for (int index : new int[]{0, 1_500, 2_999}) {
+            Customer expected = Factory.createAt(Customer.class, 11L, index);
+            String line = lines.get(index);
+            assertTrue(line.startsWith("{\"name\":\"" + expected.name + "\",\"age\":" + expected.age
+                    + ",\"status\":\"" + expected.status + "\",\"address\":{\"city\":\"" + expected.address.city
+                    + "\",\"zip\":" + expected.address.zip + "},\"phones\":[{\"number\":\""), line);
+            expected.phones.forEach(phone -> assertTrue(line.contains("{\"number\":\"" + phone.number + "\"}"),
+                    "List elements should be encoded in place"));
+            assertTrue(line.endsWith(",\"balance\":" + expected.balance + "}"), line);
+        }
+    }
+
+    @Test
+    @DisplayName("writeCsv should flatten nested objects into columns and lists into JSON cells")
+    void testCsv() throws IOException {
+        Path file = directory.resolve("customers.csv");
+        Factory.writeCsv(Customer.class, 100, file, 5L);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(101, lines.size(), "There should be a header and one line per row");
+        assertEquals("name,age,status,address.city,address.zip,phones,balance", lines.get(0), "Header");
+        Customer expected = Factory.createAt(Customer.class, 5L, 42);
+        assertEquals(expected.name + "," + expected.age + "," + expected.status + "," + expected.address.city + ","
+                + expected.address.zip + ",\"[{\"\"number\"\":\"\"" + expected.phones.get(0).number
+                + "\"\"},{\"\"number\"\":\"\"" + expected.phones.get(1).number + "\"\"},{\"\"number\"\":\"\""
+                + expected.phones.get(2).number + "\"\"}]\"," + expected.balance, lines.get(43), "Row 42");
+    }
+
+    @Test
+    @DisplayName("Parallel exports should write the same file as sequential ones")
+    void testParallel() throws IOException {
+        Path sequential = directory.resolve("sequential.jsonl");
+        Path pooled = directory.resolve("pooled.jsonl");
+        Path fixed = directory.resolve("fixed.csv");
+        Path fixedSequential = directory.resolve("fixed-sequential.csv");
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Factory.writeJsonLines(Customer.class, 10_000, sequential, 3L);
+            Factory.writeJsonLines(Customer.class, 10_000, pooled, 3L, ForkJoinPool.commonPool());
+            Factory.writeCsv(Customer.class, 5_000, fixedSequential, 3L);
+            Factory.writeCsv(Customer.class, 5_000, fixed, 3L, executor);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(-1L, Files.mismatch(sequential, pooled), "JSON Lines files should be equal");
+        assertEquals(-1L, Files.mismatch(fixedSequential, fixed), "CSV files should be equal");
+    }
+
+    @Test
+    @DisplayName("ExportBuffer should escape JSON strings and CSV cells")
+    void testEscaping() throws IOException {
+        assertEquals("a\\\"b\\\\c\\u000aé😀", written(new ExportBuffer(1)
+                .putJsonEscaped("a\"b\\c\né😀")));
+        assertEquals("\"x,\"\"y\"\"\"", written(new ExportBuffer(1).putCsvEscaped("x,\"y\"")));
+        assertEquals("plain", written(new ExportBuffer(1).putCsvEscaped("plain")));
+        assertEquals("-9223372036854775808 0 -42 1000000000000000000", written(new ExportBuffer(1)
+                .putLong(Long.MIN_VALUE).put(' ').putInt(0).put(' ').putInt(-42).put(' ')
+                .putLong(1_000_000_000_000_000_000L)));
+    }
+
+    private String written(ExportBuffer buffer) throws IOException {
+        Path file = Files.createTempFile(directory, "buffer", ".txt");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            buffer.writeTo(channel);
+        }
+        return StandardCharsets.UTF_8.decode(ByteBuffer.wrap(Files.readAllBytes(file))).toString();
+    }
+
+    public enum Status {
+        ACTIVE, SUSPENDED
+    }
+
+    @Test
+    @DisplayName("Exports should stop at back-references and at the depth limit")
+    void testCycles() throws IOException {
+        ObjectFactory factory = ObjectFactory.builder().cyclePolicy(CyclePolicy.ALLOW).maxDepth(2).build();
+        Path csv = directory.resolve("nodes.csv");
+        Path json = directory.resolve("nodes.jsonl");
+        Factory.writeCsv(Node.class, 10, csv, 3L);
+        factory.writeCsv(Node.class, 10, directory.resolve("deep.csv"), 3L);
+        factory.writeJsonLines(Node.class, 10, json, 3L);
+
+        assertEquals("tag", Files.readAllLines(csv).get(0), "Back-references should have no columns");
+        assertEquals("tag,next.tag,next.next.tag", Files.readAllLines(directory.resolve("deep.csv")).get(0),
+                "Nested objects should have columns down to the depth limit");
+        String line = Files.readAllLines(json).get(0);
+        assertTrue(line.matches("\\{\"tag\":\"[^\"]*\",\"next\":\\{\"tag\":\"[^\"]*\",\"next\":"
+                + "\\{\"tag\":\"[^\"]*\",\"next\":null}}}"), line);
+    }
+
+    @Test
+    @DisplayName("Unseeded exports should give distinct values to the drawn and nested @Unique fields")
+    void testUnseededUnique() throws IOException {
+        Path json = directory.resolve("tagged.jsonl");
+        Path csv = directory.resolve("tagged.csv");
+        Factory.writeJsonLines(Tagged.class, 200, json);
+        Factory.writeCsv(Tagged.class, 200, csv);
+
+        Set<String> codes = new HashSet<>();
+        for (String line : Files.readAllLines(json)) {
+            assertTrue(line.matches("\\{\"code\":\"[a-z]{4}\",\"label\":\\{\"key\":-?\\d+}}"), line);
+            codes.add(line.substring(9, 13));
+        }
+        assertEquals(200, codes.size(), "Drawn unique values should be distinct");
+        assertEquals(201, Files.readAllLines(csv).stream().distinct().count(), "CSV rows should be distinct");
+    }
+
+    @Test
+    @DisplayName("Exports should encode the nested objects of sets, maps, arrays and null-rate fields as objects")
+    void testNestedContainers() throws IOException {
+        Path json = directory.resolve("contacts.jsonl");
+        Path csv = directory.resolve("contacts.csv");
+        Factory.writeJsonLines(Contact.class, 50, json, 9L);
+        Factory.writeCsv(Contact.class, 50, csv, 9L);
+
+        String phone = "\\{\"number\":\"[^\"]*\"}";
+        String phones = "\\[(" + phone + "(," + phone + ")*)?]";
+        for (String line : Files.readAllLines(json)) {
+            assertTrue(line.matches("\\{\"phones\":" + phones + ",\"byKind\":\\{(\"[^\"]*\":" + phone
+                    + "(,\"[^\"]*\":" + phone + ")*)?},\"spare\":" + phones
+                    + ",\"address\":(null|\\{\"city\":\"[^\"]*\",\"zip\":-?\\d+})}"), line);
+        }
+        List<String> rows = Files.readAllLines(csv);
+        assertEquals("phones,byKind,spare,address.city,address.zip", rows.get(0), "Header");
+        assertTrue(rows.get(1).startsWith("\"[{\"\"number\"\":"), rows.get(1));
+    }
+
+    public static class Contact {
+        private Set<Phone> phones;
+        private Map<String, Phone> byKind;
+        private Phone[] spare;
+        @NullRate(0.5)
+        private Address address;
+    }
+
+    public static class Tagged {
+        @Unique
+        @Pattern("[a-z]{4}")
+        private String code;
+        private Label label;
+    }
+
+    public static class Label {
+        @Unique
+        private int key;
+    }
+
+    public static class Node {
+        private String tag;
+        private Node next;
+    }
+
+    public static class Customer {
+        private String name;
+        private int age;
+        private Status status;
+        private Address address;
+        private List<Phone> phones;
+        private BigDecimal balance;
+    }
+
+    public static class Address {
+        private String city;
+        private Integer zip;
+    }
+
+    public static class Phone {
+        private String number;
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.inad.dummyobjects.jfr;
+
+import com.inad.dummyobjects.Factory;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Factory.create should record creation and list expansion events")
+    void testEvents() throws IOException {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(CreateEvent.class).withoutThreshold();
+            recording.enable(ListEvent.class).withoutThreshold();
+            recording.start();
+            Factory.create(Order.class, 4);
+            recording.stop();
+            Path file = directory.resolve("events.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> creations = byName(events, "com.inad.dummyobjects.Create");
+        assertEquals(1, creations.size(), "The batch should be recorded once");
+        assertEquals(Order.class.getName(), creations.get(0).getString("className"), "Class should be recorded");
+        assertEquals(4, creations.get(0).getInt("count"), "Count should be recorded");
+        assertEquals(1, creations.get(0).getInt("depth"), "Depth should be recorded");
+        assertTrue(creations.get(0).getLong("allocated") >= 0, "Allocated bytes should be recorded");
+
+        List<RecordedEvent> lists = byName(events, "com.inad.dummyobjects.ListExpansion");
+        assertEquals(4, lists.size(), "Every list field should be recorded");
+        assertEquals(Line.class.getName(), lists.get(0).getString("elementClass"), "Element class should be recorded");
+        assertEquals(1, lists.get(0).getInt("depth"), "Element depth should be recorded");
+    }
+
+    private static List<RecordedEvent> byName(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    public static class Order {
+        private String reference;
+        private List<Line> lines;
+    }
+
+    public static class Line {
+        private String product;
+    }
+
+}
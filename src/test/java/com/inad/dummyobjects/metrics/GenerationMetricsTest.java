@@ -0,0 +1,122 @@
+package com.inad.dummyobjects.metrics;
+
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.spi.GeneratedFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationMetricsTest {
+
+    @Test
+    @DisplayName("GenerationMetrics should count objects, field types and depth of a created graph")
+    void testCountsGraph() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        ObjectFactory factory = ObjectFactory.builder().listener(metrics).build();
+
+        factory.create(Order.class, 2);
+
+        Map<String, Long> objects = metrics.getObjectCounts();
+        assertEquals(2L, objects.get(Order.class.getName()), "Every requested object should be counted");
+        assertEquals(8L, objects.get(Line.class.getName()), "Every nested object should be counted");
+        assertEquals(2L + 8L, metrics.getFieldTypeCounts().get(String.class.getName()),
+                "Every populated field should be counted by type");
+        assertEquals(1, metrics.getMaxDepth(), "Nested objects should be one level deep");
+        assertTrue(metrics.getCreationNanos().get(Order.class.getName()) > 0, "Creations should be timed");
+    }
+
+    @Test
+    @DisplayName("GenerationMetrics should count the fields of generated factories without a generation plan")
+    void testCountsGeneratedFactory() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        ObjectFactory factory = ObjectFactory.builder().listener(metrics).build();
+
+        factory.create(Legacy.class, 3);
+
+        assertEquals(3L, metrics.getObjectCounts().get(Legacy.class.getName()), "Every object should be counted");
+        assertEquals(3L, metrics.getFieldTypeCounts().get(String.class.getName()), "Fields should be counted");
+        assertEquals(3L, metrics.getFieldTypeCounts().get(List.class.getName()),
+                "Fields the reflective plan rejects should be counted too");
+    }
+
+    @Test
+    @DisplayName("GenerationMetrics should count the objects of parallel creations")
+    void testCountsParallel() {
+        GenerationMetrics metrics = new GenerationMetrics();
+        ObjectFactory factory = ObjectFactory.builder().listener(metrics).build();
+
+        factory.createParallel(Order.class, 5_000);
+        factory.stream(Order.class, 1_000).parallel().forEach(order -> { });
+
+        assertEquals(6_000L, metrics.getObjectCounts().get(Order.class.getName()),
+                "Every object should be counted once");
+        metrics.reset();
+        assertTrue(metrics.getObjectCounts().isEmpty(), "Reset should clear the counters");
+    }
+
+    @Test
+    @DisplayName("GenerationMetrics should be readable through JMX")
+    void testMBean() throws JMException {
+        GenerationMetrics metrics = new GenerationMetrics();
+        ObjectFactory factory = ObjectFactory.builder().listener(metrics).build();
+        ObjectName name = metrics.register("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            factory.create(Order.class);
+
+            assertEquals(1, server.getAttribute(name, "MaxDepth"), "MaxDepth should be exposed");
+            TabularData counts = (TabularData) server.getAttribute(name, "ObjectCounts");
+            assertEquals(2, counts.size(), "ObjectCounts should have an entry per class");
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    public static class Order {
+        private String reference;
+        private int total;
+        private Line line;
+        private List<Line> lines;
+    }
+
+    public static class Line {
+        private String product;
+    }
+
+
+    /**
+     * A class whose raw list has no generator, created by the generated factory registered for the tests.
+     */
+    public static class Legacy {
+        private String name;
+        @SuppressWarnings("rawtypes")
+        private List values;
+    }
+
+    public static class LegacyFactory implements GeneratedFactory<Legacy> {
+
+        @Override
+        public Class<Legacy> type() {
+            return Legacy.class;
+        }
+
+        @Override
+        public Legacy create(final GenerationContext context) {
+            final Legacy legacy = new Legacy();
+            legacy.name = "legacy";
+            return legacy;
+        }
+    }
+
+}
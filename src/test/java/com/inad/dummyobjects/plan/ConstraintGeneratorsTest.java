@@ -0,0 +1,153 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.Normal;
+import com.inad.dummyobjects.annotation.NullRate;
+import com.inad.dummyobjects.annotation.Pattern;
+import com.inad.dummyobjects.annotation.Range;
+import com.inad.dummyobjects.annotation.Size;
+import com.inad.dummyobjects.random.Alphabet;
+import jakarta.validation.constraints.NotBlank;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConstraintGeneratorsTest {
+
+    @Test
+    @DisplayName("Constrained fields should be generated within their constraints")
+    void testConstraints() {
+        List<Constrained> list = Factory.create(Constrained.class, 5_000, 3L);
+
+        for (Constrained item : list) {
+            assertTrue(item.age >= 18 && item.age <= 65, "Ints should be in their range: " + item.age);
+            assertTrue(item.quantity >= 1_000 && item.quantity <= 1_008, "Open ranges should use the default width");
+            assertTrue(item.balance >= -10.5 && item.balance <= 10.5, "Doubles should be in their range");
+            assertTrue(item.amount.compareTo(BigDecimal.ZERO) >= 0
+                    && item.amount.compareTo(BigDecimal.valueOf(5)) <= 0, "Decimals should be in their range");
+            assertTrue(item.score >= 0 && item.score <= 100, "Distributions should be clamped to the range");
+            assertTrue(item.code.length() >= 2 && item.code.length() <= 4, "Strings should have their size");
+            assertTrue(item.zip.matches("\\d{5}(-\\d{4})?"), "Strings should match their pattern: " + item.zip);
+            assertTrue(item.slug.matches("[a-z]+") && item.slug.length() >= 6 && item.slug.length() <= 8,
+                    "Patterns should honor their size: " + item.slug);
+            assertTrue(item.tags.size() >= 5 && item.tags.size() <= 6, "Collections should have their size");
+            assertTrue(item.children.size() >= 1 && item.children.size() <= 2, "Nested lists should have their size");
+            assertEquals(2, item.weights.size(), "Maps should have their size");
+            assertEquals(4, item.bytes.length, "Arrays should have their size");
+        }
+        long nullComments = list.stream().filter(item -> item.comment == null).count();
+        long nullChildren = list.stream().filter(item -> item.child == null).count();
+        assertEquals(0.3, nullComments / 5_000.0, 0.03, "Values should be null at their rate");
+        assertEquals(0.5, nullChildren / 5_000.0, 0.03, "Nested objects should be null at their rate");
+    }
+
+    @Test
+    @DisplayName("Constrained lists and null rates should be honored when populating in place")
+    void testPopulate() {
+        ObjectFactory factory = ObjectFactory.builder().build();
+        Constrained item = factory.create(Constrained.class);
+
+        for (int i = 0; i < 100; i++) {
+            factory.populate(item);
+            assertTrue(item.children.size() >= 1 && item.children.size() <= 2, "Nested lists should keep their size");
+        }
+    }
+
+    @Test
+    @DisplayName("Blank strings should be drawn again for @NotBlank fields")
+    void testNotBlank() {
+        ObjectFactory factory = ObjectFactory.builder().alphabet(Alphabet.of("    a")).build();
+
+        for (Titled item : factory.create(Titled.class, 1_000, 5L)) {
+            assertFalse(item.title.isBlank(), "Strings should not be blank");
+            assertFalse(item.label.isBlank(), "Pattern strings should not be blank");
+        }
+    }
+
+    @Test
+    @DisplayName("Constraints that do not apply to the field type should be rejected when the plan is built")
+    void testInvalid() {
+        for (String name : new String[]{"range", "size", "pattern", "nullRate", "crossed", "shortPattern"}) {
+            assertThrows(IllegalArgumentException.class, () -> FieldPlan.of(field(name)), name);
+        }
+    }
+
+    private static Field field(final String name) throws NoSuchFieldException {
+        Field field = Invalid.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    public static class Constrained {
+        @Range(min = 18, max = 65)
+        private int age;
+        @Range(min = 1_000)
+        private Integer quantity;
+        @Range(min = -10.5, max = 10.5)
+        private double balance;
+        @Range(min = 0, max = 5)
+        private BigDecimal amount;
+        @Normal(mean = 50, stddev = 80)
+        @Range(min = 0, max = 100)
+        private long score;
+        @Size(min = 2, max = 4)
+        private String code;
+        @Pattern("\\d{5}(-\\d{4})?")
+        private String zip;
+        @Pattern("[a-z]+")
+        @Size(min = 6, max = 8)
+        private String slug;
+        @Size(min = 5, max = 6)
+        private List<String> tags;
+        @Size(min = 1, max = 2)
+        private List<Child> children;
+        @Size(min = 2, max = 2)
+        private Map<String, Integer> weights;
+        @Size(min = 4, max = 4)
+        private byte[] bytes;
+        @NullRate(0.3)
+        private String comment;
+        @NullRate(0.5)
+        private Child child;
+    }
+
+    public static class Titled {
+        @NotBlank
+        @Size(max = 2)
+        private String title;
+        @NotBlank
+        @Pattern("[ a]{1,2}")
+        private String label;
+    }
+
+    public static class Child {
+        private String name;
+    }
+
+    public static class Invalid {
+        @Range(min = 1)
+        private String range;
+        @Size(max = 3)
+        private int size;
+        @Pattern("a+")
+        private Integer pattern;
+        @NullRate(0.5)
+        private int nullRate;
+        @Range(min = 5, max = 1)
+        private int crossed;
+        @Pattern("\\d{3}")
+        @Size(min = 4)
+        private String shortPattern;
+    }
+
+}
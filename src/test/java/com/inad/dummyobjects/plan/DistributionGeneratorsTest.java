@@ -0,0 +1,86 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.annotation.Exponential;
+import com.inad.dummyobjects.annotation.Normal;
+import com.inad.dummyobjects.annotation.OneOf;
+import com.inad.dummyobjects.annotation.Weighted;
+import com.inad.dummyobjects.annotation.Zipf;
+import com.inad.dummyobjects.dto.PhoneType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistributionGeneratorsTest {
+
+    @Test
+    @DisplayName("Annotated fields should follow their distributions")
+    void testDistributions() {
+        List<Skewed> list = Factory.create(Skewed.class, 20_000, 9L);
+
+        long personal = list.stream().filter(s -> s.phoneType == PhoneType.PERSONAL).count();
+        long gold = list.stream().filter(s -> "gold".equals(s.tier)).count();
+        long firstCustomer = list.stream().filter(s -> s.customerId == 1L).count();
+        double meanAge = list.stream().mapToInt(s -> s.age).average().orElseThrow();
+        double meanDelay = list.stream().mapToDouble(s -> s.delay).average().orElseThrow();
+
+        assertEquals(0.8, personal / 20_000.0, 0.02, "Enum constants should follow their weights");
+        assertEquals(0.1, gold / 20_000.0, 0.02, "Values should follow their weights");
+        assertTrue(list.stream().allMatch(s -> List.of("gold", "silver", "bronze").contains(s.tier)),
+                "Values should be among the given ones");
+        assertTrue(list.stream().allMatch(s -> s.customerId >= 1 && s.customerId <= 1_000),
+                "Zipf values should be ranks");
+        assertTrue(firstCustomer > 20_000 / 10, "The first rank should be the most frequent");
+        assertEquals(40, meanAge, 0.5, "Normal values should be centered on the mean");
+        assertEquals(2.5, meanDelay, 0.1, "Exponential values should have the given mean");
+        assertTrue(list.stream().allMatch(s -> s.delay >= 0), "Exponential values should be positive");
+        assertTrue(list.stream().allMatch(s -> s.status == PhoneType.WORK || s.status == PhoneType.HOME),
+                "Enum values should be among the given names");
+    }
+
+    @Test
+    @DisplayName("Invalid distribution annotations should be rejected when the plan is built")
+    void testInvalid() {
+        for (String name : new String[]{"weights", "type", "several"}) {
+            assertThrows(IllegalArgumentException.class, () -> FieldPlan.of(field(name)), name);
+        }
+    }
+
+    private static Field field(final String name) throws NoSuchFieldException {
+        Field field = Invalid.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    public static class Skewed {
+        @Weighted({8, 1, 1})
+        private PhoneType phoneType;
+        @OneOf(value = {"gold", "silver", "bronze"}, weights = {1, 3, 6})
+        private String tier;
+        @OneOf({"WORK", "HOME"})
+        private PhoneType status;
+        @Zipf(size = 1_000)
+        private Long customerId;
+        @Normal(mean = 40, stddev = 12)
+        private int age;
+        @Exponential(mean = 2.5)
+        private double delay;
+    }
+
+    public static class Invalid {
+        @Weighted({1, 1})
+        private PhoneType weights;
+        @Zipf(size = 10)
+        private String type;
+        @Normal
+        @Exponential
+        private double several;
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.inad.dummyobjects.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldWriterTest {
+
+    private static FieldWriter writerFor(String name) throws Exception {
+        Field field = Target.class.getDeclaredField(name);
+        field.trySetAccessible();
+        return FieldWriter.of(field);
+    }
+
+    @Test
+    @DisplayName("FieldWriter writes primitive values through their typed setters")
+    void testPrimitiveWrites() throws Exception {
+        Target target = new Target();
+
+        writerFor("intVal").setInt(target, 7);
+        writerFor("longVal").setLong(target, 700L);
+        writerFor("floatVal").setFloat(target, 7.5f);
+        writerFor("doubleVal").setDouble(target, 70.5);
+        writerFor("booleanVal").setBoolean(target, true);
+
+        assertEquals(7, target.intVal);
+        assertEquals(700L, target.longVal);
+        assertEquals(7.5f, target.floatVal);
+        assertEquals(70.5, target.doubleVal);
+        assertTrue(target.booleanVal);
+    }
+
+    @Test
+    @DisplayName("FieldWriter writes reference values, including final fields")
+    void testReferenceWrites() throws Exception {
+        Target target = new Target();
+
+        writerFor("stringVal").set(target, "value");
+        writerFor("finalVal").set(target, "final");
+
+        assertEquals("value", target.stringVal);
+        assertEquals("final", target.finalVal);
+    }
+
+    @Test
+    @DisplayName("FieldWriter rejects a typed write that does not match the field type")
+    void testMismatchedWrite() throws Exception {
+        FieldWriter writer = writerFor("longVal");
+
+        assertThrows(WrongMethodTypeException.class, () -> writer.setInt(new Target(), 1));
+    }
+
+    @SuppressWarnings("unused")
+    private static class Target {
+        private int intVal;
+        private long longVal;
+        private float floatVal;
+        private double doubleVal;
+        private boolean booleanVal;
+        private String stringVal;
+        private final String finalVal = null;
+    }
+
+}
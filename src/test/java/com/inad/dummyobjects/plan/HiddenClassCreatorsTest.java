@@ -0,0 +1,62 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.DummyDto;
+import com.inad.dummyobjects.GenerationContext;
+import com.inad.dummyobjects.dto.Person;
+import com.inad.dummyobjects.dto.Phone;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HiddenClassCreatorsTest {
+
+    @Test
+    @DisplayName("A specialized plan should populate all supported fields")
+    void testSpecializedPlan() throws Exception {
+        GenerationPlan<DummyDto> plan = GenerationPlan.of(DummyDto.class).specialized();
+
+        assertTrue(plan.isSpecialized(), "DummyDto should be specialized");
+
+        DummyDto dto = plan.create(new GenerationContext(new SplittableRandom()));
+        assertTrue(dto.getIntVal() >= 1, "intVal should be >= 1");
+        assertTrue(dto.getLongVal() >= 100L, "longVal should be >= 100");
+        assertTrue(dto.getFloatVal() >= 10f, "floatVal should be >= 10.0");
+        assertTrue(dto.getDoubleVal() >= 1.0, "doubleVal should be >= 1.0");
+        assertNotNull(dto.getStringVal(), "String field should not be null");
+        assertNotNull(dto.getBigDecimalVal(), "BigDecimal field should not be null");
+        assertNotNull(dto.getLocalDateTimeVal(), "LocalDateTime field should not be null");
+        assertNotNull(dto.getEnumVal(), "Enum field should not be null");
+        assertNotNull(dto.getInnerDto().getName(), "Nested object's fields should be populated");
+        assertFalse(dto.getListDto().isEmpty(), "List should not be empty");
+    }
+
+    @Test
+    @DisplayName("A specialized plan should populate private, final and inherited fields")
+    void testSpecializedPlanWithInheritedFields() throws Exception {
+        GenerationPlan<ExtendedPhone> plan = GenerationPlan.of(ExtendedPhone.class).specialized();
+
+        assertTrue(plan.isSpecialized(), "ExtendedPhone should be specialized");
+
+        ExtendedPhone phone = plan.create(new GenerationContext(new SplittableRandom()));
+        assertNotNull(phone.getNumber(), "Field inherited from another nest should be populated");
+        assertNotNull(phone.getPhoneType(), "Field inherited from another nest should be populated");
+        assertNotNull(phone.extension, "Own field should be populated");
+        assertNotNull(phone.label, "Final field should be populated");
+
+        Person person = GenerationPlan.of(Person.class).specialized().create(new GenerationContext(new SplittableRandom()));
+        assertNotNull(person.getName(), "Private field should be populated");
+        assertTrue(person.getHeight() >= 100L, "Private primitive field should be populated");
+    }
+
+    // Subclass of a DTO outside of the test nest, so inherited fields go through their FieldPlan
+    private static class ExtendedPhone extends Phone {
+        private String extension;
+        private final String label = null;
+    }
+
+}
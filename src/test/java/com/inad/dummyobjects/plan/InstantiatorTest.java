@@ -0,0 +1,139 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.Factory;
+import com.inad.dummyobjects.dataset.Dataset;
+import lombok.Builder;
+import lombok.Value;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstantiatorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Records should be constructed through their canonical constructor")
+    void testRecord() {
+        Point point = Factory.create(Point.class);
+
+        assertEquals(Instantiator.Strategy.CANONICAL_CONSTRUCTOR,
+                Factory.planFor(Point.class).getInstantiator().getStrategy());
+        assertTrue(point.x() >= 1 && point.y() >= 100L, "Components should be generated");
+        assertNotNull(point.label(), "Reference components should be generated");
+        assertEquals(3, point.tags().size(), "Collection components should be generated");
+        assertEquals(Factory.createAt(Point.class, 4L, 2L), Factory.createAt(Point.class, 4L, 2L),
+                "Seeded records should be equal");
+    }
+
+    @Test
+    @DisplayName("Immutable classes should be constructed through their all-args constructor")
+    void testAllArgsConstructor() {
+        Money money = Factory.create(Money.class);
+
+        assertEquals(Instantiator.Strategy.ALL_ARGS_CONSTRUCTOR,
+                Factory.planFor(Money.class).getInstantiator().getStrategy());
+        assertTrue(money.getAmount() >= 1, "Primitive fields should be generated");
+        assertNotNull(money.getCurrency(), "Reference fields should be generated");
+        assertNotNull(money.getPoint(), "Nested records should be generated");
+    }
+
+    @Test
+    @DisplayName("Classes with a builder should be constructed through it")
+    void testBuilder() {
+        Order order = Factory.create(Order.class);
+
+        assertEquals(Instantiator.Strategy.BUILDER, Factory.planFor(Order.class).getInstantiator().getStrategy());
+        assertNotNull(order.getReference(), "Fields should be set through the builder");
+        assertTrue(order.getQuantity() >= 1, "Primitive fields should be set through the builder");
+        assertNotNull(order.getTotal().getCurrency(), "Nested objects should be generated");
+    }
+
+    @Test
+    @DisplayName("Populating an immutable object should create a new one")
+    void testPopulateImmutable() {
+        Point point = Factory.create(Point.class);
+        Holder holder = Factory.create(Holder.class);
+        Point nested = holder.point;
+
+        assertNotSame(point, Factory.populate(point), "A new record should be created");
+        assertNotSame(nested, Factory.populate(holder).point, "Nested records should be replaced");
+        assertFalse(Factory.planFor(Point.class).isMutable(), "Records should not be mutable");
+    }
+
+    @Test
+    @DisplayName("Dataset rows should rebuild records through their canonical constructor")
+    void testDatasetRecord() {
+        Path file = directory.resolve("points.bin");
+        Factory.writeDataset(Point.class, 10, file, 9L);
+
+        try (Dataset<Point> points = Dataset.open(file, Point.class)) {
+            Point expected = Factory.createAt(Point.class, 9L, 7L);
+            Point actual = points.get(7);
+            assertEquals(expected.x(), actual.x());
+            assertEquals(expected.y(), actual.y());
+            assertEquals(expected.label(), actual.label());
+        }
+    }
+
+    @Test
+    @DisplayName("Classes with no supported constructor should be rejected")
+    void testUnsupported() {
+        assertThrows(RuntimeException.class, () -> Factory.create(Unsupported.class));
+    }
+
+    public record Point(int x, long y, String label, List<String> tags) {
+    }
+
+    @Value
+    public static class Money {
+        int amount;
+        String currency;
+        Point point;
+    }
+
+    @Value
+    @Builder
+    public static class Order {
+        String reference;
+        int quantity;
+        Money total;
+
+        private Order(String reference, int quantity, Money total, boolean validated) {
+            this.reference = reference;
+            this.quantity = quantity;
+            this.total = total;
+        }
+
+        // a builder whose constructor takes an extra argument, so that only the builder matches
+        public static class OrderBuilder {
+            public Order build() {
+                return new Order(reference, quantity, total, true);
+            }
+        }
+    }
+
+    public static class Holder {
+        private Point point;
+    }
+
+    public static class Unsupported {
+        private final String value;
+
+        public Unsupported(String value, int other) {
+            this.value = value;
+        }
+    }
+
+}
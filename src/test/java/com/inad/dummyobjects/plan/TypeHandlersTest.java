@@ -0,0 +1,76 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.Factory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TypeHandlersTest {
+
+    @Test
+    @DisplayName("TypeHandlers should provide built-in handlers for the standard types")
+    void testBuiltInHandlers() {
+        assertNotNull(TypeHandlers.find(String.class), "String should have a built-in handler");
+        assertNotNull(TypeHandlers.find(BigDecimal.class), "BigDecimal should have a built-in handler");
+        assertNull(TypeHandlers.find(Account.class), "Other types should have no handler");
+    }
+
+    @Test
+    @DisplayName("A registered handler should populate the fields of its type")
+    void testRegisteredHandler() {
+        TypeHandlers.register(Money.class, c -> new Money(c.random().nextLong(1, 100)));
+        try {
+            Account account = Factory.create(Account.class);
+
+            assertNotNull(account.balance, "Registered type should be populated");
+            assertTrue(account.balance.cents >= 1 && account.balance.cents < 100,
+                    "Registered handler should produce the value");
+        } finally {
+            assertTrue(TypeHandlers.unregister(Money.class), "Handler should have been registered");
+        }
+    }
+
+    @Test
+    @DisplayName("A user class named like a standard type should be created as a nested object")
+    void testUserClassNamedLikeStandardType() {
+        Agenda agenda = Factory.create(Agenda.class);
+
+        assertNotNull(agenda.date, "User class should be populated");
+        assertEquals(Date.class, agenda.date.getClass(), "User class should not be mistaken for java.util.Date");
+        assertNotNull(agenda.date.label, "Nested fields should be populated");
+    }
+
+    @Test
+    @DisplayName("TypeHandlers.register should reject primitive types")
+    void testRegisterPrimitive() {
+        assertThrows(IllegalArgumentException.class, () -> TypeHandlers.register(int.class, c -> 1));
+    }
+
+    public static class Money {
+        private final long cents;
+
+        public Money(long cents) {
+            this.cents = cents;
+        }
+    }
+
+    public static class Account {
+        private Money balance;
+    }
+
+    public static class Date {
+        private String label;
+    }
+
+    public static class Agenda {
+        private Date date;
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.inad.dummyobjects.plan;
+
+import com.inad.dummyobjects.ObjectFactory;
+import com.inad.dummyobjects.annotation.NullRate;
+import com.inad.dummyobjects.annotation.Pattern;
+import com.inad.dummyobjects.annotation.Range;
+import com.inad.dummyobjects.annotation.Size;
+import com.inad.dummyobjects.annotation.Unique;
+import com.inad.dummyobjects.annotation.Zipf;
+import com.inad.dummyobjects.dto.PhoneType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UniqueGeneratorsTest {
+
+    @Test
+    @DisplayName("Unique fields should never repeat a value within a factory")
+    void testUnique() {
+        ObjectFactory factory = ObjectFactory.builder().build();
+        List<Keyed> list = new ArrayList<>(factory.createParallel(Keyed.class, 1_000));
+        list.addAll(factory.create(Keyed.class, 1_000));
+
+        assertDistinct(list, k -> k.id, 2_000);
+        assertDistinct(list, k -> k.code, 2_000);
+        assertDistinct(list, k -> k.serial, 2_000);
+        assertDistinct(list, k -> k.rank, 2_000);
+        assertTrue(list.stream().allMatch(k -> k.id >= 1 && k.serial >= 1), "Integers should be positive");
+        assertTrue(list.stream().allMatch(k -> k.code.length() == 6), "Strings should have the @Size length");
+        assertTrue(list.stream().allMatch(k -> k.rank <= 100_000), "Distributions should be kept");
+        assertTrue(list.stream().filter(k -> k.note == null).count() > 600, "Null rates should be kept");
+        assertDistinct(list.stream().filter(k -> k.note != null).toList(), k -> k.note,
+                (int) list.stream().filter(k -> k.note != null).count());
+    }
+
+    @Test
+    @DisplayName("Seeded objects should take the values of their index")
+    void testSeeded() {
+        ObjectFactory factory = ObjectFactory.builder().build();
+        List<Indexed> list = factory.create(Indexed.class, 2_000, 5L);
+
+        assertDistinct(list, k -> k.id, 2_000);
+        assertDistinct(list, k -> k.code, 2_000);
+        assertEquals(list.get(1_234).id, ObjectFactory.builder().build().createAt(Indexed.class, 5L, 1_234).id,
+                "A seeded value should only depend on the seed and the index");
+        assertEquals(list.get(7).code, factory.createAt(Indexed.class, 5L, 7).code,
+                "A seeded object created again should take the same value");
+        assertEquals(factory.createAt(Indexed.class, 5L, 3).serial, factory.createAt(Indexed.class, 5L, 3).serial,
+                "A seeded object created twice should take the same value");
+    }
+
+    @Test
+    @DisplayName("Seeded and unseeded creations should not depend on each other")
+    void testMixed() {
+        ObjectFactory factory = ObjectFactory.builder().build();
+        List<Digit> unseeded = factory.create(Digit.class, 5);
+        List<Digit> first = factory.create(Digit.class, 5, 42L);
+        List<Digit> second = factory.create(Digit.class, 5, 43L);
+        unseeded = new ArrayList<>(unseeded);
+        unseeded.addAll(factory.create(Digit.class, 5));
+
+        assertDistinct(unseeded, d -> d.value, 10);
+        assertDistinct(first, d -> d.value, 5);
+        assertDistinct(second, d -> d.value, 5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(first.get(i).value, factory.createAt(Digit.class, 42L, i).value,
+                    "Unseeded creations should not change the seeded values");
+            assertEquals(second.get(i).value, ObjectFactory.builder().build().createAt(Digit.class, 43L, i).value,
+                    "Seeded values should not depend on the factory");
+        }
+    }
+
+    @Test
+    @DisplayName("Seeded creations should reject the unique values they cannot reproduce")
+    void testNotReproducible() {
+        ObjectFactory factory = ObjectFactory.builder().build();
+
+        assertThrows(IllegalStateException.class, () -> factory.createAt(Keyed.class, 7L, 3), "drawn");
+        assertThrows(IllegalStateException.class, () -> factory.createAt(Keyed.class, 7L, 3), "drawn, again");
+        assertThrows(IllegalStateException.class, () -> factory.createAt(Outer.class, 7L, 3), "nested");
+        assertThrows(IllegalStateException.class, () -> factory.createAt(Outer.class, 7L, 3), "nested, again");
+        assertThrows(IllegalStateException.class, () -> factory.create(Keyed.class, 10, 7L), "seeded list");
+        assertDistinct(factory.create(Outer.class, 20), o -> o.inner.value, 20);
+        assertDistinct(factory.stream(Keyed.class, 20).toList(), k -> k.note == null ? k : k.note, 20);
+    }
+
+    @Test
+    @DisplayName("Small value spaces should be enumerated, then exhausted")
+    void testExhausted() {
+        ObjectFactory factory = ObjectFactory.builder().build();
+        List<Small> list = factory.create(Small.class, 9);
+
+        assertDistinct(list, s -> s.digit, 9);
+        assertDistinct(list, s -> s.pair, 9);
+        assertEquals(3, factory.create(Typed.class, 3).stream().map(t -> t.type).distinct().count(),
+                "Every enum constant should be taken once");
+        assertThrows(IllegalStateException.class, () -> factory.create(Small.class, 1));
+        assertThrows(IllegalStateException.class, () -> factory.create(Typed.class, 1));
+    }
+
+    @Test
+    @DisplayName("Unique annotations on unsupported fields should be rejected when the plan is built")
+    void testInvalid() {
+        for (String name : new String[]{"list", "flag", "range"}) {
+            assertThrows(IllegalArgumentException.class, () -> FieldPlan.of(field(name)), name);
+        }
+    }
+
+    private static <T> void assertDistinct(final List<T> list, final Function<T, Object> key, final int expected) {
+        Set<Object> values = new HashSet<>();
+        list.forEach(item -> values.add(key.apply(item)));
+        assertEquals(expected, values.size(), "Values should be distinct");
+    }
+
+    private static Field field(final String name) throws NoSuchFieldException {
+        Field field = Invalid.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    public static class Keyed {
+        @Unique
+        private int id;
+        @Unique
+        @Size(max = 6)
+        private String code;
+        @Unique
+        private Long serial;
+        @Unique
+        @Zipf(size = 100_000)
+        private int rank;
+        @Unique
+        @NullRate(0.5)
+        @Pattern("[a-z]{8}")
+        private String note;
+    }
+
+    public static class Indexed {
+        @Unique
+        private int id;
+        @Unique
+        @Size(max = 6)
+        private String code;
+        @Unique
+        private Long serial;
+    }
+
+    public static class Digit {
+        @Unique
+        @Range(min = 1, max = 20)
+        private int value;
+    }
+
+    public static class Outer {
+        private Digit inner;
+    }
+
+    public static class Small {
+        @Unique
+        @Range(min = 1, max = 9)
+        private int digit;
+        @Unique
+        @Pattern("[a-c]{2}")
+        private String pair;
+    }
+
+    public static class Typed {
+        @Unique
+        private PhoneType type;
+    }
+
+    public static class Invalid {
+        @Unique
+        private List<String> list;
+        @Unique
+        private boolean flag;
+        @Unique
+        @Range(min = 0.2, max = 0.8)
+        private int range;
+    }
+
+}
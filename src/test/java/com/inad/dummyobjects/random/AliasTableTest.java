@@ -0,0 +1,41 @@
+package com.inad.dummyobjects.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AliasTableTest {
+
+    @Test
+    @DisplayName("AliasTable should draw the indexes in proportion to their weights")
+    void testWeights() {
+        double[] weights = {8, 1, 0, 0.5, 0.5};
+        AliasTable table = AliasTable.of(weights);
+        SplittableRandom random = new SplittableRandom(3L);
+        int[] counts = new int[weights.length];
+        int draws = 100_000;
+        for (int i = 0; i < draws; i++) {
+            counts[table.next(random)]++;
+        }
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10, (double) counts[i] / draws, 0.01, "Frequency of index " + i);
+        }
+        assertEquals(0, counts[2], "An index with a zero weight should never be drawn");
+        assertEquals(0, AliasTable.of(5).next(random), "A single weight should always be drawn");
+    }
+
+    @Test
+    @DisplayName("AliasTable should reject invalid weights")
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, AliasTable::of);
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(1, -1));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(1, Double.NaN));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.inad.dummyobjects.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static com.inad.dummyobjects.constants.Constants.LETTERS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AlphabetTest {
+
+    @Test
+    @DisplayName("Alphabet.next should return strings of the given length and characters")
+    void testNext() {
+        Alphabet alphabet = Alphabet.of("abc");
+        SplittableRandom random = new SplittableRandom(1L);
+
+        for (int length : new int[]{0, 1, 31, 32, 100}) {
+            String result = alphabet.next(random, length);
+            assertEquals(length, result.length(), "The generated string length is incorrect");
+            result.chars().forEach(c -> assertTrue("abc".indexOf(c) >= 0, "Invalid character: " + (char) c));
+        }
+        assertEquals("zzzz", Alphabet.of("z").next(random, 4), "A single character alphabet should repeat it");
+    }
+
+    @Test
+    @DisplayName("Alphabet.next should pick every character with the same probability")
+    void testUniform() {
+        Alphabet alphabet = Alphabet.of(LETTERS);
+        SplittableRandom random = new SplittableRandom(7L);
+        int[] counts = new int[256];
+        byte[] buffer = new byte[1_000];
+        for (int i = 0; i < 280; i++) {
+            alphabet.next(random, buffer.length, buffer).chars().forEach(c -> counts[c]++);
+        }
+
+        for (char c : LETTERS.toCharArray()) {
+            assertTrue(counts[c] > 9_000 && counts[c] < 11_000, "Character '" + c + "' drawn " + counts[c] + " times");
+        }
+    }
+
+    @Test
+    @DisplayName("Alphabet.of should support Latin-1 and reject other characters")
+    void testLatin1() {
+        assertEquals("ñññ", Alphabet.of("ñ").next(new SplittableRandom(), 3), "Latin-1 characters should be kept");
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.of("€"));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.of(""));
+    }
+
+    @Test
+    @DisplayName("Alphabet.nth should give distinct strings to distinct ranks")
+    void testNth() {
+        Alphabet alphabet = Alphabet.of("abca");
+
+        assertEquals(27, alphabet.count(3), "Repeated characters should be counted once");
+        assertEquals("aaa", alphabet.nth(0, 3), "The first rank should repeat the first character");
+        assertEquals("acb", alphabet.nth(7, 3), "Ranks should be written in base 3");
+        assertEquals(Long.MAX_VALUE, Alphabet.of(LETTERS).count(100), "Counts should saturate");
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.inad.dummyobjects.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PatternGeneratorTest {
+
+    @Test
+    @DisplayName("PatternGenerator should only generate matching strings")
+    void testMatches() {
+        String[] patterns = {
+                "\\d{3}-\\d{4}", "[A-Z]{2}\\d{2} ?[0-9A-Z]{4}", "[a-z]+@[a-z]+\\.(com|org|net)",
+                "(?:ab|cd)*e?", "^[^aeiou\\s]{2,5}$", "\\w+\\s\\W", "x{0,3}(y|z){2,}", ".+\\.txt", "[-+]?\\d*\\.\\d+",
+                "\\x41\\u00e9[\\]\\\\-]", "(a|b(c|d)*)+"
+        };
+        SplittableRandom random = new SplittableRandom(1L);
+        for (String regex : patterns) {
+            PatternGenerator generator = PatternGenerator.compile(regex, 16);
+            Pattern pattern = Pattern.compile(regex);
+            Set<String> values = new HashSet<>();
+            for (int i = 0; i < 500; i++) {
+                String value = generator.next(random);
+                assertTrue(pattern.matcher(value).matches(), "'" + value + "' should match " + regex);
+                values.add(value);
+            }
+            assertTrue(values.size() > 1, "Values should vary for " + regex);
+        }
+    }
+
+    @Test
+    @DisplayName("PatternGenerator should bound the unbounded repetitions and honor the fixed ones")
+    void testLengths() {
+        SplittableRandom random = new SplittableRandom(2L);
+        PatternGenerator unbounded = PatternGenerator.compile("a+b*", 10);
+        PatternGenerator fixed = PatternGenerator.compile("\\d{40}", 10);
+
+        for (int i = 0; i < 500; i++) {
+            assertTrue(unbounded.next(random).length() <= 10, "Repetitions should stop at the maximum length");
+            assertEquals(40, fixed.next(random).length(), "Fixed repetitions should be honored");
+        }
+    }
+
+    @Test
+    @DisplayName("PatternGenerator should extend the strings to their minimum length")
+    void testMinLength() {
+        SplittableRandom random = new SplittableRandom(3L);
+        PatternGenerator generator = PatternGenerator.compile("a?(bc)*d?", 6, 10);
+        Pattern pattern = Pattern.compile("a?(bc)*d?");
+
+        for (int i = 0; i < 500; i++) {
+            String value = generator.next(random);
+            assertTrue(value.length() >= 6 && value.length() <= 10, "'" + value + "' should have its length");
+            assertTrue(pattern.matcher(value).matches(), "'" + value + "' should match");
+        }
+        assertThrows(IllegalArgumentException.class, () -> PatternGenerator.compile("\\d{3}", 5, 10),
+                "Patterns without long enough strings should be rejected");
+    }
+
+    @Test
+    @DisplayName("PatternGenerator should reject invalid and unsupported patterns")
+    void testInvalid() {
+        for (String regex : new String[]{"(ab", "a)", "*a", "[a-", "a{3,2}", "(?=a)b", "\\1", "[^\\s\\S]"}) {
+            assertThrows(IllegalArgumentException.class, () -> PatternGenerator.compile(regex, 16), regex);
+        }
+    }
+
+}
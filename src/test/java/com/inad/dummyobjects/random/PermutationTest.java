@@ -0,0 +1,50 @@
+package com.inad.dummyobjects.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PermutationTest {
+
+    @Test
+    @DisplayName("Permutation should map the positions of a range to distinct values of the range")
+    void testBijection() {
+        for (long size : new long[]{1, 2, 3, 7, 64, 1_000, 65_537}) {
+            Permutation permutation = Permutation.of(size, 42L);
+            BitSet values = new BitSet();
+            for (long position = 0; position < size; position++) {
+                long value = permutation.apply(position);
+                assertTrue(value >= 0 && value < size, "Value out of range: " + value);
+                values.set((int) value);
+            }
+            assertEquals(size, values.cardinality(), "Every value of a range of " + size + " should be taken once");
+        }
+    }
+
+    @Test
+    @DisplayName("Permutation should depend on its key and scatter the values of large ranges")
+    void testKeys() {
+        Permutation first = Permutation.of(Long.MAX_VALUE, 1L);
+        Permutation second = Permutation.of(Long.MAX_VALUE, 2L);
+
+        assertEquals(first.apply(5), Permutation.of(Long.MAX_VALUE, 1L).apply(5), "Equal keys should be equal");
+        assertNotEquals(first.apply(5), second.apply(5), "Other keys should give other values");
+        assertTrue(first.apply(0) > 1L << 40, "Consecutive positions should be scattered");
+        assertTrue(first.apply(Long.MAX_VALUE - 1) >= 0, "The last position should be within the range");
+    }
+
+    @Test
+    @DisplayName("Permutation should reject empty ranges and positions out of the range")
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Permutation.of(0, 1L));
+        assertThrows(IllegalArgumentException.class, () -> Permutation.of(10, 1L).apply(10));
+        assertThrows(IllegalArgumentException.class, () -> Permutation.of(10, 1L).apply(-1));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.inad.dummyobjects.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemporalRangeTest {
+
+    private static final Instant START = Instant.parse("2020-01-01T00:00:00Z");
+    private static final Instant END = Instant.parse("2021-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("TemporalRange should spread the values over its range")
+    void testBetween() {
+        TemporalRange range = TemporalRange.between(START, END);
+        SplittableRandom random = new SplittableRandom(1L);
+        Set<Long> values = new HashSet<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            Instant instant = range.nextInstant(random);
+            assertTrue(!instant.isBefore(START) && instant.isBefore(END), "Values should be in the range: " + instant);
+            values.add(instant.toEpochMilli());
+        }
+        assertTrue(values.size() > 990, "Values should not repeat the same instant");
+        assertEquals(START, TemporalRange.between(START, START).nextInstant(random), "An empty range is an instant");
+        assertThrows(IllegalArgumentException.class, () -> TemporalRange.between(END, START));
+    }
+
+    @Test
+    @DisplayName("TemporalRange should compute the local values at its offset")
+    void testLocalValues() {
+        ZoneOffset offset = ZoneOffset.ofHours(-5);
+        TemporalRange range = TemporalRange.between(START, END).withOffset(offset);
+
+        for (long seed = 0; seed < 200; seed++) {
+            Instant instant = range.nextInstant(new SplittableRandom(seed));
+            LocalDateTime expected = LocalDateTime.ofInstant(instant, offset);
+            assertEquals(expected, range.nextLocalDateTime(new SplittableRandom(seed)), "Local date-time mismatch");
+            assertEquals(expected.toLocalDate(), range.nextLocalDate(new SplittableRandom(seed)), "Date mismatch");
+            assertEquals(expected.toLocalTime(), range.nextLocalTime(new SplittableRandom(seed)), "Time mismatch");
+        }
+    }
+
+    @Test
+    @DisplayName("TemporalRange.lastDays should end at the instant of a fixed clock")
+    void testLastDays() {
+        TemporalRange range = TemporalRange.lastDays(30, Clock.fixed(END, ZoneOffset.ofHours(2)));
+
+        assertEquals(END.minusSeconds(30 * 86_400L).toEpochMilli(), range.getStart(), "Range should start days before");
+        assertEquals(END.toEpochMilli(), range.getEnd(), "Range should end at the clock instant");
+        assertEquals(ZoneOffset.ofHours(2), range.getOffset(), "Range should use the offset of the clock");
+        assertThrows(IllegalArgumentException.class, () -> TemporalRange.lastDays(-1));
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.inad.dummyobjects.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfDistributionTest {
+
+    @Test
+    @DisplayName("ZipfDistribution should draw the ranks with probabilities proportional to 1/k^s")
+    void testFrequencies() {
+        for (double exponent : new double[]{0.5, 1.0, 2.0}) {
+            int size = 20;
+            ZipfDistribution zipf = ZipfDistribution.of(size, exponent);
+            SplittableRandom random = new SplittableRandom(11L);
+            int[] counts = new int[size + 1];
+            int draws = 200_000;
+            for (int i = 0; i < draws; i++) {
+                int rank = zipf.next(random);
+                assertTrue(rank >= 1 && rank <= size, "Rank out of range: " + rank);
+                counts[rank]++;
+            }
+
+            double norm = 0;
+            for (int k = 1; k <= size; k++) {
+                norm += Math.pow(k, -exponent);
+            }
+            for (int k = 1; k <= size; k++) {
+                assertEquals(Math.pow(k, -exponent) / norm, (double) counts[k] / draws, 0.005,
+                        "Frequency of rank " + k + " with exponent " + exponent);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ZipfDistribution should support large numbers of ranks and reject invalid parameters")
+    void testParameters() {
+        ZipfDistribution zipf = ZipfDistribution.of(Integer.MAX_VALUE, 1.2);
+        SplittableRandom random = new SplittableRandom(5L);
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(zipf.next(random) >= 1, "Ranks should be positive");
+        }
+        assertEquals(1, ZipfDistribution.of(1, 1.0).next(random), "A single rank should always be drawn");
+        assertThrows(IllegalArgumentException.class, () -> ZipfDistribution.of(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> ZipfDistribution.of(10, 0.0));
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -119,6 +120,22 @@ class UtilsTest {
         }
     }
 
+    @Test
+    @DisplayName("The generator variants should only depend on the given generator")
+    void testSeeded() throws Exception {
+        Field field = this.getClass().getDeclaredField("dummyField");
+        SplittableRandom first = new SplittableRandom(42L);
+        SplittableRandom second = new SplittableRandom(42L);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Utils.randomString(first, 8, "abc"), Utils.randomString(second, 8, "abc"));
+            assertEquals(Utils.randomNumber(first, 5, 10), Utils.randomNumber(second, 5, 10));
+            assertEquals(Utils.randomBooleanFrom(first), Utils.randomBooleanFrom(second));
+            DummyEnum value = Utils.randomEnumFrom(first, field);
+            assertEquals(value, Utils.randomEnumFrom(second, field));
+        }
+    }
+
     @Test
     @DisplayName("randomEnum throws ClassCastException for non-enum fields")
     void testRandomEnumWithNonEnumField() throws Exception {